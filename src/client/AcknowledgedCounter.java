@@ -0,0 +1,73 @@
+package client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Numbers the records a workload inserts, and counts how many of them are
+ * known to have been written, in the manner of YCSB's
+ * AcknowledgedCounterGenerator.
+ * <br><br>
+ * Inserts are numbered in the order they are sent but may be acknowledged
+ * in any order. The acknowledged count only moves past a record once it and
+ * every record before it have been acknowledged, so that every record below
+ * the count has been written and can be chosen for reads, updates and scans.
+ * At most {@value #WINDOW_SIZE} inserts may be awaiting acknowledgement at once.
+ * @author lscholte
+ *
+ */
+class AcknowledgedCounter {
+
+  private static final int WINDOW_SIZE = 1 << 20;
+  private static final int WINDOW_MASK = WINDOW_SIZE - 1;
+
+  private final AtomicLong next;
+  private final boolean[] acknowledged;
+  private volatile long limit;
+
+  /**
+   * Constructs an AcknowledgedCounter.
+   * @param initialRecords the number of records already written, which are numbered below the first insert
+   */
+  public AcknowledgedCounter(long initialRecords) {
+    next = new AtomicLong(initialRecords);
+    acknowledged = new boolean[WINDOW_SIZE];
+    limit = initialRecords;
+  }
+
+  /**
+   * @return the number of the next record to insert
+   */
+  public long next() {
+    return next.getAndIncrement();
+  }
+
+  /**
+   * Marks an insert as over. An insert that failed is acknowledged too, as
+   * YCSB does, since otherwise no later record could ever be chosen; a read
+   * of it then simply finds no value.
+   * @param record the number of the record that was inserted
+   * @throws IllegalStateException if too many inserts are awaiting acknowledgement
+   */
+  public synchronized void acknowledge(long record) {
+    if (record - limit >= WINDOW_SIZE) {
+      throw new IllegalStateException(
+          String.format("More than %d inserts are awaiting acknowledgement", WINDOW_SIZE));
+    }
+    acknowledged[(int)(record & WINDOW_MASK)] = true;
+    long newLimit = limit;
+    while (acknowledged[(int)(newLimit & WINDOW_MASK)]) {
+      acknowledged[(int)(newLimit & WINDOW_MASK)] = false;
+      ++newLimit;
+    }
+    limit = newLimit;
+  }
+
+  /**
+   * @return the number of records that have all been written, which are
+   *      numbered from 0 up to but not including it
+   */
+  public long getAcknowledged() {
+    return limit;
+  }
+
+}
@@ -0,0 +1,334 @@
+package client;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import utilities.Logger;
+
+/**
+ * A channel that spreads calls over a pool of channels, each with its own
+ * connection to the server, so that a client is not limited to what a single
+ * HTTP/2 connection can carry.
+ * <br><br>
+ * Each call goes to the channel with the fewest calls outstanding, skipping
+ * channels whose connection is failing while any other channel is not.
+ * A channel whose calls fail with {@code UNAVAILABLE}
+ * {@value #MAX_CONSECUTIVE_FAILURES} times in a row is replaced by a new
+ * one, but only while another channel is still succeeding, since failures
+ * on every channel mean the server is down rather than one connection being
+ * broken. A replacement is itself only replaced once it has had
+ * {@value #INITIAL_REPLACE_BACKOFF_MS}ms to connect, doubling up to
+ * {@value #MAX_REPLACE_BACKOFF_MS}ms while replacements keep failing. Calls
+ * already on a replaced channel are left to finish, and its statistics are
+ * kept with those of the channels that replace it.
+ * @author lscholte
+ *
+ */
+class ChannelPool extends ManagedChannel {
+
+  private static final int MAX_CONSECUTIVE_FAILURES = 3;
+  private static final long INITIAL_REPLACE_BACKOFF_MS = 1000;
+  private static final long MAX_REPLACE_BACKOFF_MS = 30000;
+
+  private final Supplier<ManagedChannel> channelFactory;
+  private final AtomicReferenceArray<PooledChannel> channels;
+  private final Queue<ManagedChannel> replacedChannels;
+  private final AtomicInteger nextStart;
+  private volatile boolean shutdown;
+
+  /**
+   * Constructs a ChannelPool and creates its channels.
+   * @param channelFactory creates a channel with its own connection to the server
+   * @param size the number of channels in the pool
+   */
+  public ChannelPool(Supplier<ManagedChannel> channelFactory, int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("A channel pool must have at least one channel");
+    }
+    this.channelFactory = channelFactory;
+    channels = new AtomicReferenceArray<PooledChannel>(size);
+    for (int i = 0; i < size; ++i) {
+      channels.set(i, new PooledChannel(i, channelFactory.get()));
+    }
+    replacedChannels = new ConcurrentLinkedQueue<ManagedChannel>();
+    nextStart = new AtomicInteger();
+    shutdown = false;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(
+      MethodDescriptor<ReqT, RespT> method,
+      CallOptions callOptions) {
+    PooledChannel pooledChannel = select();
+    return new SimpleForwardingClientCall<ReqT, RespT>(pooledChannel.channel.newCall(method, callOptions)) {
+      @Override
+      public void start(Listener<RespT> responseListener, Metadata headers) {
+        pooledChannel.onStart();
+        try {
+          super.start(
+              new SimpleForwardingClientCallListener<RespT>(responseListener) {
+                @Override
+                public void onClose(Status status, Metadata trailers) {
+                  onCallClosed(pooledChannel, status);
+                  super.onClose(status, trailers);
+                }
+              },
+              headers);
+        }
+        catch (RuntimeException e) {
+          onCallClosed(pooledChannel, Status.fromThrowable(e));
+          throw e;
+        }
+      }
+    };
+  }
+
+  /**
+   * @return the healthy channel with the fewest calls outstanding, or the
+   *      channel with the fewest calls outstanding if none is healthy. Ties
+   *      go to the channel nearest a starting point that moves on every
+   *      call, so that an idle pool is still used evenly.
+   */
+  private PooledChannel select() {
+    int size = channels.length();
+    int start = Math.floorMod(nextStart.getAndIncrement(), size);
+    PooledChannel best = null;
+    boolean bestHealthy = false;
+    for (int i = 0; i < size; ++i) {
+      PooledChannel candidate = channels.get((start + i) % size);
+      boolean healthy = candidate.channel.getState(false) != ConnectivityState.TRANSIENT_FAILURE;
+      if (best == null
+          || (healthy && !bestHealthy)
+          || (healthy == bestHealthy && candidate.outstanding.get() < best.outstanding.get())) {
+        best = candidate;
+        bestHealthy = healthy;
+      }
+    }
+    return best;
+  }
+
+  private void onCallClosed(PooledChannel pooledChannel, Status status) {
+    pooledChannel.onClose(status);
+    if (status.getCode() != Code.UNAVAILABLE) {
+      pooledChannel.consecutiveFailures.set(0);
+      return;
+    }
+    if (pooledChannel.consecutiveFailures.incrementAndGet() >= MAX_CONSECUTIVE_FAILURES
+        && !shutdown
+        && System.nanoTime() - pooledChannel.createdNanos >= TimeUnit.MILLISECONDS.toNanos(pooledChannel.replaceBackoffMs)
+        && isAnotherChannelSucceeding(pooledChannel)) {
+      replace(pooledChannel);
+    }
+  }
+
+  /**
+   * @param failing a failing channel
+   * @return true if some other channel's most recent call succeeded, so that
+   *      the failures are specific to the failing channel
+   */
+  private boolean isAnotherChannelSucceeding(PooledChannel failing) {
+    for (int i = 0; i < channels.length(); ++i) {
+      PooledChannel other = channels.get(i);
+      if (other != failing && other.succeeded && other.consecutiveFailures.get() == 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Replaces a failing channel with a new one, unless it has already been replaced.
+   * @param failed the failing channel
+   */
+  private void replace(PooledChannel failed) {
+    //Checked first so that callers failing on an already replaced channel do not each open a connection
+    if (channels.get(failed.slot) != failed) {
+      return;
+    }
+    PooledChannel replacement = new PooledChannel(failed, channelFactory.get());
+    if (!channels.compareAndSet(failed.slot, failed, replacement)) {
+      replacement.channel.shutdownNow();
+      return;
+    }
+    Logger.logError(
+        String.format("Replacing connection %d after %d consecutive failures", failed.slot, MAX_CONSECUTIVE_FAILURES));
+    replacedChannels.add(failed.channel);
+    failed.channel.shutdown();
+    //The pool may have been shut down before the replacement was installed, and missed it
+    if (shutdown) {
+      replacement.channel.shutdownNow();
+    }
+  }
+
+  @Override
+  public String authority() {
+    return channels.get(0).channel.authority();
+  }
+
+  @Override
+  public ManagedChannel shutdown() {
+    shutdown = true;
+    for (int i = 0; i < channels.length(); ++i) {
+      channels.get(i).channel.shutdown();
+    }
+    return this;
+  }
+
+  @Override
+  public ManagedChannel shutdownNow() {
+    shutdown = true;
+    for (int i = 0; i < channels.length(); ++i) {
+      channels.get(i).channel.shutdownNow();
+    }
+    for (ManagedChannel replacedChannel : replacedChannels) {
+      replacedChannel.shutdownNow();
+    }
+    return this;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    for (int i = 0; i < channels.length(); ++i) {
+      if (!channels.get(i).channel.isTerminated()) {
+        return false;
+      }
+    }
+    for (ManagedChannel replacedChannel : replacedChannels) {
+      if (!replacedChannel.isTerminated()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+    for (int i = 0; i < channels.length(); ++i) {
+      long remainingNanos = deadlineNanos - System.nanoTime();
+      if (!channels.get(i).channel.awaitTermination(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS)) {
+        return false;
+      }
+    }
+    for (ManagedChannel replacedChannel : replacedChannels) {
+      long remainingNanos = deadlineNanos - System.nanoTime();
+      if (!replacedChannel.awaitTermination(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Logs the statistics of every connection in the pool, including the
+   * calls made on the channels each connection has replaced.
+   */
+  public void logStats() {
+    for (int i = 0; i < channels.length(); ++i) {
+      channels.get(i).logStats();
+    }
+  }
+
+  /**
+   * A single channel of the pool and the statistics of its calls. The call
+   * counts are shared with the channels it replaced and the channels that
+   * replace it, so that they cover every channel that has filled its slot.
+   */
+  private static final class PooledChannel {
+
+    private final int slot;
+    private final int generation;
+    private final ManagedChannel channel;
+    private final long createdNanos;
+    private final long replaceBackoffMs;
+    private final AtomicInteger outstanding;
+    private final AtomicInteger consecutiveFailures;
+    private final LongAdder calls;
+    private final LongAdder failures;
+    private volatile int maxOutstanding;
+    private volatile boolean succeeded;
+
+    private PooledChannel(int slot, ManagedChannel channel) {
+      this.slot = slot;
+      this.channel = channel;
+      generation = 0;
+      createdNanos = System.nanoTime();
+      //The first channel in a slot may be replaced as soon as it fails
+      replaceBackoffMs = 0;
+      outstanding = new AtomicInteger();
+      consecutiveFailures = new AtomicInteger();
+      calls = new LongAdder();
+      failures = new LongAdder();
+      maxOutstanding = 0;
+      succeeded = false;
+    }
+
+    private PooledChannel(PooledChannel replaced, ManagedChannel channel) {
+      this.channel = channel;
+      slot = replaced.slot;
+      generation = replaced.generation + 1;
+      createdNanos = System.nanoTime();
+      replaceBackoffMs = replaced.succeeded || replaced.replaceBackoffMs == 0
+          ? INITIAL_REPLACE_BACKOFF_MS
+          : Math.min(replaced.replaceBackoffMs * 2, MAX_REPLACE_BACKOFF_MS);
+      outstanding = new AtomicInteger();
+      consecutiveFailures = new AtomicInteger();
+      calls = replaced.calls;
+      failures = replaced.failures;
+      maxOutstanding = replaced.maxOutstanding;
+      succeeded = false;
+    }
+
+    private void onStart() {
+      calls.increment();
+      int nowOutstanding = outstanding.incrementAndGet();
+      //A racy maximum is good enough for statistics
+      if (nowOutstanding > maxOutstanding) {
+        maxOutstanding = nowOutstanding;
+      }
+    }
+
+    private void onClose(Status status) {
+      outstanding.decrementAndGet();
+      if (status.isOk()) {
+        succeeded = true;
+      }
+      else {
+        failures.increment();
+      }
+    }
+
+    private void logStats() {
+      Logger.logInfo(
+          String.format(
+              "Connection %d (replaced %d times): %d calls, %d failed, %d outstanding, at most %d outstanding at once",
+              slot,
+              generation,
+              calls.sum(),
+              failures.sum(),
+              outstanding.get(),
+              maxOutstanding));
+    }
+  }
+
+}
@@ -1,8 +1,14 @@
 package client;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * An interface for a client that can send GET, PUT, and DELETE
- * commands for key-value pairs to a server.
+ * commands for key-value pairs to a server, watch keys for changes,
+ * and bulk load, export and import key-value pairs.
  * @author lscholte
  *
  */
@@ -23,7 +29,7 @@ public interface Client {
   
   /**
    * Sends a GET command to the server.
-   * @param the key to use to retrieve a value
+   * @param key the key to use to retrieve a value
    */
   public void sendGet(String key);
   
@@ -32,5 +38,75 @@ public interface Client {
    * @param key the key to delete
    */
   public void sendDelete(String key);
+  
+  /**
+   * Asynchronously sends a PUT command to the server. The returned future
+   * completes exceptionally if the command could not be carried out.
+   * @param key the key to store
+   * @param value the value to store
+   * @return a future that completes once the value has been stored
+   */
+  public CompletableFuture<Void> putAsync(String key, String value);
+  
+  /**
+   * Asynchronously sends a GET command to the server. The returned future
+   * completes exceptionally if the command could not be carried out.
+   * @param key the key to use to retrieve a value
+   * @return a future that completes with the value, or null if there is no value for the key
+   */
+  public CompletableFuture<String> getAsync(String key);
+  
+  /**
+   * Asynchronously sends a DELETE command to the server. The returned future
+   * completes exceptionally if the command could not be carried out.
+   * @param key the key to delete
+   * @return a future that completes with true if the key existed and was deleted
+   */
+  public CompletableFuture<Boolean> deleteAsync(String key);
+
+  /**
+   * Starts watching a key or key prefix, logging every change until the watch ends.
+   * @param key the key, or key prefix, to watch
+   * @param prefix true to watch every key starting with {@code key}
+   */
+  public void sendWatch(String key, boolean prefix);
+  
+  /**
+   * Starts watching a key or key prefix. Changes are passed to the listener
+   * as they are made until the watch is closed or fails.
+   * @param key the key, or key prefix, to watch
+   * @param prefix true to watch every key starting with {@code key}
+   * @param fromVersion a version already seen, to first receive the changes made
+   *      since then, or 0 to only receive new changes
+   * @param listener the listener to pass changes to
+   * @return a handle that ends the watch when closed
+   */
+  public Closeable watch(String key, boolean prefix, long fromVersion, WatchListener listener);
+  
+  /**
+   * Loads the key-value pairs in a file into the server, streaming them in
+   * batches, and blocks until the server has applied them all. Each line of
+   * the file holds a key and its value separated by a tab.
+   * @param file the file of key-value pairs to load
+   * @param batchSize the maximum number of pairs to send in each batch
+   * @return true if every pair was loaded
+   */
+  public boolean sendBulkLoad(Path file, int batchSize) throws IOException, InterruptedException;
+  
+  /**
+   * Exports every key-value pair on the server, as of a single version, to
+   * a compressed file, and blocks until the export is complete.
+   * @param file the file to write the export to
+   * @return true if the export completed
+   */
+  public boolean sendExport(Path file) throws IOException;
+  
+  /**
+   * Loads the key-value pairs in a file written by {@link #sendExport(Path)}
+   * into the server, and blocks until the server has applied them all.
+   * @param file the exported file to load
+   * @return true if every pair was loaded
+   */
+  public boolean sendImport(Path file) throws IOException, InterruptedException;
 
 }
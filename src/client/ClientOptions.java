@@ -0,0 +1,435 @@
+package client;
+
+import java.nio.file.Path;
+
+import utilities.CompressionPolicy;
+import utilities.Priority;
+
+/**
+ * Options that control how an {@code RpcClient} sends requests to a server.
+ * Setters return the options so that calls can be chained.
+ * @author lscholte
+ *
+ */
+public class ClientOptions {
+
+  /**
+   * The default maximum number of requests awaiting a response at once.
+   */
+  public static final int DEFAULT_MAX_IN_FLIGHT = 4096;
+
+  /**
+   * The default time for which a near-cached value is served without asking the server.
+   */
+  public static final long DEFAULT_NEAR_CACHE_TTL_MS = 1000;
+
+  /**
+   * The default time for which a batch of PUTs waits for more PUTs before being sent.
+   */
+  public static final long DEFAULT_PUT_LINGER_MICROS = 200;
+
+  /**
+   * The default maximum number of attempts at a call, including the first.
+   */
+  public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+  /**
+   * The default upper bound of the delay before the first retry of a call.
+   */
+  public static final long DEFAULT_INITIAL_BACKOFF_MS = 20;
+
+  /**
+   * The default upper bound of the delay before any retry of a call.
+   */
+  public static final long DEFAULT_MAX_BACKOFF_MS = 1000;
+
+  /**
+   * The default number of retries or hedges that each call adds to the retry budget.
+   */
+  public static final double DEFAULT_RETRY_BUDGET_RATIO = 0.1;
+
+  private boolean pipelined;
+  private int maxInFlight;
+  private CompressionPolicy compressionPolicy;
+  private String clientId;
+  private Priority priority;
+  private Path socketPath;
+  private String inProcessName;
+  private int channels;
+  private int nearCacheSize;
+  private long nearCacheTtlMs;
+  private int putBatchSize;
+  private long putLingerMicros;
+  private int maxAttempts;
+  private long initialBackoffMs;
+  private long maxBackoffMs;
+  private double retryBudgetRatio;
+  private boolean hedgedGets;
+  private boolean retryWrites;
+
+  /**
+   * Constructs ClientOptions in which commands are sent as unary calls
+   * and at most {@value #DEFAULT_MAX_IN_FLIGHT} asynchronous requests
+   * may be awaiting a response. Requests are interactive and not
+   * compressed, and the server identifies the client by its address.
+   * The server is connected to over TCP rather than a Unix domain socket
+   * or in-process, through a single channel, and GETs are always sent to
+   * the server rather than answered from a near-cache. Each PUT is sent
+   * as a call of its own rather than in a batch. Calls that fail because
+   * the server is unavailable or too slow are retried up to
+   * {@value #DEFAULT_MAX_ATTEMPTS} times in all, within a retry budget of
+   * {@value #DEFAULT_RETRY_BUDGET_RATIO} retries per call, if they are GETs.
+   * Writes are not retried, and GETs are not hedged.
+   */
+  public ClientOptions() {
+    pipelined = false;
+    maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    compressionPolicy = CompressionPolicy.NONE;
+    clientId = null;
+    priority = Priority.INTERACTIVE;
+    socketPath = null;
+    inProcessName = null;
+    channels = 1;
+    nearCacheSize = 0;
+    nearCacheTtlMs = DEFAULT_NEAR_CACHE_TTL_MS;
+    putBatchSize = 1;
+    putLingerMicros = DEFAULT_PUT_LINGER_MICROS;
+    maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    initialBackoffMs = DEFAULT_INITIAL_BACKOFF_MS;
+    maxBackoffMs = DEFAULT_MAX_BACKOFF_MS;
+    retryBudgetRatio = DEFAULT_RETRY_BUDGET_RATIO;
+    hedgedGets = false;
+    retryWrites = false;
+  }
+
+  /**
+   * @return true if commands are pipelined over a single bidirectional session
+   */
+  public boolean isPipelined() {
+    return pipelined;
+  }
+
+  /**
+   * @param pipelined true to pipeline commands over a single bidirectional session
+   * @return these options
+   */
+  public ClientOptions setPipelined(boolean pipelined) {
+    this.pipelined = pipelined;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of asynchronous or pipelined requests awaiting a response
+   */
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * @param maxInFlight the maximum number of asynchronous or pipelined requests
+   *      awaiting a response; must be positive
+   * @return these options
+   */
+  public ClientOptions setMaxInFlight(int maxInFlight) {
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("The maximum number of in-flight requests must be positive");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  /**
+   * @return the policy that decides which requests are compressed
+   */
+  public CompressionPolicy getCompressionPolicy() {
+    return compressionPolicy;
+  }
+
+  /**
+   * @param compressionPolicy the policy that decides which requests are compressed
+   * @return these options
+   */
+  public ClientOptions setCompressionPolicy(CompressionPolicy compressionPolicy) {
+    this.compressionPolicy = compressionPolicy;
+    return this;
+  }
+
+  /**
+   * @return the identity the client gives the server for quotas, or null to be
+   *      identified by its address
+   */
+  public String getClientId() {
+    return clientId;
+  }
+
+  /**
+   * @param clientId the identity the client gives the server for quotas, or null
+   *      to be identified by its address
+   * @return these options
+   */
+  public ClientOptions setClientId(String clientId) {
+    this.clientId = clientId;
+    return this;
+  }
+
+  /**
+   * @return the priority the client's requests are tagged with
+   */
+  public Priority getPriority() {
+    return priority;
+  }
+
+  /**
+   * @param priority the priority the client's requests are tagged with
+   * @return these options
+   */
+  public ClientOptions setPriority(Priority priority) {
+    this.priority = priority;
+    return this;
+  }
+
+  /**
+   * @return the path of the Unix domain socket through which the server is
+   *      connected to, or null if it is connected to over TCP
+   */
+  public Path getSocketPath() {
+    return socketPath;
+  }
+
+  /**
+   * @param socketPath the path of the Unix domain socket through which to connect
+   *      to the server instead of its IP and port, or null to connect over TCP.
+   *      Unix domain sockets require the epoll transport.
+   * @return these options
+   */
+  public ClientOptions setSocketPath(Path socketPath) {
+    this.socketPath = socketPath;
+    return this;
+  }
+
+  /**
+   * @return the name of the server in the same process to connect to, or null
+   *      if the server is connected to over the network
+   */
+  public String getInProcessName() {
+    return inProcessName;
+  }
+
+  /**
+   * @param inProcessName the name of the server in the same process to connect to
+   *      instead of its IP and port, or null to connect over the network
+   * @return these options
+   */
+  public ClientOptions setInProcessName(String inProcessName) {
+    this.inProcessName = inProcessName;
+    return this;
+  }
+
+  /**
+   * @return the number of channels, each with its own connection, over which calls are spread
+   */
+  public int getChannels() {
+    return channels;
+  }
+
+  /**
+   * @param channels the number of channels, each with its own connection, over
+   *      which to spread calls. Each call goes to the channel with the fewest
+   *      calls outstanding.
+   * @return these options
+   */
+  public ClientOptions setChannels(int channels) {
+    if (channels <= 0) {
+      throw new IllegalArgumentException("The number of channels must be positive");
+    }
+    this.channels = channels;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of keys whose values are near-cached, or 0 if there is no near-cache
+   */
+  public int getNearCacheSize() {
+    return nearCacheSize;
+  }
+
+  /**
+   * @param nearCacheSize the maximum number of keys whose values the client
+   *      keeps to answer GETs without asking the server, or 0 for no near-cache
+   * @return these options
+   */
+  public ClientOptions setNearCacheSize(int nearCacheSize) {
+    this.nearCacheSize = Math.max(0, nearCacheSize);
+    return this;
+  }
+
+  /**
+   * @return the time for which a near-cached value is served without asking the server
+   */
+  public long getNearCacheTtlMs() {
+    return nearCacheTtlMs;
+  }
+
+  /**
+   * @param nearCacheTtlMs the time for which a near-cached value is served
+   *      without asking the server. After that, the value is revalidated by
+   *      its version and only transferred again if it has changed.
+   * @return these options
+   */
+  public ClientOptions setNearCacheTtlMs(long nearCacheTtlMs) {
+    this.nearCacheTtlMs = Math.max(0, nearCacheTtlMs);
+    return this;
+  }
+
+  /**
+   * @return the number of PUTs at which a batch is sent, or 1 if PUTs are not batched
+   */
+  public int getPutBatchSize() {
+    return putBatchSize;
+  }
+
+  /**
+   * @param putBatchSize the number of PUTs at which a batch is sent straight
+   *      away, or 1 to send each PUT as a call of its own. Pipelined PUTs are
+   *      never batched, as they already share a single session.
+   * @return these options
+   */
+  public ClientOptions setPutBatchSize(int putBatchSize) {
+    if (putBatchSize <= 0) {
+      throw new IllegalArgumentException("The PUT batch size must be positive");
+    }
+    this.putBatchSize = putBatchSize;
+    return this;
+  }
+
+  /**
+   * @return the time for which a batch of PUTs waits for more PUTs before being sent
+   */
+  public long getPutLingerMicros() {
+    return putLingerMicros;
+  }
+
+  /**
+   * @param putLingerMicros the time after its first PUT at which a batch is
+   *      sent even if it is not full
+   * @return these options
+   */
+  public ClientOptions setPutLingerMicros(long putLingerMicros) {
+    this.putLingerMicros = Math.max(0, putLingerMicros);
+    return this;
+  }
+
+  /**
+   * @return the maximum number of attempts at a call, including the first
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * @param maxAttempts the maximum number of attempts at a call that fails with
+   *      {@code UNAVAILABLE} or {@code DEADLINE_EXCEEDED}, including the first,
+   *      or 1 to never retry. Pipelined commands are never retried, and
+   *      writes are only retried if {@link #setRetryWrites(boolean)} allows it.
+   * @return these options
+   */
+  public ClientOptions setMaxAttempts(int maxAttempts) {
+    if (maxAttempts <= 0) {
+      throw new IllegalArgumentException("The maximum number of attempts must be positive");
+    }
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  /**
+   * @return the upper bound of the delay before the first retry of a call
+   */
+  public long getInitialBackoffMs() {
+    return initialBackoffMs;
+  }
+
+  /**
+   * @param initialBackoffMs the upper bound of the delay before the first retry
+   *      of a call, which doubles with every further retry
+   * @return these options
+   */
+  public ClientOptions setInitialBackoffMs(long initialBackoffMs) {
+    this.initialBackoffMs = Math.max(0, initialBackoffMs);
+    return this;
+  }
+
+  /**
+   * @return the upper bound of the delay before any retry of a call
+   */
+  public long getMaxBackoffMs() {
+    return maxBackoffMs;
+  }
+
+  /**
+   * @param maxBackoffMs the upper bound of the delay before any retry of a call
+   * @return these options
+   */
+  public ClientOptions setMaxBackoffMs(long maxBackoffMs) {
+    this.maxBackoffMs = Math.max(0, maxBackoffMs);
+    return this;
+  }
+
+  /**
+   * @return the number of retries or hedges that each call adds to the retry budget
+   */
+  public double getRetryBudgetRatio() {
+    return retryBudgetRatio;
+  }
+
+  /**
+   * @param retryBudgetRatio the number of retries or hedges that each call adds
+   *      to the retry budget, which bounds the extra load retries and hedges
+   *      can put on the server
+   * @return these options
+   */
+  public ClientOptions setRetryBudgetRatio(double retryBudgetRatio) {
+    this.retryBudgetRatio = Math.max(0, retryBudgetRatio);
+    return this;
+  }
+
+  /**
+   * @return true if a GET sends a second copy of its request when it is slower than usual
+   */
+  public boolean isHedgedGets() {
+    return hedgedGets;
+  }
+
+  /**
+   * @param hedgedGets true for a GET to send a second copy of its request if it
+   *      has not been answered by the 95th percentile of observed GET latencies.
+   *      A server that coalesces GETs joins a hedge to the lookup of the
+   *      original if that lookup is still in flight, so hedges then only
+   *      help against delays outside the lookup itself.
+   * @return these options
+   */
+  public ClientOptions setHedgedGets(boolean hedgedGets) {
+    this.hedgedGets = hedgedGets;
+    return this;
+  }
+
+  /**
+   * @return true if PUTs and DELETEs are retried as well as GETs
+   */
+  public boolean isRetryWrites() {
+    return retryWrites;
+  }
+
+  /**
+   * @param retryWrites true to retry PUTs and DELETEs as well as GETs. A
+   *      write whose response was lost may already have been applied, so
+   *      this is only safe against a server that deduplicates writes by
+   *      their request IDs, which a server started with a deduplication
+   *      window of 0 does not.
+   * @return these options
+   */
+  public ClientOptions setRetryWrites(boolean retryWrites) {
+    this.retryWrites = retryWrites;
+    return this;
+  }
+
+}
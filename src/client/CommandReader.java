@@ -1,18 +1,28 @@
 package client;
 
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
 
+import io.grpc.Status;
+import utilities.LineTokenizer;
 import utilities.Logger;
 import utilities.ThrowingRunnable;
 import utilities.Tokenizer;
 
 /**
  * Reads commands from an input stream and sends them to
- * a {@code Client}.
+ * a {@code Client}, either interactively, one command at a time,
+ * or as a script of PUT, GET and DELETE commands that are sent
+ * without waiting for each response.
  * @author lscholte
  *
  */
@@ -23,7 +33,9 @@ public class CommandReader {
       "Usage: " + System.lineSeparator() +
       "put <key> <value>" + System.lineSeparator() +
       "get <key>" + System.lineSeparator() +
-      "delete <key>" + System.lineSeparator();
+      "delete <key>" + System.lineSeparator() +
+      "watch <key>" + System.lineSeparator() +
+      "watch-prefix <prefix>" + System.lineSeparator();
       
   
   private Client client;
@@ -69,6 +81,127 @@ public class CommandReader {
     runnable.run();
   }
   
+  /**
+   * Reads a script of PUT, GET and DELETE commands, one per line, until
+   * the end of the stream and sends them to the client. Commands are sent
+   * without waiting for the responses to earlier commands, keeping up to
+   * {@code window} commands in flight, except that a command on a key is
+   * not sent until the previous command on the same key has completed, so
+   * that the commands on each key take effect in the order of the script.
+   * Blank lines are skipped.
+   * <br><br>
+   * Each line is checked as it is read rather than the whole script up
+   * front, so a line that does not hold a recognized command is only found
+   * once the commands before it have been sent. It is counted and skipped.
+   * <br><br>
+   * The outcome of every command is logged with its line number unless
+   * {@code summaryOnly} is set. Either way, a summary of how many commands
+   * of each kind succeeded and failed is logged once the script is complete.
+   * @param input the stream to read the script from
+   * @param window the maximum number of commands in flight
+   * @param summaryOnly true to only log the summary
+   * @return true if every line held a recognized command and every command succeeded
+   */
+  public boolean readScript(InputStream input, int window, boolean summaryOnly) throws IOException, InterruptedException {
+    LineTokenizer tokenizer = new LineTokenizer(input);
+    Semaphore inFlight = new Semaphore(window);
+    //The last command sent on each key that has not yet completed
+    Map<String, CompletableFuture<?>> lastCommands = new ConcurrentHashMap<String, CompletableFuture<?>>();
+    ScriptSummary summary = new ScriptSummary();
+    long startNanos = System.nanoTime();
+
+    while (tokenizer.nextLine()) {
+      if (tokenizer.getTokenCount() == 0) {
+        continue;
+      }
+      long lineNumber = tokenizer.getLineNumber();
+      ScriptCommand command = ScriptCommand.find(tokenizer);
+      if (command == null) {
+        summary.unrecognized.increment();
+        if (!summaryOnly) {
+          Logger.logError(String.format("Line %d: %s", lineNumber, UNRECOGNIZED_COMMAND));
+        }
+        continue;
+      }
+      String key = tokenizer.getToken(1);
+      String value = command == ScriptCommand.PUT ? tokenizer.getToken(2) : null;
+
+      inFlight.acquire();
+      CompletableFuture<?> previous = lastCommands.get(key);
+      CompletableFuture<?> sent = previous == null
+          ? send(command, key, value)
+          : previous.handle((result, error) -> null).thenCompose(ignored -> send(command, key, value));
+      //Put before the completion is registered, since a command that has already
+      //completed runs the completion at once, and its entry must be there to remove
+      lastCommands.put(key, sent);
+      sent.whenComplete((result, error) -> {
+        lastCommands.remove(key, sent);
+        summary.record(command, error == null);
+        if (!summaryOnly) {
+          logOutcome(lineNumber, command, key, value, result, error);
+        }
+        inFlight.release();
+      });
+    }
+    inFlight.acquire(window);
+    inFlight.release(window);
+
+    summary.log(System.nanoTime() - startNanos);
+    return summary.isSuccessful();
+  }
+  
+  private CompletableFuture<?> send(ScriptCommand command, String key, String value) {
+    try {
+      switch (command) {
+        case PUT:
+          return client.putAsync(key, value);
+        case GET:
+          return client.getAsync(key);
+        case DELETE:
+          return client.deleteAsync(key);
+        default:
+          throw new IllegalArgumentException(String.format("Unknown command %s", command));
+      }
+    }
+    catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+  
+  private static void logOutcome(long lineNumber, ScriptCommand command, String key, String value, Object result, Throwable error) {
+    if (error != null) {
+      Throwable cause = error.getCause() == null ? error : error.getCause();
+      String reason = cause instanceof RequestFailedException
+          ? cause.getMessage()
+          : String.format("%s failed with error status code %s", command, Status.fromThrowable(cause).getCode());
+      Logger.logError(String.format("Line %d: %s", lineNumber, reason));
+      return;
+    }
+    switch (command) {
+      case PUT:
+        Logger.logInfo(String.format("Line %d: the value %s has been put under key %s", lineNumber, value, key));
+        break;
+      case GET:
+        if (result == null) {
+          Logger.logInfo(String.format("Line %d: there is no value for key %s", lineNumber, key));
+        }
+        else {
+          Logger.logInfo(String.format("Line %d: value is %s", lineNumber, result));
+        }
+        break;
+      case DELETE:
+        if ((Boolean)result) {
+          Logger.logInfo(String.format("Line %d: the key %s has been deleted", lineNumber, key));
+        }
+        else {
+          Logger.logInfo(String.format("Line %d: the key %s did not exist", lineNumber, key));
+        }
+        break;
+      default:
+        break;
+    }
+  }
+  
   /**
    * Generates a map of actions to run when the client reads
    * certain keywords (case insensitive).
@@ -107,6 +240,26 @@ public class CommandReader {
           }
           client.sendDelete(tokens[0]);
         });
+    commands.put(
+        "watch",
+        () -> {
+          String[] tokens = Tokenizer.tokenize(scanner, 1);
+          if (tokens == null) {
+            Logger.logError(UNRECOGNIZED_COMMAND);
+            return;
+          }
+          client.sendWatch(tokens[0], false);
+        });
+    commands.put(
+        "watch-prefix",
+        () -> {
+          String[] tokens = Tokenizer.tokenize(scanner, 1);
+          if (tokens == null) {
+            Logger.logError(UNRECOGNIZED_COMMAND);
+            return;
+          }
+          client.sendWatch(tokens[0], true);
+        });
     commands.put(
         "help",
         () -> Logger.logInfo(USAGE));
@@ -114,4 +267,93 @@ public class CommandReader {
     return commands;
   }
   
+  /**
+   * The commands a script may hold, with the number of tokens on
+   * the line of each, including the command itself.
+   */
+  private static enum ScriptCommand {
+    PUT("put", 3),
+    GET("get", 2),
+    DELETE("delete", 2);
+    
+    private static final ScriptCommand[] COMMANDS = values();
+    
+    private final String name;
+    private final int tokenCount;
+    
+    private ScriptCommand(String name, int tokenCount) {
+      this.name = name;
+      this.tokenCount = tokenCount;
+    }
+    
+    /**
+     * @param tokenizer a tokenizer positioned on a line of a script
+     * @return the command on the line, or null if the line does not hold a command
+     *      with the right number of arguments
+     */
+    private static ScriptCommand find(LineTokenizer tokenizer) {
+      for (ScriptCommand command : COMMANDS) {
+        if (tokenizer.getTokenCount() == command.tokenCount && tokenizer.tokenEquals(0, command.name)) {
+          return command;
+        }
+      }
+      return null;
+    }
+  }
+  
+  /**
+   * Counts how many commands of each kind in a script succeeded and failed.
+   */
+  private static final class ScriptSummary {
+    
+    private final LongAdder[] succeeded;
+    private final LongAdder[] failed;
+    private final LongAdder unrecognized;
+    
+    private ScriptSummary() {
+      succeeded = new LongAdder[ScriptCommand.COMMANDS.length];
+      failed = new LongAdder[ScriptCommand.COMMANDS.length];
+      for (int i = 0; i < ScriptCommand.COMMANDS.length; ++i) {
+        succeeded[i] = new LongAdder();
+        failed[i] = new LongAdder();
+      }
+      unrecognized = new LongAdder();
+    }
+    
+    private void record(ScriptCommand command, boolean success) {
+      (success ? succeeded : failed)[command.ordinal()].increment();
+    }
+    
+    private boolean isSuccessful() {
+      if (unrecognized.sum() > 0) {
+        return false;
+      }
+      for (LongAdder count : failed) {
+        if (count.sum() > 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+    
+    private void log(long elapsedNanos) {
+      long total = 0;
+      StringBuilder counts = new StringBuilder();
+      for (ScriptCommand command : ScriptCommand.COMMANDS) {
+        long succeededCount = succeeded[command.ordinal()].sum();
+        long failedCount = failed[command.ordinal()].sum();
+        total += succeededCount + failedCount;
+        counts.append(String.format("; %s: %d succeeded, %d failed", command, succeededCount, failedCount));
+      }
+      Logger.logInfo(
+          String.format(
+              "Script complete: %d commands in %.2fs (%.0f commands/s)%s; %d lines were not recognized",
+              total,
+              elapsedNanos / 1e9,
+              total * 1e9 / Math.max(1, elapsedNanos),
+              counts,
+              unrecognized.sum()));
+    }
+  }
+  
 }
@@ -1,38 +1,178 @@
 package client;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import utilities.Arguments;
+import utilities.CompressionPolicy;
 import utilities.Logger;
+import utilities.Priority;
 
 /**
- * A program driver that starts an RPC client.
+ * A program driver that starts an RPC client. Given a file to load, export
+ * to or import, the client instead transfers the file and exits. Given a
+ * script of commands, the client instead sends every command in it and
+ * exits. Given a workload, the client instead runs the workload against the server,
+ * reports how the server coped, and exits.
  * @author lscholte
  *
  */
 public class Driver {
-  
-  private static final String USAGE = "Usage: client <ip> <port>";
-  
+
+  private static final String USAGE =
+      "Usage: client <ip> <port> [--pipelined] [--max-in-flight=<count>]" +
+      " [--compression=identity|gzip|deflate] [--compression-threshold=<bytes>]" +
+      " [--compression-thresholds=<method>:<bytes>,...] [--client-id=<id>]" +
+      " [--priority=interactive|batch] [--load=<file> [--batch-size=<count>]]" +
+      " [--export=<file>] [--import=<file>] [--script=<file>|- [--script-window=<count>] [--summary-only]]" +
+      " [--socket=<path>]" +
+      " [--channels=<count>] [--near-cache-size=<count>] [--near-cache-ttl-ms=<ms>]" +
+      " [--put-batch-size=<count>] [--put-linger-us=<us>] [--max-attempts=<count>]" +
+      " [--initial-backoff-ms=<ms>] [--max-backoff-ms=<ms>] [--retry-budget=<ratio>] [--hedged-gets] [--retry-writes]" +
+      " [--workload=a|b|c|d|e|f [--distribution=zipfian|uniform|latest] [--records=<count>]" +
+      " [--target=<ops/s>] [--duration-s=<s>] [--workers=<count>] [--value-size=<bytes>] [--skip-load]]";
+
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+  private static final int DEFAULT_SCRIPT_WINDOW = 256;
+  private static final int DEFAULT_RECORDS = 1000;
+  private static final int DEFAULT_TARGET = 1000;
+  private static final int DEFAULT_DURATION_S = 10;
+  private static final int DEFAULT_WORKERS = 16;
+  private static final int DEFAULT_VALUE_SIZE = 100;
+
   /**
    * Entry point for the client program.
    * @param args the arguments to determine how to create the client
    */
   public static void main(String[] args) throws Throwable {
-    if (args.length != 2) {
+    Arguments arguments = new Arguments(args);
+    if (arguments.getPositionalCount() != 2) {
       Logger.logError(USAGE);
       return;
     }
-    
-    String ip = args[0];
+
+    String ip = arguments.getPositional(0);
     int port;
+    ClientOptions options = new ClientOptions();
+    Path loadFile;
+    Path exportFile;
+    Path importFile;
+    int batchSize;
+    String script;
+    int scriptWindow;
+    Workload workload;
+    int records;
+    int target;
+    int durationS;
+    int workers;
+    int valueSize;
     try {
-      port = Integer.parseInt(args[1]);
+      port = Integer.parseInt(arguments.getPositional(1));
+      options.setPipelined(arguments.hasOption("pipelined"));
+      options.setMaxInFlight(arguments.getInt("max-in-flight", ClientOptions.DEFAULT_MAX_IN_FLIGHT));
+      options.setCompressionPolicy(
+          CompressionPolicy.parse(
+              arguments.getString("compression", null),
+              arguments.getInt("compression-threshold", 0),
+              arguments.getString("compression-thresholds", null)));
+      options.setClientId(arguments.getString("client-id", null));
+      options.setPriority(Priority.fromName(arguments.getString("priority", Priority.INTERACTIVE.getName())));
+      loadFile = getPath(arguments, "load");
+      exportFile = getPath(arguments, "export");
+      importFile = getPath(arguments, "import");
+      options.setSocketPath(getPath(arguments, "socket"));
+      options.setChannels(arguments.getInt("channels", 1));
+      options.setNearCacheSize(arguments.getInt("near-cache-size", 0));
+      options.setNearCacheTtlMs(arguments.getLong("near-cache-ttl-ms", ClientOptions.DEFAULT_NEAR_CACHE_TTL_MS));
+      options.setPutBatchSize(arguments.getInt("put-batch-size", 1));
+      options.setPutLingerMicros(arguments.getLong("put-linger-us", ClientOptions.DEFAULT_PUT_LINGER_MICROS));
+      options.setMaxAttempts(arguments.getInt("max-attempts", ClientOptions.DEFAULT_MAX_ATTEMPTS));
+      options.setInitialBackoffMs(arguments.getLong("initial-backoff-ms", ClientOptions.DEFAULT_INITIAL_BACKOFF_MS));
+      options.setMaxBackoffMs(arguments.getLong("max-backoff-ms", ClientOptions.DEFAULT_MAX_BACKOFF_MS));
+      options.setRetryBudgetRatio(arguments.getDouble("retry-budget", ClientOptions.DEFAULT_RETRY_BUDGET_RATIO));
+      options.setHedgedGets(arguments.hasOption("hedged-gets"));
+      options.setRetryWrites(arguments.hasOption("retry-writes"));
+      batchSize = arguments.getInt("batch-size", DEFAULT_BATCH_SIZE);
+      if (batchSize <= 0) {
+        throw new IllegalArgumentException("The batch size must be positive");
+      }
+      script = arguments.getString("script", null);
+      scriptWindow = arguments.getInt("script-window", DEFAULT_SCRIPT_WINDOW);
+      if (scriptWindow <= 0) {
+        throw new IllegalArgumentException("The script window must be positive");
+      }
+      workload = arguments.hasOption("workload") ? Workload.fromName(arguments.getString("workload", "")) : null;
+      records = arguments.getInt("records", DEFAULT_RECORDS);
+      target = arguments.getInt("target", DEFAULT_TARGET);
+      durationS = arguments.getInt("duration-s", DEFAULT_DURATION_S);
+      workers = arguments.getInt("workers", DEFAULT_WORKERS);
+      valueSize = arguments.getInt("value-size", DEFAULT_VALUE_SIZE);
+      if (records <= 0 || target <= 0 || durationS <= 0 || workers <= 0 || valueSize < 0) {
+        throw new IllegalArgumentException("The workload parameters must be positive");
+      }
     }
-    catch (NumberFormatException e) {
+    catch (IllegalArgumentException e) {
       Logger.logError(USAGE);
       return;
     }
-    
-    Client client = new RpcClient(ip, port);
+
+    Client client = new RpcClient(ip, port, options);
+    if (loadFile != null) {
+      System.exit(client.sendBulkLoad(loadFile, batchSize) ? 0 : 1);
+    }
+    if (exportFile != null) {
+      System.exit(client.sendExport(exportFile) ? 0 : 1);
+    }
+    if (importFile != null) {
+      System.exit(client.sendImport(importFile) ? 0 : 1);
+    }
+    if (script != null) {
+      CommandReader commandReader = new CommandReader(client);
+      boolean summaryOnly = arguments.hasOption("summary-only");
+      boolean succeeded;
+      //A script of "-" is read from standard input
+      if (script.equals("-")) {
+        succeeded = commandReader.readScript(System.in, scriptWindow, summaryOnly);
+      }
+      else {
+        try (InputStream input = Files.newInputStream(Paths.get(script))) {
+          succeeded = commandReader.readScript(input, scriptWindow, summaryOnly);
+        }
+      }
+      System.exit(succeeded ? 0 : 1);
+    }
+    if (workload != null) {
+      WorkloadRunner runner;
+      try {
+        runner = new WorkloadRunner(client, workload, arguments.getString("distribution", null), records, valueSize);
+      }
+      catch (IllegalArgumentException e) {
+        Logger.logError(USAGE);
+        System.exit(1);
+        return;
+      }
+      Logger.setInfoEnabled(false);
+      if (!arguments.hasOption("skip-load")) {
+        runner.load();
+      }
+      System.out.println(runner.run(target, durationS, workers));
+      //Lets the client log its statistics as it shuts down
+      Logger.setInfoEnabled(true);
+      System.exit(0);
+    }
     client.start();
   }
 
+  /**
+   * @param arguments the program arguments
+   * @param name the name of the option holding a path
+   * @return the path, or null if the option was not given
+   */
+  private static Path getPath(Arguments arguments, String name) {
+    String path = arguments.getString(name, null);
+    return path == null ? null : Paths.get(path);
+  }
+
 }
@@ -0,0 +1,164 @@
+package client;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.google.protobuf.ByteString;
+
+import server.KeyValueStore;
+import server.RpcServer;
+import server.ServerOptions;
+import utilities.Arguments;
+import utilities.Logger;
+
+/**
+ * A program that compares the cost of reading from a store embedded in
+ * the same process in three ways: calling the store directly, calling it
+ * through an {@link RpcClient} connected to an in-process server, and
+ * calling it through an {@link RpcClient} connected to a server over TCP
+ * loopback. Both servers serve the same store, and the two RPC modes run
+ * exactly the same client code.
+ * <br><br>
+ * Each mode is measured closed-loop: a number of threads each send GET
+ * requests one after another, after a warm-up of the same length.
+ * @author lscholte
+ *
+ */
+public class EmbeddedBenchmark {
+
+  private static final String USAGE =
+      "Usage: embeddedbench [--ops=<count>] [--threads=<count>] [--keys=<count>]" +
+      " [--value-size=<bytes>] [--port=<port>]";
+
+  private static final String IN_PROCESS_NAME = "embedded-benchmark";
+
+  /**
+   * Reads a single key in one of the compared ways.
+   */
+  @FunctionalInterface
+  private interface Reader {
+    public void get(String key) throws Exception;
+  }
+
+  private final int ops;
+  private final int threads;
+  private final int keys;
+
+  /**
+   * Constructs an EmbeddedBenchmark.
+   * @param ops the number of GETs to measure in each mode
+   * @param threads the number of threads sending GETs at once
+   * @param keys the number of distinct keys read
+   */
+  public EmbeddedBenchmark(int ops, int threads, int keys) {
+    this.ops = ops;
+    this.threads = threads;
+    this.keys = keys;
+  }
+
+  /**
+   * Entry point for the benchmark program.
+   * @param args the arguments to determine how to run the benchmark
+   */
+  public static void main(String[] args) throws Throwable {
+    Arguments arguments = new Arguments(args);
+    int ops;
+    int threads;
+    int keys;
+    int valueSize;
+    int port;
+    try {
+      ops = arguments.getInt("ops", 100000);
+      threads = arguments.getInt("threads", 4);
+      keys = arguments.getInt("keys", 1000);
+      valueSize = arguments.getInt("value-size", 100);
+      port = arguments.getInt("port", 50061);
+      if (arguments.getPositionalCount() != 0 || ops <= 0 || threads <= 0 || keys <= 0 || valueSize < 0) {
+        throw new IllegalArgumentException();
+      }
+    }
+    catch (IllegalArgumentException e) {
+      Logger.logError(USAGE);
+      return;
+    }
+
+    Logger.setInfoEnabled(false);
+    KeyValueStore store = new KeyValueStore();
+    ByteString value = ByteString.copyFromUtf8("v".repeat(valueSize));
+    for (int i = 0; i < keys; ++i) {
+      store.put("Key" + i, value);
+    }
+    RpcServer inProcessServer = new RpcServer(0, store, new ServerOptions().setInProcessName(IN_PROCESS_NAME));
+    inProcessServer.listen();
+    RpcServer tcpServer = new RpcServer(port, store, new ServerOptions());
+    tcpServer.listen();
+    Client inProcessClient = new RpcClient(null, 0, new ClientOptions().setInProcessName(IN_PROCESS_NAME));
+    Client tcpClient = new RpcClient("127.0.0.1", port);
+
+    EmbeddedBenchmark benchmark = new EmbeddedBenchmark(ops, threads, keys);
+    System.out.println(String.format("%-12s %12s %10s %10s", "mode", "ops/s", "p50 us", "p99 us"));
+    System.out.println(benchmark.run("embedded", store::get));
+    System.out.println(benchmark.run("in-process", key -> inProcessClient.getAsync(key).get()));
+    System.out.println(benchmark.run("tcp", key -> tcpClient.getAsync(key).get()));
+
+    inProcessServer.shutdown();
+    tcpServer.shutdown();
+    System.exit(0);
+  }
+
+  /**
+   * Warms up and then measures one way of reading keys.
+   * @param mode the name of the way of reading keys
+   * @param reader reads a single key
+   * @return a line summarizing the throughput and latencies of the reads
+   */
+  public String run(String mode, Reader reader) throws InterruptedException {
+    measure(reader);
+    long[] latencies = new long[ops];
+    long elapsedNanos = measure(reader, latencies);
+    Arrays.sort(latencies);
+    return String.format("%-12s %12.0f %10.2f %10.2f",
+        mode,
+        ops * 1e9 / elapsedNanos,
+        latencies[(int)(ops * 0.50)] / 1e3,
+        latencies[Math.min(ops - 1, (int)(ops * 0.99))] / 1e3);
+  }
+
+  private long measure(Reader reader) throws InterruptedException {
+    return measure(reader, new long[ops]);
+  }
+
+  /**
+   * Reads random keys from several threads at once.
+   * @param reader reads a single key
+   * @param latencies receives the latency of each read in nanoseconds
+   * @return the time taken for every thread to finish
+   */
+  private long measure(Reader reader, long[] latencies) throws InterruptedException {
+    Thread[] workers = new Thread[threads];
+    long startNanos = System.nanoTime();
+    for (int t = 0; t < threads; ++t) {
+      final int first = t;
+      workers[t] = new Thread(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = first; i < ops; i += threads) {
+          String key = "Key" + random.nextInt(keys);
+          long opStartNanos = System.nanoTime();
+          try {
+            reader.get(key);
+          }
+          catch (Exception e) {
+            Logger.logError(String.format("GET of %s failed: %s", key, e));
+          }
+          latencies[i] = System.nanoTime() - opStartNanos;
+        }
+      });
+      workers[t].start();
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    return System.nanoTime() - startNanos;
+  }
+
+}
@@ -0,0 +1,169 @@
+package client;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Chooses which of the records written so far a workload operation
+ * touches. Records are numbered from 0 in the order they were inserted,
+ * and only records whose inserts have been acknowledged are chosen.
+ * Choosers are described by name:
+ * <ul>
+ * <li>{@code uniform}: every record is equally likely</li>
+ * <li>{@code zipfian}: a few records are much more popular than the rest,
+ * with the popular records scattered over the whole range</li>
+ * <li>{@code latest}: the most recently inserted records are the most popular</li>
+ * </ul>
+ * @author lscholte
+ *
+ */
+public interface KeyChooser {
+
+  /**
+   * The skew of the zipfian distributions, as used by YCSB.
+   */
+  public static final double ZIPFIAN_CONSTANT = 0.99;
+
+  /**
+   * @return the number of the record to touch
+   */
+  public long nextRecord();
+
+  /**
+   * Creates a chooser from its name.
+   * @param name the name of the chooser
+   * @param initialRecords the number of records loaded before the workload starts
+   * @param writtenRecords gives the number of records known to have been written,
+   *      which grows as the workload's inserts are acknowledged
+   * @return the chooser
+   * @throws IllegalArgumentException if there is no chooser with the name
+   */
+  public static KeyChooser create(String name, long initialRecords, LongSupplier writtenRecords) {
+    switch (name.toLowerCase()) {
+      case "uniform":
+        return new Uniform(writtenRecords);
+      case "zipfian":
+        return new ScrambledZipfian(initialRecords, writtenRecords);
+      case "latest":
+        return new Latest(initialRecords, writtenRecords);
+      default:
+        throw new IllegalArgumentException(String.format("Unknown key distribution %s", name));
+    }
+  }
+
+  /**
+   * Chooses every record with equal probability.
+   */
+  static final class Uniform implements KeyChooser {
+
+    private final LongSupplier writtenRecords;
+
+    private Uniform(LongSupplier writtenRecords) {
+      this.writtenRecords = writtenRecords;
+    }
+
+    @Override
+    public long nextRecord() {
+      return ThreadLocalRandom.current().nextLong(Math.max(1, writtenRecords.getAsLong()));
+    }
+  }
+
+  /**
+   * Draws ranks from a zipfian distribution over a fixed number of items,
+   * using the method of Gray et al., "Quickly Generating Billion-Record
+   * Synthetic Databases", which needs the zeta constant of the item count
+   * to be computed once up front. Rank 0 is the most popular.
+   */
+  static final class Zipfian {
+
+    private final long items;
+    private final double alpha;
+    private final double zetaN;
+    private final double eta;
+    private final double halfPowTheta;
+
+    Zipfian(long items) {
+      this.items = Math.max(1, items);
+      alpha = 1.0 / (1.0 - ZIPFIAN_CONSTANT);
+      zetaN = zeta(this.items);
+      double zeta2 = zeta(2);
+      eta = (1 - Math.pow(2.0 / this.items, 1 - ZIPFIAN_CONSTANT)) / (1 - zeta2 / zetaN);
+      halfPowTheta = 1 + Math.pow(0.5, ZIPFIAN_CONSTANT);
+    }
+
+    private static double zeta(long count) {
+      double sum = 0;
+      for (long i = 1; i <= count; ++i) {
+        sum += 1 / Math.pow(i, ZIPFIAN_CONSTANT);
+      }
+      return sum;
+    }
+
+    long nextRank() {
+      double u = ThreadLocalRandom.current().nextDouble();
+      double uz = u * zetaN;
+      if (uz < 1.0) {
+        return 0;
+      }
+      if (uz < halfPowTheta) {
+        return 1;
+      }
+      return Math.min(items - 1, (long)(items * Math.pow(eta * u - eta + 1, alpha)));
+    }
+  }
+
+  /**
+   * Chooses records with zipfian popularity, hashing each rank so that the
+   * popular records are not all clustered at the start of the range.
+   */
+  static final class ScrambledZipfian implements KeyChooser {
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 1099511628211L;
+
+    private final Zipfian zipfian;
+    private final LongSupplier writtenRecords;
+
+    private ScrambledZipfian(long initialRecords, LongSupplier writtenRecords) {
+      zipfian = new Zipfian(initialRecords);
+      this.writtenRecords = writtenRecords;
+    }
+
+    @Override
+    public long nextRecord() {
+      return Math.floorMod(fnvHash(zipfian.nextRank()), Math.max(1, writtenRecords.getAsLong()));
+    }
+
+    private static long fnvHash(long value) {
+      long hash = FNV_OFFSET_BASIS;
+      for (int i = 0; i < Long.BYTES; ++i) {
+        hash ^= value & 0xFF;
+        hash *= FNV_PRIME;
+        value >>>= 8;
+      }
+      return hash;
+    }
+  }
+
+  /**
+   * Chooses records with zipfian popularity by how recently they were
+   * inserted, so that the newest record is the most popular.
+   */
+  static final class Latest implements KeyChooser {
+
+    private final Zipfian zipfian;
+    private final LongSupplier writtenRecords;
+
+    private Latest(long initialRecords, LongSupplier writtenRecords) {
+      zipfian = new Zipfian(initialRecords);
+      this.writtenRecords = writtenRecords;
+    }
+
+    @Override
+    public long nextRecord() {
+      long newest = writtenRecords.getAsLong() - 1;
+      return Math.max(0, newest - zipfian.nextRank());
+    }
+  }
+
+}
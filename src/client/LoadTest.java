@@ -0,0 +1,221 @@
+package client;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import utilities.Arguments;
+import utilities.Logger;
+
+/**
+ * A program that offers a server increasing rates of GET requests and
+ * reports how it copes with each rate. Requests are sent open-loop, at
+ * fixed intervals regardless of how quickly earlier requests are answered,
+ * and latencies are measured from when each request was due to be sent, so
+ * a server that falls behind is not hidden by the load test slowing down.
+ * <br><br>
+ * For each rate, the goodput is the rate of requests answered successfully
+ * within the latency objective. Requests shed by the server with
+ * {@code RESOURCE_EXHAUSTED} are counted separately from other failures.
+ * The CPU time the load test itself spends per request is also reported, to
+ * compare the cost of different ways of connecting to the server. Running
+ * the load test with different numbers of channels shows how throughput
+ * scales with the size of the client's pool of connections.
+ * @author lscholte
+ *
+ */
+public class LoadTest {
+
+  private static final String USAGE =
+      "Usage: loadtest <ip> <port> [--rates=<ops/s>,...] [--duration-s=<s>]" +
+      " [--keys=<count>] [--value-size=<bytes>] [--slo-ms=<ms>] [--client-id=<id>] [--socket=<path>]" +
+      " [--channels=<count>] [--near-cache-size=<count>] [--near-cache-ttl-ms=<ms>]" +
+      " [--max-attempts=<count>] [--hedged-gets] [--retry-writes]";
+
+  private static final int MAX_IN_FLIGHT = 1 << 20;
+  private static final long DRAIN_TIMEOUT_S = 30;
+
+  private final Client client;
+  private final int keys;
+  private final long sloNanos;
+
+  /**
+   * Constructs a LoadTest.
+   * @param client the client through which requests are sent
+   * @param keys the number of distinct keys requested
+   * @param sloMs the latency within which a successful request counts towards the goodput
+   */
+  public LoadTest(Client client, int keys, long sloMs) {
+    this.client = client;
+    this.keys = keys;
+    this.sloNanos = TimeUnit.MILLISECONDS.toNanos(sloMs);
+  }
+
+  /**
+   * Entry point for the load test program.
+   * @param args the arguments to determine how to run the load test
+   */
+  public static void main(String[] args) throws Throwable {
+    Arguments arguments = new Arguments(args);
+    if (arguments.getPositionalCount() != 2) {
+      Logger.logError(USAGE);
+      return;
+    }
+
+    String ip = arguments.getPositional(0);
+    int port;
+    int[] rates;
+    int durationS;
+    int keys;
+    int valueSize;
+    long sloMs;
+    int channels;
+    try {
+      port = Integer.parseInt(arguments.getPositional(1));
+      rates = Arrays.stream(arguments.getString("rates", "1000,2000,4000,8000,16000").split(","))
+          .mapToInt(Integer::parseInt)
+          .toArray();
+      durationS = arguments.getInt("duration-s", 5);
+      keys = arguments.getInt("keys", 1000);
+      valueSize = arguments.getInt("value-size", 100);
+      sloMs = arguments.getLong("slo-ms", 100);
+      channels = arguments.getInt("channels", 1);
+      if (durationS <= 0 || keys <= 0 || valueSize < 0 || sloMs <= 0 || channels <= 0 || Arrays.stream(rates).anyMatch(rate -> rate <= 0)) {
+        throw new IllegalArgumentException();
+      }
+    }
+    catch (IllegalArgumentException e) {
+      Logger.logError(USAGE);
+      return;
+    }
+
+    Logger.setInfoEnabled(false);
+    Client client = new RpcClient(
+        ip,
+        port,
+        new ClientOptions()
+            .setMaxInFlight(MAX_IN_FLIGHT)
+            .setClientId(arguments.getString("client-id", null))
+            .setSocketPath(arguments.hasOption("socket") ? Paths.get(arguments.getString("socket", "")) : null)
+            .setChannels(channels)
+            .setNearCacheSize(arguments.getInt("near-cache-size", 0))
+            .setNearCacheTtlMs(arguments.getLong("near-cache-ttl-ms", ClientOptions.DEFAULT_NEAR_CACHE_TTL_MS))
+            .setMaxAttempts(arguments.getInt("max-attempts", ClientOptions.DEFAULT_MAX_ATTEMPTS))
+            .setHedgedGets(arguments.hasOption("hedged-gets"))
+            .setRetryWrites(arguments.hasOption("retry-writes")));
+    LoadTest loadTest = new LoadTest(client, keys, sloMs);
+    loadTest.load(valueSize);
+    System.out.println(String.format("%10s %8s %8s %8s %8s %10s %10s %10s %12s",
+        "rate", "sent", "ok", "shed", "failed", "goodput", "p50 ms", "p99 ms", "cpu us/op"));
+    for (int rate : rates) {
+      System.out.println(loadTest.run(rate, durationS));
+    }
+    //Lets the client log its statistics as it shuts down
+    Logger.setInfoEnabled(true);
+    System.exit(0);
+  }
+
+  /**
+   * Puts a value under every key that will be requested.
+   * @param valueSize the size of each value
+   */
+  public void load(int valueSize) throws Exception {
+    String value = "v".repeat(valueSize);
+    for (int i = 0; i < keys; ++i) {
+      client.putAsync("Key" + i, value).get();
+    }
+  }
+
+  /**
+   * Offers GET requests at a fixed rate for a period of time, then waits
+   * for every request to be answered.
+   * @param rate the number of requests to send per second
+   * @param durationS the number of seconds for which to send requests
+   * @return a line summarizing how the server coped with the rate
+   */
+  public String run(int rate, int durationS) throws InterruptedException {
+    int count = rate * durationS;
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+    long[] latencies = new long[count];
+    Arrays.fill(latencies, Long.MAX_VALUE);
+    AtomicInteger succeeded = new AtomicInteger();
+    AtomicInteger shed = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    CountDownLatch answered = new CountDownLatch(count);
+
+    long startCpuNanos = getProcessCpuNanos();
+    long startNanos = System.nanoTime();
+    for (int i = 0; i < count; ++i) {
+      final int index = i;
+      long dueNanos = startNanos + i * intervalNanos;
+      long waitNanos = dueNanos - System.nanoTime();
+      if (waitNanos > 0) {
+        LockSupport.parkNanos(waitNanos);
+      }
+      client.getAsync("Key" + (i % keys)).whenComplete((value, error) -> {
+        if (error == null) {
+          latencies[index] = System.nanoTime() - dueNanos;
+          succeeded.incrementAndGet();
+        }
+        else {
+          if (Status.fromThrowable(error).getCode() == Code.RESOURCE_EXHAUSTED) {
+            shed.incrementAndGet();
+          }
+          else {
+            failed.incrementAndGet();
+          }
+        }
+        answered.countDown();
+      });
+    }
+    boolean drained = answered.await(DRAIN_TIMEOUT_S, TimeUnit.SECONDS);
+    long cpuNanos = getProcessCpuNanos() - startCpuNanos;
+
+    Arrays.sort(latencies);
+    int good = 0;
+    while (good < count && latencies[good] <= sloNanos) {
+      ++good;
+    }
+    int ok = succeeded.get();
+    return String.format("%10d %8d %8d %8d %8d %10.0f %10s %10s %12.1f%s",
+        rate,
+        count,
+        ok,
+        shed.get(),
+        failed.get(),
+        (double)good / durationS,
+        formatPercentile(latencies, ok, 0.50),
+        formatPercentile(latencies, ok, 0.99),
+        cpuNanos / 1e3 / count,
+        drained ? "" : " (some requests were never answered)");
+  }
+
+  /**
+   * @return the CPU time used by this process so far, in nanoseconds
+   */
+  private static long getProcessCpuNanos() {
+    return ((com.sun.management.OperatingSystemMXBean)ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+  }
+
+  /**
+   * @param sortedLatencies the latencies of successful requests, in nanoseconds, sorted
+   *      before those of failed requests
+   * @param succeeded the number of successful requests
+   * @param percentile the percentile to format
+   * @return the percentile of successful request latencies in milliseconds
+   */
+  private static String formatPercentile(long[] sortedLatencies, int succeeded, double percentile) {
+    if (succeeded == 0) {
+      return "-";
+    }
+    int index = Math.min(succeeded - 1, (int)(succeeded * percentile));
+    return String.format("%.2f", sortedLatencies[index] / 1e6);
+  }
+
+}
@@ -0,0 +1,206 @@
+package client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import protobuf.generated.KeyValueServiceMessages.ErrorStatus;
+import protobuf.generated.KeyValueServiceMessages.GetRequest;
+import protobuf.generated.KeyValueServiceMessages.GetResponse;
+import utilities.Logger;
+
+/**
+ * A bounded cache of GET responses kept by a client, so that repeated GETs
+ * of the same key need not go to the server at all.
+ * <br><br>
+ * A cached value is served locally for a time to live after it was last
+ * fetched or revalidated, so it may be that long out of date with respect
+ * to changes made by other clients. Once the time to live has passed, the
+ * next GET of the key names the version of the cached value, and the
+ * server answers without the value if it is still current. Writes sent
+ * through the same client drop the cached value of their key. When the
+ * cache is full, the least recently used key is dropped.
+ * <br><br>
+ * A GET that was answered before a write but whose response arrives after
+ * the write dropped its key must not put the old value back. Every drop
+ * therefore moves on an invalidation generation, and a fetched value is
+ * only cached if the generation of its key has not moved since the GET was
+ * sent, and if it is no older than the value already cached. Generations
+ * are kept for stripes of keys rather than for each key, so that they take
+ * a fixed amount of memory; a write to another key in the same stripe only
+ * means that a value is not cached that could have been.
+ * @author lscholte
+ *
+ */
+class NearCache {
+
+  private static final int GENERATION_STRIPES = 1024;
+
+  private final int maxEntries;
+  private final long ttlNanos;
+  private final Map<String, Entry> entries;
+  private final long[] generations;
+  private final LongAdder hits;
+  private final LongAdder revalidated;
+  private final LongAdder fetched;
+  private final LongAdder bytesSaved;
+
+  /**
+   * Constructs an empty NearCache.
+   * @param maxEntries the maximum number of keys to cache
+   * @param ttlMs the time for which a cached value is served without asking the server
+   */
+  public NearCache(int maxEntries, long ttlMs) {
+    this.maxEntries = maxEntries;
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > NearCache.this.maxEntries;
+      }
+    };
+    generations = new long[GENERATION_STRIPES];
+    hits = new LongAdder();
+    revalidated = new LongAdder();
+    fetched = new LongAdder();
+    bytesSaved = new LongAdder();
+  }
+
+  /**
+   * Answers a GET from the cache if the cached value is fresh, and
+   * otherwise fetches or revalidates it.
+   * @param request the GET request
+   * @param fetch sends a GET request to the server
+   * @return a future that completes with the response to the GET
+   */
+  public CompletableFuture<GetResponse> get(GetRequest request, Function<GetRequest, CompletableFuture<GetResponse>> fetch) {
+    String key = request.getKey();
+    Entry entry;
+    long generation;
+    synchronized (entries) {
+      entry = entries.get(key);
+      generation = generations[stripeOf(key)];
+    }
+    if (entry != null && System.nanoTime() - entry.fetchedNanos < ttlNanos) {
+      hits.increment();
+      bytesSaved.add(entry.response.getValue().size());
+      return CompletableFuture.completedFuture(entry.response);
+    }
+
+    GetRequest fetchRequest = request;
+    if (entry != null) {
+      GetRequest.Builder requestBuilder = request.toBuilder();
+      requestBuilder.setIfVersionMatch(entry.response.getVersion());
+      fetchRequest = requestBuilder.build();
+    }
+    return fetch.apply(fetchRequest).thenApply(response -> {
+      if (entry != null && response.getNotModified()) {
+        revalidated.increment();
+        bytesSaved.add(entry.response.getValue().size());
+        refresh(key, entry);
+        return entry.response;
+      }
+      fetched.increment();
+      if (response.getErrorStatus() == ErrorStatus.NONE && response.hasValue() && response.hasVersion()) {
+        put(key, response, generation);
+      }
+      else {
+        synchronized (entries) {
+          entries.remove(key);
+        }
+      }
+      return response;
+    });
+  }
+
+  /**
+   * Drops the cached value of a key, if there is one.
+   * @param key the key whose value has been or is being changed
+   */
+  public void invalidate(String key) {
+    synchronized (entries) {
+      ++generations[stripeOf(key)];
+      entries.remove(key);
+    }
+  }
+
+  /**
+   * Caches a fetched value, unless its key has been invalidated since it was
+   * fetched or a newer value of the key is already cached.
+   * @param key the key of the value
+   * @param response the response carrying the value
+   * @param generation the invalidation generation of the key when the GET was sent
+   */
+  private void put(String key, GetResponse response, long generation) {
+    Entry entry = new Entry(response, System.nanoTime());
+    synchronized (entries) {
+      if (generations[stripeOf(key)] != generation) {
+        return;
+      }
+      Entry cached = entries.get(key);
+      if (cached != null && cached.response.getVersion() > response.getVersion()) {
+        return;
+      }
+      entries.put(key, entry);
+    }
+  }
+
+  private static int stripeOf(String key) {
+    return key.hashCode() & (GENERATION_STRIPES - 1);
+  }
+
+  /**
+   * Restarts the time to live of a cached value that the server has
+   * confirmed is current, unless the value has been dropped since.
+   * @param key the key of the value
+   * @param entry the entry that was revalidated
+   */
+  private void refresh(String key, Entry entry) {
+    Entry refreshed = new Entry(entry.response, System.nanoTime());
+    synchronized (entries) {
+      entries.replace(key, entry, refreshed);
+    }
+  }
+
+  /**
+   * Logs how many GETs were answered by the cache, how many were
+   * revalidated without transferring the value, and how many value bytes
+   * the server did not have to send as a result.
+   */
+  public void logStats() {
+    long hitCount = hits.sum();
+    long revalidatedCount = revalidated.sum();
+    long requestCount = hitCount + revalidatedCount + fetched.sum();
+    if (requestCount == 0) {
+      return;
+    }
+    Logger.logInfo(
+        String.format(
+            "Near cache: %d GETs, of which %d were served locally and %d were revalidated without the value (hit rate %.2f); %d value bytes were not transferred",
+            requestCount,
+            hitCount,
+            revalidatedCount,
+            (double)(hitCount + revalidatedCount) / requestCount,
+            bytesSaved.sum()));
+  }
+
+  /**
+   * A cached response and the time at which it was last fetched or revalidated.
+   */
+  private static final class Entry {
+
+    private final GetResponse response;
+    private final long fetchedNanos;
+
+    private Entry(GetResponse response, long fetchedNanos) {
+      this.response = response;
+      this.fetchedNanos = fetchedNanos;
+    }
+  }
+
+}
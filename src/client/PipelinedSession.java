@@ -0,0 +1,217 @@
+package client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import protobuf.generated.KeyValueServiceGrpc;
+import protobuf.generated.KeyValueServiceGrpc.KeyValueServiceStub;
+import protobuf.generated.KeyValueServiceMessages.SessionRequest;
+import protobuf.generated.KeyValueServiceMessages.SessionResponse;
+import protobuf.generated.KeyValueServiceMessages.SessionResponse.ResultCase;
+import utilities.CompressionPolicy;
+import utilities.Logger;
+
+/**
+ * A long-lived bidirectional session with the server over which tagged
+ * commands are pipelined. Every command is assigned a unique tag and the
+ * server answers with a response carrying the same tag, possibly out of
+ * order. At most a fixed number of commands may be awaiting a response at
+ * once; callers block when sending a command while the window is full.
+ * A command that is not answered within the response timeout fails with
+ * {@code DEADLINE_EXCEEDED}, and its response is ignored if it arrives later.
+ * If the session stream fails, the commands outstanding on that stream fail
+ * with the same error and a new stream is opened for the next command;
+ * commands already sent on the new stream are unaffected.
+ * @author lscholte
+ *
+ */
+class PipelinedSession {
+
+  private final KeyValueServiceStub serviceStub;
+  private final Semaphore window;
+  private final int maxInFlight;
+  private final long responseTimeoutS;
+  private final AtomicLong nextTag;
+  private final CompressionPolicy compressionPolicy;
+  private final ScheduledThreadPoolExecutor timeoutScheduler;
+
+  private Stream stream;
+
+  /**
+   * Constructs a PipelinedSession. The underlying stream is not
+   * opened until the first command is sent.
+   * @param serviceStub the stub used to open the session stream
+   * @param maxInFlight the maximum number of commands awaiting a response
+   * @param compressionPolicy decides which commands are compressed
+   * @param responseTimeoutS the number of seconds each command may await its response
+   */
+  public PipelinedSession(KeyValueServiceStub serviceStub, int maxInFlight, CompressionPolicy compressionPolicy, long responseTimeoutS) {
+    this.serviceStub = compressionPolicy.isEnabled()
+        ? serviceStub.withCompression(compressionPolicy.getEncoding())
+        : serviceStub;
+    this.compressionPolicy = compressionPolicy;
+    this.maxInFlight = maxInFlight;
+    this.responseTimeoutS = responseTimeoutS;
+    window = new Semaphore(maxInFlight);
+    nextTag = new AtomicLong();
+    timeoutScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, "session-timeouts");
+      thread.setDaemon(true);
+      return thread;
+    });
+    //Almost every command is answered in time, and its timeout should not linger in the queue
+    timeoutScheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Sends a command over the session, blocking while the maximum number
+   * of commands are already awaiting a response.
+   * @param requestBuilder the command to send; its tag is assigned by the session
+   * @return a future that completes with the tagged response to the command
+   */
+  public CompletableFuture<SessionResponse> send(SessionRequest.Builder requestBuilder) {
+    CompletableFuture<SessionResponse> future = new CompletableFuture<SessionResponse>();
+    try {
+      window.acquire();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.completeExceptionally(Status.CANCELLED.withCause(e).asRuntimeException());
+      return future;
+    }
+
+    long tag = nextTag.getAndIncrement();
+    SessionRequest request = requestBuilder.setTag(tag).build();
+    Stream target;
+    synchronized (this) {
+      if (stream == null) {
+        stream = new Stream();
+      }
+      target = stream;
+      //Registered before the stream can be detached, so a failure of the stream always reaches the command
+      target.pending.put(tag, future);
+      target.requestObserver.setMessageCompression(
+          compressionPolicy.shouldCompress(
+              KeyValueServiceGrpc.getSessionMethod().getBareMethodName(),
+              request.getSerializedSize()));
+      target.requestObserver.onNext(request);
+    }
+
+    try {
+      ScheduledFuture<?> timeout = timeoutScheduler.schedule(
+          () -> target.complete(
+              tag,
+              null,
+              Status.DEADLINE_EXCEEDED
+                  .withDescription(String.format("No response to session command %d within %ds", tag, responseTimeoutS))
+                  .asRuntimeException()),
+          responseTimeoutS,
+          TimeUnit.SECONDS);
+      future.whenComplete((response, error) -> timeout.cancel(false));
+    }
+    catch (RejectedExecutionException e) {
+      //The client is shutting down, so the command is left to the stream
+    }
+    return future;
+  }
+
+  /**
+   * Blocks until every command sent so far has received a response.
+   */
+  public void awaitOutstanding() throws InterruptedException {
+    window.acquire(maxInFlight);
+    window.release(maxInFlight);
+  }
+
+  /**
+   * Half-closes the session. Outstanding commands still receive their responses.
+   */
+  public synchronized void close() {
+    if (stream != null) {
+      stream.requestObserver.onCompleted();
+      stream = null;
+    }
+  }
+
+  /**
+   * Stops using a stream for new commands, if it is still the current one.
+   * @param failed the stream that has ended
+   */
+  private synchronized void detach(Stream failed) {
+    if (stream == failed) {
+      stream = null;
+    }
+  }
+
+  /**
+   * A single session stream and the commands awaiting a response on it.
+   * @author lscholte
+   *
+   */
+  private class Stream implements StreamObserver<SessionResponse> {
+
+    private final Map<Long, CompletableFuture<SessionResponse>> pending;
+    private final ClientCallStreamObserver<SessionRequest> requestObserver;
+
+    private Stream() {
+      pending = new ConcurrentHashMap<Long, CompletableFuture<SessionResponse>>();
+      requestObserver = (ClientCallStreamObserver<SessionRequest>)serviceStub.session(this);
+    }
+
+    private void complete(long tag, SessionResponse response, Throwable error) {
+      CompletableFuture<SessionResponse> future = pending.remove(tag);
+      if (future == null) {
+        return;
+      }
+      window.release();
+      if (error != null) {
+        future.completeExceptionally(error);
+      }
+      else {
+        future.complete(response);
+      }
+    }
+
+    private void failAll(Throwable error) {
+      detach(this);
+      for (Long tag : pending.keySet()) {
+        complete(tag, null, error);
+      }
+    }
+
+    @Override
+    public void onNext(SessionResponse response) {
+      if (response.getResultCase() == ResultCase.RESULT_NOT_SET) {
+        complete(
+            response.getTag(),
+            null,
+            new RequestFailedException(
+                String.format("Session command %d failed with error status %s", response.getTag(), response.getErrorStatus())));
+        return;
+      }
+      complete(response.getTag(), response, null);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      Logger.logError(String.format("Session failed: %s", Status.fromThrowable(t)));
+      failAll(t);
+    }
+
+    @Override
+    public void onCompleted() {
+      failAll(Status.UNAVAILABLE.withDescription("Session closed").asRuntimeException());
+    }
+  }
+
+}
@@ -0,0 +1,276 @@
+package client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.google.protobuf.CodedOutputStream;
+
+import io.grpc.Status;
+import protobuf.generated.KeyValueServiceMessages.PutBatchRequest;
+import protobuf.generated.KeyValueServiceMessages.PutBatchResponse;
+import protobuf.generated.KeyValueServiceMessages.PutRequest;
+import protobuf.generated.KeyValueServiceMessages.PutResponse;
+import utilities.Logger;
+
+/**
+ * Accumulates PUTs sent by a client and sends them to the server as a
+ * single batched call, so that many small PUTs share the cost of one call.
+ * <br><br>
+ * A batch is sent as soon as it holds the maximum number of PUTs, or once
+ * the linger time has passed since its first PUT was added, whichever
+ * comes first. A batch that a PUT would take over
+ * {@value #MAX_BATCH_BYTES} bytes, the largest message a gRPC server
+ * accepts by default, is sent without that PUT, which starts the next
+ * batch. Each PUT's future completes with its own response from the
+ * batch, or fails if the batched call as a whole fails.
+ * <br><br>
+ * Each batch takes a place in the client's window of calls awaiting a
+ * response until it is answered. A full batch waits for a place on the
+ * thread that filled it. A batch whose linger time has passed is never
+ * waited for on the linger timer's thread: if the window is full, the
+ * batch goes on accumulating PUTs and is tried again after another
+ * linger time.
+ * @author lscholte
+ *
+ */
+class PutBatcher {
+
+  private static final int MAX_BATCH_BYTES = 4 * 1024 * 1024;
+  private static final long CLOSE_TIMEOUT_S = 5;
+  private static final long MIN_WINDOW_WAIT_MICROS = 100;
+
+  private final int maxBatchSize;
+  private final long lingerMicros;
+  private final Semaphore window;
+  private final Function<PutBatchRequest, CompletableFuture<PutBatchResponse>> sendBatch;
+  private final ScheduledExecutorService lingerScheduler;
+  private final Object lock;
+  private final Set<CompletableFuture<PutBatchResponse>> inFlight;
+  private final LongAdder batches;
+  private final LongAdder puts;
+  private final LongAdder fullBatches;
+  private Batch pending;
+
+  /**
+   * Constructs a PutBatcher.
+   * @param maxBatchSize the number of PUTs at which a batch is sent straight away
+   * @param lingerMicros the time after its first PUT at which a batch is sent even if it is not full
+   * @param window the window of calls awaiting a response, a place in which each batch holds until it is answered
+   * @param sendBatch sends a batched call to the server
+   */
+  public PutBatcher(
+      int maxBatchSize,
+      long lingerMicros,
+      Semaphore window,
+      Function<PutBatchRequest, CompletableFuture<PutBatchResponse>> sendBatch) {
+    this.maxBatchSize = maxBatchSize;
+    this.lingerMicros = lingerMicros;
+    this.window = window;
+    this.sendBatch = sendBatch;
+    lingerScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "put-batcher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    lock = new Object();
+    inFlight = ConcurrentHashMap.newKeySet();
+    batches = new LongAdder();
+    puts = new LongAdder();
+    fullBatches = new LongAdder();
+    pending = null;
+  }
+
+  /**
+   * Adds a PUT to the batch being accumulated, sending the batch if it is
+   * now full. If the PUT would make the batch too large to send, the batch
+   * is sent without it and the PUT starts a new one.
+   * @param request the PUT request
+   * @return a future that completes with the response to the PUT
+   */
+  public CompletableFuture<PutResponse> add(PutRequest request) {
+    CompletableFuture<PutResponse> response = new CompletableFuture<PutResponse>();
+    int bytes = CodedOutputStream.computeMessageSize(PutBatchRequest.PUTS_FIELD_NUMBER, request);
+    Batch overflowed = null;
+    Batch full = null;
+    synchronized (lock) {
+      if (pending != null && pending.bytes + bytes > MAX_BATCH_BYTES) {
+        overflowed = pending;
+        pending = null;
+      }
+      if (pending == null) {
+        Batch batch = new Batch();
+        pending = batch;
+        lingerScheduler.schedule(() -> sendIfPending(batch), lingerMicros, TimeUnit.MICROSECONDS);
+      }
+      pending.requestBuilder.addPuts(request);
+      pending.responses.add(response);
+      pending.bytes += bytes;
+      if (pending.responses.size() >= maxBatchSize) {
+        full = pending;
+        pending = null;
+      }
+    }
+    if (overflowed != null) {
+      fullBatches.increment();
+      sendInWindow(overflowed);
+    }
+    if (full != null) {
+      fullBatches.increment();
+      sendInWindow(full);
+    }
+    return response;
+  }
+
+  /**
+   * Sends a batch whose linger time has passed, unless it has already been
+   * sent because it was full. If the window is full, the batch is left to
+   * accumulate PUTs and tried again later.
+   * @param batch the batch to send
+   */
+  private void sendIfPending(Batch batch) {
+    synchronized (lock) {
+      if (pending != batch) {
+        return;
+      }
+      if (!window.tryAcquire()) {
+        lingerScheduler.schedule(
+            () -> sendIfPending(batch),
+            Math.max(lingerMicros, MIN_WINDOW_WAIT_MICROS),
+            TimeUnit.MICROSECONDS);
+        return;
+      }
+      pending = null;
+    }
+    send(batch);
+  }
+
+  /**
+   * Sends a batch once it has a place in the window, blocking until it does.
+   * @param batch the batch to send
+   */
+  private void sendInWindow(Batch batch) {
+    try {
+      window.acquire();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      RuntimeException error = Status.CANCELLED.withCause(e).asRuntimeException();
+      for (CompletableFuture<PutResponse> response : batch.responses) {
+        response.completeExceptionally(error);
+      }
+      return;
+    }
+    send(batch);
+  }
+
+  /**
+   * Sends a batch that holds a place in the window, giving the place up once the batch is answered.
+   * @param batch the batch to send
+   */
+  private void send(Batch batch) {
+    List<CompletableFuture<PutResponse>> responses = batch.responses;
+    batches.increment();
+    puts.add(responses.size());
+    CompletableFuture<PutBatchResponse> sent;
+    try {
+      sent = sendBatch.apply(batch.requestBuilder.build());
+    }
+    catch (RuntimeException e) {
+      sent = CompletableFuture.failedFuture(e);
+    }
+    CompletableFuture<PutBatchResponse> batchResponse = sent;
+    inFlight.add(batchResponse);
+    batchResponse.whenComplete((response, error) -> {
+      window.release();
+      inFlight.remove(batchResponse);
+      if (error == null && response.getResponsesCount() != responses.size()) {
+        error = new IllegalStateException(
+            String.format("Expected %d responses to a batch but received %d", responses.size(), response.getResponsesCount()));
+      }
+      for (int i = 0; i < responses.size(); ++i) {
+        if (error != null) {
+          responses.get(i).completeExceptionally(error);
+        }
+        else {
+          responses.get(i).complete(response.getResponses(i));
+        }
+      }
+    });
+  }
+
+  /**
+   * Sends the batch being accumulated, if any, stops the linger timer, and
+   * waits up to {@value #CLOSE_TIMEOUT_S} seconds for every batch that has
+   * been sent to be answered, so that the channel can then be shut down
+   * without cancelling them.
+   */
+  public void close() throws InterruptedException {
+    Batch batch;
+    synchronized (lock) {
+      batch = pending;
+      pending = null;
+    }
+    if (batch != null) {
+      sendInWindow(batch);
+    }
+    lingerScheduler.shutdownNow();
+    try {
+      CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0])).get(CLOSE_TIMEOUT_S, TimeUnit.SECONDS);
+    }
+    catch (ExecutionException e) {
+      //Failed batches have already failed the futures of their PUTs
+    }
+    catch (TimeoutException e) {
+      Logger.logError(
+          String.format("%d PUT batches were still unanswered after %d seconds", inFlight.size(), CLOSE_TIMEOUT_S));
+    }
+  }
+
+  /**
+   * Logs how many PUTs were sent in how many batches, and how many batches
+   * were sent because they were full rather than because their linger time passed.
+   */
+  public void logStats() {
+    long batchCount = batches.sum();
+    if (batchCount == 0) {
+      return;
+    }
+    long putCount = puts.sum();
+    Logger.logInfo(
+        String.format(
+            "PUT batching: %d PUTs were sent in %d batches (%.1f per batch), %d of which were sent full",
+            putCount,
+            batchCount,
+            (double)putCount / batchCount,
+            fullBatches.sum()));
+  }
+
+  /**
+   * The PUTs of a batch and the futures of their responses, in the same
+   * order, together with the encoded size of the batch.
+   */
+  private static final class Batch {
+
+    private final PutBatchRequest.Builder requestBuilder;
+    private final List<CompletableFuture<PutResponse>> responses;
+    private int bytes;
+
+    private Batch() {
+      requestBuilder = PutBatchRequest.newBuilder();
+      responses = new ArrayList<CompletableFuture<PutResponse>>();
+      bytes = 0;
+    }
+  }
+
+}
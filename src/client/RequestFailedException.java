@@ -0,0 +1,21 @@
+package client;
+
+/**
+ * An exception indicating that the server received a request
+ * but could not carry it out.
+ * @author lscholte
+ *
+ */
+public class RequestFailedException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Constructs a RequestFailedException with the specified message.
+   * @param message a description of why the request failed
+   */
+  public RequestFailedException(String message) {
+    super(message);
+  }
+
+}
@@ -0,0 +1,316 @@
+package client;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.grpc.Deadline;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import utilities.Logger;
+
+/**
+ * Retries calls that fail because the server is unavailable or too slow to
+ * answer, and optionally hedges idempotent reads.
+ * <br><br>
+ * A failed attempt is retried after an exponential backoff with full jitter:
+ * a random delay up to the initial backoff, doubling with every attempt up
+ * to the maximum backoff. A hedged call sends a second copy of its request
+ * if no response has arrived by the 95th percentile of the latencies
+ * observed so far, and takes whichever response arrives first, cancelling
+ * the other copy.
+ * <br><br>
+ * All the attempts at a call share the call's deadline, so retrying never
+ * makes a call take longer than it would have taken to time out. A retry
+ * whose backoff would not end before the deadline is not made.
+ * <br><br>
+ * Retries and hedges draw on a shared budget that every call adds a
+ * fraction of a token to, so that they can never add more than that
+ * fraction to the load on a server that is already struggling, beyond a
+ * small reserve for bursts of failures.
+ * @author lscholte
+ *
+ */
+class Retrier {
+
+  private static final int BUDGET_RESERVE = 10;
+  private static final long MILLITOKENS_PER_TOKEN = 1000;
+  private static final int LATENCY_SAMPLES = 1024;
+  private static final int MIN_LATENCY_SAMPLES = 100;
+  private static final int SAMPLES_PER_PERCENTILE_UPDATE = 128;
+  private static final double HEDGE_PERCENTILE = 0.95;
+
+  private final int maxAttempts;
+  private final long initialBackoffNanos;
+  private final long maxBackoffNanos;
+  private final long millitokensPerCall;
+  private final boolean hedging;
+  private final ScheduledThreadPoolExecutor scheduler;
+  private final AtomicLong budgetMillitokens;
+  private final long[] latencySamples;
+  private final LongAdder calls;
+  private final LongAdder retries;
+  private final LongAdder hedges;
+  private final LongAdder hedgesWon;
+  private final LongAdder denied;
+  private int latencySampleCount;
+  private volatile long hedgeDelayNanos;
+
+  /**
+   * Constructs a Retrier.
+   * @param maxAttempts the maximum number of attempts at each call, including the first but not its hedge
+   * @param initialBackoffMs the upper bound of the delay before the first retry
+   * @param maxBackoffMs the upper bound of the delay before any retry
+   * @param budgetRatio the number of retries or hedges each call adds to the budget
+   * @param hedging true to hedge the calls that allow it
+   */
+  public Retrier(int maxAttempts, long initialBackoffMs, long maxBackoffMs, double budgetRatio, boolean hedging) {
+    this.maxAttempts = maxAttempts;
+    this.initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(initialBackoffMs);
+    this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(maxBackoffMs);
+    this.millitokensPerCall = (long)(budgetRatio * MILLITOKENS_PER_TOKEN);
+    this.hedging = hedging;
+    scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, "retrier");
+      thread.setDaemon(true);
+      return thread;
+    });
+    //Hedges that are not needed are cancelled, and should not linger in the queue
+    scheduler.setRemoveOnCancelPolicy(true);
+    budgetMillitokens = new AtomicLong(BUDGET_RESERVE * MILLITOKENS_PER_TOKEN);
+    latencySamples = new long[LATENCY_SAMPLES];
+    calls = new LongAdder();
+    retries = new LongAdder();
+    hedges = new LongAdder();
+    hedgesWon = new LongAdder();
+    denied = new LongAdder();
+    latencySampleCount = 0;
+    hedgeDelayNanos = Long.MAX_VALUE;
+  }
+
+  /**
+   * Makes a call, retrying attempts that fail with {@code UNAVAILABLE} or
+   * {@code DEADLINE_EXCEEDED} while attempts and budget remain.
+   * @param attempt makes a single attempt at the call. Cancelling the
+   *      future it returns must cancel the attempt.
+   * @param hedge true if the call is idempotent and may be hedged
+   * @param deadline the deadline of the call, at which every attempt it makes must give up
+   * @return a future that completes with the first successful response,
+   *      or fails with the error of the last attempt
+   */
+  public <T> CompletableFuture<T> call(Supplier<CompletableFuture<T>> attempt, boolean hedge, Deadline deadline) {
+    calls.increment();
+    deposit();
+    Call<T> call = new Call<T>(attempt, hedging && hedge, deadline);
+    call.start();
+    return call.result;
+  }
+
+  private void deposit() {
+    long max = BUDGET_RESERVE * MILLITOKENS_PER_TOKEN;
+    budgetMillitokens.getAndUpdate(tokens -> Math.min(max, tokens + millitokensPerCall));
+  }
+
+  /**
+   * @return true if a retry or hedge may be sent, in which case its token has been taken from the budget
+   */
+  private boolean withdraw() {
+    long tokens;
+    do {
+      tokens = budgetMillitokens.get();
+      if (tokens < MILLITOKENS_PER_TOKEN) {
+        denied.increment();
+        return false;
+      }
+    } while (!budgetMillitokens.compareAndSet(tokens, tokens - MILLITOKENS_PER_TOKEN));
+    return true;
+  }
+
+  /**
+   * @param attempts the number of attempts made so far
+   * @return a random delay before the next attempt
+   */
+  private long backoffNanos(int attempts) {
+    long ceiling = initialBackoffNanos << Math.min(attempts - 1, 30);
+    if (ceiling <= 0 || ceiling > maxBackoffNanos) {
+      ceiling = maxBackoffNanos;
+    }
+    return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  /**
+   * Records the latency of a successful attempt, periodically recomputing the hedge delay.
+   * @param latencyNanos the time from sending the attempt to receiving its response
+   */
+  private void recordLatency(long latencyNanos) {
+    if (!hedging) {
+      return;
+    }
+    long[] sorted = null;
+    synchronized (latencySamples) {
+      latencySamples[latencySampleCount % LATENCY_SAMPLES] = latencyNanos;
+      ++latencySampleCount;
+      if (latencySampleCount >= MIN_LATENCY_SAMPLES && latencySampleCount % SAMPLES_PER_PERCENTILE_UPDATE == 0) {
+        sorted = Arrays.copyOf(latencySamples, Math.min(latencySampleCount, LATENCY_SAMPLES));
+      }
+    }
+    if (sorted != null) {
+      Arrays.sort(sorted);
+      hedgeDelayNanos = sorted[(int)(sorted.length * HEDGE_PERCENTILE)];
+    }
+  }
+
+  private static boolean isRetryable(Throwable error) {
+    Code code = Status.fromThrowable(error).getCode();
+    return code == Code.UNAVAILABLE || code == Code.DEADLINE_EXCEEDED;
+  }
+
+  /**
+   * Stops scheduling retries and hedges.
+   */
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  /**
+   * Logs how many calls were made and how many retries and hedges they
+   * needed, how many hedges answered first, and how many retries or hedges
+   * the budget did not allow.
+   */
+  public void logStats() {
+    long callCount = calls.sum();
+    if (callCount == 0) {
+      return;
+    }
+    Logger.logInfo(
+        String.format(
+            "Retries: %d calls needed %d retries and %d hedges (%d hedges answered first); %d retries or hedges were denied by the budget",
+            callCount,
+            retries.sum(),
+            hedges.sum(),
+            hedgesWon.sum(),
+            denied.sum()));
+  }
+
+  /**
+   * The attempts at a single call. At most two attempts are in flight at
+   * once: the original or a retry of it, and the hedge.
+   */
+  private final class Call<T> {
+
+    private final Supplier<CompletableFuture<T>> attempt;
+    private final boolean hedge;
+    private final Deadline deadline;
+    private final CompletableFuture<T> result;
+    private int attempts;
+    private int inFlight;
+    private boolean hedged;
+
+    private Call(Supplier<CompletableFuture<T>> attempt, boolean hedge, Deadline deadline) {
+      this.attempt = attempt;
+      this.hedge = hedge;
+      this.deadline = deadline;
+      result = new CompletableFuture<T>();
+      attempts = 0;
+      inFlight = 0;
+      hedged = false;
+    }
+
+    private void start() {
+      send(false);
+      long delayNanos = hedgeDelayNanos;
+      if (hedge && delayNanos != Long.MAX_VALUE && !result.isDone()) {
+        try {
+          ScheduledFuture<?> scheduledHedge = scheduler.schedule(this::sendHedge, delayNanos, TimeUnit.NANOSECONDS);
+          result.whenComplete((value, error) -> scheduledHedge.cancel(false));
+        }
+        catch (RejectedExecutionException e) {
+          //The client is shutting down, so the call goes unhedged
+        }
+      }
+    }
+
+    private void sendHedge() {
+      synchronized (this) {
+        if (result.isDone() || hedged || deadline.isExpired() || !withdraw()) {
+          return;
+        }
+        hedged = true;
+      }
+      hedges.increment();
+      send(true);
+    }
+
+    private void send(boolean isHedge) {
+      synchronized (this) {
+        if (!isHedge) {
+          ++attempts;
+        }
+        ++inFlight;
+      }
+      long startNanos = System.nanoTime();
+      CompletableFuture<T> response;
+      try {
+        response = attempt.get();
+      }
+      catch (RuntimeException e) {
+        response = CompletableFuture.failedFuture(e);
+      }
+      //The losing attempt is cancelled once the call has its result
+      CompletableFuture<T> sent = response;
+      result.whenComplete((value, error) -> sent.cancel(false));
+      response.whenComplete((value, error) -> {
+        if (error == null) {
+          recordLatency(System.nanoTime() - startNanos);
+          if (result.complete(value) && isHedge) {
+            hedgesWon.increment();
+          }
+        }
+        onAttemptOver(error);
+      });
+    }
+
+    /**
+     * Decides what to do once an attempt is over.
+     * @param error the error the attempt failed with, or null if it succeeded
+     */
+    private void onAttemptOver(Throwable error) {
+      long delayNanos;
+      synchronized (this) {
+        --inFlight;
+        if (error == null || result.isDone() || inFlight > 0) {
+          return;
+        }
+        if (!isRetryable(error) || attempts >= maxAttempts) {
+          delayNanos = -1;
+        }
+        else {
+          delayNanos = backoffNanos(attempts);
+          //A retry sent at or after the deadline could only fail with DEADLINE_EXCEEDED
+          if (deadline.timeRemaining(TimeUnit.NANOSECONDS) <= delayNanos || !withdraw()) {
+            delayNanos = -1;
+          }
+        }
+      }
+      if (delayNanos < 0) {
+        result.completeExceptionally(error);
+        return;
+      }
+      retries.increment();
+      try {
+        scheduler.schedule(() -> send(false), delayNanos, TimeUnit.NANOSECONDS);
+      }
+      catch (RejectedExecutionException e) {
+        result.completeExceptionally(error);
+      }
+    }
+  }
+
+}
@@ -1,36 +1,104 @@
 package client;
 
+import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+
+import io.grpc.Deadline;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
 import io.grpc.Status.Code;
 import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.unix.DomainSocketAddress;
+import io.grpc.stub.AbstractStub;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
 import protobuf.generated.KeyValueServiceGrpc;
 import protobuf.generated.KeyValueServiceGrpc.KeyValueServiceBlockingStub;
+import protobuf.generated.KeyValueServiceGrpc.KeyValueServiceStub;
+import protobuf.generated.KeyValueServiceMessages.BulkLoadRequest;
+import protobuf.generated.KeyValueServiceMessages.BulkLoadResponse;
 import protobuf.generated.KeyValueServiceMessages.DeleteRequest;
 import protobuf.generated.KeyValueServiceMessages.DeleteResponse;
 import protobuf.generated.KeyValueServiceMessages.ErrorStatus;
+import protobuf.generated.KeyValueServiceMessages.ExportChunk;
+import protobuf.generated.KeyValueServiceMessages.ExportRequest;
 import protobuf.generated.KeyValueServiceMessages.GetRequest;
 import protobuf.generated.KeyValueServiceMessages.GetResponse;
+import protobuf.generated.KeyValueServiceMessages.KeyValuePair;
+import protobuf.generated.KeyValueServiceMessages.PutBatchRequest;
+import protobuf.generated.KeyValueServiceMessages.PutBatchResponse;
 import protobuf.generated.KeyValueServiceMessages.PutRequest;
 import protobuf.generated.KeyValueServiceMessages.PutResponse;
+import protobuf.generated.KeyValueServiceMessages.SessionRequest;
+import protobuf.generated.KeyValueServiceMessages.SessionResponse;
+import protobuf.generated.KeyValueServiceMessages.WatchEvent;
+import protobuf.generated.KeyValueServiceMessages.WatchRequest;
+import utilities.Compression;
+import utilities.CompressionPolicy;
+import utilities.Headers;
 import utilities.Logger;
+import utilities.Priority;
 import utilities.ProtobufUtils;
 
 /**
  * An RPC client that sends PUT, GET, and DELETE requests
- * for key-value pairs to an RPC server.
+ * for key-value pairs to an RPC server, watches keys for changes, and
+ * bulk loads, exports and imports key-value pairs. Requests can be sent
+ * synchronously or asynchronously, in which case the number of
+ * requests awaiting a response is bounded and callers block
+ * once the bound is reached. Every PUT and DELETE carries a random request
+ * ID, so that retrying it cannot apply it twice.
  * @author lscholte
  *
  */
 public class RpcClient implements Client {
   
   private static final int RESPONSE_TIMEOUT_S = 10;
+  private static final int MAX_BULK_LOAD_BATCH_BYTES = 1 << 20;
+  private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
   
   private KeyValueServiceBlockingStub serviceStub;
+  private KeyValueServiceStub asyncStub;
+  private Semaphore asyncWindow;
+  private CompressionPolicy compressionPolicy;
+  private PipelinedSession session;
+  private NearCache nearCache;
+  private PutBatcher putBatcher;
+  private Retrier retrier;
+  private boolean retryWrites;
   
   /**
    * Constructs an RpcClient that will send requests to a server
@@ -39,16 +107,120 @@ public class RpcClient implements Client {
    * @param port the port number on which the server is listening for requests
    */
   public RpcClient(String ip, int port) throws UnknownHostException, IOException {
-    ManagedChannel channel = ManagedChannelBuilder
-        .forAddress(ip, port)
+    this(ip, port, new ClientOptions());
+  }
+  
+  /**
+   * Constructs an RpcClient that will send requests to a server
+   * with the specified IP and port number. In pipelined mode,
+   * commands are sent over a single bidirectional session without waiting
+   * for earlier commands to be answered, and responses are handled as
+   * they arrive, possibly out of order. If the options give a Unix domain
+   * socket or the name of a server in the same process, the server is
+   * connected to through it instead of its IP and port. If the options ask
+   * for more than one channel, calls are spread over a {@link ChannelPool}
+   * of that many connections. If the options give a near-cache size, GETs
+   * are answered from a {@link NearCache} while its values are fresh. If the
+   * options give a PUT batch size, PUTs that are not pipelined are sent in
+   * batches by a {@link PutBatcher}. Calls that are not pipelined are
+   * retried, and GETs hedged, by a {@link Retrier} as the options allow;
+   * writes are only retried if the options say so. Each call, including
+   * all of its retries, is given up on after {@value #RESPONSE_TIMEOUT_S} seconds.
+   * @param ip the IP of the server that will receive requests
+   * @param port the port number on which the server is listening for requests
+   * @param options the options that control how requests are sent
+   * @throws IllegalStateException if a Unix domain socket is given but the epoll transport is not available
+   */
+  public RpcClient(String ip, int port, ClientOptions options) throws UnknownHostException, IOException {
+    ManagedChannelBuilder<?> channelBuilder;
+    EventLoopGroup eventLoopGroup;
+    if (options.getInProcessName() != null) {
+      channelBuilder = InProcessChannelBuilder.forName(options.getInProcessName());
+      eventLoopGroup = null;
+    }
+    else if (options.getSocketPath() == null) {
+      channelBuilder = ManagedChannelBuilder.forAddress(ip, port);
+      eventLoopGroup = null;
+    }
+    else {
+      if (!Epoll.isAvailable()) {
+        throw new IllegalStateException("Unix domain sockets require the epoll transport", Epoll.unavailabilityCause());
+      }
+      eventLoopGroup = new EpollEventLoopGroup();
+      channelBuilder = NettyChannelBuilder
+          .forAddress(new DomainSocketAddress(options.getSocketPath().toString()))
+          .eventLoopGroup(eventLoopGroup)
+          .channelType(EpollDomainSocketChannel.class);
+    }
+    channelBuilder
         .usePlaintext()
-        .build();
+        .compressorRegistry(Compression.createCompressorRegistry())
+        .decompressorRegistry(Compression.createDecompressorRegistry());
+    Metadata headers = new Metadata();
+    if (options.getClientId() != null) {
+      headers.put(Headers.CLIENT_ID, options.getClientId());
+    }
+    if (options.getPriority() != Priority.INTERACTIVE) {
+      headers.put(Headers.PRIORITY, options.getPriority().getName());
+    }
+    if (headers.keys().size() > 0) {
+      channelBuilder.intercept(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+    ManagedChannel channel;
+    if (options.getChannels() > 1) {
+      channel = new ChannelPool(channelBuilder::build, options.getChannels());
+    }
+    else {
+      channel = channelBuilder.build();
+    }
     serviceStub = KeyValueServiceGrpc.newBlockingStub(channel);
+    asyncStub = KeyValueServiceGrpc.newStub(channel);
+    asyncWindow = new Semaphore(options.getMaxInFlight());
+    compressionPolicy = options.getCompressionPolicy();
+    if (options.isPipelined()) {
+      session = new PipelinedSession(asyncStub, options.getMaxInFlight(), compressionPolicy, RESPONSE_TIMEOUT_S);
+    }
+    if (options.getNearCacheSize() > 0) {
+      nearCache = new NearCache(options.getNearCacheSize(), options.getNearCacheTtlMs());
+    }
+    if (options.getMaxAttempts() > 1 || options.isHedgedGets()) {
+      retrier = new Retrier(
+          options.getMaxAttempts(),
+          options.getInitialBackoffMs(),
+          options.getMaxBackoffMs(),
+          options.getRetryBudgetRatio(),
+          options.isHedgedGets());
+    }
+    retryWrites = options.isRetryWrites();
+    if (options.getPutBatchSize() > 1 && session == null) {
+      putBatcher = new PutBatcher(options.getPutBatchSize(), options.getPutLingerMicros(), asyncWindow, this::callPutBatch);
+    }
     
     Runtime.getRuntime().addShutdownHook(new Thread(() -> {
       Logger.logInfo("Shutting down client");
       try {
+        if (session != null) {
+          session.close();
+        }
+        if (putBatcher != null) {
+          putBatcher.close();
+          putBatcher.logStats();
+        }
+        if (retrier != null) {
+          retrier.close();
+          retrier.logStats();
+        }
         channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        if (eventLoopGroup != null) {
+          eventLoopGroup.shutdownGracefully();
+        }
+        if (channel instanceof ChannelPool) {
+          ((ChannelPool)channel).logStats();
+        }
+        if (nearCache != null) {
+          nearCache.logStats();
+        }
+        Compression.logStats();
       }
       catch (InterruptedException e) {
         e.printStackTrace();
@@ -73,8 +245,9 @@ public class RpcClient implements Client {
    * {@inheritDoc}
    * <br><br>
    * The client will block for up to
-   * {@value #RESPONSE_TIMEOUT_S} seconds waiting for a response
-   * from the server.
+   * {@value #RESPONSE_TIMEOUT_S} seconds, including any retries, waiting
+   * for a response from the server. In pipelined mode, the client only blocks
+   * while the window of in-flight commands is full.
    */
   @Override
   public void sendPut(String key, String value) {
@@ -83,37 +256,55 @@ public class RpcClient implements Client {
     //Build request    
     PutRequest.Builder requestBuilder = PutRequest.newBuilder();
     requestBuilder.setKey(key);
-    requestBuilder.setValue(value);
+    requestBuilder.setValue(ByteString.copyFromUtf8(value));
+    requestBuilder.setRequestId(newRequestId());
     
     
     //Send request
     PutRequest request = requestBuilder.build();
     Logger.logInfo(String.format("Sending %s", ProtobufUtils.getPrintableMessage(request)));
+    if (session != null) {
+      callPut(request).whenComplete((response, error) -> {
+        if (error != null) {
+          handleGrpcError(requestName, Status.fromThrowable(error).getCode());
+        }
+        else {
+          handlePutResponse(requestName, key, value, response);
+        }
+      });
+      return;
+    }
+    if (putBatcher != null || retrier != null) {
+      try {
+        handlePutResponse(requestName, key, value, callPut(request).join());
+      }
+      catch (CompletionException e) {
+        handleGrpcError(requestName, Status.fromThrowable(e.getCause()).getCode());
+      }
+      return;
+    }
+    invalidateNearCache(key);
     try {
-      PutResponse response = serviceStub
+      PutResponse response = withCompression(serviceStub, KeyValueServiceGrpc.getPutMethod(), request)
         .withDeadlineAfter(RESPONSE_TIMEOUT_S, TimeUnit.SECONDS)
         .put(request);
-      
-      Logger.logInfo(String.format("Received %s", ProtobufUtils.getPrintableMessage(response)));
-      
-      if (response.getErrorStatus() != ErrorStatus.NONE) {
-        handleErrorStatus(requestName, response.getErrorStatus());
-      }
-      else {
-        Logger.logInfo(String.format("The value %s has been put under key %s", value, key));
-      }
+      handlePutResponse(requestName, key, value, response);
     }
     catch (StatusRuntimeException e) {
       handleGrpcError(requestName, e.getStatus().getCode());
     }
+    finally {
+      invalidateNearCache(key);
+    }
   }
   
   /**
    * {@inheritDoc}
    * <br><br>
    * The client will block for up to
-   * {@value #RESPONSE_TIMEOUT_S} seconds waiting for a response
-   * from the server.
+   * {@value #RESPONSE_TIMEOUT_S} seconds, including any retries, waiting
+   * for a response from the server. In pipelined mode, the client only blocks
+   * while the window of in-flight commands is full.
    */
   @Override
   public void sendDelete(String key) {
@@ -122,39 +313,54 @@ public class RpcClient implements Client {
     //Build request    
     DeleteRequest.Builder requestBuilder = DeleteRequest.newBuilder();
     requestBuilder.setKey(key);
+    requestBuilder.setRequestId(newRequestId());
     
     
     //Send request
     DeleteRequest request = requestBuilder.build();
     Logger.logInfo(String.format("Sending %s", ProtobufUtils.getPrintableMessage(request)));
+    if (session != null) {
+      callDelete(request).whenComplete((response, error) -> {
+        if (error != null) {
+          handleGrpcError(requestName, Status.fromThrowable(error).getCode());
+        }
+        else {
+          handleDeleteResponse(requestName, key, response);
+        }
+      });
+      return;
+    }
+    if (retrier != null) {
+      try {
+        handleDeleteResponse(requestName, key, callDelete(request).join());
+      }
+      catch (CompletionException e) {
+        handleGrpcError(requestName, Status.fromThrowable(e.getCause()).getCode());
+      }
+      return;
+    }
+    invalidateNearCache(key);
     try {
-      DeleteResponse response = serviceStub
+      DeleteResponse response = withCompression(serviceStub, KeyValueServiceGrpc.getDeleteMethod(), request)
         .withDeadlineAfter(RESPONSE_TIMEOUT_S, TimeUnit.SECONDS)
         .delete(request);
-      
-      Logger.logInfo(String.format("Received %s", ProtobufUtils.getPrintableMessage(response)));
-      
-      if (response.getErrorStatus() != ErrorStatus.NONE) {
-        handleErrorStatus(requestName, response.getErrorStatus());
-      }
-      else if (response.getDeleted()) {
-        Logger.logInfo(String.format("The key %s has been deleted", key));
-      }
-      else {
-        Logger.logInfo(String.format("The key %s did not exist", key));
-      }
+      handleDeleteResponse(requestName, key, response);
     }
     catch (StatusRuntimeException e) {
       handleGrpcError(requestName, e.getStatus().getCode());
     }
+    finally {
+      invalidateNearCache(key);
+    }
   }
   
   /**
    * {@inheritDoc}
    * <br><br>
    * The client will block for up to
-   * {@value #RESPONSE_TIMEOUT_S} seconds waiting for a response
-   * from the server.
+   * {@value #RESPONSE_TIMEOUT_S} seconds, including any retries, waiting
+   * for a response from the server. In pipelined mode, the client only blocks
+   * while the window of in-flight commands is full.
    */
   @Override
   public void sendGet(String key) {
@@ -168,49 +374,708 @@ public class RpcClient implements Client {
     //Send request
     GetRequest request = requestBuilder.build();
     Logger.logInfo(String.format("Sending %s", ProtobufUtils.getPrintableMessage(request)));
+    if (session != null) {
+      callGet(request).whenComplete((response, error) -> {
+        if (error != null) {
+          handleGrpcError(requestName, Status.fromThrowable(error).getCode());
+        }
+        else {
+          handleGetResponse(requestName, key, response);
+        }
+      });
+      return;
+    }
+    if (nearCache != null || retrier != null) {
+      try {
+        handleGetResponse(requestName, key, callGet(request).join());
+      }
+      catch (CompletionException e) {
+        handleGrpcError(requestName, Status.fromThrowable(e.getCause()).getCode());
+      }
+      return;
+    }
     try {
-      GetResponse response = serviceStub
+      GetResponse response = withCompression(serviceStub, KeyValueServiceGrpc.getGetMethod(), request)
         .withDeadlineAfter(RESPONSE_TIMEOUT_S, TimeUnit.SECONDS)
         .get(request);
+      handleGetResponse(requestName, key, response);
+    }
+    catch (StatusRuntimeException e) {
+      handleGrpcError(requestName, e.getStatus().getCode());
+    }
+  }
+  
+  /**
+   * {@inheritDoc}
+   * <br><br>
+   * The calling thread only blocks while the maximum number of
+   * requests are already awaiting a response.
+   */
+  @Override
+  public CompletableFuture<Void> putAsync(String key, String value) {
+    PutRequest.Builder requestBuilder = PutRequest.newBuilder();
+    requestBuilder.setKey(key);
+    requestBuilder.setValue(ByteString.copyFromUtf8(value));
+    requestBuilder.setRequestId(newRequestId());
+    
+    return callPut(requestBuilder.build()).thenApply(response -> {
+      checkErrorStatus("PUT", response.getErrorStatus());
+      return null;
+    });
+  }
+  
+  /**
+   * {@inheritDoc}
+   * <br><br>
+   * The calling thread only blocks while the maximum number of
+   * requests are already awaiting a response.
+   */
+  @Override
+  public CompletableFuture<String> getAsync(String key) {
+    GetRequest.Builder requestBuilder = GetRequest.newBuilder();
+    requestBuilder.setKey(key);
+    
+    return callGet(requestBuilder.build()).thenApply(response -> {
+      checkErrorStatus("GET", response.getErrorStatus());
+      return response.hasValue() ? response.getValue().toStringUtf8() : null;
+    });
+  }
+  
+  /**
+   * {@inheritDoc}
+   * <br><br>
+   * The calling thread only blocks while the maximum number of
+   * requests are already awaiting a response.
+   */
+  @Override
+  public CompletableFuture<Boolean> deleteAsync(String key) {
+    DeleteRequest.Builder requestBuilder = DeleteRequest.newBuilder();
+    requestBuilder.setKey(key);
+    requestBuilder.setRequestId(newRequestId());
+    
+    return callDelete(requestBuilder.build()).thenApply(response -> {
+      checkErrorStatus("DELETE", response.getErrorStatus());
+      return response.getDeleted();
+    });
+  }
+  
+  @Override
+  public void sendWatch(String key, boolean prefix) {
+    final String requestName = "WATCH";
+    
+    watch(key, prefix, 0, new WatchListener() {
       
-      Logger.logInfo(String.format("Received %s", ProtobufUtils.getPrintableMessage(response)));
-      
-      if (response.getErrorStatus() != ErrorStatus.NONE) {
-        handleErrorStatus(requestName, response.getErrorStatus());
+      @Override
+      public void onChange(String changedKey, String value, long version) {
+        if (value == null) {
+          Logger.logInfo(String.format("Version %d: the key %s has been deleted", version, changedKey));
+        }
+        else {
+          Logger.logInfo(String.format("Version %d: the value %s has been put under key %s", version, value, changedKey));
+        }
       }
-      else if (response.hasValue()) {
-        Logger.logInfo("Value is " + response.getValue());      
+      
+      @Override
+      public void onClosed(Throwable error) {
+        if (error != null) {
+          handleGrpcError(requestName, Status.fromThrowable(error).getCode());
+        }
+        else {
+          Logger.logInfo(String.format("Stopped watching %s", key));
+        }
       }
-      else {
-        Logger.logInfo(String.format("There is no value for key %s", key));
+    });
+  }
+  
+  /**
+   * {@inheritDoc}
+   * <br><br>
+   * Unlike other requests, a watch has no deadline and does not count
+   * towards the maximum number of requests awaiting a response.
+   */
+  @Override
+  public Closeable watch(String key, boolean prefix, long fromVersion, WatchListener listener) {
+    WatchRequest.Builder requestBuilder = WatchRequest.newBuilder();
+    requestBuilder.setKey(key);
+    requestBuilder.setPrefix(prefix);
+    requestBuilder.setFromVersion(fromVersion);
+    
+    WatchRequest request = requestBuilder.build();
+    Logger.logInfo(String.format("Sending %s", ProtobufUtils.getPrintableMessage(request)));
+    WatchObserver watchObserver = new WatchObserver(listener);
+    asyncStub.watch(request, watchObserver);
+    return watchObserver;
+  }
+  
+  /**
+   * {@inheritDoc}
+   * <br><br>
+   * Batches are also kept under {@value #MAX_BULK_LOAD_BATCH_BYTES} bytes,
+   * and are only read from the file and sent while the stream is ready, so
+   * the file is never read faster than the server applies it. A line
+   * without a tab is sent without a value and is rejected by the server.
+   */
+  @Override
+  public boolean sendBulkLoad(Path file, int batchSize) throws IOException, InterruptedException {
+    Logger.logInfo(String.format("Bulk loading %s in batches of up to %d pairs", file, batchSize));
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      return bulkLoad(() -> readPairs(reader, batchSize));
+    }
+  }
+  
+  /**
+   * {@inheritDoc}
+   * <br><br>
+   * The file is a gzip-compressed sequence of length-delimited export
+   * chunks. The server only sends chunks as quickly as they are written
+   * to the file. Like a watch, an export has no deadline.
+   */
+  @Override
+  public boolean sendExport(Path file) throws IOException {
+    final String requestName = "EXPORT";
+    
+    ExportRequest request = ExportRequest.newBuilder().build();
+    Logger.logInfo(String.format("Exporting to %s", file));
+    long startNanos = System.nanoTime();
+    long pairs = 0;
+    long chunks = 0;
+    long version = 0;
+    try (OutputStream out = newExportOutputStream(file)) {
+      Iterator<ExportChunk> chunkIterator = serviceStub.export(request);
+      while (chunkIterator.hasNext()) {
+        ExportChunk chunk = chunkIterator.next();
+        chunk.writeDelimitedTo(out);
+        pairs += chunk.getEntriesCount();
+        version = chunk.getVersion();
+        ++chunks;
       }
     }
     catch (StatusRuntimeException e) {
       handleGrpcError(requestName, e.getStatus().getCode());
+      return false;
+    }
+    Logger.logInfo(
+        String.format(
+            "Exported %d pairs as of version %d in %d chunks in %dms (%d bytes written)",
+            pairs,
+            version,
+            chunks,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+            Files.size(file)));
+    return true;
+  }
+  
+  /**
+   * {@inheritDoc}
+   * <br><br>
+   * Each exported chunk is sent as it is as a single batch, so the pairs
+   * are neither parsed as text nor re-batched.
+   */
+  @Override
+  public boolean sendImport(Path file) throws IOException, InterruptedException {
+    Logger.logInfo(String.format("Importing %s", file));
+    try (InputStream in = new GZIPInputStream(Files.newInputStream(file), EXPORT_BUFFER_SIZE)) {
+      return bulkLoad(() -> {
+        ExportChunk chunk = ExportChunk.parseDelimitedFrom(in);
+        if (chunk == null) {
+          return null;
+        }
+        BulkLoadRequest.Builder requestBuilder = BulkLoadRequest.newBuilder();
+        requestBuilder.addAllEntries(chunk.getEntriesList());
+        return requestBuilder.build();
+      });
+    }
+  }
+  
+  /**
+   * Streams batches of key-value pairs to the server as a single bulk load
+   * and logs the summary that the server sends back.
+   * @param batches the source of the batches to send
+   * @return true if every pair was loaded
+   */
+  private boolean bulkLoad(BatchSource batches) throws IOException, InterruptedException {
+    final String requestName = "BULK LOAD";
+    
+    BulkLoadResponse response;
+    try {
+      BulkLoadObserver bulkLoadObserver = new BulkLoadObserver(batches);
+      asyncStub.bulkLoad(bulkLoadObserver);
+      response = bulkLoadObserver.await();
+    }
+    catch (StatusRuntimeException e) {
+      handleGrpcError(requestName, e.getStatus().getCode());
+      return false;
+    }
+    
+    Logger.logInfo(String.format("Received %s", ProtobufUtils.getPrintableMessage(response)));
+    Logger.logInfo(
+        String.format(
+            "Loaded %d pairs (%d bytes) in %d batches in %dms, %.0f pairs/s, %s input, up to version %d",
+            response.getLoaded(),
+            response.getBytes(),
+            response.getBatches(),
+            response.getElapsedMs(),
+            response.getLoaded() * 1000.0 / Math.max(1, response.getElapsedMs()),
+            response.getSorted() ? "sorted" : "unsorted",
+            response.getVersion()));
+    if (response.getErrorStatus() != ErrorStatus.NONE) {
+      Logger.logError(String.format("%s rejected %d invalid pairs", requestName, response.getRejected()));
+      return false;
+    }
+    return true;
+  }
+  
+  /**
+   * Reads the next batch of tab-separated key-value pairs from a file.
+   * @param reader the reader of the file
+   * @param batchSize the maximum number of pairs in the batch
+   * @return the batch, or null once the end of the file has been reached
+   */
+  private static BulkLoadRequest readPairs(BufferedReader reader, int batchSize) throws IOException {
+    BulkLoadRequest.Builder requestBuilder = BulkLoadRequest.newBuilder();
+    int bytes = 0;
+    String line;
+    while (requestBuilder.getEntriesCount() < batchSize
+        && bytes < MAX_BULK_LOAD_BATCH_BYTES
+        && (line = reader.readLine()) != null) {
+      if (line.isEmpty()) {
+        continue;
+      }
+      KeyValuePair.Builder entryBuilder = KeyValuePair.newBuilder();
+      int separator = line.indexOf('\t');
+      if (separator < 0) {
+        entryBuilder.setKey(line);
+      }
+      else {
+        entryBuilder.setKey(line.substring(0, separator));
+        entryBuilder.setValue(ByteString.copyFromUtf8(line.substring(separator + 1)));
+      }
+      KeyValuePair entry = entryBuilder.build();
+      bytes += entry.getSerializedSize();
+      requestBuilder.addEntries(entry);
+    }
+    return requestBuilder.getEntriesCount() == 0 ? null : requestBuilder.build();
+  }
+  
+  /**
+   * Opens a file for an export, compressing it at the fastest gzip level
+   * so that compression keeps up with the stream of chunks.
+   * @param file the file to write the export to
+   * @return the stream to write the export to
+   */
+  private static OutputStream newExportOutputStream(Path file) throws IOException {
+    return new GZIPOutputStream(Files.newOutputStream(file), EXPORT_BUFFER_SIZE) {
+      {
+        def.setLevel(Deflater.BEST_SPEED);
+      }
+    };
+  }
+  
+  /**
+   * @return a random ID for a write, which lets the server recognise
+   *      retries of the write rather than applying it twice
+   */
+  private static long newRequestId() {
+    return ThreadLocalRandom.current().nextLong();
+  }
+  
+  private CompletableFuture<PutResponse> callPut(PutRequest request) {
+    invalidateNearCache(request.getKey());
+    CompletableFuture<PutResponse> response;
+    if (session != null) {
+      response = session.send(SessionRequest.newBuilder().setPut(request)).thenApply(SessionResponse::getPut);
+    }
+    else if (putBatcher != null) {
+      response = putBatcher.add(request);
+    }
+    else {
+      Deadline deadline = Deadline.after(RESPONSE_TIMEOUT_S, TimeUnit.SECONDS);
+      response = withWindow(() -> withRetries(
+          () -> callUnary(request, (unaryRequest, responseObserver) -> withCompression(asyncStub, KeyValueServiceGrpc.getPutMethod(), unaryRequest)
+              .withDeadline(deadline)
+              .put(unaryRequest, responseObserver)),
+          deadline,
+          false));
+    }
+    return response.whenComplete((putResponse, error) -> invalidateNearCache(request.getKey()));
+  }
+  
+  private CompletableFuture<DeleteResponse> callDelete(DeleteRequest request) {
+    invalidateNearCache(request.getKey());
+    CompletableFuture<DeleteResponse> response;
+    if (session != null) {
+      response = session.send(SessionRequest.newBuilder().setDelete(request)).thenApply(SessionResponse::getDelete);
+    }
+    else {
+      Deadline deadline = Deadline.after(RESPONSE_TIMEOUT_S, TimeUnit.SECONDS);
+      response = withWindow(() -> withRetries(
+          () -> callUnary(request, (unaryRequest, responseObserver) -> withCompression(asyncStub, KeyValueServiceGrpc.getDeleteMethod(), unaryRequest)
+              .withDeadline(deadline)
+              .delete(unaryRequest, responseObserver)),
+          deadline,
+          false));
+    }
+    return response.whenComplete((deleteResponse, error) -> invalidateNearCache(request.getKey()));
+  }
+  
+  /**
+   * Sends a batch of PUTs. The {@link PutBatcher} has already taken the
+   * batch's place in the window of calls awaiting a response.
+   * @param request the batch of PUTs
+   * @return a future that completes with the responses to the PUTs
+   */
+  private CompletableFuture<PutBatchResponse> callPutBatch(PutBatchRequest request) {
+    Deadline deadline = Deadline.after(RESPONSE_TIMEOUT_S, TimeUnit.SECONDS);
+    return withRetries(
+        () -> callUnary(request, (unaryRequest, responseObserver) -> withCompression(asyncStub, KeyValueServiceGrpc.getPutBatchMethod(), unaryRequest)
+            .withDeadline(deadline)
+            .putBatch(unaryRequest, responseObserver)),
+        deadline,
+        false);
+  }
+  
+  /**
+   * Makes a unary call through the retrier, if there is one and it may
+   * retry the call. Reads may always be retried, and hedged. Writes are
+   * only retried if the options allow it, because a write whose response
+   * was lost may already have been applied, and a retry of it is only
+   * recognised, and given the outcome of the first attempt, by a server
+   * that deduplicates writes by their request IDs.
+   * @param attempt makes a single attempt at the call, which must give up at the deadline
+   * @param deadline the deadline of the call as a whole, shared by all of its attempts
+   * @param read true if the call is a read, which may be hedged
+   * @return a future that completes with the response
+   */
+  private <T> CompletableFuture<T> withRetries(Supplier<CompletableFuture<T>> attempt, Deadline deadline, boolean read) {
+    if (retrier == null || (!read && !retryWrites)) {
+      return attempt.get();
+    }
+    return retrier.call(attempt, read, deadline);
+  }
+  
+  /**
+   * Makes a call once it has a place in the window of asynchronous calls
+   * awaiting a response, blocking until it does. The place is held until
+   * the call, including any retries and hedge, is over, so that retries
+   * never wait for the window.
+   * @param call makes the call
+   * @return a future that completes with the response. Cancelling the
+   *      future cancels the call.
+   */
+  private <T> CompletableFuture<T> withWindow(Supplier<CompletableFuture<T>> call) {
+    try {
+      asyncWindow.acquire();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return CompletableFuture.failedFuture(Status.CANCELLED.withCause(e).asRuntimeException());
+    }
+    CompletableFuture<T> response;
+    try {
+      response = call.get();
+    }
+    catch (RuntimeException e) {
+      asyncWindow.release();
+      throw e;
+    }
+    response.whenComplete((value, error) -> asyncWindow.release());
+    return response;
+  }
+  
+  /**
+   * Drops the near-cached value of a key being written. This is done both
+   * before and after the write, so that a GET that was already in flight
+   * when the write was sent cannot leave the old value cached.
+   * @param key the key being written
+   */
+  private void invalidateNearCache(String key) {
+    if (nearCache != null) {
+      nearCache.invalidate(key);
+    }
+  }
+  
+  private CompletableFuture<GetResponse> callGet(GetRequest request) {
+    if (nearCache != null && request.hasKey()) {
+      return nearCache.get(request, this::fetchGet);
+    }
+    return fetchGet(request);
+  }
+  
+  private CompletableFuture<GetResponse> fetchGet(GetRequest request) {
+    if (session != null) {
+      return session.send(SessionRequest.newBuilder().setGet(request)).thenApply(SessionResponse::getGet);
+    }
+    Deadline deadline = Deadline.after(RESPONSE_TIMEOUT_S, TimeUnit.SECONDS);
+    return withWindow(() -> withRetries(
+        () -> callUnary(request, (unaryRequest, responseObserver) -> withCompression(asyncStub, KeyValueServiceGrpc.getGetMethod(), unaryRequest)
+            .withDeadline(deadline)
+            .get(unaryRequest, responseObserver)),
+        deadline,
+        true));
+  }
+  
+  /**
+   * Applies the compression policy to a stub for a single request.
+   * @param stub the stub that will send the request
+   * @param method the method being called
+   * @param request the request that will be sent
+   * @return a stub that compresses the request if the policy calls for it
+   */
+  private <S extends AbstractStub<S>> S withCompression(S stub, MethodDescriptor<?, ?> method, Message request) {
+    if (!compressionPolicy.shouldCompress(method.getBareMethodName(), request.getSerializedSize())) {
+      return stub;
+    }
+    return stub.withCompression(compressionPolicy.getEncoding());
+  }
+  
+  /**
+   * Sends a unary request on the asynchronous stub.
+   * @param request the request to send
+   * @param call the stub method that sends the request
+   * @return a future that completes with the response. Cancelling the
+   *      future cancels the call.
+   */
+  private <ReqT, RespT> CompletableFuture<RespT> callUnary(
+      ReqT request,
+      BiConsumer<ReqT, StreamObserver<RespT>> call) {
+    CompletableFuture<RespT> future = new CompletableFuture<RespT>();
+    call.accept(request, new ClientResponseObserver<ReqT, RespT>() {
+      
+      private RespT response;
+      
+      @Override
+      public void beforeStart(ClientCallStreamObserver<ReqT> requestStream) {
+        future.whenComplete((value, error) -> {
+          if (future.isCancelled()) {
+            requestStream.cancel("The response is no longer needed", null);
+          }
+        });
+      }
+
+      @Override
+      public void onNext(RespT value) {
+        response = value;
+      }
+
+      @Override
+      public void onError(Throwable t) {
+        future.completeExceptionally(t);
+      }
+
+      @Override
+      public void onCompleted() {
+        future.complete(response);
+      }
+    });
+    return future;
+  }
+  
+  /**
+   * Receives the changes streamed for a single watch and passes them to a
+   * listener. Closing the observer cancels the watch.
+   * @author lscholte
+   *
+   */
+  private static class WatchObserver implements ClientResponseObserver<WatchRequest, WatchEvent>, Closeable {
+    
+    private final WatchListener listener;
+    private ClientCallStreamObserver<WatchRequest> requestStream;
+    private volatile boolean closed;
+    
+    public WatchObserver(WatchListener listener) {
+      this.listener = listener;
+      closed = false;
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<WatchRequest> requestStream) {
+      this.requestStream = requestStream;
+    }
+
+    @Override
+    public void onNext(WatchEvent event) {
+      String value = event.hasValue() ? event.getValue().toStringUtf8() : null;
+      listener.onChange(event.getKey(), value, event.getVersion());
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      listener.onClosed(closed ? null : t);
+    }
+
+    @Override
+    public void onCompleted() {
+      listener.onClosed(null);
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+      requestStream.cancel("Watch closed by client", null);
+    }
+  }
+  
+  /**
+   * A source of the batches to send in a bulk load.
+   */
+  @FunctionalInterface
+  private interface BatchSource {
+    
+    /**
+     * @return the next batch, or null once there are no more batches
+     */
+    public BulkLoadRequest nextBatch() throws IOException;
+  }
+  
+  /**
+   * Streams batches of key-value pairs for a single bulk load. Batches are
+   * read and sent whenever the stream becomes ready, which gRPC signals on
+   * its own threads, so the caller only has to wait for the summary.
+   * @author lscholte
+   *
+   */
+  private static class BulkLoadObserver implements ClientResponseObserver<BulkLoadRequest, BulkLoadResponse> {
+    
+    private final BatchSource batches;
+    private final CompletableFuture<BulkLoadResponse> response;
+    private ClientCallStreamObserver<BulkLoadRequest> requestStream;
+    //Guarded by this
+    private boolean finished;
+    
+    public BulkLoadObserver(BatchSource batches) {
+      this.batches = batches;
+      response = new CompletableFuture<BulkLoadResponse>();
+      finished = false;
+    }
+    
+    public BulkLoadResponse await() throws IOException, InterruptedException {
+      try {
+        return response.get();
+      }
+      catch (ExecutionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw (IOException)e.getCause();
+        }
+        throw Status.fromThrowable(e.getCause()).asRuntimeException();
+      }
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<BulkLoadRequest> requestStream) {
+      this.requestStream = requestStream;
+      requestStream.setOnReadyHandler(this::sendBatches);
+    }
+    
+    private synchronized void sendBatches() {
+      try {
+        while (!finished && requestStream.isReady()) {
+          BulkLoadRequest batch = batches.nextBatch();
+          if (batch == null) {
+            finished = true;
+            requestStream.onCompleted();
+          }
+          else {
+            requestStream.onNext(batch);
+          }
+        }
+      }
+      catch (IOException e) {
+        finished = true;
+        response.completeExceptionally(e);
+        requestStream.cancel("Failed to read bulk load file", e);
+      }
+    }
+
+    @Override
+    public void onNext(BulkLoadResponse value) {
+      response.complete(value);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      response.completeExceptionally(t);
+    }
+
+    @Override
+    public void onCompleted() {
+    }
+  }
+  
+  private void handlePutResponse(String requestName, String key, String value, PutResponse response) {
+    Logger.logInfo(String.format("Received %s", ProtobufUtils.getPrintableMessage(response)));
+    
+    if (response.getErrorStatus() != ErrorStatus.NONE) {
+      handleErrorStatus(requestName, response.getErrorStatus());
+    }
+    else {
+      Logger.logInfo(String.format("The value %s has been put under key %s", value, key));
+    }
+  }
+  
+  private void handleDeleteResponse(String requestName, String key, DeleteResponse response) {
+    Logger.logInfo(String.format("Received %s", ProtobufUtils.getPrintableMessage(response)));
+    
+    if (response.getErrorStatus() != ErrorStatus.NONE) {
+      handleErrorStatus(requestName, response.getErrorStatus());
+    }
+    else if (response.getDeleted()) {
+      Logger.logInfo(String.format("The key %s has been deleted", key));
+    }
+    else {
+      Logger.logInfo(String.format("The key %s did not exist", key));
+    }
+  }
+  
+  private void handleGetResponse(String requestName, String key, GetResponse response) {
+    Logger.logInfo(String.format("Received %s", ProtobufUtils.getPrintableMessage(response)));
+    
+    if (response.getErrorStatus() != ErrorStatus.NONE) {
+      handleErrorStatus(requestName, response.getErrorStatus());
+    }
+    else if (response.hasValue()) {
+      Logger.logInfo("Value is " + response.getValue().toStringUtf8());      
+    }
+    else {
+      Logger.logInfo(String.format("There is no value for key %s", key));
     }
   }
   
   /**
    * Sends a sequence of 5 PUT requests followed by
    * 5 GET requests followed by 5 DELETE requests.
+   * In pipelined mode, each sequence is completed
+   * before the next one is sent.
    */
-  private void sendInitialRequests() {    
+  private void sendInitialRequests() throws InterruptedException {    
     int messageCount = 5;
     
     Logger.logInfo("Sending 5 initial PUT requests");
     for (int i = 0; i < messageCount; ++i) {
       sendPut("Key" + i, "Value" + i);
     }
+    awaitOutstandingRequests();
     
     Logger.logInfo("Sending 5 initial GET requests");
     for (int i = 0; i < messageCount; ++i) {
       sendGet("Key" + i);
     }
+    awaitOutstandingRequests();
     
     Logger.logInfo("Sending 5 initial DELETE requests");
     for (int i = 0; i < messageCount; ++i) {
       sendDelete("Key" + i);
     }
+    awaitOutstandingRequests();
+  }
+  
+  /**
+   * Blocks until every pipelined command has received a response.
+   * Does nothing when the client is not in pipelined mode.
+   */
+  private void awaitOutstandingRequests() throws InterruptedException {
+    if (session != null) {
+      session.awaitOutstanding();
+    }
   }
   
   private void handleGrpcError(String requestType, Code code) {
@@ -227,6 +1092,12 @@ public class RpcClient implements Client {
     }
   }
   
+  private void checkErrorStatus(String requestType, ErrorStatus status) {
+    if (status != ErrorStatus.NONE) {
+      throw new RequestFailedException(String.format("%s failed with error status %s", requestType, status));
+    }
+  }
+  
   private void handleErrorStatus(String requestType, ErrorStatus status) {
     switch (status) {
       case NONE:
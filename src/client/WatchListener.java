@@ -0,0 +1,26 @@
+package client;
+
+/**
+ * Receives the changes made to a watched key or key prefix.
+ * Changes are received in the order in which they were made, although
+ * a watcher that falls behind only receives the latest change to each key.
+ * @author lscholte
+ *
+ */
+public interface WatchListener {
+
+  /**
+   * Called when a watched key changes.
+   * @param key the key that changed
+   * @param value the new value of the key, or null if the key was deleted
+   * @param version the version of the store created by the change
+   */
+  public void onChange(String key, String value, long version);
+
+  /**
+   * Called once the watch has ended, after which no more changes are received.
+   * @param error the reason the watch ended, or null if it was closed by the client
+   */
+  public void onClosed(Throwable error);
+
+}
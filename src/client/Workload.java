@@ -0,0 +1,131 @@
+package client;
+
+/**
+ * The core workloads of the Yahoo! Cloud Serving Benchmark (YCSB), as
+ * mixes of operations on records and the distribution by which the
+ * records they touch are chosen.
+ * @author lscholte
+ *
+ */
+public enum Workload {
+
+  /**
+   * Update heavy: 50% reads and 50% updates of zipfian records.
+   */
+  A("a", 0.50, 0.50, 0, 0, 0, "zipfian"),
+
+  /**
+   * Read mostly: 95% reads and 5% updates of zipfian records.
+   */
+  B("b", 0.95, 0.05, 0, 0, 0, "zipfian"),
+
+  /**
+   * Read only: 100% reads of zipfian records.
+   */
+  C("c", 1.00, 0, 0, 0, 0, "zipfian"),
+
+  /**
+   * Read latest: 95% reads of the most recently inserted records and 5% inserts.
+   */
+  D("d", 0.95, 0, 0.05, 0, 0, "latest"),
+
+  /**
+   * Short ranges: 95% scans starting at zipfian records and 5% inserts.
+   */
+  E("e", 0, 0, 0.05, 0.95, 0, "zipfian"),
+
+  /**
+   * Read-modify-write: 50% reads and 50% reads followed by updates of zipfian records.
+   */
+  F("f", 0.50, 0, 0, 0, 0.50, "zipfian");
+
+  /**
+   * An operation of a workload.
+   */
+  public static enum Operation {
+    READ,
+    UPDATE,
+    INSERT,
+    SCAN,
+    READ_MODIFY_WRITE
+  }
+
+  private static final Operation[] OPERATIONS = Operation.values();
+
+  private final String name;
+  private final double[] proportions;
+  private final String distribution;
+
+  private Workload(
+      String name,
+      double readProportion,
+      double updateProportion,
+      double insertProportion,
+      double scanProportion,
+      double readModifyWriteProportion,
+      String distribution) {
+    this.name = name;
+    //Indexed by the ordinal of each operation
+    this.proportions = new double[] {
+        readProportion,
+        updateProportion,
+        insertProportion,
+        scanProportion,
+        readModifyWriteProportion
+    };
+    this.distribution = distribution;
+  }
+
+  /**
+   * @return the name used to select the workload
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the name of the {@link KeyChooser} the workload uses by default
+   */
+  public String getDistribution() {
+    return distribution;
+  }
+
+  /**
+   * Picks an operation according to the mix of the workload.
+   * @param random a number drawn uniformly from [0, 1)
+   * @return the operation
+   */
+  public Operation chooseOperation(double random) {
+    Operation chosen = null;
+    double threshold = 0;
+    for (Operation operation : OPERATIONS) {
+      double proportion = proportions[operation.ordinal()];
+      if (proportion <= 0) {
+        continue;
+      }
+      chosen = operation;
+      threshold += proportion;
+      if (random < threshold) {
+        return operation;
+      }
+    }
+    //Rounding can leave the proportions summing to just under 1
+    return chosen;
+  }
+
+  /**
+   * Finds the workload with the given name.
+   * @param name the name of the workload
+   * @return the workload
+   * @throws IllegalArgumentException if there is no workload with the name
+   */
+  public static Workload fromName(String name) {
+    for (Workload workload : values()) {
+      if (workload.name.equalsIgnoreCase(name)) {
+        return workload;
+      }
+    }
+    throw new IllegalArgumentException(String.format("Unknown workload %s", name));
+  }
+
+}
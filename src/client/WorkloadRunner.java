@@ -0,0 +1,263 @@
+package client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import client.Workload.Operation;
+
+/**
+ * Runs a YCSB-style {@link Workload} against a server and reports the
+ * latency of each kind of operation.
+ * <br><br>
+ * Operations are offered open-loop at a target rate, spread over a number
+ * of workers that each send every operation on its own schedule, whether or
+ * not earlier operations have been answered. Latencies are measured from
+ * when each operation was due to be sent rather than from when it was
+ * actually sent, so that a server that falls behind cannot hide the delay
+ * by holding up the workers ("coordinated omission"). The latencies from
+ * when each operation was actually sent are reported alongside for
+ * comparison.
+ * <br><br>
+ * The store has no range reads, so a scan of workload E is sent as GETs of
+ * a run of consecutive records, of a length chosen uniformly up to
+ * {@value #MAX_SCAN_LENGTH}, and is complete when every GET has been answered.
+ * <br><br>
+ * Reads, updates and scans only touch records whose inserts have been
+ * acknowledged, as counted by an {@link AcknowledgedCounter}, so that they
+ * never look for a record that has not been written yet. A scan that would
+ * run past the last such record is cut short at it.
+ * @author lscholte
+ *
+ */
+public class WorkloadRunner {
+
+  private static final int MAX_SCAN_LENGTH = 100;
+  private static final int LOAD_WINDOW = 1000;
+  private static final long DRAIN_TIMEOUT_S = 30;
+
+  private final Client client;
+  private final Workload workload;
+  private final long initialRecords;
+  private final String value;
+  private final AcknowledgedCounter inserts;
+  private final KeyChooser keyChooser;
+
+  /**
+   * Constructs a WorkloadRunner.
+   * @param client the client through which operations are sent
+   * @param workload the workload to run
+   * @param distribution the name of the {@link KeyChooser} to use, or null for the workload's own
+   * @param initialRecords the number of records loaded before the workload starts
+   * @param valueSize the size of the value of each record
+   * @throws IllegalArgumentException if there is no key chooser with the name
+   */
+  public WorkloadRunner(Client client, Workload workload, String distribution, long initialRecords, int valueSize) {
+    this.client = client;
+    this.workload = workload;
+    this.initialRecords = initialRecords;
+    this.value = "v".repeat(valueSize);
+    inserts = new AcknowledgedCounter(initialRecords);
+    keyChooser = KeyChooser.create(
+        distribution == null ? workload.getDistribution() : distribution,
+        initialRecords,
+        inserts::getAcknowledged);
+  }
+
+  /**
+   * Puts the initial records, keeping a window of PUTs in flight.
+   */
+  public void load() throws Exception {
+    List<CompletableFuture<Void>> window = new ArrayList<CompletableFuture<Void>>(LOAD_WINDOW);
+    for (long record = 0; record < initialRecords; ++record) {
+      window.add(client.putAsync(keyOf(record), value));
+      if (window.size() == LOAD_WINDOW) {
+        CompletableFuture.allOf(window.toArray(new CompletableFuture<?>[0])).get();
+        window.clear();
+      }
+    }
+    CompletableFuture.allOf(window.toArray(new CompletableFuture<?>[0])).get();
+  }
+
+  /**
+   * Offers operations at a fixed rate for a period of time, then waits for
+   * every operation to complete.
+   * @param rate the number of operations to send per second
+   * @param durationS the number of seconds for which to send operations
+   * @param workers the number of workers sending operations
+   * @return the report of the run, a line per kind of operation
+   */
+  public String run(int rate, int durationS, int workers) throws InterruptedException {
+    int count = (int)Math.min(Integer.MAX_VALUE, (long)rate * durationS);
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+    Operation[] operations = new Operation[count];
+    long[] correctedLatencies = new long[count];
+    long[] uncorrectedLatencies = new long[count];
+    boolean[] failed = new boolean[count];
+    //Operations that never complete count as failed
+    Arrays.fill(failed, true);
+    AtomicLong maxLagNanos = new AtomicLong();
+    CountDownLatch completed = new CountDownLatch(count);
+
+    long startNanos = System.nanoTime();
+    List<Thread> threads = new ArrayList<Thread>(workers);
+    for (int worker = 0; worker < workers; ++worker) {
+      final int firstIndex = worker;
+      Thread thread = new Thread(() -> {
+        long lagNanos = 0;
+        for (int i = firstIndex; i < count; i += workers) {
+          final int index = i;
+          long dueNanos = startNanos + i * intervalNanos;
+          long waitNanos = dueNanos - System.nanoTime();
+          if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+          }
+          long sentNanos = System.nanoTime();
+          lagNanos = Math.max(lagNanos, sentNanos - dueNanos);
+          Operation operation = workload.chooseOperation(ThreadLocalRandom.current().nextDouble());
+          operations[index] = operation;
+          CompletableFuture<?> result;
+          try {
+            result = execute(operation);
+          }
+          catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+          }
+          result.whenComplete((value, error) -> {
+            long nowNanos = System.nanoTime();
+            correctedLatencies[index] = nowNanos - dueNanos;
+            uncorrectedLatencies[index] = nowNanos - sentNanos;
+            failed[index] = error != null;
+            completed.countDown();
+          });
+        }
+        maxLagNanos.accumulateAndGet(lagNanos, Math::max);
+      }, "workload-" + worker);
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    boolean drained = completed.await(DRAIN_TIMEOUT_S, TimeUnit.SECONDS);
+    long elapsedNanos = System.nanoTime() - startNanos;
+
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("%-18s %8s %8s %10s %10s %10s %10s %10s %14s%n",
+        "operation", "ok", "failed", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms", "uncorr p99 ms"));
+    for (Operation operation : Operation.values()) {
+      appendLine(report, operation, operations, correctedLatencies, uncorrectedLatencies, failed);
+    }
+    report.append(String.format("workload %s: %d operations offered at %d ops/s over %d workers, completed at %.0f ops/s;"
+        + " workers fell at most %.2fms behind schedule%s",
+        workload.getName(),
+        count,
+        rate,
+        workers,
+        count * 1e9 / elapsedNanos,
+        maxLagNanos.get() / 1e6,
+        drained ? "" : " (some operations never completed)"));
+    return report.toString();
+  }
+
+  /**
+   * Sends an operation on a record chosen by the key chooser.
+   * @param operation the operation to send
+   * @return a future that completes when the operation is complete
+   */
+  private CompletableFuture<?> execute(Operation operation) {
+    switch (operation) {
+      case READ:
+        return client.getAsync(keyOf(keyChooser.nextRecord()));
+      case UPDATE:
+        return client.putAsync(keyOf(keyChooser.nextRecord()), value);
+      case INSERT:
+        long record = inserts.next();
+        return client.putAsync(keyOf(record), value).whenComplete((result, error) -> inserts.acknowledge(record));
+      case SCAN:
+        long firstRecord = keyChooser.nextRecord();
+        long writtenAfterFirst = inserts.getAcknowledged() - firstRecord;
+        int length = (int)Math.max(1, Math.min(ThreadLocalRandom.current().nextInt(1, MAX_SCAN_LENGTH + 1), writtenAfterFirst));
+        CompletableFuture<?>[] reads = new CompletableFuture<?>[length];
+        for (int i = 0; i < length; ++i) {
+          reads[i] = client.getAsync(keyOf(firstRecord + i));
+        }
+        return CompletableFuture.allOf(reads);
+      case READ_MODIFY_WRITE:
+        String key = keyOf(keyChooser.nextRecord());
+        return client.getAsync(key).thenCompose(oldValue -> client.putAsync(key, value));
+      default:
+        throw new IllegalArgumentException(String.format("Unknown operation %s", operation));
+    }
+  }
+
+  private static String keyOf(long record) {
+    return "user" + record;
+  }
+
+  private static void appendLine(
+      StringBuilder report,
+      Operation operation,
+      Operation[] operations,
+      long[] correctedLatencies,
+      long[] uncorrectedLatencies,
+      boolean[] failed) {
+    int ok = 0;
+    int failures = 0;
+    for (int i = 0; i < operations.length; ++i) {
+      if (operations[i] == operation) {
+        if (failed[i]) {
+          ++failures;
+        }
+        else {
+          ++ok;
+        }
+      }
+    }
+    if (ok + failures == 0) {
+      return;
+    }
+    long[] corrected = new long[ok];
+    long[] uncorrected = new long[ok];
+    int next = 0;
+    for (int i = 0; i < operations.length; ++i) {
+      if (operations[i] == operation && !failed[i]) {
+        corrected[next] = correctedLatencies[i];
+        uncorrected[next] = uncorrectedLatencies[i];
+        ++next;
+      }
+    }
+    Arrays.sort(corrected);
+    Arrays.sort(uncorrected);
+    report.append(String.format("%-18s %8d %8d %10s %10s %10s %10s %10s %14s%n",
+        operation,
+        ok,
+        failures,
+        formatPercentile(corrected, 0.50),
+        formatPercentile(corrected, 0.95),
+        formatPercentile(corrected, 0.99),
+        formatPercentile(corrected, 0.999),
+        formatPercentile(corrected, 1.0),
+        formatPercentile(uncorrected, 0.99)));
+  }
+
+  /**
+   * @param sortedLatencies latencies in nanoseconds, sorted
+   * @param percentile the percentile to format
+   * @return the percentile of the latencies in milliseconds
+   */
+  private static String formatPercentile(long[] sortedLatencies, double percentile) {
+    if (sortedLatencies.length == 0) {
+      return "-";
+    }
+    int index = Math.min(sortedLatencies.length - 1, (int)(sortedLatencies.length * percentile));
+    return String.format("%.2f", sortedLatencies[index] / 1e6);
+  }
+
+}
@@ -107,6 +107,161 @@ public final class KeyValueServiceGrpc {
     return getDeleteMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.SessionRequest,
+      protobuf.generated.KeyValueServiceMessages.SessionResponse> getSessionMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "Session",
+      requestType = protobuf.generated.KeyValueServiceMessages.SessionRequest.class,
+      responseType = protobuf.generated.KeyValueServiceMessages.SessionResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.SessionRequest,
+      protobuf.generated.KeyValueServiceMessages.SessionResponse> getSessionMethod() {
+    io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.SessionRequest, protobuf.generated.KeyValueServiceMessages.SessionResponse> getSessionMethod;
+    if ((getSessionMethod = KeyValueServiceGrpc.getSessionMethod) == null) {
+      synchronized (KeyValueServiceGrpc.class) {
+        if ((getSessionMethod = KeyValueServiceGrpc.getSessionMethod) == null) {
+          KeyValueServiceGrpc.getSessionMethod = getSessionMethod =
+              io.grpc.MethodDescriptor.<protobuf.generated.KeyValueServiceMessages.SessionRequest, protobuf.generated.KeyValueServiceMessages.SessionResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "Session"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.generated.KeyValueServiceMessages.SessionRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.generated.KeyValueServiceMessages.SessionResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new KeyValueServiceMethodDescriptorSupplier("Session"))
+              .build();
+        }
+      }
+    }
+    return getSessionMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.WatchRequest,
+      protobuf.generated.KeyValueServiceMessages.WatchEvent> getWatchMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "Watch",
+      requestType = protobuf.generated.KeyValueServiceMessages.WatchRequest.class,
+      responseType = protobuf.generated.KeyValueServiceMessages.WatchEvent.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.WatchRequest,
+      protobuf.generated.KeyValueServiceMessages.WatchEvent> getWatchMethod() {
+    io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.WatchRequest, protobuf.generated.KeyValueServiceMessages.WatchEvent> getWatchMethod;
+    if ((getWatchMethod = KeyValueServiceGrpc.getWatchMethod) == null) {
+      synchronized (KeyValueServiceGrpc.class) {
+        if ((getWatchMethod = KeyValueServiceGrpc.getWatchMethod) == null) {
+          KeyValueServiceGrpc.getWatchMethod = getWatchMethod =
+              io.grpc.MethodDescriptor.<protobuf.generated.KeyValueServiceMessages.WatchRequest, protobuf.generated.KeyValueServiceMessages.WatchEvent>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "Watch"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.generated.KeyValueServiceMessages.WatchRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.generated.KeyValueServiceMessages.WatchEvent.getDefaultInstance()))
+              .setSchemaDescriptor(new KeyValueServiceMethodDescriptorSupplier("Watch"))
+              .build();
+        }
+      }
+    }
+    return getWatchMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.BulkLoadRequest,
+      protobuf.generated.KeyValueServiceMessages.BulkLoadResponse> getBulkLoadMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "BulkLoad",
+      requestType = protobuf.generated.KeyValueServiceMessages.BulkLoadRequest.class,
+      responseType = protobuf.generated.KeyValueServiceMessages.BulkLoadResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.BulkLoadRequest,
+      protobuf.generated.KeyValueServiceMessages.BulkLoadResponse> getBulkLoadMethod() {
+    io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.BulkLoadRequest, protobuf.generated.KeyValueServiceMessages.BulkLoadResponse> getBulkLoadMethod;
+    if ((getBulkLoadMethod = KeyValueServiceGrpc.getBulkLoadMethod) == null) {
+      synchronized (KeyValueServiceGrpc.class) {
+        if ((getBulkLoadMethod = KeyValueServiceGrpc.getBulkLoadMethod) == null) {
+          KeyValueServiceGrpc.getBulkLoadMethod = getBulkLoadMethod =
+              io.grpc.MethodDescriptor.<protobuf.generated.KeyValueServiceMessages.BulkLoadRequest, protobuf.generated.KeyValueServiceMessages.BulkLoadResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "BulkLoad"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.generated.KeyValueServiceMessages.BulkLoadRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.generated.KeyValueServiceMessages.BulkLoadResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new KeyValueServiceMethodDescriptorSupplier("BulkLoad"))
+              .build();
+        }
+      }
+    }
+    return getBulkLoadMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.ExportRequest,
+      protobuf.generated.KeyValueServiceMessages.ExportChunk> getExportMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "Export",
+      requestType = protobuf.generated.KeyValueServiceMessages.ExportRequest.class,
+      responseType = protobuf.generated.KeyValueServiceMessages.ExportChunk.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.ExportRequest,
+      protobuf.generated.KeyValueServiceMessages.ExportChunk> getExportMethod() {
+    io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.ExportRequest, protobuf.generated.KeyValueServiceMessages.ExportChunk> getExportMethod;
+    if ((getExportMethod = KeyValueServiceGrpc.getExportMethod) == null) {
+      synchronized (KeyValueServiceGrpc.class) {
+        if ((getExportMethod = KeyValueServiceGrpc.getExportMethod) == null) {
+          KeyValueServiceGrpc.getExportMethod = getExportMethod =
+              io.grpc.MethodDescriptor.<protobuf.generated.KeyValueServiceMessages.ExportRequest, protobuf.generated.KeyValueServiceMessages.ExportChunk>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "Export"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.generated.KeyValueServiceMessages.ExportRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.generated.KeyValueServiceMessages.ExportChunk.getDefaultInstance()))
+              .setSchemaDescriptor(new KeyValueServiceMethodDescriptorSupplier("Export"))
+              .build();
+        }
+      }
+    }
+    return getExportMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.PutBatchRequest,
+      protobuf.generated.KeyValueServiceMessages.PutBatchResponse> getPutBatchMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "PutBatch",
+      requestType = protobuf.generated.KeyValueServiceMessages.PutBatchRequest.class,
+      responseType = protobuf.generated.KeyValueServiceMessages.PutBatchResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.PutBatchRequest,
+      protobuf.generated.KeyValueServiceMessages.PutBatchResponse> getPutBatchMethod() {
+    io.grpc.MethodDescriptor<protobuf.generated.KeyValueServiceMessages.PutBatchRequest, protobuf.generated.KeyValueServiceMessages.PutBatchResponse> getPutBatchMethod;
+    if ((getPutBatchMethod = KeyValueServiceGrpc.getPutBatchMethod) == null) {
+      synchronized (KeyValueServiceGrpc.class) {
+        if ((getPutBatchMethod = KeyValueServiceGrpc.getPutBatchMethod) == null) {
+          KeyValueServiceGrpc.getPutBatchMethod = getPutBatchMethod =
+              io.grpc.MethodDescriptor.<protobuf.generated.KeyValueServiceMessages.PutBatchRequest, protobuf.generated.KeyValueServiceMessages.PutBatchResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "PutBatch"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.generated.KeyValueServiceMessages.PutBatchRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  protobuf.generated.KeyValueServiceMessages.PutBatchResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new KeyValueServiceMethodDescriptorSupplier("PutBatch"))
+              .build();
+        }
+      }
+    }
+    return getPutBatchMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -176,6 +331,41 @@ public final class KeyValueServiceGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getDeleteMethod(), responseObserver);
     }
 
+    /**
+     */
+    public io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.SessionRequest> session(
+        io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.SessionResponse> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getSessionMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void watch(protobuf.generated.KeyValueServiceMessages.WatchRequest request,
+        io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.WatchEvent> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getWatchMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.BulkLoadRequest> bulkLoad(
+        io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.BulkLoadResponse> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getBulkLoadMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void export(protobuf.generated.KeyValueServiceMessages.ExportRequest request,
+        io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.ExportChunk> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getExportMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void putBatch(protobuf.generated.KeyValueServiceMessages.PutBatchRequest request,
+        io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.PutBatchResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getPutBatchMethod(), responseObserver);
+    }
+
     @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -199,6 +389,41 @@ public final class KeyValueServiceGrpc {
                 protobuf.generated.KeyValueServiceMessages.DeleteRequest,
                 protobuf.generated.KeyValueServiceMessages.DeleteResponse>(
                   this, METHODID_DELETE)))
+          .addMethod(
+            getSessionMethod(),
+            io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+              new MethodHandlers<
+                protobuf.generated.KeyValueServiceMessages.SessionRequest,
+                protobuf.generated.KeyValueServiceMessages.SessionResponse>(
+                  this, METHODID_SESSION)))
+          .addMethod(
+            getWatchMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                protobuf.generated.KeyValueServiceMessages.WatchRequest,
+                protobuf.generated.KeyValueServiceMessages.WatchEvent>(
+                  this, METHODID_WATCH)))
+          .addMethod(
+            getBulkLoadMethod(),
+            io.grpc.stub.ServerCalls.asyncClientStreamingCall(
+              new MethodHandlers<
+                protobuf.generated.KeyValueServiceMessages.BulkLoadRequest,
+                protobuf.generated.KeyValueServiceMessages.BulkLoadResponse>(
+                  this, METHODID_BULK_LOAD)))
+          .addMethod(
+            getExportMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                protobuf.generated.KeyValueServiceMessages.ExportRequest,
+                protobuf.generated.KeyValueServiceMessages.ExportChunk>(
+                  this, METHODID_EXPORT)))
+          .addMethod(
+            getPutBatchMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                protobuf.generated.KeyValueServiceMessages.PutBatchRequest,
+                protobuf.generated.KeyValueServiceMessages.PutBatchResponse>(
+                  this, METHODID_PUT_BATCH)))
           .build();
     }
   }
@@ -240,6 +465,46 @@ public final class KeyValueServiceGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getDeleteMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.SessionRequest> session(
+        io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.SessionResponse> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getSessionMethod(), getCallOptions()), responseObserver);
+    }
+
+    /**
+     */
+    public void watch(protobuf.generated.KeyValueServiceMessages.WatchRequest request,
+        io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.WatchEvent> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getWatchMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.BulkLoadRequest> bulkLoad(
+        io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.BulkLoadResponse> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncClientStreamingCall(
+          getChannel().newCall(getBulkLoadMethod(), getCallOptions()), responseObserver);
+    }
+
+    /**
+     */
+    public void export(protobuf.generated.KeyValueServiceMessages.ExportRequest request,
+        io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.ExportChunk> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getExportMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void putBatch(protobuf.generated.KeyValueServiceMessages.PutBatchRequest request,
+        io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.PutBatchResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getPutBatchMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -276,6 +541,29 @@ public final class KeyValueServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getDeleteMethod(), getCallOptions(), request);
     }
+
+    /**
+     */
+    public java.util.Iterator<protobuf.generated.KeyValueServiceMessages.WatchEvent> watch(
+        protobuf.generated.KeyValueServiceMessages.WatchRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getWatchMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<protobuf.generated.KeyValueServiceMessages.ExportChunk> export(
+        protobuf.generated.KeyValueServiceMessages.ExportRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getExportMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public protobuf.generated.KeyValueServiceMessages.PutBatchResponse putBatch(protobuf.generated.KeyValueServiceMessages.PutBatchRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getPutBatchMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -315,11 +603,24 @@ public final class KeyValueServiceGrpc {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getDeleteMethod(), getCallOptions()), request);
     }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<protobuf.generated.KeyValueServiceMessages.PutBatchResponse> putBatch(
+        protobuf.generated.KeyValueServiceMessages.PutBatchRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getPutBatchMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_PUT = 0;
   private static final int METHODID_GET = 1;
   private static final int METHODID_DELETE = 2;
+  private static final int METHODID_WATCH = 3;
+  private static final int METHODID_EXPORT = 4;
+  private static final int METHODID_PUT_BATCH = 5;
+  private static final int METHODID_SESSION = 6;
+  private static final int METHODID_BULK_LOAD = 7;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -350,6 +651,18 @@ public final class KeyValueServiceGrpc {
           serviceImpl.delete((protobuf.generated.KeyValueServiceMessages.DeleteRequest) request,
               (io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.DeleteResponse>) responseObserver);
           break;
+        case METHODID_WATCH:
+          serviceImpl.watch((protobuf.generated.KeyValueServiceMessages.WatchRequest) request,
+              (io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.WatchEvent>) responseObserver);
+          break;
+        case METHODID_EXPORT:
+          serviceImpl.export((protobuf.generated.KeyValueServiceMessages.ExportRequest) request,
+              (io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.ExportChunk>) responseObserver);
+          break;
+        case METHODID_PUT_BATCH:
+          serviceImpl.putBatch((protobuf.generated.KeyValueServiceMessages.PutBatchRequest) request,
+              (io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.PutBatchResponse>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -360,6 +673,12 @@ public final class KeyValueServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_SESSION:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.session(
+              (io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.SessionResponse>) responseObserver);
+        case METHODID_BULK_LOAD:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.bulkLoad(
+              (io.grpc.stub.StreamObserver<protobuf.generated.KeyValueServiceMessages.BulkLoadResponse>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -414,6 +733,11 @@ public final class KeyValueServiceGrpc {
               .addMethod(getPutMethod())
               .addMethod(getGetMethod())
               .addMethod(getDeleteMethod())
+              .addMethod(getSessionMethod())
+              .addMethod(getWatchMethod())
+              .addMethod(getBulkLoadMethod())
+              .addMethod(getExportMethod())
+              .addMethod(getPutBatchMethod())
               .build();
         }
       }
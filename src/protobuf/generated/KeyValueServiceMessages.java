@@ -27,6 +27,10 @@ public final class KeyValueServiceMessages {
      * <code>INVALID_REQUEST_FORMAT = 1;</code>
      */
     INVALID_REQUEST_FORMAT(1),
+    /**
+     * <code>INTERNAL_ERROR = 2;</code>
+     */
+    INTERNAL_ERROR(2),
     UNRECOGNIZED(-1),
     ;
 
@@ -38,6 +42,10 @@ public final class KeyValueServiceMessages {
      * <code>INVALID_REQUEST_FORMAT = 1;</code>
      */
     public static final int INVALID_REQUEST_FORMAT_VALUE = 1;
+    /**
+     * <code>INTERNAL_ERROR = 2;</code>
+     */
+    public static final int INTERNAL_ERROR_VALUE = 2;
 
 
     public final int getNumber() {
@@ -66,6 +74,7 @@ public final class KeyValueServiceMessages {
       switch (value) {
         case 0: return NONE;
         case 1: return INVALID_REQUEST_FORMAT;
+        case 2: return INTERNAL_ERROR;
         default: return null;
       }
     }
@@ -122,6 +131,114 @@ public final class KeyValueServiceMessages {
     // @@protoc_insertion_point(enum_scope:protobuf.ErrorStatus)
   }
 
+  /**
+   * Protobuf enum {@code protobuf.ChangeType}
+   */
+  public enum ChangeType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>PUT = 0;</code>
+     */
+    PUT(0),
+    /**
+     * <code>DELETE = 1;</code>
+     */
+    DELETE(1),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>PUT = 0;</code>
+     */
+    public static final int PUT_VALUE = 0;
+    /**
+     * <code>DELETE = 1;</code>
+     */
+    public static final int DELETE_VALUE = 1;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static ChangeType valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static ChangeType forNumber(int value) {
+      switch (value) {
+        case 0: return PUT;
+        case 1: return DELETE;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<ChangeType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ChangeType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ChangeType>() {
+            public ChangeType findValueByNumber(int number) {
+              return ChangeType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return protobuf.generated.KeyValueServiceMessages.getDescriptor().getEnumTypes().get(1);
+    }
+
+    private static final ChangeType[] VALUES = values();
+
+    public static ChangeType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private ChangeType(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:protobuf.ChangeType)
+  }
+
   public interface PutRequestOrBuilder extends
       // @@protoc_insertion_point(interface_extends:protobuf.PutRequest)
       com.google.protobuf.MessageOrBuilder {
@@ -144,21 +261,26 @@ public final class KeyValueServiceMessages {
         getKeyBytes();
 
     /**
-     * <code>string value = 2;</code>
+     * <code>bytes value = 2;</code>
      * @return Whether the value field is set.
      */
     boolean hasValue();
     /**
-     * <code>string value = 2;</code>
+     * <code>bytes value = 2;</code>
      * @return The value.
      */
-    java.lang.String getValue();
+    com.google.protobuf.ByteString getValue();
+
     /**
-     * <code>string value = 2;</code>
-     * @return The bytes for value.
+     * <code>uint64 request_id = 3;</code>
+     * @return Whether the requestId field is set.
      */
-    com.google.protobuf.ByteString
-        getValueBytes();
+    boolean hasRequestId();
+    /**
+     * <code>uint64 request_id = 3;</code>
+     * @return The requestId.
+     */
+    long getRequestId();
   }
   /**
    * Protobuf type {@code protobuf.PutRequest}
@@ -174,7 +296,7 @@ public final class KeyValueServiceMessages {
     }
     private PutRequest() {
       key_ = "";
-      value_ = "";
+      value_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -215,9 +337,13 @@ public final class KeyValueServiceMessages {
               break;
             }
             case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
               bitField0_ |= 0x00000002;
-              value_ = s;
+              value_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              requestId_ = input.readUInt64();
               break;
             }
             default: {
@@ -300,9 +426,9 @@ public final class KeyValueServiceMessages {
     }
 
     public static final int VALUE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object value_;
+    private com.google.protobuf.ByteString value_;
     /**
-     * <code>string value = 2;</code>
+     * <code>bytes value = 2;</code>
      * @return Whether the value field is set.
      */
     @java.lang.Override
@@ -310,39 +436,31 @@ public final class KeyValueServiceMessages {
       return ((bitField0_ & 0x00000002) != 0);
     }
     /**
-     * <code>string value = 2;</code>
+     * <code>bytes value = 2;</code>
      * @return The value.
      */
     @java.lang.Override
-    public java.lang.String getValue() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        value_ = s;
-        return s;
-      }
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
     }
+
+    public static final int REQUEST_ID_FIELD_NUMBER = 3;
+    private long requestId_;
     /**
-     * <code>string value = 2;</code>
-     * @return The bytes for value.
+     * <code>uint64 request_id = 3;</code>
+     * @return Whether the requestId field is set.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString
-        getValueBytes() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        value_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public boolean hasRequestId() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>uint64 request_id = 3;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -363,7 +481,10 @@ public final class KeyValueServiceMessages {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, value_);
+        output.writeBytes(2, value_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt64(3, requestId_);
       }
       unknownFields.writeTo(output);
     }
@@ -378,7 +499,12 @@ public final class KeyValueServiceMessages {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, value_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, value_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, requestId_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -405,6 +531,11 @@ public final class KeyValueServiceMessages {
         if (!getValue()
             .equals(other.getValue())) return false;
       }
+      if (hasRequestId() != other.hasRequestId()) return false;
+      if (hasRequestId()) {
+        if (getRequestId()
+            != other.getRequestId()) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -424,6 +555,11 @@ public final class KeyValueServiceMessages {
         hash = (37 * hash) + VALUE_FIELD_NUMBER;
         hash = (53 * hash) + getValue().hashCode();
       }
+      if (hasRequestId()) {
+        hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getRequestId());
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -559,8 +695,10 @@ public final class KeyValueServiceMessages {
         super.clear();
         key_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        value_ = "";
+        value_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000002);
+        requestId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -597,6 +735,10 @@ public final class KeyValueServiceMessages {
           to_bitField0_ |= 0x00000002;
         }
         result.value_ = value_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.requestId_ = requestId_;
+          to_bitField0_ |= 0x00000004;
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -652,9 +794,10 @@ public final class KeyValueServiceMessages {
           onChanged();
         }
         if (other.hasValue()) {
-          bitField0_ |= 0x00000002;
-          value_ = other.value_;
-          onChanged();
+          setValue(other.getValue());
+        }
+        if (other.hasRequestId()) {
+          setRequestId(other.getRequestId());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -769,54 +912,29 @@ public final class KeyValueServiceMessages {
         return this;
       }
 
-      private java.lang.Object value_ = "";
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        * @return Whether the value field is set.
        */
+      @java.lang.Override
       public boolean hasValue() {
         return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        * @return The value.
        */
-      public java.lang.String getValue() {
-        java.lang.Object ref = value_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          value_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string value = 2;</code>
-       * @return The bytes for value.
-       */
-      public com.google.protobuf.ByteString
-          getValueBytes() {
-        java.lang.Object ref = value_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          value_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      @java.lang.Override
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
       }
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        * @param value The value to set.
        * @return This builder for chaining.
        */
-      public Builder setValue(
-          java.lang.String value) {
+      public Builder setValue(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
@@ -826,7 +944,7 @@ public final class KeyValueServiceMessages {
         return this;
       }
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        * @return This builder for chaining.
        */
       public Builder clearValue() {
@@ -835,19 +953,42 @@ public final class KeyValueServiceMessages {
         onChanged();
         return this;
       }
+
+      private long requestId_ ;
+      /**
+       * <code>uint64 request_id = 3;</code>
+       * @return Whether the requestId field is set.
+       */
+      @java.lang.Override
+      public boolean hasRequestId() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>uint64 request_id = 3;</code>
+       * @return The requestId.
+       */
+      @java.lang.Override
+      public long getRequestId() {
+        return requestId_;
+      }
       /**
-       * <code>string value = 2;</code>
-       * @param value The bytes for value to set.
+       * <code>uint64 request_id = 3;</code>
+       * @param value The requestId to set.
        * @return This builder for chaining.
        */
-      public Builder setValueBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        bitField0_ |= 0x00000002;
-        value_ = value;
+      public Builder setRequestId(long value) {
+        bitField0_ |= 0x00000004;
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 request_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        requestId_ = 0L;
         onChanged();
         return this;
       }
@@ -1462,48 +1603,55 @@ public final class KeyValueServiceMessages {
 
   }
 
-  public interface GetRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protobuf.GetRequest)
+  public interface PutBatchRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.PutBatchRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string key = 1;</code>
-     * @return Whether the key field is set.
+     * <code>repeated .protobuf.PutRequest puts = 1;</code>
      */
-    boolean hasKey();
+    java.util.List<protobuf.generated.KeyValueServiceMessages.PutRequest> 
+        getPutsList();
     /**
-     * <code>string key = 1;</code>
-     * @return The key.
+     * <code>repeated .protobuf.PutRequest puts = 1;</code>
      */
-    java.lang.String getKey();
+    protobuf.generated.KeyValueServiceMessages.PutRequest getPuts(int index);
     /**
-     * <code>string key = 1;</code>
-     * @return The bytes for key.
+     * <code>repeated .protobuf.PutRequest puts = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getKeyBytes();
+    int getPutsCount();
+    /**
+     * <code>repeated .protobuf.PutRequest puts = 1;</code>
+     */
+    java.util.List<? extends protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder> 
+        getPutsOrBuilderList();
+    /**
+     * <code>repeated .protobuf.PutRequest puts = 1;</code>
+     */
+    protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder getPutsOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code protobuf.GetRequest}
+   * Protobuf type {@code protobuf.PutBatchRequest}
    */
-  public static final class GetRequest extends
+  public static final class PutBatchRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protobuf.GetRequest)
-      GetRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:protobuf.PutBatchRequest)
+      PutBatchRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetRequest.newBuilder() to construct.
-    private GetRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use PutBatchRequest.newBuilder() to construct.
+    private PutBatchRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetRequest() {
-      key_ = "";
+    private PutBatchRequest() {
+      puts_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetRequest();
+      return new PutBatchRequest();
     }
 
     @java.lang.Override
@@ -1511,7 +1659,7 @@ public final class KeyValueServiceMessages {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetRequest(
+    private PutBatchRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1531,9 +1679,12 @@ public final class KeyValueServiceMessages {
               done = true;
               break;
             case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-              bitField0_ |= 0x00000001;
-              key_ = s;
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                puts_ = new java.util.ArrayList<protobuf.generated.KeyValueServiceMessages.PutRequest>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              puts_.add(
+                  input.readMessage(protobuf.generated.KeyValueServiceMessages.PutRequest.parser(), extensionRegistry));
               break;
             }
             default: {
@@ -1551,68 +1702,64 @@ public final class KeyValueServiceMessages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          puts_ = java.util.Collections.unmodifiableList(puts_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetRequest_descriptor;
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_PutBatchRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetRequest_fieldAccessorTable
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_PutBatchRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              protobuf.generated.KeyValueServiceMessages.GetRequest.class, protobuf.generated.KeyValueServiceMessages.GetRequest.Builder.class);
+              protobuf.generated.KeyValueServiceMessages.PutBatchRequest.class, protobuf.generated.KeyValueServiceMessages.PutBatchRequest.Builder.class);
     }
 
-    private int bitField0_;
-    public static final int KEY_FIELD_NUMBER = 1;
-    private volatile java.lang.Object key_;
+    public static final int PUTS_FIELD_NUMBER = 1;
+    private java.util.List<protobuf.generated.KeyValueServiceMessages.PutRequest> puts_;
     /**
-     * <code>string key = 1;</code>
-     * @return Whether the key field is set.
+     * <code>repeated .protobuf.PutRequest puts = 1;</code>
      */
     @java.lang.Override
-    public boolean hasKey() {
-      return ((bitField0_ & 0x00000001) != 0);
+    public java.util.List<protobuf.generated.KeyValueServiceMessages.PutRequest> getPutsList() {
+      return puts_;
     }
     /**
-     * <code>string key = 1;</code>
-     * @return The key.
+     * <code>repeated .protobuf.PutRequest puts = 1;</code>
      */
     @java.lang.Override
-    public java.lang.String getKey() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        key_ = s;
-        return s;
-      }
+    public java.util.List<? extends protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder> 
+        getPutsOrBuilderList() {
+      return puts_;
     }
     /**
-     * <code>string key = 1;</code>
-     * @return The bytes for key.
+     * <code>repeated .protobuf.PutRequest puts = 1;</code>
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString
-        getKeyBytes() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        key_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getPutsCount() {
+      return puts_.size();
+    }
+    /**
+     * <code>repeated .protobuf.PutRequest puts = 1;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.PutRequest getPuts(int index) {
+      return puts_.get(index);
+    }
+    /**
+     * <code>repeated .protobuf.PutRequest puts = 1;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder getPutsOrBuilder(
+        int index) {
+      return puts_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -1629,8 +1776,8 @@ public final class KeyValueServiceMessages {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
+      for (int i = 0; i < puts_.size(); i++) {
+        output.writeMessage(1, puts_.get(i));
       }
       unknownFields.writeTo(output);
     }
@@ -1641,8 +1788,9 @@ public final class KeyValueServiceMessages {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
+      for (int i = 0; i < puts_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, puts_.get(i));
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -1654,16 +1802,13 @@ public final class KeyValueServiceMessages {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.GetRequest)) {
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.PutBatchRequest)) {
         return super.equals(obj);
       }
-      protobuf.generated.KeyValueServiceMessages.GetRequest other = (protobuf.generated.KeyValueServiceMessages.GetRequest) obj;
+      protobuf.generated.KeyValueServiceMessages.PutBatchRequest other = (protobuf.generated.KeyValueServiceMessages.PutBatchRequest) obj;
 
-      if (hasKey() != other.hasKey()) return false;
-      if (hasKey()) {
-        if (!getKey()
-            .equals(other.getKey())) return false;
-      }
+      if (!getPutsList()
+          .equals(other.getPutsList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -1675,78 +1820,78 @@ public final class KeyValueServiceMessages {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasKey()) {
-        hash = (37 * hash) + KEY_FIELD_NUMBER;
-        hash = (53 * hash) + getKey().hashCode();
+      if (getPutsCount() > 0) {
+        hash = (37 * hash) + PUTS_FIELD_NUMBER;
+        hash = (53 * hash) + getPutsList().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(byte[] data)
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(java.io.InputStream input)
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseDelimitedFrom(java.io.InputStream input)
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseDelimitedFrom(
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1759,7 +1904,7 @@ public final class KeyValueServiceMessages {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.GetRequest prototype) {
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.PutBatchRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -1775,26 +1920,26 @@ public final class KeyValueServiceMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code protobuf.GetRequest}
+     * Protobuf type {@code protobuf.PutBatchRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protobuf.GetRequest)
-        protobuf.generated.KeyValueServiceMessages.GetRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protobuf.PutBatchRequest)
+        protobuf.generated.KeyValueServiceMessages.PutBatchRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetRequest_descriptor;
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_PutBatchRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetRequest_fieldAccessorTable
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_PutBatchRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                protobuf.generated.KeyValueServiceMessages.GetRequest.class, protobuf.generated.KeyValueServiceMessages.GetRequest.Builder.class);
+                protobuf.generated.KeyValueServiceMessages.PutBatchRequest.class, protobuf.generated.KeyValueServiceMessages.PutBatchRequest.Builder.class);
       }
 
-      // Construct using protobuf.generated.KeyValueServiceMessages.GetRequest.newBuilder()
+      // Construct using protobuf.generated.KeyValueServiceMessages.PutBatchRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -1807,30 +1952,35 @@ public final class KeyValueServiceMessages {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getPutsFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        key_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
+        if (putsBuilder_ == null) {
+          puts_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          putsBuilder_.clear();
+        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetRequest_descriptor;
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_PutBatchRequest_descriptor;
       }
 
       @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.GetRequest getDefaultInstanceForType() {
-        return protobuf.generated.KeyValueServiceMessages.GetRequest.getDefaultInstance();
+      public protobuf.generated.KeyValueServiceMessages.PutBatchRequest getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.PutBatchRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.GetRequest build() {
-        protobuf.generated.KeyValueServiceMessages.GetRequest result = buildPartial();
+      public protobuf.generated.KeyValueServiceMessages.PutBatchRequest build() {
+        protobuf.generated.KeyValueServiceMessages.PutBatchRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -1838,15 +1988,18 @@ public final class KeyValueServiceMessages {
       }
 
       @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.GetRequest buildPartial() {
-        protobuf.generated.KeyValueServiceMessages.GetRequest result = new protobuf.generated.KeyValueServiceMessages.GetRequest(this);
+      public protobuf.generated.KeyValueServiceMessages.PutBatchRequest buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.PutBatchRequest result = new protobuf.generated.KeyValueServiceMessages.PutBatchRequest(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          to_bitField0_ |= 0x00000001;
+        if (putsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            puts_ = java.util.Collections.unmodifiableList(puts_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.puts_ = puts_;
+        } else {
+          result.puts_ = putsBuilder_.build();
         }
-        result.key_ = key_;
-        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -1885,20 +2038,41 @@ public final class KeyValueServiceMessages {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof protobuf.generated.KeyValueServiceMessages.GetRequest) {
-          return mergeFrom((protobuf.generated.KeyValueServiceMessages.GetRequest)other);
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.PutBatchRequest) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.PutBatchRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.GetRequest other) {
-        if (other == protobuf.generated.KeyValueServiceMessages.GetRequest.getDefaultInstance()) return this;
-        if (other.hasKey()) {
-          bitField0_ |= 0x00000001;
-          key_ = other.key_;
-          onChanged();
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.PutBatchRequest other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.PutBatchRequest.getDefaultInstance()) return this;
+        if (putsBuilder_ == null) {
+          if (!other.puts_.isEmpty()) {
+            if (puts_.isEmpty()) {
+              puts_ = other.puts_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePutsIsMutable();
+              puts_.addAll(other.puts_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.puts_.isEmpty()) {
+            if (putsBuilder_.isEmpty()) {
+              putsBuilder_.dispose();
+              putsBuilder_ = null;
+              puts_ = other.puts_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              putsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPutsFieldBuilder() : null;
+            } else {
+              putsBuilder_.addAllMessages(other.puts_);
+            }
+          }
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -1915,11 +2089,11 @@ public final class KeyValueServiceMessages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        protobuf.generated.KeyValueServiceMessages.GetRequest parsedMessage = null;
+        protobuf.generated.KeyValueServiceMessages.PutBatchRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (protobuf.generated.KeyValueServiceMessages.GetRequest) e.getUnfinishedMessage();
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.PutBatchRequest) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -1930,88 +2104,245 @@ public final class KeyValueServiceMessages {
       }
       private int bitField0_;
 
-      private java.lang.Object key_ = "";
+      private java.util.List<protobuf.generated.KeyValueServiceMessages.PutRequest> puts_ =
+        java.util.Collections.emptyList();
+      private void ensurePutsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          puts_ = new java.util.ArrayList<protobuf.generated.KeyValueServiceMessages.PutRequest>(puts_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.PutRequest, protobuf.generated.KeyValueServiceMessages.PutRequest.Builder, protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder> putsBuilder_;
+
       /**
-       * <code>string key = 1;</code>
-       * @return Whether the key field is set.
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
        */
-      public boolean hasKey() {
-        return ((bitField0_ & 0x00000001) != 0);
+      public java.util.List<protobuf.generated.KeyValueServiceMessages.PutRequest> getPutsList() {
+        if (putsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(puts_);
+        } else {
+          return putsBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>string key = 1;</code>
-       * @return The key.
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
        */
-      public java.lang.String getKey() {
-        java.lang.Object ref = key_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          key_ = s;
-          return s;
+      public int getPutsCount() {
+        if (putsBuilder_ == null) {
+          return puts_.size();
         } else {
-          return (java.lang.String) ref;
+          return putsBuilder_.getCount();
         }
       }
       /**
-       * <code>string key = 1;</code>
-       * @return The bytes for key.
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getKeyBytes() {
-        java.lang.Object ref = key_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          key_ = b;
-          return b;
+      public protobuf.generated.KeyValueServiceMessages.PutRequest getPuts(int index) {
+        if (putsBuilder_ == null) {
+          return puts_.get(index);
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return putsBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>string key = 1;</code>
-       * @param value The key to set.
-       * @return This builder for chaining.
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
        */
-      public Builder setKey(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        key_ = value;
-        onChanged();
+      public Builder setPuts(
+          int index, protobuf.generated.KeyValueServiceMessages.PutRequest value) {
+        if (putsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePutsIsMutable();
+          puts_.set(index, value);
+          onChanged();
+        } else {
+          putsBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>string key = 1;</code>
-       * @return This builder for chaining.
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
        */
-      public Builder clearKey() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        key_ = getDefaultInstance().getKey();
-        onChanged();
+      public Builder setPuts(
+          int index, protobuf.generated.KeyValueServiceMessages.PutRequest.Builder builderForValue) {
+        if (putsBuilder_ == null) {
+          ensurePutsIsMutable();
+          puts_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          putsBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>string key = 1;</code>
-       * @param value The bytes for key to set.
-       * @return This builder for chaining.
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
        */
-      public Builder setKeyBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        bitField0_ |= 0x00000001;
-        key_ = value;
-        onChanged();
+      public Builder addPuts(protobuf.generated.KeyValueServiceMessages.PutRequest value) {
+        if (putsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePutsIsMutable();
+          puts_.add(value);
+          onChanged();
+        } else {
+          putsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
+       */
+      public Builder addPuts(
+          int index, protobuf.generated.KeyValueServiceMessages.PutRequest value) {
+        if (putsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePutsIsMutable();
+          puts_.add(index, value);
+          onChanged();
+        } else {
+          putsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
+       */
+      public Builder addPuts(
+          protobuf.generated.KeyValueServiceMessages.PutRequest.Builder builderForValue) {
+        if (putsBuilder_ == null) {
+          ensurePutsIsMutable();
+          puts_.add(builderForValue.build());
+          onChanged();
+        } else {
+          putsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
+       */
+      public Builder addPuts(
+          int index, protobuf.generated.KeyValueServiceMessages.PutRequest.Builder builderForValue) {
+        if (putsBuilder_ == null) {
+          ensurePutsIsMutable();
+          puts_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          putsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
+       */
+      public Builder addAllPuts(
+          java.lang.Iterable<? extends protobuf.generated.KeyValueServiceMessages.PutRequest> values) {
+        if (putsBuilder_ == null) {
+          ensurePutsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, puts_);
+          onChanged();
+        } else {
+          putsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
+       */
+      public Builder clearPuts() {
+        if (putsBuilder_ == null) {
+          puts_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          putsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
+       */
+      public Builder removePuts(int index) {
+        if (putsBuilder_ == null) {
+          ensurePutsIsMutable();
+          puts_.remove(index);
+          onChanged();
+        } else {
+          putsBuilder_.remove(index);
+        }
         return this;
       }
+      /**
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.PutRequest.Builder getPutsBuilder(
+          int index) {
+        return getPutsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder getPutsOrBuilder(
+          int index) {
+        if (putsBuilder_ == null) {
+          return puts_.get(index);  } else {
+          return putsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
+       */
+      public java.util.List<? extends protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder> 
+           getPutsOrBuilderList() {
+        if (putsBuilder_ != null) {
+          return putsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(puts_);
+        }
+      }
+      /**
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.PutRequest.Builder addPutsBuilder() {
+        return getPutsFieldBuilder().addBuilder(
+            protobuf.generated.KeyValueServiceMessages.PutRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.PutRequest.Builder addPutsBuilder(
+          int index) {
+        return getPutsFieldBuilder().addBuilder(
+            index, protobuf.generated.KeyValueServiceMessages.PutRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protobuf.PutRequest puts = 1;</code>
+       */
+      public java.util.List<protobuf.generated.KeyValueServiceMessages.PutRequest.Builder> 
+           getPutsBuilderList() {
+        return getPutsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.PutRequest, protobuf.generated.KeyValueServiceMessages.PutRequest.Builder, protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder> 
+          getPutsFieldBuilder() {
+        if (putsBuilder_ == null) {
+          putsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              protobuf.generated.KeyValueServiceMessages.PutRequest, protobuf.generated.KeyValueServiceMessages.PutRequest.Builder, protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder>(
+                  puts_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          puts_ = null;
+        }
+        return putsBuilder_;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -2025,105 +2356,95 @@ public final class KeyValueServiceMessages {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protobuf.GetRequest)
+      // @@protoc_insertion_point(builder_scope:protobuf.PutBatchRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:protobuf.GetRequest)
-    private static final protobuf.generated.KeyValueServiceMessages.GetRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protobuf.PutBatchRequest)
+    private static final protobuf.generated.KeyValueServiceMessages.PutBatchRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.GetRequest();
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.PutBatchRequest();
     }
 
-    public static protobuf.generated.KeyValueServiceMessages.GetRequest getDefaultInstance() {
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetRequest>
-        PARSER = new com.google.protobuf.AbstractParser<GetRequest>() {
+    private static final com.google.protobuf.Parser<PutBatchRequest>
+        PARSER = new com.google.protobuf.AbstractParser<PutBatchRequest>() {
       @java.lang.Override
-      public GetRequest parsePartialFrom(
+      public PutBatchRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetRequest(input, extensionRegistry);
+        return new PutBatchRequest(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetRequest> parser() {
+    public static com.google.protobuf.Parser<PutBatchRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetRequest> getParserForType() {
+    public com.google.protobuf.Parser<PutBatchRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public protobuf.generated.KeyValueServiceMessages.GetRequest getDefaultInstanceForType() {
+    public protobuf.generated.KeyValueServiceMessages.PutBatchRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GetResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protobuf.GetResponse)
+  public interface PutBatchResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.PutBatchResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.protobuf.ErrorStatus error_status = 1;</code>
-     * @return Whether the errorStatus field is set.
-     */
-    boolean hasErrorStatus();
-    /**
-     * <code>.protobuf.ErrorStatus error_status = 1;</code>
-     * @return The enum numeric value on the wire for errorStatus.
+     * <code>repeated .protobuf.PutResponse responses = 1;</code>
      */
-    int getErrorStatusValue();
+    java.util.List<protobuf.generated.KeyValueServiceMessages.PutResponse> 
+        getResponsesList();
     /**
-     * <code>.protobuf.ErrorStatus error_status = 1;</code>
-     * @return The errorStatus.
+     * <code>repeated .protobuf.PutResponse responses = 1;</code>
      */
-    protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus();
-
+    protobuf.generated.KeyValueServiceMessages.PutResponse getResponses(int index);
     /**
-     * <code>string value = 2;</code>
-     * @return Whether the value field is set.
+     * <code>repeated .protobuf.PutResponse responses = 1;</code>
      */
-    boolean hasValue();
+    int getResponsesCount();
     /**
-     * <code>string value = 2;</code>
-     * @return The value.
+     * <code>repeated .protobuf.PutResponse responses = 1;</code>
      */
-    java.lang.String getValue();
+    java.util.List<? extends protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder> 
+        getResponsesOrBuilderList();
     /**
-     * <code>string value = 2;</code>
-     * @return The bytes for value.
+     * <code>repeated .protobuf.PutResponse responses = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getValueBytes();
+    protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder getResponsesOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code protobuf.GetResponse}
+   * Protobuf type {@code protobuf.PutBatchResponse}
    */
-  public static final class GetResponse extends
+  public static final class PutBatchResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protobuf.GetResponse)
-      GetResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:protobuf.PutBatchResponse)
+      PutBatchResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetResponse.newBuilder() to construct.
-    private GetResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use PutBatchResponse.newBuilder() to construct.
+    private PutBatchResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetResponse() {
-      errorStatus_ = 0;
-      value_ = "";
+    private PutBatchResponse() {
+      responses_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetResponse();
+      return new PutBatchResponse();
     }
 
     @java.lang.Override
@@ -2131,7 +2452,7 @@ public final class KeyValueServiceMessages {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetResponse(
+    private PutBatchResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2150,16 +2471,13 @@ public final class KeyValueServiceMessages {
             case 0:
               done = true;
               break;
-            case 8: {
-              int rawValue = input.readEnum();
-              bitField0_ |= 0x00000001;
-              errorStatus_ = rawValue;
-              break;
-            }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
-              bitField0_ |= 0x00000002;
-              value_ = s;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                responses_ = new java.util.ArrayList<protobuf.generated.KeyValueServiceMessages.PutResponse>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              responses_.add(
+                  input.readMessage(protobuf.generated.KeyValueServiceMessages.PutResponse.parser(), extensionRegistry));
               break;
             }
             default: {
@@ -2177,25 +2495,9802 @@ public final class KeyValueServiceMessages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          responses_ = java.util.Collections.unmodifiableList(responses_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetResponse_descriptor;
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_PutBatchResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetResponse_fieldAccessorTable
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_PutBatchResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              protobuf.generated.KeyValueServiceMessages.GetResponse.class, protobuf.generated.KeyValueServiceMessages.GetResponse.Builder.class);
+              protobuf.generated.KeyValueServiceMessages.PutBatchResponse.class, protobuf.generated.KeyValueServiceMessages.PutBatchResponse.Builder.class);
     }
 
-    private int bitField0_;
-    public static final int ERROR_STATUS_FIELD_NUMBER = 1;
+    public static final int RESPONSES_FIELD_NUMBER = 1;
+    private java.util.List<protobuf.generated.KeyValueServiceMessages.PutResponse> responses_;
+    /**
+     * <code>repeated .protobuf.PutResponse responses = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<protobuf.generated.KeyValueServiceMessages.PutResponse> getResponsesList() {
+      return responses_;
+    }
+    /**
+     * <code>repeated .protobuf.PutResponse responses = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder> 
+        getResponsesOrBuilderList() {
+      return responses_;
+    }
+    /**
+     * <code>repeated .protobuf.PutResponse responses = 1;</code>
+     */
+    @java.lang.Override
+    public int getResponsesCount() {
+      return responses_.size();
+    }
+    /**
+     * <code>repeated .protobuf.PutResponse responses = 1;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.PutResponse getResponses(int index) {
+      return responses_.get(index);
+    }
+    /**
+     * <code>repeated .protobuf.PutResponse responses = 1;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder getResponsesOrBuilder(
+        int index) {
+      return responses_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < responses_.size(); i++) {
+        output.writeMessage(1, responses_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < responses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, responses_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.PutBatchResponse)) {
+        return super.equals(obj);
+      }
+      protobuf.generated.KeyValueServiceMessages.PutBatchResponse other = (protobuf.generated.KeyValueServiceMessages.PutBatchResponse) obj;
+
+      if (!getResponsesList()
+          .equals(other.getResponsesList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getResponsesCount() > 0) {
+        hash = (37 * hash) + RESPONSES_FIELD_NUMBER;
+        hash = (53 * hash) + getResponsesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.PutBatchResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protobuf.PutBatchResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protobuf.PutBatchResponse)
+        protobuf.generated.KeyValueServiceMessages.PutBatchResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_PutBatchResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_PutBatchResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.generated.KeyValueServiceMessages.PutBatchResponse.class, protobuf.generated.KeyValueServiceMessages.PutBatchResponse.Builder.class);
+      }
+
+      // Construct using protobuf.generated.KeyValueServiceMessages.PutBatchResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getResponsesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          responsesBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_PutBatchResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.PutBatchResponse getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.PutBatchResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.PutBatchResponse build() {
+        protobuf.generated.KeyValueServiceMessages.PutBatchResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.PutBatchResponse buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.PutBatchResponse result = new protobuf.generated.KeyValueServiceMessages.PutBatchResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (responsesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            responses_ = java.util.Collections.unmodifiableList(responses_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.responses_ = responses_;
+        } else {
+          result.responses_ = responsesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.PutBatchResponse) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.PutBatchResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.PutBatchResponse other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.PutBatchResponse.getDefaultInstance()) return this;
+        if (responsesBuilder_ == null) {
+          if (!other.responses_.isEmpty()) {
+            if (responses_.isEmpty()) {
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureResponsesIsMutable();
+              responses_.addAll(other.responses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.responses_.isEmpty()) {
+            if (responsesBuilder_.isEmpty()) {
+              responsesBuilder_.dispose();
+              responsesBuilder_ = null;
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              responsesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResponsesFieldBuilder() : null;
+            } else {
+              responsesBuilder_.addAllMessages(other.responses_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        protobuf.generated.KeyValueServiceMessages.PutBatchResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.PutBatchResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<protobuf.generated.KeyValueServiceMessages.PutResponse> responses_ =
+        java.util.Collections.emptyList();
+      private void ensureResponsesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          responses_ = new java.util.ArrayList<protobuf.generated.KeyValueServiceMessages.PutResponse>(responses_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.PutResponse, protobuf.generated.KeyValueServiceMessages.PutResponse.Builder, protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder> responsesBuilder_;
+
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public java.util.List<protobuf.generated.KeyValueServiceMessages.PutResponse> getResponsesList() {
+        if (responsesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(responses_);
+        } else {
+          return responsesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public int getResponsesCount() {
+        if (responsesBuilder_ == null) {
+          return responses_.size();
+        } else {
+          return responsesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.PutResponse getResponses(int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);
+        } else {
+          return responsesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public Builder setResponses(
+          int index, protobuf.generated.KeyValueServiceMessages.PutResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.set(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public Builder setResponses(
+          int index, protobuf.generated.KeyValueServiceMessages.PutResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public Builder addResponses(protobuf.generated.KeyValueServiceMessages.PutResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public Builder addResponses(
+          int index, protobuf.generated.KeyValueServiceMessages.PutResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public Builder addResponses(
+          protobuf.generated.KeyValueServiceMessages.PutResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public Builder addResponses(
+          int index, protobuf.generated.KeyValueServiceMessages.PutResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public Builder addAllResponses(
+          java.lang.Iterable<? extends protobuf.generated.KeyValueServiceMessages.PutResponse> values) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, responses_);
+          onChanged();
+        } else {
+          responsesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public Builder clearResponses() {
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          responsesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public Builder removeResponses(int index) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.remove(index);
+          onChanged();
+        } else {
+          responsesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.PutResponse.Builder getResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder getResponsesOrBuilder(
+          int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);  } else {
+          return responsesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public java.util.List<? extends protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder> 
+           getResponsesOrBuilderList() {
+        if (responsesBuilder_ != null) {
+          return responsesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(responses_);
+        }
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.PutResponse.Builder addResponsesBuilder() {
+        return getResponsesFieldBuilder().addBuilder(
+            protobuf.generated.KeyValueServiceMessages.PutResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.PutResponse.Builder addResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().addBuilder(
+            index, protobuf.generated.KeyValueServiceMessages.PutResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protobuf.PutResponse responses = 1;</code>
+       */
+      public java.util.List<protobuf.generated.KeyValueServiceMessages.PutResponse.Builder> 
+           getResponsesBuilderList() {
+        return getResponsesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.PutResponse, protobuf.generated.KeyValueServiceMessages.PutResponse.Builder, protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder> 
+          getResponsesFieldBuilder() {
+        if (responsesBuilder_ == null) {
+          responsesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              protobuf.generated.KeyValueServiceMessages.PutResponse, protobuf.generated.KeyValueServiceMessages.PutResponse.Builder, protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder>(
+                  responses_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          responses_ = null;
+        }
+        return responsesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protobuf.PutBatchResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:protobuf.PutBatchResponse)
+    private static final protobuf.generated.KeyValueServiceMessages.PutBatchResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.PutBatchResponse();
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.PutBatchResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PutBatchResponse>
+        PARSER = new com.google.protobuf.AbstractParser<PutBatchResponse>() {
+      @java.lang.Override
+      public PutBatchResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PutBatchResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PutBatchResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PutBatchResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.PutBatchResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.GetRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    boolean hasKey();
+    /**
+     * <code>string key = 1;</code>
+     * @return The key.
+     */
+    java.lang.String getKey();
+    /**
+     * <code>string key = 1;</code>
+     * @return The bytes for key.
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    /**
+     * <code>uint64 if_version_match = 2;</code>
+     * @return Whether the ifVersionMatch field is set.
+     */
+    boolean hasIfVersionMatch();
+    /**
+     * <code>uint64 if_version_match = 2;</code>
+     * @return The ifVersionMatch.
+     */
+    long getIfVersionMatch();
+  }
+  /**
+   * Protobuf type {@code protobuf.GetRequest}
+   */
+  public static final class GetRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protobuf.GetRequest)
+      GetRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetRequest.newBuilder() to construct.
+    private GetRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetRequest() {
+      key_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              key_ = s;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              ifVersionMatch_ = input.readUInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.generated.KeyValueServiceMessages.GetRequest.class, protobuf.generated.KeyValueServiceMessages.GetRequest.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object key_;
+    /**
+     * <code>string key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    @java.lang.Override
+    public boolean hasKey() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>string key = 1;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        key_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string key = 1;</code>
+     * @return The bytes for key.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IF_VERSION_MATCH_FIELD_NUMBER = 2;
+    private long ifVersionMatch_;
+    /**
+     * <code>uint64 if_version_match = 2;</code>
+     * @return Whether the ifVersionMatch field is set.
+     */
+    @java.lang.Override
+    public boolean hasIfVersionMatch() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>uint64 if_version_match = 2;</code>
+     * @return The ifVersionMatch.
+     */
+    @java.lang.Override
+    public long getIfVersionMatch() {
+      return ifVersionMatch_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, ifVersionMatch_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, ifVersionMatch_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.GetRequest)) {
+        return super.equals(obj);
+      }
+      protobuf.generated.KeyValueServiceMessages.GetRequest other = (protobuf.generated.KeyValueServiceMessages.GetRequest) obj;
+
+      if (hasKey() != other.hasKey()) return false;
+      if (hasKey()) {
+        if (!getKey()
+            .equals(other.getKey())) return false;
+      }
+      if (hasIfVersionMatch() != other.hasIfVersionMatch()) return false;
+      if (hasIfVersionMatch()) {
+        if (getIfVersionMatch()
+            != other.getIfVersionMatch()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasKey()) {
+        hash = (37 * hash) + KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getKey().hashCode();
+      }
+      if (hasIfVersionMatch()) {
+        hash = (37 * hash) + IF_VERSION_MATCH_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getIfVersionMatch());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.GetRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protobuf.GetRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protobuf.GetRequest)
+        protobuf.generated.KeyValueServiceMessages.GetRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.generated.KeyValueServiceMessages.GetRequest.class, protobuf.generated.KeyValueServiceMessages.GetRequest.Builder.class);
+      }
+
+      // Construct using protobuf.generated.KeyValueServiceMessages.GetRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        key_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        ifVersionMatch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.GetRequest getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.GetRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.GetRequest build() {
+        protobuf.generated.KeyValueServiceMessages.GetRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.GetRequest buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.GetRequest result = new protobuf.generated.KeyValueServiceMessages.GetRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.key_ = key_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.ifVersionMatch_ = ifVersionMatch_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.GetRequest) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.GetRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.GetRequest other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.GetRequest.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          bitField0_ |= 0x00000001;
+          key_ = other.key_;
+          onChanged();
+        }
+        if (other.hasIfVersionMatch()) {
+          setIfVersionMatch(other.getIfVersionMatch());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        protobuf.generated.KeyValueServiceMessages.GetRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.GetRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object key_ = "";
+      /**
+       * <code>string key = 1;</code>
+       * @return Whether the key field is set.
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return The key.
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          key_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return The bytes for key.
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @param value The key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        key_ = getDefaultInstance().getKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @param value The bytes for key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long ifVersionMatch_ ;
+      /**
+       * <code>uint64 if_version_match = 2;</code>
+       * @return Whether the ifVersionMatch field is set.
+       */
+      @java.lang.Override
+      public boolean hasIfVersionMatch() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>uint64 if_version_match = 2;</code>
+       * @return The ifVersionMatch.
+       */
+      @java.lang.Override
+      public long getIfVersionMatch() {
+        return ifVersionMatch_;
+      }
+      /**
+       * <code>uint64 if_version_match = 2;</code>
+       * @param value The ifVersionMatch to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIfVersionMatch(long value) {
+        bitField0_ |= 0x00000002;
+        ifVersionMatch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 if_version_match = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIfVersionMatch() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        ifVersionMatch_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protobuf.GetRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:protobuf.GetRequest)
+    private static final protobuf.generated.KeyValueServiceMessages.GetRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.GetRequest();
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.GetRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetRequest>() {
+      @java.lang.Override
+      public GetRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.GetRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.GetResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return Whether the errorStatus field is set.
+     */
+    boolean hasErrorStatus();
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return The enum numeric value on the wire for errorStatus.
+     */
+    int getErrorStatusValue();
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return The errorStatus.
+     */
+    protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus();
+
+    /**
+     * <code>bytes value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    boolean hasValue();
+    /**
+     * <code>bytes value = 2;</code>
+     * @return The value.
+     */
+    com.google.protobuf.ByteString getValue();
+
+    /**
+     * <code>uint64 version = 3;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>uint64 version = 3;</code>
+     * @return The version.
+     */
+    long getVersion();
+
+    /**
+     * <code>bool not_modified = 4;</code>
+     * @return Whether the notModified field is set.
+     */
+    boolean hasNotModified();
+    /**
+     * <code>bool not_modified = 4;</code>
+     * @return The notModified.
+     */
+    boolean getNotModified();
+  }
+  /**
+   * Protobuf type {@code protobuf.GetResponse}
+   */
+  public static final class GetResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protobuf.GetResponse)
+      GetResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetResponse.newBuilder() to construct.
+    private GetResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetResponse() {
+      errorStatus_ = 0;
+      value_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+              bitField0_ |= 0x00000001;
+              errorStatus_ = rawValue;
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              value_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              version_ = input.readUInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              notModified_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.generated.KeyValueServiceMessages.GetResponse.class, protobuf.generated.KeyValueServiceMessages.GetResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ERROR_STATUS_FIELD_NUMBER = 1;
+    private int errorStatus_;
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return Whether the errorStatus field is set.
+     */
+    @java.lang.Override public boolean hasErrorStatus() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return The enum numeric value on the wire for errorStatus.
+     */
+    @java.lang.Override public int getErrorStatusValue() {
+      return errorStatus_;
+    }
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return The errorStatus.
+     */
+    @java.lang.Override public protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus() {
+      @SuppressWarnings("deprecation")
+      protobuf.generated.KeyValueServiceMessages.ErrorStatus result = protobuf.generated.KeyValueServiceMessages.ErrorStatus.valueOf(errorStatus_);
+      return result == null ? protobuf.generated.KeyValueServiceMessages.ErrorStatus.UNRECOGNIZED : result;
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString value_;
+    /**
+     * <code>bytes value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    @java.lang.Override
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>bytes value = 2;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 3;
+    private long version_;
+    /**
+     * <code>uint64 version = 3;</code>
+     * @return Whether the version field is set.
+     */
+    @java.lang.Override
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>uint64 version = 3;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public long getVersion() {
+      return version_;
+    }
+
+    public static final int NOT_MODIFIED_FIELD_NUMBER = 4;
+    private boolean notModified_;
+    /**
+     * <code>bool not_modified = 4;</code>
+     * @return Whether the notModified field is set.
+     */
+    @java.lang.Override
+    public boolean hasNotModified() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>bool not_modified = 4;</code>
+     * @return The notModified.
+     */
+    @java.lang.Override
+    public boolean getNotModified() {
+      return notModified_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeEnum(1, errorStatus_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBytes(2, value_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt64(3, version_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeBool(4, notModified_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, errorStatus_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, value_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, version_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, notModified_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.GetResponse)) {
+        return super.equals(obj);
+      }
+      protobuf.generated.KeyValueServiceMessages.GetResponse other = (protobuf.generated.KeyValueServiceMessages.GetResponse) obj;
+
+      if (hasErrorStatus() != other.hasErrorStatus()) return false;
+      if (hasErrorStatus()) {
+        if (errorStatus_ != other.errorStatus_) return false;
+      }
+      if (hasValue() != other.hasValue()) return false;
+      if (hasValue()) {
+        if (!getValue()
+            .equals(other.getValue())) return false;
+      }
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (getVersion()
+            != other.getVersion()) return false;
+      }
+      if (hasNotModified() != other.hasNotModified()) return false;
+      if (hasNotModified()) {
+        if (getNotModified()
+            != other.getNotModified()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasErrorStatus()) {
+        hash = (37 * hash) + ERROR_STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + errorStatus_;
+      }
+      if (hasValue()) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+      }
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getVersion());
+      }
+      if (hasNotModified()) {
+        hash = (37 * hash) + NOT_MODIFIED_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getNotModified());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.GetResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protobuf.GetResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protobuf.GetResponse)
+        protobuf.generated.KeyValueServiceMessages.GetResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.generated.KeyValueServiceMessages.GetResponse.class, protobuf.generated.KeyValueServiceMessages.GetResponse.Builder.class);
+      }
+
+      // Construct using protobuf.generated.KeyValueServiceMessages.GetResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        errorStatus_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        value_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        version_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        notModified_ = false;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.GetResponse getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.GetResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.GetResponse build() {
+        protobuf.generated.KeyValueServiceMessages.GetResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.GetResponse buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.GetResponse result = new protobuf.generated.KeyValueServiceMessages.GetResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.errorStatus_ = errorStatus_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.value_ = value_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.notModified_ = notModified_;
+          to_bitField0_ |= 0x00000008;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.GetResponse) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.GetResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.GetResponse other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.GetResponse.getDefaultInstance()) return this;
+        if (other.hasErrorStatus()) {
+          setErrorStatus(other.getErrorStatus());
+        }
+        if (other.hasValue()) {
+          setValue(other.getValue());
+        }
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        if (other.hasNotModified()) {
+          setNotModified(other.getNotModified());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        protobuf.generated.KeyValueServiceMessages.GetResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.GetResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int errorStatus_ = 0;
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 1;</code>
+       * @return Whether the errorStatus field is set.
+       */
+      @java.lang.Override public boolean hasErrorStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 1;</code>
+       * @return The enum numeric value on the wire for errorStatus.
+       */
+      @java.lang.Override public int getErrorStatusValue() {
+        return errorStatus_;
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 1;</code>
+       * @param value The enum numeric value on the wire for errorStatus to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorStatusValue(int value) {
+        bitField0_ |= 0x00000001;
+        errorStatus_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 1;</code>
+       * @return The errorStatus.
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus() {
+        @SuppressWarnings("deprecation")
+        protobuf.generated.KeyValueServiceMessages.ErrorStatus result = protobuf.generated.KeyValueServiceMessages.ErrorStatus.valueOf(errorStatus_);
+        return result == null ? protobuf.generated.KeyValueServiceMessages.ErrorStatus.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 1;</code>
+       * @param value The errorStatus to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorStatus(protobuf.generated.KeyValueServiceMessages.ErrorStatus value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        errorStatus_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrorStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        errorStatus_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes value = 2;</code>
+       * @return Whether the value field is set.
+       */
+      @java.lang.Override
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       * @return The value.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       * @param value The value to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValue(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+
+      private long version_ ;
+      /**
+       * <code>uint64 version = 3;</code>
+       * @return Whether the version field is set.
+       */
+      @java.lang.Override
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>uint64 version = 3;</code>
+       * @return The version.
+       */
+      @java.lang.Override
+      public long getVersion() {
+        return version_;
+      }
+      /**
+       * <code>uint64 version = 3;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(long value) {
+        bitField0_ |= 0x00000004;
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 version = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        version_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean notModified_ ;
+      /**
+       * <code>bool not_modified = 4;</code>
+       * @return Whether the notModified field is set.
+       */
+      @java.lang.Override
+      public boolean hasNotModified() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>bool not_modified = 4;</code>
+       * @return The notModified.
+       */
+      @java.lang.Override
+      public boolean getNotModified() {
+        return notModified_;
+      }
+      /**
+       * <code>bool not_modified = 4;</code>
+       * @param value The notModified to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNotModified(boolean value) {
+        bitField0_ |= 0x00000008;
+        notModified_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool not_modified = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNotModified() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        notModified_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protobuf.GetResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:protobuf.GetResponse)
+    private static final protobuf.generated.KeyValueServiceMessages.GetResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.GetResponse();
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.GetResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetResponse>
+        PARSER = new com.google.protobuf.AbstractParser<GetResponse>() {
+      @java.lang.Override
+      public GetResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.GetResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.DeleteRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    boolean hasKey();
+    /**
+     * <code>string key = 1;</code>
+     * @return The key.
+     */
+    java.lang.String getKey();
+    /**
+     * <code>string key = 1;</code>
+     * @return The bytes for key.
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    /**
+     * <code>uint64 request_id = 2;</code>
+     * @return Whether the requestId field is set.
+     */
+    boolean hasRequestId();
+    /**
+     * <code>uint64 request_id = 2;</code>
+     * @return The requestId.
+     */
+    long getRequestId();
+  }
+  /**
+   * Protobuf type {@code protobuf.DeleteRequest}
+   */
+  public static final class DeleteRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protobuf.DeleteRequest)
+      DeleteRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeleteRequest.newBuilder() to construct.
+    private DeleteRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteRequest() {
+      key_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeleteRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DeleteRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              key_ = s;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              requestId_ = input.readUInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.generated.KeyValueServiceMessages.DeleteRequest.class, protobuf.generated.KeyValueServiceMessages.DeleteRequest.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object key_;
+    /**
+     * <code>string key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    @java.lang.Override
+    public boolean hasKey() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>string key = 1;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        key_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string key = 1;</code>
+     * @return The bytes for key.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REQUEST_ID_FIELD_NUMBER = 2;
+    private long requestId_;
+    /**
+     * <code>uint64 request_id = 2;</code>
+     * @return Whether the requestId field is set.
+     */
+    @java.lang.Override
+    public boolean hasRequestId() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>uint64 request_id = 2;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, requestId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, requestId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.DeleteRequest)) {
+        return super.equals(obj);
+      }
+      protobuf.generated.KeyValueServiceMessages.DeleteRequest other = (protobuf.generated.KeyValueServiceMessages.DeleteRequest) obj;
+
+      if (hasKey() != other.hasKey()) return false;
+      if (hasKey()) {
+        if (!getKey()
+            .equals(other.getKey())) return false;
+      }
+      if (hasRequestId() != other.hasRequestId()) return false;
+      if (hasRequestId()) {
+        if (getRequestId()
+            != other.getRequestId()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasKey()) {
+        hash = (37 * hash) + KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getKey().hashCode();
+      }
+      if (hasRequestId()) {
+        hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getRequestId());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.DeleteRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protobuf.DeleteRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protobuf.DeleteRequest)
+        protobuf.generated.KeyValueServiceMessages.DeleteRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.generated.KeyValueServiceMessages.DeleteRequest.class, protobuf.generated.KeyValueServiceMessages.DeleteRequest.Builder.class);
+      }
+
+      // Construct using protobuf.generated.KeyValueServiceMessages.DeleteRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        key_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        requestId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.DeleteRequest getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.DeleteRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.DeleteRequest build() {
+        protobuf.generated.KeyValueServiceMessages.DeleteRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.DeleteRequest buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.DeleteRequest result = new protobuf.generated.KeyValueServiceMessages.DeleteRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.key_ = key_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.requestId_ = requestId_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.DeleteRequest) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.DeleteRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.DeleteRequest other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.DeleteRequest.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          bitField0_ |= 0x00000001;
+          key_ = other.key_;
+          onChanged();
+        }
+        if (other.hasRequestId()) {
+          setRequestId(other.getRequestId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        protobuf.generated.KeyValueServiceMessages.DeleteRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.DeleteRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object key_ = "";
+      /**
+       * <code>string key = 1;</code>
+       * @return Whether the key field is set.
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return The key.
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          key_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return The bytes for key.
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @param value The key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        key_ = getDefaultInstance().getKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @param value The bytes for key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long requestId_ ;
+      /**
+       * <code>uint64 request_id = 2;</code>
+       * @return Whether the requestId field is set.
+       */
+      @java.lang.Override
+      public boolean hasRequestId() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>uint64 request_id = 2;</code>
+       * @return The requestId.
+       */
+      @java.lang.Override
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <code>uint64 request_id = 2;</code>
+       * @param value The requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestId(long value) {
+        bitField0_ |= 0x00000002;
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 request_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protobuf.DeleteRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:protobuf.DeleteRequest)
+    private static final protobuf.generated.KeyValueServiceMessages.DeleteRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.DeleteRequest();
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeleteRequest>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteRequest>() {
+      @java.lang.Override
+      public DeleteRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DeleteRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.DeleteRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.DeleteResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return Whether the errorStatus field is set.
+     */
+    boolean hasErrorStatus();
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return The enum numeric value on the wire for errorStatus.
+     */
+    int getErrorStatusValue();
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return The errorStatus.
+     */
+    protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus();
+
+    /**
+     * <code>bool deleted = 2;</code>
+     * @return Whether the deleted field is set.
+     */
+    boolean hasDeleted();
+    /**
+     * <code>bool deleted = 2;</code>
+     * @return The deleted.
+     */
+    boolean getDeleted();
+  }
+  /**
+   * Protobuf type {@code protobuf.DeleteResponse}
+   */
+  public static final class DeleteResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protobuf.DeleteResponse)
+      DeleteResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeleteResponse.newBuilder() to construct.
+    private DeleteResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteResponse() {
+      errorStatus_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeleteResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DeleteResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+              bitField0_ |= 0x00000001;
+              errorStatus_ = rawValue;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              deleted_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.generated.KeyValueServiceMessages.DeleteResponse.class, protobuf.generated.KeyValueServiceMessages.DeleteResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ERROR_STATUS_FIELD_NUMBER = 1;
+    private int errorStatus_;
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return Whether the errorStatus field is set.
+     */
+    @java.lang.Override public boolean hasErrorStatus() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return The enum numeric value on the wire for errorStatus.
+     */
+    @java.lang.Override public int getErrorStatusValue() {
+      return errorStatus_;
+    }
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return The errorStatus.
+     */
+    @java.lang.Override public protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus() {
+      @SuppressWarnings("deprecation")
+      protobuf.generated.KeyValueServiceMessages.ErrorStatus result = protobuf.generated.KeyValueServiceMessages.ErrorStatus.valueOf(errorStatus_);
+      return result == null ? protobuf.generated.KeyValueServiceMessages.ErrorStatus.UNRECOGNIZED : result;
+    }
+
+    public static final int DELETED_FIELD_NUMBER = 2;
+    private boolean deleted_;
+    /**
+     * <code>bool deleted = 2;</code>
+     * @return Whether the deleted field is set.
+     */
+    @java.lang.Override
+    public boolean hasDeleted() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>bool deleted = 2;</code>
+     * @return The deleted.
+     */
+    @java.lang.Override
+    public boolean getDeleted() {
+      return deleted_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeEnum(1, errorStatus_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBool(2, deleted_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, errorStatus_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, deleted_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.DeleteResponse)) {
+        return super.equals(obj);
+      }
+      protobuf.generated.KeyValueServiceMessages.DeleteResponse other = (protobuf.generated.KeyValueServiceMessages.DeleteResponse) obj;
+
+      if (hasErrorStatus() != other.hasErrorStatus()) return false;
+      if (hasErrorStatus()) {
+        if (errorStatus_ != other.errorStatus_) return false;
+      }
+      if (hasDeleted() != other.hasDeleted()) return false;
+      if (hasDeleted()) {
+        if (getDeleted()
+            != other.getDeleted()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasErrorStatus()) {
+        hash = (37 * hash) + ERROR_STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + errorStatus_;
+      }
+      if (hasDeleted()) {
+        hash = (37 * hash) + DELETED_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getDeleted());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.DeleteResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protobuf.DeleteResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protobuf.DeleteResponse)
+        protobuf.generated.KeyValueServiceMessages.DeleteResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.generated.KeyValueServiceMessages.DeleteResponse.class, protobuf.generated.KeyValueServiceMessages.DeleteResponse.Builder.class);
+      }
+
+      // Construct using protobuf.generated.KeyValueServiceMessages.DeleteResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        errorStatus_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        deleted_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.DeleteResponse getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.DeleteResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.DeleteResponse build() {
+        protobuf.generated.KeyValueServiceMessages.DeleteResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.DeleteResponse buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.DeleteResponse result = new protobuf.generated.KeyValueServiceMessages.DeleteResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.errorStatus_ = errorStatus_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.deleted_ = deleted_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.DeleteResponse) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.DeleteResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.DeleteResponse other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.DeleteResponse.getDefaultInstance()) return this;
+        if (other.hasErrorStatus()) {
+          setErrorStatus(other.getErrorStatus());
+        }
+        if (other.hasDeleted()) {
+          setDeleted(other.getDeleted());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        protobuf.generated.KeyValueServiceMessages.DeleteResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.DeleteResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int errorStatus_ = 0;
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 1;</code>
+       * @return Whether the errorStatus field is set.
+       */
+      @java.lang.Override public boolean hasErrorStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 1;</code>
+       * @return The enum numeric value on the wire for errorStatus.
+       */
+      @java.lang.Override public int getErrorStatusValue() {
+        return errorStatus_;
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 1;</code>
+       * @param value The enum numeric value on the wire for errorStatus to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorStatusValue(int value) {
+        bitField0_ |= 0x00000001;
+        errorStatus_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 1;</code>
+       * @return The errorStatus.
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus() {
+        @SuppressWarnings("deprecation")
+        protobuf.generated.KeyValueServiceMessages.ErrorStatus result = protobuf.generated.KeyValueServiceMessages.ErrorStatus.valueOf(errorStatus_);
+        return result == null ? protobuf.generated.KeyValueServiceMessages.ErrorStatus.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 1;</code>
+       * @param value The errorStatus to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorStatus(protobuf.generated.KeyValueServiceMessages.ErrorStatus value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        errorStatus_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrorStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        errorStatus_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean deleted_ ;
+      /**
+       * <code>bool deleted = 2;</code>
+       * @return Whether the deleted field is set.
+       */
+      @java.lang.Override
+      public boolean hasDeleted() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>bool deleted = 2;</code>
+       * @return The deleted.
+       */
+      @java.lang.Override
+      public boolean getDeleted() {
+        return deleted_;
+      }
+      /**
+       * <code>bool deleted = 2;</code>
+       * @param value The deleted to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDeleted(boolean value) {
+        bitField0_ |= 0x00000002;
+        deleted_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool deleted = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDeleted() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        deleted_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protobuf.DeleteResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:protobuf.DeleteResponse)
+    private static final protobuf.generated.KeyValueServiceMessages.DeleteResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.DeleteResponse();
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeleteResponse>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteResponse>() {
+      @java.lang.Override
+      public DeleteResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DeleteResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.DeleteResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SessionRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.SessionRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint64 tag = 1;</code>
+     * @return Whether the tag field is set.
+     */
+    boolean hasTag();
+    /**
+     * <code>uint64 tag = 1;</code>
+     * @return The tag.
+     */
+    long getTag();
+
+    /**
+     * <code>.protobuf.PutRequest put = 2;</code>
+     * @return Whether the put field is set.
+     */
+    boolean hasPut();
+    /**
+     * <code>.protobuf.PutRequest put = 2;</code>
+     * @return The put.
+     */
+    protobuf.generated.KeyValueServiceMessages.PutRequest getPut();
+    /**
+     * <code>.protobuf.PutRequest put = 2;</code>
+     */
+    protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder getPutOrBuilder();
+
+    /**
+     * <code>.protobuf.GetRequest get = 3;</code>
+     * @return Whether the get field is set.
+     */
+    boolean hasGet();
+    /**
+     * <code>.protobuf.GetRequest get = 3;</code>
+     * @return The get.
+     */
+    protobuf.generated.KeyValueServiceMessages.GetRequest getGet();
+    /**
+     * <code>.protobuf.GetRequest get = 3;</code>
+     */
+    protobuf.generated.KeyValueServiceMessages.GetRequestOrBuilder getGetOrBuilder();
+
+    /**
+     * <code>.protobuf.DeleteRequest delete = 4;</code>
+     * @return Whether the delete field is set.
+     */
+    boolean hasDelete();
+    /**
+     * <code>.protobuf.DeleteRequest delete = 4;</code>
+     * @return The delete.
+     */
+    protobuf.generated.KeyValueServiceMessages.DeleteRequest getDelete();
+    /**
+     * <code>.protobuf.DeleteRequest delete = 4;</code>
+     */
+    protobuf.generated.KeyValueServiceMessages.DeleteRequestOrBuilder getDeleteOrBuilder();
+
+    public protobuf.generated.KeyValueServiceMessages.SessionRequest.CommandCase getCommandCase();
+  }
+  /**
+   * Protobuf type {@code protobuf.SessionRequest}
+   */
+  public static final class SessionRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protobuf.SessionRequest)
+      SessionRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SessionRequest.newBuilder() to construct.
+    private SessionRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SessionRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SessionRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SessionRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              tag_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              protobuf.generated.KeyValueServiceMessages.PutRequest.Builder subBuilder = null;
+              if (commandCase_ == 2) {
+                subBuilder = ((protobuf.generated.KeyValueServiceMessages.PutRequest) command_).toBuilder();
+              }
+              command_ =
+                  input.readMessage(protobuf.generated.KeyValueServiceMessages.PutRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((protobuf.generated.KeyValueServiceMessages.PutRequest) command_);
+                command_ = subBuilder.buildPartial();
+              }
+              commandCase_ = 2;
+              break;
+            }
+            case 26: {
+              protobuf.generated.KeyValueServiceMessages.GetRequest.Builder subBuilder = null;
+              if (commandCase_ == 3) {
+                subBuilder = ((protobuf.generated.KeyValueServiceMessages.GetRequest) command_).toBuilder();
+              }
+              command_ =
+                  input.readMessage(protobuf.generated.KeyValueServiceMessages.GetRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((protobuf.generated.KeyValueServiceMessages.GetRequest) command_);
+                command_ = subBuilder.buildPartial();
+              }
+              commandCase_ = 3;
+              break;
+            }
+            case 34: {
+              protobuf.generated.KeyValueServiceMessages.DeleteRequest.Builder subBuilder = null;
+              if (commandCase_ == 4) {
+                subBuilder = ((protobuf.generated.KeyValueServiceMessages.DeleteRequest) command_).toBuilder();
+              }
+              command_ =
+                  input.readMessage(protobuf.generated.KeyValueServiceMessages.DeleteRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((protobuf.generated.KeyValueServiceMessages.DeleteRequest) command_);
+                command_ = subBuilder.buildPartial();
+              }
+              commandCase_ = 4;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_SessionRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_SessionRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.generated.KeyValueServiceMessages.SessionRequest.class, protobuf.generated.KeyValueServiceMessages.SessionRequest.Builder.class);
+    }
+
+    private int bitField0_;
+    private int commandCase_ = 0;
+    private java.lang.Object command_;
+    public enum CommandCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      PUT(2),
+      GET(3),
+      DELETE(4),
+      COMMAND_NOT_SET(0);
+      private final int value;
+      private CommandCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static CommandCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static CommandCase forNumber(int value) {
+        switch (value) {
+          case 2: return PUT;
+          case 3: return GET;
+          case 4: return DELETE;
+          case 0: return COMMAND_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public CommandCase
+    getCommandCase() {
+      return CommandCase.forNumber(
+          commandCase_);
+    }
+
+    public static final int TAG_FIELD_NUMBER = 1;
+    private long tag_;
+    /**
+     * <code>uint64 tag = 1;</code>
+     * @return Whether the tag field is set.
+     */
+    @java.lang.Override
+    public boolean hasTag() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>uint64 tag = 1;</code>
+     * @return The tag.
+     */
+    @java.lang.Override
+    public long getTag() {
+      return tag_;
+    }
+
+    public static final int PUT_FIELD_NUMBER = 2;
+    /**
+     * <code>.protobuf.PutRequest put = 2;</code>
+     * @return Whether the put field is set.
+     */
+    @java.lang.Override
+    public boolean hasPut() {
+      return commandCase_ == 2;
+    }
+    /**
+     * <code>.protobuf.PutRequest put = 2;</code>
+     * @return The put.
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.PutRequest getPut() {
+      if (commandCase_ == 2) {
+         return (protobuf.generated.KeyValueServiceMessages.PutRequest) command_;
+      }
+      return protobuf.generated.KeyValueServiceMessages.PutRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.protobuf.PutRequest put = 2;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder getPutOrBuilder() {
+      if (commandCase_ == 2) {
+         return (protobuf.generated.KeyValueServiceMessages.PutRequest) command_;
+      }
+      return protobuf.generated.KeyValueServiceMessages.PutRequest.getDefaultInstance();
+    }
+
+    public static final int GET_FIELD_NUMBER = 3;
+    /**
+     * <code>.protobuf.GetRequest get = 3;</code>
+     * @return Whether the get field is set.
+     */
+    @java.lang.Override
+    public boolean hasGet() {
+      return commandCase_ == 3;
+    }
+    /**
+     * <code>.protobuf.GetRequest get = 3;</code>
+     * @return The get.
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.GetRequest getGet() {
+      if (commandCase_ == 3) {
+         return (protobuf.generated.KeyValueServiceMessages.GetRequest) command_;
+      }
+      return protobuf.generated.KeyValueServiceMessages.GetRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.protobuf.GetRequest get = 3;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.GetRequestOrBuilder getGetOrBuilder() {
+      if (commandCase_ == 3) {
+         return (protobuf.generated.KeyValueServiceMessages.GetRequest) command_;
+      }
+      return protobuf.generated.KeyValueServiceMessages.GetRequest.getDefaultInstance();
+    }
+
+    public static final int DELETE_FIELD_NUMBER = 4;
+    /**
+     * <code>.protobuf.DeleteRequest delete = 4;</code>
+     * @return Whether the delete field is set.
+     */
+    @java.lang.Override
+    public boolean hasDelete() {
+      return commandCase_ == 4;
+    }
+    /**
+     * <code>.protobuf.DeleteRequest delete = 4;</code>
+     * @return The delete.
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.DeleteRequest getDelete() {
+      if (commandCase_ == 4) {
+         return (protobuf.generated.KeyValueServiceMessages.DeleteRequest) command_;
+      }
+      return protobuf.generated.KeyValueServiceMessages.DeleteRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.protobuf.DeleteRequest delete = 4;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.DeleteRequestOrBuilder getDeleteOrBuilder() {
+      if (commandCase_ == 4) {
+         return (protobuf.generated.KeyValueServiceMessages.DeleteRequest) command_;
+      }
+      return protobuf.generated.KeyValueServiceMessages.DeleteRequest.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt64(1, tag_);
+      }
+      if (commandCase_ == 2) {
+        output.writeMessage(2, (protobuf.generated.KeyValueServiceMessages.PutRequest) command_);
+      }
+      if (commandCase_ == 3) {
+        output.writeMessage(3, (protobuf.generated.KeyValueServiceMessages.GetRequest) command_);
+      }
+      if (commandCase_ == 4) {
+        output.writeMessage(4, (protobuf.generated.KeyValueServiceMessages.DeleteRequest) command_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, tag_);
+      }
+      if (commandCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (protobuf.generated.KeyValueServiceMessages.PutRequest) command_);
+      }
+      if (commandCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (protobuf.generated.KeyValueServiceMessages.GetRequest) command_);
+      }
+      if (commandCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, (protobuf.generated.KeyValueServiceMessages.DeleteRequest) command_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.SessionRequest)) {
+        return super.equals(obj);
+      }
+      protobuf.generated.KeyValueServiceMessages.SessionRequest other = (protobuf.generated.KeyValueServiceMessages.SessionRequest) obj;
+
+      if (hasTag() != other.hasTag()) return false;
+      if (hasTag()) {
+        if (getTag()
+            != other.getTag()) return false;
+      }
+      if (!getCommandCase().equals(other.getCommandCase())) return false;
+      switch (commandCase_) {
+        case 2:
+          if (!getPut()
+              .equals(other.getPut())) return false;
+          break;
+        case 3:
+          if (!getGet()
+              .equals(other.getGet())) return false;
+          break;
+        case 4:
+          if (!getDelete()
+              .equals(other.getDelete())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasTag()) {
+        hash = (37 * hash) + TAG_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTag());
+      }
+      switch (commandCase_) {
+        case 2:
+          hash = (37 * hash) + PUT_FIELD_NUMBER;
+          hash = (53 * hash) + getPut().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + GET_FIELD_NUMBER;
+          hash = (53 * hash) + getGet().hashCode();
+          break;
+        case 4:
+          hash = (37 * hash) + DELETE_FIELD_NUMBER;
+          hash = (53 * hash) + getDelete().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.SessionRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protobuf.SessionRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protobuf.SessionRequest)
+        protobuf.generated.KeyValueServiceMessages.SessionRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_SessionRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_SessionRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.generated.KeyValueServiceMessages.SessionRequest.class, protobuf.generated.KeyValueServiceMessages.SessionRequest.Builder.class);
+      }
+
+      // Construct using protobuf.generated.KeyValueServiceMessages.SessionRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        tag_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        commandCase_ = 0;
+        command_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_SessionRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.SessionRequest getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.SessionRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.SessionRequest build() {
+        protobuf.generated.KeyValueServiceMessages.SessionRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.SessionRequest buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.SessionRequest result = new protobuf.generated.KeyValueServiceMessages.SessionRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.tag_ = tag_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (commandCase_ == 2) {
+          if (putBuilder_ == null) {
+            result.command_ = command_;
+          } else {
+            result.command_ = putBuilder_.build();
+          }
+        }
+        if (commandCase_ == 3) {
+          if (getBuilder_ == null) {
+            result.command_ = command_;
+          } else {
+            result.command_ = getBuilder_.build();
+          }
+        }
+        if (commandCase_ == 4) {
+          if (deleteBuilder_ == null) {
+            result.command_ = command_;
+          } else {
+            result.command_ = deleteBuilder_.build();
+          }
+        }
+        result.bitField0_ = to_bitField0_;
+        result.commandCase_ = commandCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.SessionRequest) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.SessionRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.SessionRequest other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.SessionRequest.getDefaultInstance()) return this;
+        if (other.hasTag()) {
+          setTag(other.getTag());
+        }
+        switch (other.getCommandCase()) {
+          case PUT: {
+            mergePut(other.getPut());
+            break;
+          }
+          case GET: {
+            mergeGet(other.getGet());
+            break;
+          }
+          case DELETE: {
+            mergeDelete(other.getDelete());
+            break;
+          }
+          case COMMAND_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        protobuf.generated.KeyValueServiceMessages.SessionRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.SessionRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int commandCase_ = 0;
+      private java.lang.Object command_;
+      public CommandCase
+          getCommandCase() {
+        return CommandCase.forNumber(
+            commandCase_);
+      }
+
+      public Builder clearCommand() {
+        commandCase_ = 0;
+        command_ = null;
+        onChanged();
+        return this;
+      }
+
+      private int bitField0_;
+
+      private long tag_ ;
+      /**
+       * <code>uint64 tag = 1;</code>
+       * @return Whether the tag field is set.
+       */
+      @java.lang.Override
+      public boolean hasTag() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>uint64 tag = 1;</code>
+       * @return The tag.
+       */
+      @java.lang.Override
+      public long getTag() {
+        return tag_;
+      }
+      /**
+       * <code>uint64 tag = 1;</code>
+       * @param value The tag to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTag(long value) {
+        bitField0_ |= 0x00000001;
+        tag_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 tag = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTag() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        tag_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.PutRequest, protobuf.generated.KeyValueServiceMessages.PutRequest.Builder, protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder> putBuilder_;
+      /**
+       * <code>.protobuf.PutRequest put = 2;</code>
+       * @return Whether the put field is set.
+       */
+      @java.lang.Override
+      public boolean hasPut() {
+        return commandCase_ == 2;
+      }
+      /**
+       * <code>.protobuf.PutRequest put = 2;</code>
+       * @return The put.
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.PutRequest getPut() {
+        if (putBuilder_ == null) {
+          if (commandCase_ == 2) {
+            return (protobuf.generated.KeyValueServiceMessages.PutRequest) command_;
+          }
+          return protobuf.generated.KeyValueServiceMessages.PutRequest.getDefaultInstance();
+        } else {
+          if (commandCase_ == 2) {
+            return putBuilder_.getMessage();
+          }
+          return protobuf.generated.KeyValueServiceMessages.PutRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protobuf.PutRequest put = 2;</code>
+       */
+      public Builder setPut(protobuf.generated.KeyValueServiceMessages.PutRequest value) {
+        if (putBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          command_ = value;
+          onChanged();
+        } else {
+          putBuilder_.setMessage(value);
+        }
+        commandCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.protobuf.PutRequest put = 2;</code>
+       */
+      public Builder setPut(
+          protobuf.generated.KeyValueServiceMessages.PutRequest.Builder builderForValue) {
+        if (putBuilder_ == null) {
+          command_ = builderForValue.build();
+          onChanged();
+        } else {
+          putBuilder_.setMessage(builderForValue.build());
+        }
+        commandCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.protobuf.PutRequest put = 2;</code>
+       */
+      public Builder mergePut(protobuf.generated.KeyValueServiceMessages.PutRequest value) {
+        if (putBuilder_ == null) {
+          if (commandCase_ == 2 &&
+              command_ != protobuf.generated.KeyValueServiceMessages.PutRequest.getDefaultInstance()) {
+            command_ = protobuf.generated.KeyValueServiceMessages.PutRequest.newBuilder((protobuf.generated.KeyValueServiceMessages.PutRequest) command_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            command_ = value;
+          }
+          onChanged();
+        } else {
+          if (commandCase_ == 2) {
+            putBuilder_.mergeFrom(value);
+          }
+          putBuilder_.setMessage(value);
+        }
+        commandCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.protobuf.PutRequest put = 2;</code>
+       */
+      public Builder clearPut() {
+        if (putBuilder_ == null) {
+          if (commandCase_ == 2) {
+            commandCase_ = 0;
+            command_ = null;
+            onChanged();
+          }
+        } else {
+          if (commandCase_ == 2) {
+            commandCase_ = 0;
+            command_ = null;
+          }
+          putBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.protobuf.PutRequest put = 2;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.PutRequest.Builder getPutBuilder() {
+        return getPutFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.protobuf.PutRequest put = 2;</code>
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder getPutOrBuilder() {
+        if ((commandCase_ == 2) && (putBuilder_ != null)) {
+          return putBuilder_.getMessageOrBuilder();
+        } else {
+          if (commandCase_ == 2) {
+            return (protobuf.generated.KeyValueServiceMessages.PutRequest) command_;
+          }
+          return protobuf.generated.KeyValueServiceMessages.PutRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protobuf.PutRequest put = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.PutRequest, protobuf.generated.KeyValueServiceMessages.PutRequest.Builder, protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder> 
+          getPutFieldBuilder() {
+        if (putBuilder_ == null) {
+          if (!(commandCase_ == 2)) {
+            command_ = protobuf.generated.KeyValueServiceMessages.PutRequest.getDefaultInstance();
+          }
+          putBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              protobuf.generated.KeyValueServiceMessages.PutRequest, protobuf.generated.KeyValueServiceMessages.PutRequest.Builder, protobuf.generated.KeyValueServiceMessages.PutRequestOrBuilder>(
+                  (protobuf.generated.KeyValueServiceMessages.PutRequest) command_,
+                  getParentForChildren(),
+                  isClean());
+          command_ = null;
+        }
+        commandCase_ = 2;
+        onChanged();;
+        return putBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.GetRequest, protobuf.generated.KeyValueServiceMessages.GetRequest.Builder, protobuf.generated.KeyValueServiceMessages.GetRequestOrBuilder> getBuilder_;
+      /**
+       * <code>.protobuf.GetRequest get = 3;</code>
+       * @return Whether the get field is set.
+       */
+      @java.lang.Override
+      public boolean hasGet() {
+        return commandCase_ == 3;
+      }
+      /**
+       * <code>.protobuf.GetRequest get = 3;</code>
+       * @return The get.
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.GetRequest getGet() {
+        if (getBuilder_ == null) {
+          if (commandCase_ == 3) {
+            return (protobuf.generated.KeyValueServiceMessages.GetRequest) command_;
+          }
+          return protobuf.generated.KeyValueServiceMessages.GetRequest.getDefaultInstance();
+        } else {
+          if (commandCase_ == 3) {
+            return getBuilder_.getMessage();
+          }
+          return protobuf.generated.KeyValueServiceMessages.GetRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protobuf.GetRequest get = 3;</code>
+       */
+      public Builder setGet(protobuf.generated.KeyValueServiceMessages.GetRequest value) {
+        if (getBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          command_ = value;
+          onChanged();
+        } else {
+          getBuilder_.setMessage(value);
+        }
+        commandCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.protobuf.GetRequest get = 3;</code>
+       */
+      public Builder setGet(
+          protobuf.generated.KeyValueServiceMessages.GetRequest.Builder builderForValue) {
+        if (getBuilder_ == null) {
+          command_ = builderForValue.build();
+          onChanged();
+        } else {
+          getBuilder_.setMessage(builderForValue.build());
+        }
+        commandCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.protobuf.GetRequest get = 3;</code>
+       */
+      public Builder mergeGet(protobuf.generated.KeyValueServiceMessages.GetRequest value) {
+        if (getBuilder_ == null) {
+          if (commandCase_ == 3 &&
+              command_ != protobuf.generated.KeyValueServiceMessages.GetRequest.getDefaultInstance()) {
+            command_ = protobuf.generated.KeyValueServiceMessages.GetRequest.newBuilder((protobuf.generated.KeyValueServiceMessages.GetRequest) command_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            command_ = value;
+          }
+          onChanged();
+        } else {
+          if (commandCase_ == 3) {
+            getBuilder_.mergeFrom(value);
+          }
+          getBuilder_.setMessage(value);
+        }
+        commandCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.protobuf.GetRequest get = 3;</code>
+       */
+      public Builder clearGet() {
+        if (getBuilder_ == null) {
+          if (commandCase_ == 3) {
+            commandCase_ = 0;
+            command_ = null;
+            onChanged();
+          }
+        } else {
+          if (commandCase_ == 3) {
+            commandCase_ = 0;
+            command_ = null;
+          }
+          getBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.protobuf.GetRequest get = 3;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.GetRequest.Builder getGetBuilder() {
+        return getGetFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.protobuf.GetRequest get = 3;</code>
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.GetRequestOrBuilder getGetOrBuilder() {
+        if ((commandCase_ == 3) && (getBuilder_ != null)) {
+          return getBuilder_.getMessageOrBuilder();
+        } else {
+          if (commandCase_ == 3) {
+            return (protobuf.generated.KeyValueServiceMessages.GetRequest) command_;
+          }
+          return protobuf.generated.KeyValueServiceMessages.GetRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protobuf.GetRequest get = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.GetRequest, protobuf.generated.KeyValueServiceMessages.GetRequest.Builder, protobuf.generated.KeyValueServiceMessages.GetRequestOrBuilder> 
+          getGetFieldBuilder() {
+        if (getBuilder_ == null) {
+          if (!(commandCase_ == 3)) {
+            command_ = protobuf.generated.KeyValueServiceMessages.GetRequest.getDefaultInstance();
+          }
+          getBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              protobuf.generated.KeyValueServiceMessages.GetRequest, protobuf.generated.KeyValueServiceMessages.GetRequest.Builder, protobuf.generated.KeyValueServiceMessages.GetRequestOrBuilder>(
+                  (protobuf.generated.KeyValueServiceMessages.GetRequest) command_,
+                  getParentForChildren(),
+                  isClean());
+          command_ = null;
+        }
+        commandCase_ = 3;
+        onChanged();;
+        return getBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.DeleteRequest, protobuf.generated.KeyValueServiceMessages.DeleteRequest.Builder, protobuf.generated.KeyValueServiceMessages.DeleteRequestOrBuilder> deleteBuilder_;
+      /**
+       * <code>.protobuf.DeleteRequest delete = 4;</code>
+       * @return Whether the delete field is set.
+       */
+      @java.lang.Override
+      public boolean hasDelete() {
+        return commandCase_ == 4;
+      }
+      /**
+       * <code>.protobuf.DeleteRequest delete = 4;</code>
+       * @return The delete.
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.DeleteRequest getDelete() {
+        if (deleteBuilder_ == null) {
+          if (commandCase_ == 4) {
+            return (protobuf.generated.KeyValueServiceMessages.DeleteRequest) command_;
+          }
+          return protobuf.generated.KeyValueServiceMessages.DeleteRequest.getDefaultInstance();
+        } else {
+          if (commandCase_ == 4) {
+            return deleteBuilder_.getMessage();
+          }
+          return protobuf.generated.KeyValueServiceMessages.DeleteRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protobuf.DeleteRequest delete = 4;</code>
+       */
+      public Builder setDelete(protobuf.generated.KeyValueServiceMessages.DeleteRequest value) {
+        if (deleteBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          command_ = value;
+          onChanged();
+        } else {
+          deleteBuilder_.setMessage(value);
+        }
+        commandCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.protobuf.DeleteRequest delete = 4;</code>
+       */
+      public Builder setDelete(
+          protobuf.generated.KeyValueServiceMessages.DeleteRequest.Builder builderForValue) {
+        if (deleteBuilder_ == null) {
+          command_ = builderForValue.build();
+          onChanged();
+        } else {
+          deleteBuilder_.setMessage(builderForValue.build());
+        }
+        commandCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.protobuf.DeleteRequest delete = 4;</code>
+       */
+      public Builder mergeDelete(protobuf.generated.KeyValueServiceMessages.DeleteRequest value) {
+        if (deleteBuilder_ == null) {
+          if (commandCase_ == 4 &&
+              command_ != protobuf.generated.KeyValueServiceMessages.DeleteRequest.getDefaultInstance()) {
+            command_ = protobuf.generated.KeyValueServiceMessages.DeleteRequest.newBuilder((protobuf.generated.KeyValueServiceMessages.DeleteRequest) command_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            command_ = value;
+          }
+          onChanged();
+        } else {
+          if (commandCase_ == 4) {
+            deleteBuilder_.mergeFrom(value);
+          }
+          deleteBuilder_.setMessage(value);
+        }
+        commandCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.protobuf.DeleteRequest delete = 4;</code>
+       */
+      public Builder clearDelete() {
+        if (deleteBuilder_ == null) {
+          if (commandCase_ == 4) {
+            commandCase_ = 0;
+            command_ = null;
+            onChanged();
+          }
+        } else {
+          if (commandCase_ == 4) {
+            commandCase_ = 0;
+            command_ = null;
+          }
+          deleteBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.protobuf.DeleteRequest delete = 4;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.DeleteRequest.Builder getDeleteBuilder() {
+        return getDeleteFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.protobuf.DeleteRequest delete = 4;</code>
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.DeleteRequestOrBuilder getDeleteOrBuilder() {
+        if ((commandCase_ == 4) && (deleteBuilder_ != null)) {
+          return deleteBuilder_.getMessageOrBuilder();
+        } else {
+          if (commandCase_ == 4) {
+            return (protobuf.generated.KeyValueServiceMessages.DeleteRequest) command_;
+          }
+          return protobuf.generated.KeyValueServiceMessages.DeleteRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protobuf.DeleteRequest delete = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.DeleteRequest, protobuf.generated.KeyValueServiceMessages.DeleteRequest.Builder, protobuf.generated.KeyValueServiceMessages.DeleteRequestOrBuilder> 
+          getDeleteFieldBuilder() {
+        if (deleteBuilder_ == null) {
+          if (!(commandCase_ == 4)) {
+            command_ = protobuf.generated.KeyValueServiceMessages.DeleteRequest.getDefaultInstance();
+          }
+          deleteBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              protobuf.generated.KeyValueServiceMessages.DeleteRequest, protobuf.generated.KeyValueServiceMessages.DeleteRequest.Builder, protobuf.generated.KeyValueServiceMessages.DeleteRequestOrBuilder>(
+                  (protobuf.generated.KeyValueServiceMessages.DeleteRequest) command_,
+                  getParentForChildren(),
+                  isClean());
+          command_ = null;
+        }
+        commandCase_ = 4;
+        onChanged();;
+        return deleteBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protobuf.SessionRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:protobuf.SessionRequest)
+    private static final protobuf.generated.KeyValueServiceMessages.SessionRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.SessionRequest();
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.SessionRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SessionRequest>
+        PARSER = new com.google.protobuf.AbstractParser<SessionRequest>() {
+      @java.lang.Override
+      public SessionRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SessionRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SessionRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SessionRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.SessionRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SessionResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.SessionResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint64 tag = 1;</code>
+     * @return Whether the tag field is set.
+     */
+    boolean hasTag();
+    /**
+     * <code>uint64 tag = 1;</code>
+     * @return The tag.
+     */
+    long getTag();
+
+    /**
+     * <code>.protobuf.PutResponse put = 2;</code>
+     * @return Whether the put field is set.
+     */
+    boolean hasPut();
+    /**
+     * <code>.protobuf.PutResponse put = 2;</code>
+     * @return The put.
+     */
+    protobuf.generated.KeyValueServiceMessages.PutResponse getPut();
+    /**
+     * <code>.protobuf.PutResponse put = 2;</code>
+     */
+    protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder getPutOrBuilder();
+
+    /**
+     * <code>.protobuf.GetResponse get = 3;</code>
+     * @return Whether the get field is set.
+     */
+    boolean hasGet();
+    /**
+     * <code>.protobuf.GetResponse get = 3;</code>
+     * @return The get.
+     */
+    protobuf.generated.KeyValueServiceMessages.GetResponse getGet();
+    /**
+     * <code>.protobuf.GetResponse get = 3;</code>
+     */
+    protobuf.generated.KeyValueServiceMessages.GetResponseOrBuilder getGetOrBuilder();
+
+    /**
+     * <code>.protobuf.DeleteResponse delete = 4;</code>
+     * @return Whether the delete field is set.
+     */
+    boolean hasDelete();
+    /**
+     * <code>.protobuf.DeleteResponse delete = 4;</code>
+     * @return The delete.
+     */
+    protobuf.generated.KeyValueServiceMessages.DeleteResponse getDelete();
+    /**
+     * <code>.protobuf.DeleteResponse delete = 4;</code>
+     */
+    protobuf.generated.KeyValueServiceMessages.DeleteResponseOrBuilder getDeleteOrBuilder();
+
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 5;</code>
+     * @return Whether the errorStatus field is set.
+     */
+    boolean hasErrorStatus();
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 5;</code>
+     * @return The enum numeric value on the wire for errorStatus.
+     */
+    int getErrorStatusValue();
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 5;</code>
+     * @return The errorStatus.
+     */
+    protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus();
+
+    public protobuf.generated.KeyValueServiceMessages.SessionResponse.ResultCase getResultCase();
+  }
+  /**
+   * Protobuf type {@code protobuf.SessionResponse}
+   */
+  public static final class SessionResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protobuf.SessionResponse)
+      SessionResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SessionResponse.newBuilder() to construct.
+    private SessionResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SessionResponse() {
+      errorStatus_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SessionResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SessionResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              tag_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              protobuf.generated.KeyValueServiceMessages.PutResponse.Builder subBuilder = null;
+              if (resultCase_ == 2) {
+                subBuilder = ((protobuf.generated.KeyValueServiceMessages.PutResponse) result_).toBuilder();
+              }
+              result_ =
+                  input.readMessage(protobuf.generated.KeyValueServiceMessages.PutResponse.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((protobuf.generated.KeyValueServiceMessages.PutResponse) result_);
+                result_ = subBuilder.buildPartial();
+              }
+              resultCase_ = 2;
+              break;
+            }
+            case 26: {
+              protobuf.generated.KeyValueServiceMessages.GetResponse.Builder subBuilder = null;
+              if (resultCase_ == 3) {
+                subBuilder = ((protobuf.generated.KeyValueServiceMessages.GetResponse) result_).toBuilder();
+              }
+              result_ =
+                  input.readMessage(protobuf.generated.KeyValueServiceMessages.GetResponse.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((protobuf.generated.KeyValueServiceMessages.GetResponse) result_);
+                result_ = subBuilder.buildPartial();
+              }
+              resultCase_ = 3;
+              break;
+            }
+            case 34: {
+              protobuf.generated.KeyValueServiceMessages.DeleteResponse.Builder subBuilder = null;
+              if (resultCase_ == 4) {
+                subBuilder = ((protobuf.generated.KeyValueServiceMessages.DeleteResponse) result_).toBuilder();
+              }
+              result_ =
+                  input.readMessage(protobuf.generated.KeyValueServiceMessages.DeleteResponse.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((protobuf.generated.KeyValueServiceMessages.DeleteResponse) result_);
+                result_ = subBuilder.buildPartial();
+              }
+              resultCase_ = 4;
+              break;
+            }
+            case 40: {
+              int rawValue = input.readEnum();
+              bitField0_ |= 0x00000002;
+              errorStatus_ = rawValue;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_SessionResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_SessionResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.generated.KeyValueServiceMessages.SessionResponse.class, protobuf.generated.KeyValueServiceMessages.SessionResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    private int resultCase_ = 0;
+    private java.lang.Object result_;
+    public enum ResultCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      PUT(2),
+      GET(3),
+      DELETE(4),
+      RESULT_NOT_SET(0);
+      private final int value;
+      private ResultCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static ResultCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static ResultCase forNumber(int value) {
+        switch (value) {
+          case 2: return PUT;
+          case 3: return GET;
+          case 4: return DELETE;
+          case 0: return RESULT_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public ResultCase
+    getResultCase() {
+      return ResultCase.forNumber(
+          resultCase_);
+    }
+
+    public static final int TAG_FIELD_NUMBER = 1;
+    private long tag_;
+    /**
+     * <code>uint64 tag = 1;</code>
+     * @return Whether the tag field is set.
+     */
+    @java.lang.Override
+    public boolean hasTag() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>uint64 tag = 1;</code>
+     * @return The tag.
+     */
+    @java.lang.Override
+    public long getTag() {
+      return tag_;
+    }
+
+    public static final int PUT_FIELD_NUMBER = 2;
+    /**
+     * <code>.protobuf.PutResponse put = 2;</code>
+     * @return Whether the put field is set.
+     */
+    @java.lang.Override
+    public boolean hasPut() {
+      return resultCase_ == 2;
+    }
+    /**
+     * <code>.protobuf.PutResponse put = 2;</code>
+     * @return The put.
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.PutResponse getPut() {
+      if (resultCase_ == 2) {
+         return (protobuf.generated.KeyValueServiceMessages.PutResponse) result_;
+      }
+      return protobuf.generated.KeyValueServiceMessages.PutResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.protobuf.PutResponse put = 2;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder getPutOrBuilder() {
+      if (resultCase_ == 2) {
+         return (protobuf.generated.KeyValueServiceMessages.PutResponse) result_;
+      }
+      return protobuf.generated.KeyValueServiceMessages.PutResponse.getDefaultInstance();
+    }
+
+    public static final int GET_FIELD_NUMBER = 3;
+    /**
+     * <code>.protobuf.GetResponse get = 3;</code>
+     * @return Whether the get field is set.
+     */
+    @java.lang.Override
+    public boolean hasGet() {
+      return resultCase_ == 3;
+    }
+    /**
+     * <code>.protobuf.GetResponse get = 3;</code>
+     * @return The get.
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.GetResponse getGet() {
+      if (resultCase_ == 3) {
+         return (protobuf.generated.KeyValueServiceMessages.GetResponse) result_;
+      }
+      return protobuf.generated.KeyValueServiceMessages.GetResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.protobuf.GetResponse get = 3;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.GetResponseOrBuilder getGetOrBuilder() {
+      if (resultCase_ == 3) {
+         return (protobuf.generated.KeyValueServiceMessages.GetResponse) result_;
+      }
+      return protobuf.generated.KeyValueServiceMessages.GetResponse.getDefaultInstance();
+    }
+
+    public static final int DELETE_FIELD_NUMBER = 4;
+    /**
+     * <code>.protobuf.DeleteResponse delete = 4;</code>
+     * @return Whether the delete field is set.
+     */
+    @java.lang.Override
+    public boolean hasDelete() {
+      return resultCase_ == 4;
+    }
+    /**
+     * <code>.protobuf.DeleteResponse delete = 4;</code>
+     * @return The delete.
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.DeleteResponse getDelete() {
+      if (resultCase_ == 4) {
+         return (protobuf.generated.KeyValueServiceMessages.DeleteResponse) result_;
+      }
+      return protobuf.generated.KeyValueServiceMessages.DeleteResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.protobuf.DeleteResponse delete = 4;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.DeleteResponseOrBuilder getDeleteOrBuilder() {
+      if (resultCase_ == 4) {
+         return (protobuf.generated.KeyValueServiceMessages.DeleteResponse) result_;
+      }
+      return protobuf.generated.KeyValueServiceMessages.DeleteResponse.getDefaultInstance();
+    }
+
+    public static final int ERROR_STATUS_FIELD_NUMBER = 5;
+    private int errorStatus_;
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 5;</code>
+     * @return Whether the errorStatus field is set.
+     */
+    @java.lang.Override public boolean hasErrorStatus() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 5;</code>
+     * @return The enum numeric value on the wire for errorStatus.
+     */
+    @java.lang.Override public int getErrorStatusValue() {
+      return errorStatus_;
+    }
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 5;</code>
+     * @return The errorStatus.
+     */
+    @java.lang.Override public protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus() {
+      @SuppressWarnings("deprecation")
+      protobuf.generated.KeyValueServiceMessages.ErrorStatus result = protobuf.generated.KeyValueServiceMessages.ErrorStatus.valueOf(errorStatus_);
+      return result == null ? protobuf.generated.KeyValueServiceMessages.ErrorStatus.UNRECOGNIZED : result;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt64(1, tag_);
+      }
+      if (resultCase_ == 2) {
+        output.writeMessage(2, (protobuf.generated.KeyValueServiceMessages.PutResponse) result_);
+      }
+      if (resultCase_ == 3) {
+        output.writeMessage(3, (protobuf.generated.KeyValueServiceMessages.GetResponse) result_);
+      }
+      if (resultCase_ == 4) {
+        output.writeMessage(4, (protobuf.generated.KeyValueServiceMessages.DeleteResponse) result_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeEnum(5, errorStatus_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, tag_);
+      }
+      if (resultCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (protobuf.generated.KeyValueServiceMessages.PutResponse) result_);
+      }
+      if (resultCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (protobuf.generated.KeyValueServiceMessages.GetResponse) result_);
+      }
+      if (resultCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, (protobuf.generated.KeyValueServiceMessages.DeleteResponse) result_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(5, errorStatus_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.SessionResponse)) {
+        return super.equals(obj);
+      }
+      protobuf.generated.KeyValueServiceMessages.SessionResponse other = (protobuf.generated.KeyValueServiceMessages.SessionResponse) obj;
+
+      if (hasTag() != other.hasTag()) return false;
+      if (hasTag()) {
+        if (getTag()
+            != other.getTag()) return false;
+      }
+      if (hasErrorStatus() != other.hasErrorStatus()) return false;
+      if (hasErrorStatus()) {
+        if (errorStatus_ != other.errorStatus_) return false;
+      }
+      if (!getResultCase().equals(other.getResultCase())) return false;
+      switch (resultCase_) {
+        case 2:
+          if (!getPut()
+              .equals(other.getPut())) return false;
+          break;
+        case 3:
+          if (!getGet()
+              .equals(other.getGet())) return false;
+          break;
+        case 4:
+          if (!getDelete()
+              .equals(other.getDelete())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasTag()) {
+        hash = (37 * hash) + TAG_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTag());
+      }
+      if (hasErrorStatus()) {
+        hash = (37 * hash) + ERROR_STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + errorStatus_;
+      }
+      switch (resultCase_) {
+        case 2:
+          hash = (37 * hash) + PUT_FIELD_NUMBER;
+          hash = (53 * hash) + getPut().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + GET_FIELD_NUMBER;
+          hash = (53 * hash) + getGet().hashCode();
+          break;
+        case 4:
+          hash = (37 * hash) + DELETE_FIELD_NUMBER;
+          hash = (53 * hash) + getDelete().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.SessionResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protobuf.SessionResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protobuf.SessionResponse)
+        protobuf.generated.KeyValueServiceMessages.SessionResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_SessionResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_SessionResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.generated.KeyValueServiceMessages.SessionResponse.class, protobuf.generated.KeyValueServiceMessages.SessionResponse.Builder.class);
+      }
+
+      // Construct using protobuf.generated.KeyValueServiceMessages.SessionResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        tag_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        errorStatus_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        resultCase_ = 0;
+        result_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_SessionResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.SessionResponse getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.SessionResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.SessionResponse build() {
+        protobuf.generated.KeyValueServiceMessages.SessionResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.SessionResponse buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.SessionResponse result = new protobuf.generated.KeyValueServiceMessages.SessionResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.tag_ = tag_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (resultCase_ == 2) {
+          if (putBuilder_ == null) {
+            result.result_ = result_;
+          } else {
+            result.result_ = putBuilder_.build();
+          }
+        }
+        if (resultCase_ == 3) {
+          if (getBuilder_ == null) {
+            result.result_ = result_;
+          } else {
+            result.result_ = getBuilder_.build();
+          }
+        }
+        if (resultCase_ == 4) {
+          if (deleteBuilder_ == null) {
+            result.result_ = result_;
+          } else {
+            result.result_ = deleteBuilder_.build();
+          }
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.errorStatus_ = errorStatus_;
+        result.bitField0_ = to_bitField0_;
+        result.resultCase_ = resultCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.SessionResponse) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.SessionResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.SessionResponse other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.SessionResponse.getDefaultInstance()) return this;
+        if (other.hasTag()) {
+          setTag(other.getTag());
+        }
+        if (other.hasErrorStatus()) {
+          setErrorStatus(other.getErrorStatus());
+        }
+        switch (other.getResultCase()) {
+          case PUT: {
+            mergePut(other.getPut());
+            break;
+          }
+          case GET: {
+            mergeGet(other.getGet());
+            break;
+          }
+          case DELETE: {
+            mergeDelete(other.getDelete());
+            break;
+          }
+          case RESULT_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        protobuf.generated.KeyValueServiceMessages.SessionResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.SessionResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int resultCase_ = 0;
+      private java.lang.Object result_;
+      public ResultCase
+          getResultCase() {
+        return ResultCase.forNumber(
+            resultCase_);
+      }
+
+      public Builder clearResult() {
+        resultCase_ = 0;
+        result_ = null;
+        onChanged();
+        return this;
+      }
+
+      private int bitField0_;
+
+      private long tag_ ;
+      /**
+       * <code>uint64 tag = 1;</code>
+       * @return Whether the tag field is set.
+       */
+      @java.lang.Override
+      public boolean hasTag() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>uint64 tag = 1;</code>
+       * @return The tag.
+       */
+      @java.lang.Override
+      public long getTag() {
+        return tag_;
+      }
+      /**
+       * <code>uint64 tag = 1;</code>
+       * @param value The tag to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTag(long value) {
+        bitField0_ |= 0x00000001;
+        tag_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 tag = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTag() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        tag_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.PutResponse, protobuf.generated.KeyValueServiceMessages.PutResponse.Builder, protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder> putBuilder_;
+      /**
+       * <code>.protobuf.PutResponse put = 2;</code>
+       * @return Whether the put field is set.
+       */
+      @java.lang.Override
+      public boolean hasPut() {
+        return resultCase_ == 2;
+      }
+      /**
+       * <code>.protobuf.PutResponse put = 2;</code>
+       * @return The put.
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.PutResponse getPut() {
+        if (putBuilder_ == null) {
+          if (resultCase_ == 2) {
+            return (protobuf.generated.KeyValueServiceMessages.PutResponse) result_;
+          }
+          return protobuf.generated.KeyValueServiceMessages.PutResponse.getDefaultInstance();
+        } else {
+          if (resultCase_ == 2) {
+            return putBuilder_.getMessage();
+          }
+          return protobuf.generated.KeyValueServiceMessages.PutResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protobuf.PutResponse put = 2;</code>
+       */
+      public Builder setPut(protobuf.generated.KeyValueServiceMessages.PutResponse value) {
+        if (putBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          result_ = value;
+          onChanged();
+        } else {
+          putBuilder_.setMessage(value);
+        }
+        resultCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.protobuf.PutResponse put = 2;</code>
+       */
+      public Builder setPut(
+          protobuf.generated.KeyValueServiceMessages.PutResponse.Builder builderForValue) {
+        if (putBuilder_ == null) {
+          result_ = builderForValue.build();
+          onChanged();
+        } else {
+          putBuilder_.setMessage(builderForValue.build());
+        }
+        resultCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.protobuf.PutResponse put = 2;</code>
+       */
+      public Builder mergePut(protobuf.generated.KeyValueServiceMessages.PutResponse value) {
+        if (putBuilder_ == null) {
+          if (resultCase_ == 2 &&
+              result_ != protobuf.generated.KeyValueServiceMessages.PutResponse.getDefaultInstance()) {
+            result_ = protobuf.generated.KeyValueServiceMessages.PutResponse.newBuilder((protobuf.generated.KeyValueServiceMessages.PutResponse) result_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            result_ = value;
+          }
+          onChanged();
+        } else {
+          if (resultCase_ == 2) {
+            putBuilder_.mergeFrom(value);
+          }
+          putBuilder_.setMessage(value);
+        }
+        resultCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.protobuf.PutResponse put = 2;</code>
+       */
+      public Builder clearPut() {
+        if (putBuilder_ == null) {
+          if (resultCase_ == 2) {
+            resultCase_ = 0;
+            result_ = null;
+            onChanged();
+          }
+        } else {
+          if (resultCase_ == 2) {
+            resultCase_ = 0;
+            result_ = null;
+          }
+          putBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.protobuf.PutResponse put = 2;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.PutResponse.Builder getPutBuilder() {
+        return getPutFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.protobuf.PutResponse put = 2;</code>
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder getPutOrBuilder() {
+        if ((resultCase_ == 2) && (putBuilder_ != null)) {
+          return putBuilder_.getMessageOrBuilder();
+        } else {
+          if (resultCase_ == 2) {
+            return (protobuf.generated.KeyValueServiceMessages.PutResponse) result_;
+          }
+          return protobuf.generated.KeyValueServiceMessages.PutResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protobuf.PutResponse put = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.PutResponse, protobuf.generated.KeyValueServiceMessages.PutResponse.Builder, protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder> 
+          getPutFieldBuilder() {
+        if (putBuilder_ == null) {
+          if (!(resultCase_ == 2)) {
+            result_ = protobuf.generated.KeyValueServiceMessages.PutResponse.getDefaultInstance();
+          }
+          putBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              protobuf.generated.KeyValueServiceMessages.PutResponse, protobuf.generated.KeyValueServiceMessages.PutResponse.Builder, protobuf.generated.KeyValueServiceMessages.PutResponseOrBuilder>(
+                  (protobuf.generated.KeyValueServiceMessages.PutResponse) result_,
+                  getParentForChildren(),
+                  isClean());
+          result_ = null;
+        }
+        resultCase_ = 2;
+        onChanged();;
+        return putBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.GetResponse, protobuf.generated.KeyValueServiceMessages.GetResponse.Builder, protobuf.generated.KeyValueServiceMessages.GetResponseOrBuilder> getBuilder_;
+      /**
+       * <code>.protobuf.GetResponse get = 3;</code>
+       * @return Whether the get field is set.
+       */
+      @java.lang.Override
+      public boolean hasGet() {
+        return resultCase_ == 3;
+      }
+      /**
+       * <code>.protobuf.GetResponse get = 3;</code>
+       * @return The get.
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.GetResponse getGet() {
+        if (getBuilder_ == null) {
+          if (resultCase_ == 3) {
+            return (protobuf.generated.KeyValueServiceMessages.GetResponse) result_;
+          }
+          return protobuf.generated.KeyValueServiceMessages.GetResponse.getDefaultInstance();
+        } else {
+          if (resultCase_ == 3) {
+            return getBuilder_.getMessage();
+          }
+          return protobuf.generated.KeyValueServiceMessages.GetResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protobuf.GetResponse get = 3;</code>
+       */
+      public Builder setGet(protobuf.generated.KeyValueServiceMessages.GetResponse value) {
+        if (getBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          result_ = value;
+          onChanged();
+        } else {
+          getBuilder_.setMessage(value);
+        }
+        resultCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.protobuf.GetResponse get = 3;</code>
+       */
+      public Builder setGet(
+          protobuf.generated.KeyValueServiceMessages.GetResponse.Builder builderForValue) {
+        if (getBuilder_ == null) {
+          result_ = builderForValue.build();
+          onChanged();
+        } else {
+          getBuilder_.setMessage(builderForValue.build());
+        }
+        resultCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.protobuf.GetResponse get = 3;</code>
+       */
+      public Builder mergeGet(protobuf.generated.KeyValueServiceMessages.GetResponse value) {
+        if (getBuilder_ == null) {
+          if (resultCase_ == 3 &&
+              result_ != protobuf.generated.KeyValueServiceMessages.GetResponse.getDefaultInstance()) {
+            result_ = protobuf.generated.KeyValueServiceMessages.GetResponse.newBuilder((protobuf.generated.KeyValueServiceMessages.GetResponse) result_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            result_ = value;
+          }
+          onChanged();
+        } else {
+          if (resultCase_ == 3) {
+            getBuilder_.mergeFrom(value);
+          }
+          getBuilder_.setMessage(value);
+        }
+        resultCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.protobuf.GetResponse get = 3;</code>
+       */
+      public Builder clearGet() {
+        if (getBuilder_ == null) {
+          if (resultCase_ == 3) {
+            resultCase_ = 0;
+            result_ = null;
+            onChanged();
+          }
+        } else {
+          if (resultCase_ == 3) {
+            resultCase_ = 0;
+            result_ = null;
+          }
+          getBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.protobuf.GetResponse get = 3;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.GetResponse.Builder getGetBuilder() {
+        return getGetFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.protobuf.GetResponse get = 3;</code>
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.GetResponseOrBuilder getGetOrBuilder() {
+        if ((resultCase_ == 3) && (getBuilder_ != null)) {
+          return getBuilder_.getMessageOrBuilder();
+        } else {
+          if (resultCase_ == 3) {
+            return (protobuf.generated.KeyValueServiceMessages.GetResponse) result_;
+          }
+          return protobuf.generated.KeyValueServiceMessages.GetResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protobuf.GetResponse get = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.GetResponse, protobuf.generated.KeyValueServiceMessages.GetResponse.Builder, protobuf.generated.KeyValueServiceMessages.GetResponseOrBuilder> 
+          getGetFieldBuilder() {
+        if (getBuilder_ == null) {
+          if (!(resultCase_ == 3)) {
+            result_ = protobuf.generated.KeyValueServiceMessages.GetResponse.getDefaultInstance();
+          }
+          getBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              protobuf.generated.KeyValueServiceMessages.GetResponse, protobuf.generated.KeyValueServiceMessages.GetResponse.Builder, protobuf.generated.KeyValueServiceMessages.GetResponseOrBuilder>(
+                  (protobuf.generated.KeyValueServiceMessages.GetResponse) result_,
+                  getParentForChildren(),
+                  isClean());
+          result_ = null;
+        }
+        resultCase_ = 3;
+        onChanged();;
+        return getBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.DeleteResponse, protobuf.generated.KeyValueServiceMessages.DeleteResponse.Builder, protobuf.generated.KeyValueServiceMessages.DeleteResponseOrBuilder> deleteBuilder_;
+      /**
+       * <code>.protobuf.DeleteResponse delete = 4;</code>
+       * @return Whether the delete field is set.
+       */
+      @java.lang.Override
+      public boolean hasDelete() {
+        return resultCase_ == 4;
+      }
+      /**
+       * <code>.protobuf.DeleteResponse delete = 4;</code>
+       * @return The delete.
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.DeleteResponse getDelete() {
+        if (deleteBuilder_ == null) {
+          if (resultCase_ == 4) {
+            return (protobuf.generated.KeyValueServiceMessages.DeleteResponse) result_;
+          }
+          return protobuf.generated.KeyValueServiceMessages.DeleteResponse.getDefaultInstance();
+        } else {
+          if (resultCase_ == 4) {
+            return deleteBuilder_.getMessage();
+          }
+          return protobuf.generated.KeyValueServiceMessages.DeleteResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protobuf.DeleteResponse delete = 4;</code>
+       */
+      public Builder setDelete(protobuf.generated.KeyValueServiceMessages.DeleteResponse value) {
+        if (deleteBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          result_ = value;
+          onChanged();
+        } else {
+          deleteBuilder_.setMessage(value);
+        }
+        resultCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.protobuf.DeleteResponse delete = 4;</code>
+       */
+      public Builder setDelete(
+          protobuf.generated.KeyValueServiceMessages.DeleteResponse.Builder builderForValue) {
+        if (deleteBuilder_ == null) {
+          result_ = builderForValue.build();
+          onChanged();
+        } else {
+          deleteBuilder_.setMessage(builderForValue.build());
+        }
+        resultCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.protobuf.DeleteResponse delete = 4;</code>
+       */
+      public Builder mergeDelete(protobuf.generated.KeyValueServiceMessages.DeleteResponse value) {
+        if (deleteBuilder_ == null) {
+          if (resultCase_ == 4 &&
+              result_ != protobuf.generated.KeyValueServiceMessages.DeleteResponse.getDefaultInstance()) {
+            result_ = protobuf.generated.KeyValueServiceMessages.DeleteResponse.newBuilder((protobuf.generated.KeyValueServiceMessages.DeleteResponse) result_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            result_ = value;
+          }
+          onChanged();
+        } else {
+          if (resultCase_ == 4) {
+            deleteBuilder_.mergeFrom(value);
+          }
+          deleteBuilder_.setMessage(value);
+        }
+        resultCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.protobuf.DeleteResponse delete = 4;</code>
+       */
+      public Builder clearDelete() {
+        if (deleteBuilder_ == null) {
+          if (resultCase_ == 4) {
+            resultCase_ = 0;
+            result_ = null;
+            onChanged();
+          }
+        } else {
+          if (resultCase_ == 4) {
+            resultCase_ = 0;
+            result_ = null;
+          }
+          deleteBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.protobuf.DeleteResponse delete = 4;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.DeleteResponse.Builder getDeleteBuilder() {
+        return getDeleteFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.protobuf.DeleteResponse delete = 4;</code>
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.DeleteResponseOrBuilder getDeleteOrBuilder() {
+        if ((resultCase_ == 4) && (deleteBuilder_ != null)) {
+          return deleteBuilder_.getMessageOrBuilder();
+        } else {
+          if (resultCase_ == 4) {
+            return (protobuf.generated.KeyValueServiceMessages.DeleteResponse) result_;
+          }
+          return protobuf.generated.KeyValueServiceMessages.DeleteResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.protobuf.DeleteResponse delete = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.DeleteResponse, protobuf.generated.KeyValueServiceMessages.DeleteResponse.Builder, protobuf.generated.KeyValueServiceMessages.DeleteResponseOrBuilder> 
+          getDeleteFieldBuilder() {
+        if (deleteBuilder_ == null) {
+          if (!(resultCase_ == 4)) {
+            result_ = protobuf.generated.KeyValueServiceMessages.DeleteResponse.getDefaultInstance();
+          }
+          deleteBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              protobuf.generated.KeyValueServiceMessages.DeleteResponse, protobuf.generated.KeyValueServiceMessages.DeleteResponse.Builder, protobuf.generated.KeyValueServiceMessages.DeleteResponseOrBuilder>(
+                  (protobuf.generated.KeyValueServiceMessages.DeleteResponse) result_,
+                  getParentForChildren(),
+                  isClean());
+          result_ = null;
+        }
+        resultCase_ = 4;
+        onChanged();;
+        return deleteBuilder_;
+      }
+
+      private int errorStatus_ = 0;
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 5;</code>
+       * @return Whether the errorStatus field is set.
+       */
+      @java.lang.Override public boolean hasErrorStatus() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 5;</code>
+       * @return The enum numeric value on the wire for errorStatus.
+       */
+      @java.lang.Override public int getErrorStatusValue() {
+        return errorStatus_;
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 5;</code>
+       * @param value The enum numeric value on the wire for errorStatus to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorStatusValue(int value) {
+        bitField0_ |= 0x00000002;
+        errorStatus_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 5;</code>
+       * @return The errorStatus.
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus() {
+        @SuppressWarnings("deprecation")
+        protobuf.generated.KeyValueServiceMessages.ErrorStatus result = protobuf.generated.KeyValueServiceMessages.ErrorStatus.valueOf(errorStatus_);
+        return result == null ? protobuf.generated.KeyValueServiceMessages.ErrorStatus.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 5;</code>
+       * @param value The errorStatus to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorStatus(protobuf.generated.KeyValueServiceMessages.ErrorStatus value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        errorStatus_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.protobuf.ErrorStatus error_status = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrorStatus() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        errorStatus_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protobuf.SessionResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:protobuf.SessionResponse)
+    private static final protobuf.generated.KeyValueServiceMessages.SessionResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.SessionResponse();
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.SessionResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SessionResponse>
+        PARSER = new com.google.protobuf.AbstractParser<SessionResponse>() {
+      @java.lang.Override
+      public SessionResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SessionResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SessionResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SessionResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.SessionResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WatchRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.WatchRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    boolean hasKey();
+    /**
+     * <code>string key = 1;</code>
+     * @return The key.
+     */
+    java.lang.String getKey();
+    /**
+     * <code>string key = 1;</code>
+     * @return The bytes for key.
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    /**
+     * <code>bool prefix = 2;</code>
+     * @return Whether the prefix field is set.
+     */
+    boolean hasPrefix();
+    /**
+     * <code>bool prefix = 2;</code>
+     * @return The prefix.
+     */
+    boolean getPrefix();
+
+    /**
+     * <code>uint64 from_version = 3;</code>
+     * @return Whether the fromVersion field is set.
+     */
+    boolean hasFromVersion();
+    /**
+     * <code>uint64 from_version = 3;</code>
+     * @return The fromVersion.
+     */
+    long getFromVersion();
+  }
+  /**
+   * Protobuf type {@code protobuf.WatchRequest}
+   */
+  public static final class WatchRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protobuf.WatchRequest)
+      WatchRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WatchRequest.newBuilder() to construct.
+    private WatchRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WatchRequest() {
+      key_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WatchRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WatchRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              key_ = s;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              prefix_ = input.readBool();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              fromVersion_ = input.readUInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_WatchRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_WatchRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.generated.KeyValueServiceMessages.WatchRequest.class, protobuf.generated.KeyValueServiceMessages.WatchRequest.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object key_;
+    /**
+     * <code>string key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    @java.lang.Override
+    public boolean hasKey() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>string key = 1;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        key_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string key = 1;</code>
+     * @return The bytes for key.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PREFIX_FIELD_NUMBER = 2;
+    private boolean prefix_;
+    /**
+     * <code>bool prefix = 2;</code>
+     * @return Whether the prefix field is set.
+     */
+    @java.lang.Override
+    public boolean hasPrefix() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>bool prefix = 2;</code>
+     * @return The prefix.
+     */
+    @java.lang.Override
+    public boolean getPrefix() {
+      return prefix_;
+    }
+
+    public static final int FROM_VERSION_FIELD_NUMBER = 3;
+    private long fromVersion_;
+    /**
+     * <code>uint64 from_version = 3;</code>
+     * @return Whether the fromVersion field is set.
+     */
+    @java.lang.Override
+    public boolean hasFromVersion() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>uint64 from_version = 3;</code>
+     * @return The fromVersion.
+     */
+    @java.lang.Override
+    public long getFromVersion() {
+      return fromVersion_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBool(2, prefix_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt64(3, fromVersion_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, prefix_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, fromVersion_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.WatchRequest)) {
+        return super.equals(obj);
+      }
+      protobuf.generated.KeyValueServiceMessages.WatchRequest other = (protobuf.generated.KeyValueServiceMessages.WatchRequest) obj;
+
+      if (hasKey() != other.hasKey()) return false;
+      if (hasKey()) {
+        if (!getKey()
+            .equals(other.getKey())) return false;
+      }
+      if (hasPrefix() != other.hasPrefix()) return false;
+      if (hasPrefix()) {
+        if (getPrefix()
+            != other.getPrefix()) return false;
+      }
+      if (hasFromVersion() != other.hasFromVersion()) return false;
+      if (hasFromVersion()) {
+        if (getFromVersion()
+            != other.getFromVersion()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasKey()) {
+        hash = (37 * hash) + KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getKey().hashCode();
+      }
+      if (hasPrefix()) {
+        hash = (37 * hash) + PREFIX_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getPrefix());
+      }
+      if (hasFromVersion()) {
+        hash = (37 * hash) + FROM_VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getFromVersion());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.WatchRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protobuf.WatchRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protobuf.WatchRequest)
+        protobuf.generated.KeyValueServiceMessages.WatchRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_WatchRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_WatchRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.generated.KeyValueServiceMessages.WatchRequest.class, protobuf.generated.KeyValueServiceMessages.WatchRequest.Builder.class);
+      }
+
+      // Construct using protobuf.generated.KeyValueServiceMessages.WatchRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        key_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        prefix_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fromVersion_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_WatchRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.WatchRequest getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.WatchRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.WatchRequest build() {
+        protobuf.generated.KeyValueServiceMessages.WatchRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.WatchRequest buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.WatchRequest result = new protobuf.generated.KeyValueServiceMessages.WatchRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.key_ = key_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.prefix_ = prefix_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.fromVersion_ = fromVersion_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.WatchRequest) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.WatchRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.WatchRequest other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.WatchRequest.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          bitField0_ |= 0x00000001;
+          key_ = other.key_;
+          onChanged();
+        }
+        if (other.hasPrefix()) {
+          setPrefix(other.getPrefix());
+        }
+        if (other.hasFromVersion()) {
+          setFromVersion(other.getFromVersion());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        protobuf.generated.KeyValueServiceMessages.WatchRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.WatchRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object key_ = "";
+      /**
+       * <code>string key = 1;</code>
+       * @return Whether the key field is set.
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return The key.
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          key_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return The bytes for key.
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @param value The key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        key_ = getDefaultInstance().getKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @param value The bytes for key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean prefix_ ;
+      /**
+       * <code>bool prefix = 2;</code>
+       * @return Whether the prefix field is set.
+       */
+      @java.lang.Override
+      public boolean hasPrefix() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>bool prefix = 2;</code>
+       * @return The prefix.
+       */
+      @java.lang.Override
+      public boolean getPrefix() {
+        return prefix_;
+      }
+      /**
+       * <code>bool prefix = 2;</code>
+       * @param value The prefix to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPrefix(boolean value) {
+        bitField0_ |= 0x00000002;
+        prefix_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool prefix = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPrefix() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        prefix_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long fromVersion_ ;
+      /**
+       * <code>uint64 from_version = 3;</code>
+       * @return Whether the fromVersion field is set.
+       */
+      @java.lang.Override
+      public boolean hasFromVersion() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>uint64 from_version = 3;</code>
+       * @return The fromVersion.
+       */
+      @java.lang.Override
+      public long getFromVersion() {
+        return fromVersion_;
+      }
+      /**
+       * <code>uint64 from_version = 3;</code>
+       * @param value The fromVersion to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFromVersion(long value) {
+        bitField0_ |= 0x00000004;
+        fromVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 from_version = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFromVersion() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        fromVersion_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protobuf.WatchRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:protobuf.WatchRequest)
+    private static final protobuf.generated.KeyValueServiceMessages.WatchRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.WatchRequest();
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.WatchRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WatchRequest>
+        PARSER = new com.google.protobuf.AbstractParser<WatchRequest>() {
+      @java.lang.Override
+      public WatchRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WatchRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<WatchRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WatchRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.WatchRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WatchEventOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.WatchEvent)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.protobuf.ChangeType type = 1;</code>
+     * @return Whether the type field is set.
+     */
+    boolean hasType();
+    /**
+     * <code>.protobuf.ChangeType type = 1;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    int getTypeValue();
+    /**
+     * <code>.protobuf.ChangeType type = 1;</code>
+     * @return The type.
+     */
+    protobuf.generated.KeyValueServiceMessages.ChangeType getType();
+
+    /**
+     * <code>string key = 2;</code>
+     * @return Whether the key field is set.
+     */
+    boolean hasKey();
+    /**
+     * <code>string key = 2;</code>
+     * @return The key.
+     */
+    java.lang.String getKey();
+    /**
+     * <code>string key = 2;</code>
+     * @return The bytes for key.
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    /**
+     * <code>bytes value = 3;</code>
+     * @return Whether the value field is set.
+     */
+    boolean hasValue();
+    /**
+     * <code>bytes value = 3;</code>
+     * @return The value.
+     */
+    com.google.protobuf.ByteString getValue();
+
+    /**
+     * <code>uint64 version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>uint64 version = 4;</code>
+     * @return The version.
+     */
+    long getVersion();
+  }
+  /**
+   * Protobuf type {@code protobuf.WatchEvent}
+   */
+  public static final class WatchEvent extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protobuf.WatchEvent)
+      WatchEventOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WatchEvent.newBuilder() to construct.
+    private WatchEvent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WatchEvent() {
+      type_ = 0;
+      key_ = "";
+      value_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WatchEvent();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WatchEvent(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+              bitField0_ |= 0x00000001;
+              type_ = rawValue;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000002;
+              key_ = s;
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              value_ = input.readBytes();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              version_ = input.readUInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_WatchEvent_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_WatchEvent_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.generated.KeyValueServiceMessages.WatchEvent.class, protobuf.generated.KeyValueServiceMessages.WatchEvent.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private int type_;
+    /**
+     * <code>.protobuf.ChangeType type = 1;</code>
+     * @return Whether the type field is set.
+     */
+    @java.lang.Override public boolean hasType() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>.protobuf.ChangeType type = 1;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    @java.lang.Override public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>.protobuf.ChangeType type = 1;</code>
+     * @return The type.
+     */
+    @java.lang.Override public protobuf.generated.KeyValueServiceMessages.ChangeType getType() {
+      @SuppressWarnings("deprecation")
+      protobuf.generated.KeyValueServiceMessages.ChangeType result = protobuf.generated.KeyValueServiceMessages.ChangeType.valueOf(type_);
+      return result == null ? protobuf.generated.KeyValueServiceMessages.ChangeType.UNRECOGNIZED : result;
+    }
+
+    public static final int KEY_FIELD_NUMBER = 2;
+    private volatile java.lang.Object key_;
+    /**
+     * <code>string key = 2;</code>
+     * @return Whether the key field is set.
+     */
+    @java.lang.Override
+    public boolean hasKey() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>string key = 2;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        key_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string key = 2;</code>
+     * @return The bytes for key.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString value_;
+    /**
+     * <code>bytes value = 3;</code>
+     * @return Whether the value field is set.
+     */
+    @java.lang.Override
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>bytes value = 3;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 4;
+    private long version_;
+    /**
+     * <code>uint64 version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    @java.lang.Override
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>uint64 version = 4;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public long getVersion() {
+      return version_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeEnum(1, type_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, key_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeBytes(3, value_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeUInt64(4, version_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, type_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, key_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, value_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, version_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.WatchEvent)) {
+        return super.equals(obj);
+      }
+      protobuf.generated.KeyValueServiceMessages.WatchEvent other = (protobuf.generated.KeyValueServiceMessages.WatchEvent) obj;
+
+      if (hasType() != other.hasType()) return false;
+      if (hasType()) {
+        if (type_ != other.type_) return false;
+      }
+      if (hasKey() != other.hasKey()) return false;
+      if (hasKey()) {
+        if (!getKey()
+            .equals(other.getKey())) return false;
+      }
+      if (hasValue() != other.hasValue()) return false;
+      if (hasValue()) {
+        if (!getValue()
+            .equals(other.getValue())) return false;
+      }
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (getVersion()
+            != other.getVersion()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasType()) {
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + type_;
+      }
+      if (hasKey()) {
+        hash = (37 * hash) + KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getKey().hashCode();
+      }
+      if (hasValue()) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+      }
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getVersion());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.WatchEvent prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protobuf.WatchEvent}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protobuf.WatchEvent)
+        protobuf.generated.KeyValueServiceMessages.WatchEventOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_WatchEvent_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_WatchEvent_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.generated.KeyValueServiceMessages.WatchEvent.class, protobuf.generated.KeyValueServiceMessages.WatchEvent.Builder.class);
+      }
+
+      // Construct using protobuf.generated.KeyValueServiceMessages.WatchEvent.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        type_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        key_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        version_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_WatchEvent_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.WatchEvent getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.WatchEvent.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.WatchEvent build() {
+        protobuf.generated.KeyValueServiceMessages.WatchEvent result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.WatchEvent buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.WatchEvent result = new protobuf.generated.KeyValueServiceMessages.WatchEvent(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.type_ = type_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.key_ = key_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.value_ = value_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000008;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.WatchEvent) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.WatchEvent)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.WatchEvent other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.WatchEvent.getDefaultInstance()) return this;
+        if (other.hasType()) {
+          setType(other.getType());
+        }
+        if (other.hasKey()) {
+          bitField0_ |= 0x00000002;
+          key_ = other.key_;
+          onChanged();
+        }
+        if (other.hasValue()) {
+          setValue(other.getValue());
+        }
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        protobuf.generated.KeyValueServiceMessages.WatchEvent parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.WatchEvent) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int type_ = 0;
+      /**
+       * <code>.protobuf.ChangeType type = 1;</code>
+       * @return Whether the type field is set.
+       */
+      @java.lang.Override public boolean hasType() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.protobuf.ChangeType type = 1;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>.protobuf.ChangeType type = 1;</code>
+       * @param value The enum numeric value on the wire for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeValue(int value) {
+        bitField0_ |= 0x00000001;
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.protobuf.ChangeType type = 1;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.ChangeType getType() {
+        @SuppressWarnings("deprecation")
+        protobuf.generated.KeyValueServiceMessages.ChangeType result = protobuf.generated.KeyValueServiceMessages.ChangeType.valueOf(type_);
+        return result == null ? protobuf.generated.KeyValueServiceMessages.ChangeType.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.protobuf.ChangeType type = 1;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(protobuf.generated.KeyValueServiceMessages.ChangeType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        type_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.protobuf.ChangeType type = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object key_ = "";
+      /**
+       * <code>string key = 2;</code>
+       * @return Whether the key field is set.
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>string key = 2;</code>
+       * @return The key.
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          key_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string key = 2;</code>
+       * @return The bytes for key.
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string key = 2;</code>
+       * @param value The key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKey() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        key_ = getDefaultInstance().getKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 2;</code>
+       * @param value The bytes for key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000002;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes value = 3;</code>
+       * @return Whether the value field is set.
+       */
+      @java.lang.Override
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>bytes value = 3;</code>
+       * @return The value.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
+      }
+      /**
+       * <code>bytes value = 3;</code>
+       * @param value The value to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValue(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes value = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+
+      private long version_ ;
+      /**
+       * <code>uint64 version = 4;</code>
+       * @return Whether the version field is set.
+       */
+      @java.lang.Override
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>uint64 version = 4;</code>
+       * @return The version.
+       */
+      @java.lang.Override
+      public long getVersion() {
+        return version_;
+      }
+      /**
+       * <code>uint64 version = 4;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(long value) {
+        bitField0_ |= 0x00000008;
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 version = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        version_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protobuf.WatchEvent)
+    }
+
+    // @@protoc_insertion_point(class_scope:protobuf.WatchEvent)
+    private static final protobuf.generated.KeyValueServiceMessages.WatchEvent DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.WatchEvent();
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.WatchEvent getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WatchEvent>
+        PARSER = new com.google.protobuf.AbstractParser<WatchEvent>() {
+      @java.lang.Override
+      public WatchEvent parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WatchEvent(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<WatchEvent> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WatchEvent> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.WatchEvent getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface KeyValuePairOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.KeyValuePair)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    boolean hasKey();
+    /**
+     * <code>string key = 1;</code>
+     * @return The key.
+     */
+    java.lang.String getKey();
+    /**
+     * <code>string key = 1;</code>
+     * @return The bytes for key.
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    /**
+     * <code>bytes value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    boolean hasValue();
+    /**
+     * <code>bytes value = 2;</code>
+     * @return The value.
+     */
+    com.google.protobuf.ByteString getValue();
+  }
+  /**
+   * Protobuf type {@code protobuf.KeyValuePair}
+   */
+  public static final class KeyValuePair extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protobuf.KeyValuePair)
+      KeyValuePairOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use KeyValuePair.newBuilder() to construct.
+    private KeyValuePair(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private KeyValuePair() {
+      key_ = "";
+      value_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new KeyValuePair();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private KeyValuePair(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              key_ = s;
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              value_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_KeyValuePair_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_KeyValuePair_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.generated.KeyValueServiceMessages.KeyValuePair.class, protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object key_;
+    /**
+     * <code>string key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    @java.lang.Override
+    public boolean hasKey() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>string key = 1;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        key_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string key = 1;</code>
+     * @return The bytes for key.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString value_;
+    /**
+     * <code>bytes value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    @java.lang.Override
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>bytes value = 2;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBytes(2, value_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, value_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.KeyValuePair)) {
+        return super.equals(obj);
+      }
+      protobuf.generated.KeyValueServiceMessages.KeyValuePair other = (protobuf.generated.KeyValueServiceMessages.KeyValuePair) obj;
+
+      if (hasKey() != other.hasKey()) return false;
+      if (hasKey()) {
+        if (!getKey()
+            .equals(other.getKey())) return false;
+      }
+      if (hasValue() != other.hasValue()) return false;
+      if (hasValue()) {
+        if (!getValue()
+            .equals(other.getValue())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasKey()) {
+        hash = (37 * hash) + KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getKey().hashCode();
+      }
+      if (hasValue()) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.KeyValuePair prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protobuf.KeyValuePair}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protobuf.KeyValuePair)
+        protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_KeyValuePair_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_KeyValuePair_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.generated.KeyValueServiceMessages.KeyValuePair.class, protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder.class);
+      }
+
+      // Construct using protobuf.generated.KeyValueServiceMessages.KeyValuePair.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        key_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        value_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_KeyValuePair_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePair getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.KeyValuePair.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePair build() {
+        protobuf.generated.KeyValueServiceMessages.KeyValuePair result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePair buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.KeyValuePair result = new protobuf.generated.KeyValueServiceMessages.KeyValuePair(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.key_ = key_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.value_ = value_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.KeyValuePair) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.KeyValuePair)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.KeyValuePair other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.KeyValuePair.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          bitField0_ |= 0x00000001;
+          key_ = other.key_;
+          onChanged();
+        }
+        if (other.hasValue()) {
+          setValue(other.getValue());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        protobuf.generated.KeyValueServiceMessages.KeyValuePair parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.KeyValuePair) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object key_ = "";
+      /**
+       * <code>string key = 1;</code>
+       * @return Whether the key field is set.
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return The key.
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          key_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return The bytes for key.
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @param value The key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        key_ = getDefaultInstance().getKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @param value The bytes for key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes value = 2;</code>
+       * @return Whether the value field is set.
+       */
+      @java.lang.Override
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       * @return The value.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       * @param value The value to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValue(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protobuf.KeyValuePair)
+    }
+
+    // @@protoc_insertion_point(class_scope:protobuf.KeyValuePair)
+    private static final protobuf.generated.KeyValueServiceMessages.KeyValuePair DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.KeyValuePair();
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.KeyValuePair getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<KeyValuePair>
+        PARSER = new com.google.protobuf.AbstractParser<KeyValuePair>() {
+      @java.lang.Override
+      public KeyValuePair parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new KeyValuePair(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<KeyValuePair> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<KeyValuePair> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.KeyValuePair getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BulkLoadRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.BulkLoadRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    java.util.List<protobuf.generated.KeyValueServiceMessages.KeyValuePair> 
+        getEntriesList();
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    protobuf.generated.KeyValueServiceMessages.KeyValuePair getEntries(int index);
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    int getEntriesCount();
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    java.util.List<? extends protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder> 
+        getEntriesOrBuilderList();
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder getEntriesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code protobuf.BulkLoadRequest}
+   */
+  public static final class BulkLoadRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protobuf.BulkLoadRequest)
+      BulkLoadRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BulkLoadRequest.newBuilder() to construct.
+    private BulkLoadRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BulkLoadRequest() {
+      entries_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BulkLoadRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BulkLoadRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                entries_ = new java.util.ArrayList<protobuf.generated.KeyValueServiceMessages.KeyValuePair>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              entries_.add(
+                  input.readMessage(protobuf.generated.KeyValueServiceMessages.KeyValuePair.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          entries_ = java.util.Collections.unmodifiableList(entries_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_BulkLoadRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_BulkLoadRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.generated.KeyValueServiceMessages.BulkLoadRequest.class, protobuf.generated.KeyValueServiceMessages.BulkLoadRequest.Builder.class);
+    }
+
+    public static final int ENTRIES_FIELD_NUMBER = 1;
+    private java.util.List<protobuf.generated.KeyValueServiceMessages.KeyValuePair> entries_;
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<protobuf.generated.KeyValueServiceMessages.KeyValuePair> getEntriesList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder> 
+        getEntriesOrBuilderList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    @java.lang.Override
+    public int getEntriesCount() {
+      return entries_.size();
+    }
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.KeyValuePair getEntries(int index) {
+      return entries_.get(index);
+    }
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder getEntriesOrBuilder(
+        int index) {
+      return entries_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < entries_.size(); i++) {
+        output.writeMessage(1, entries_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < entries_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, entries_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.BulkLoadRequest)) {
+        return super.equals(obj);
+      }
+      protobuf.generated.KeyValueServiceMessages.BulkLoadRequest other = (protobuf.generated.KeyValueServiceMessages.BulkLoadRequest) obj;
+
+      if (!getEntriesList()
+          .equals(other.getEntriesList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getEntriesCount() > 0) {
+        hash = (37 * hash) + ENTRIES_FIELD_NUMBER;
+        hash = (53 * hash) + getEntriesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.BulkLoadRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code protobuf.BulkLoadRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protobuf.BulkLoadRequest)
+        protobuf.generated.KeyValueServiceMessages.BulkLoadRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_BulkLoadRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_BulkLoadRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                protobuf.generated.KeyValueServiceMessages.BulkLoadRequest.class, protobuf.generated.KeyValueServiceMessages.BulkLoadRequest.Builder.class);
+      }
+
+      // Construct using protobuf.generated.KeyValueServiceMessages.BulkLoadRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getEntriesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_BulkLoadRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.BulkLoadRequest getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.BulkLoadRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.BulkLoadRequest build() {
+        protobuf.generated.KeyValueServiceMessages.BulkLoadRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public protobuf.generated.KeyValueServiceMessages.BulkLoadRequest buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.BulkLoadRequest result = new protobuf.generated.KeyValueServiceMessages.BulkLoadRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (entriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            entries_ = java.util.Collections.unmodifiableList(entries_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.entries_ = entries_;
+        } else {
+          result.entries_ = entriesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.BulkLoadRequest) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.BulkLoadRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.BulkLoadRequest other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.BulkLoadRequest.getDefaultInstance()) return this;
+        if (entriesBuilder_ == null) {
+          if (!other.entries_.isEmpty()) {
+            if (entries_.isEmpty()) {
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEntriesIsMutable();
+              entries_.addAll(other.entries_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entries_.isEmpty()) {
+            if (entriesBuilder_.isEmpty()) {
+              entriesBuilder_.dispose();
+              entriesBuilder_ = null;
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              entriesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEntriesFieldBuilder() : null;
+            } else {
+              entriesBuilder_.addAllMessages(other.entries_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        protobuf.generated.KeyValueServiceMessages.BulkLoadRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.BulkLoadRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<protobuf.generated.KeyValueServiceMessages.KeyValuePair> entries_ =
+        java.util.Collections.emptyList();
+      private void ensureEntriesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          entries_ = new java.util.ArrayList<protobuf.generated.KeyValueServiceMessages.KeyValuePair>(entries_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.KeyValuePair, protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder, protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder> entriesBuilder_;
+
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public java.util.List<protobuf.generated.KeyValueServiceMessages.KeyValuePair> getEntriesList() {
+        if (entriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entries_);
+        } else {
+          return entriesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public int getEntriesCount() {
+        if (entriesBuilder_ == null) {
+          return entries_.size();
+        } else {
+          return entriesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePair getEntries(int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);
+        } else {
+          return entriesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, protobuf.generated.KeyValueServiceMessages.KeyValuePair value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.set(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder addEntries(protobuf.generated.KeyValueServiceMessages.KeyValuePair value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, protobuf.generated.KeyValueServiceMessages.KeyValuePair value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder addEntries(
+          protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder addAllEntries(
+          java.lang.Iterable<? extends protobuf.generated.KeyValueServiceMessages.KeyValuePair> values) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entries_);
+          onChanged();
+        } else {
+          entriesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder clearEntries() {
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder removeEntries(int index) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.remove(index);
+          onChanged();
+        } else {
+          entriesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder getEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder getEntriesOrBuilder(
+          int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);  } else {
+          return entriesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public java.util.List<? extends protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder> 
+           getEntriesOrBuilderList() {
+        if (entriesBuilder_ != null) {
+          return entriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entries_);
+        }
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder addEntriesBuilder() {
+        return getEntriesFieldBuilder().addBuilder(
+            protobuf.generated.KeyValueServiceMessages.KeyValuePair.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder addEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().addBuilder(
+            index, protobuf.generated.KeyValueServiceMessages.KeyValuePair.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public java.util.List<protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder> 
+           getEntriesBuilderList() {
+        return getEntriesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.KeyValuePair, protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder, protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder> 
+          getEntriesFieldBuilder() {
+        if (entriesBuilder_ == null) {
+          entriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              protobuf.generated.KeyValueServiceMessages.KeyValuePair, protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder, protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder>(
+                  entries_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          entries_ = null;
+        }
+        return entriesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protobuf.BulkLoadRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:protobuf.BulkLoadRequest)
+    private static final protobuf.generated.KeyValueServiceMessages.BulkLoadRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.BulkLoadRequest();
+    }
+
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BulkLoadRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BulkLoadRequest>() {
+      @java.lang.Override
+      public BulkLoadRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BulkLoadRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BulkLoadRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BulkLoadRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.BulkLoadRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BulkLoadResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.BulkLoadResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return Whether the errorStatus field is set.
+     */
+    boolean hasErrorStatus();
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return The enum numeric value on the wire for errorStatus.
+     */
+    int getErrorStatusValue();
+    /**
+     * <code>.protobuf.ErrorStatus error_status = 1;</code>
+     * @return The errorStatus.
+     */
+    protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus();
+
+    /**
+     * <pre>
+     * The number of pairs applied to the store. A pair replaced by a later pair
+     * for the same key in the same batch is not applied and is not counted.
+     * </pre>
+     *
+     * <code>uint64 loaded = 2;</code>
+     * @return Whether the loaded field is set.
+     */
+    boolean hasLoaded();
+    /**
+     * <pre>
+     * The number of pairs applied to the store. A pair replaced by a later pair
+     * for the same key in the same batch is not applied and is not counted.
+     * </pre>
+     *
+     * <code>uint64 loaded = 2;</code>
+     * @return The loaded.
+     */
+    long getLoaded();
+
+    /**
+     * <code>uint64 rejected = 3;</code>
+     * @return Whether the rejected field is set.
+     */
+    boolean hasRejected();
+    /**
+     * <code>uint64 rejected = 3;</code>
+     * @return The rejected.
+     */
+    long getRejected();
+
+    /**
+     * <code>uint64 batches = 4;</code>
+     * @return Whether the batches field is set.
+     */
+    boolean hasBatches();
+    /**
+     * <code>uint64 batches = 4;</code>
+     * @return The batches.
+     */
+    long getBatches();
+
+    /**
+     * <pre>
+     * The UTF-8 key bytes plus value bytes of the pairs counted in loaded
+     * </pre>
+     *
+     * <code>uint64 bytes = 5;</code>
+     * @return Whether the bytes field is set.
+     */
+    boolean hasBytes();
+    /**
+     * <pre>
+     * The UTF-8 key bytes plus value bytes of the pairs counted in loaded
+     * </pre>
+     *
+     * <code>uint64 bytes = 5;</code>
+     * @return The bytes.
+     */
+    long getBytes();
+
+    /**
+     * <code>uint64 elapsed_ms = 6;</code>
+     * @return Whether the elapsedMs field is set.
+     */
+    boolean hasElapsedMs();
+    /**
+     * <code>uint64 elapsed_ms = 6;</code>
+     * @return The elapsedMs.
+     */
+    long getElapsedMs();
+
+    /**
+     * <code>bool sorted = 7;</code>
+     * @return Whether the sorted field is set.
+     */
+    boolean hasSorted();
+    /**
+     * <code>bool sorted = 7;</code>
+     * @return The sorted.
+     */
+    boolean getSorted();
+
+    /**
+     * <code>uint64 version = 8;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>uint64 version = 8;</code>
+     * @return The version.
+     */
+    long getVersion();
+  }
+  /**
+   * Protobuf type {@code protobuf.BulkLoadResponse}
+   */
+  public static final class BulkLoadResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protobuf.BulkLoadResponse)
+      BulkLoadResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BulkLoadResponse.newBuilder() to construct.
+    private BulkLoadResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BulkLoadResponse() {
+      errorStatus_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BulkLoadResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BulkLoadResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int rawValue = input.readEnum();
+              bitField0_ |= 0x00000001;
+              errorStatus_ = rawValue;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              loaded_ = input.readUInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              rejected_ = input.readUInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              batches_ = input.readUInt64();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              bytes_ = input.readUInt64();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              elapsedMs_ = input.readUInt64();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000040;
+              sorted_ = input.readBool();
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000080;
+              version_ = input.readUInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_BulkLoadResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_BulkLoadResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              protobuf.generated.KeyValueServiceMessages.BulkLoadResponse.class, protobuf.generated.KeyValueServiceMessages.BulkLoadResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ERROR_STATUS_FIELD_NUMBER = 1;
     private int errorStatus_;
     /**
      * <code>.protobuf.ErrorStatus error_status = 1;</code>
@@ -2221,50 +12316,155 @@ public final class KeyValueServiceMessages {
       return result == null ? protobuf.generated.KeyValueServiceMessages.ErrorStatus.UNRECOGNIZED : result;
     }
 
-    public static final int VALUE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object value_;
+    public static final int LOADED_FIELD_NUMBER = 2;
+    private long loaded_;
     /**
-     * <code>string value = 2;</code>
-     * @return Whether the value field is set.
+     * <pre>
+     * The number of pairs applied to the store. A pair replaced by a later pair
+     * for the same key in the same batch is not applied and is not counted.
+     * </pre>
+     *
+     * <code>uint64 loaded = 2;</code>
+     * @return Whether the loaded field is set.
      */
     @java.lang.Override
-    public boolean hasValue() {
+    public boolean hasLoaded() {
       return ((bitField0_ & 0x00000002) != 0);
     }
     /**
-     * <code>string value = 2;</code>
-     * @return The value.
+     * <pre>
+     * The number of pairs applied to the store. A pair replaced by a later pair
+     * for the same key in the same batch is not applied and is not counted.
+     * </pre>
+     *
+     * <code>uint64 loaded = 2;</code>
+     * @return The loaded.
      */
     @java.lang.Override
-    public java.lang.String getValue() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        value_ = s;
-        return s;
-      }
+    public long getLoaded() {
+      return loaded_;
     }
+
+    public static final int REJECTED_FIELD_NUMBER = 3;
+    private long rejected_;
     /**
-     * <code>string value = 2;</code>
-     * @return The bytes for value.
+     * <code>uint64 rejected = 3;</code>
+     * @return Whether the rejected field is set.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString
-        getValueBytes() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        value_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public boolean hasRejected() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>uint64 rejected = 3;</code>
+     * @return The rejected.
+     */
+    @java.lang.Override
+    public long getRejected() {
+      return rejected_;
+    }
+
+    public static final int BATCHES_FIELD_NUMBER = 4;
+    private long batches_;
+    /**
+     * <code>uint64 batches = 4;</code>
+     * @return Whether the batches field is set.
+     */
+    @java.lang.Override
+    public boolean hasBatches() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>uint64 batches = 4;</code>
+     * @return The batches.
+     */
+    @java.lang.Override
+    public long getBatches() {
+      return batches_;
+    }
+
+    public static final int BYTES_FIELD_NUMBER = 5;
+    private long bytes_;
+    /**
+     * <pre>
+     * The UTF-8 key bytes plus value bytes of the pairs counted in loaded
+     * </pre>
+     *
+     * <code>uint64 bytes = 5;</code>
+     * @return Whether the bytes field is set.
+     */
+    @java.lang.Override
+    public boolean hasBytes() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <pre>
+     * The UTF-8 key bytes plus value bytes of the pairs counted in loaded
+     * </pre>
+     *
+     * <code>uint64 bytes = 5;</code>
+     * @return The bytes.
+     */
+    @java.lang.Override
+    public long getBytes() {
+      return bytes_;
+    }
+
+    public static final int ELAPSED_MS_FIELD_NUMBER = 6;
+    private long elapsedMs_;
+    /**
+     * <code>uint64 elapsed_ms = 6;</code>
+     * @return Whether the elapsedMs field is set.
+     */
+    @java.lang.Override
+    public boolean hasElapsedMs() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>uint64 elapsed_ms = 6;</code>
+     * @return The elapsedMs.
+     */
+    @java.lang.Override
+    public long getElapsedMs() {
+      return elapsedMs_;
+    }
+
+    public static final int SORTED_FIELD_NUMBER = 7;
+    private boolean sorted_;
+    /**
+     * <code>bool sorted = 7;</code>
+     * @return Whether the sorted field is set.
+     */
+    @java.lang.Override
+    public boolean hasSorted() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>bool sorted = 7;</code>
+     * @return The sorted.
+     */
+    @java.lang.Override
+    public boolean getSorted() {
+      return sorted_;
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 8;
+    private long version_;
+    /**
+     * <code>uint64 version = 8;</code>
+     * @return Whether the version field is set.
+     */
+    @java.lang.Override
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>uint64 version = 8;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public long getVersion() {
+      return version_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2285,7 +12485,25 @@ public final class KeyValueServiceMessages {
         output.writeEnum(1, errorStatus_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, value_);
+        output.writeUInt64(2, loaded_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt64(3, rejected_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeUInt64(4, batches_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeUInt64(5, bytes_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeUInt64(6, elapsedMs_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeBool(7, sorted_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeUInt64(8, version_);
       }
       unknownFields.writeTo(output);
     }
@@ -2301,7 +12519,32 @@ public final class KeyValueServiceMessages {
           .computeEnumSize(1, errorStatus_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, value_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, loaded_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, rejected_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, batches_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, bytes_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(6, elapsedMs_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, sorted_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(8, version_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -2313,19 +12556,49 @@ public final class KeyValueServiceMessages {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.GetResponse)) {
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.BulkLoadResponse)) {
         return super.equals(obj);
       }
-      protobuf.generated.KeyValueServiceMessages.GetResponse other = (protobuf.generated.KeyValueServiceMessages.GetResponse) obj;
+      protobuf.generated.KeyValueServiceMessages.BulkLoadResponse other = (protobuf.generated.KeyValueServiceMessages.BulkLoadResponse) obj;
 
       if (hasErrorStatus() != other.hasErrorStatus()) return false;
       if (hasErrorStatus()) {
         if (errorStatus_ != other.errorStatus_) return false;
       }
-      if (hasValue() != other.hasValue()) return false;
-      if (hasValue()) {
-        if (!getValue()
-            .equals(other.getValue())) return false;
+      if (hasLoaded() != other.hasLoaded()) return false;
+      if (hasLoaded()) {
+        if (getLoaded()
+            != other.getLoaded()) return false;
+      }
+      if (hasRejected() != other.hasRejected()) return false;
+      if (hasRejected()) {
+        if (getRejected()
+            != other.getRejected()) return false;
+      }
+      if (hasBatches() != other.hasBatches()) return false;
+      if (hasBatches()) {
+        if (getBatches()
+            != other.getBatches()) return false;
+      }
+      if (hasBytes() != other.hasBytes()) return false;
+      if (hasBytes()) {
+        if (getBytes()
+            != other.getBytes()) return false;
+      }
+      if (hasElapsedMs() != other.hasElapsedMs()) return false;
+      if (hasElapsedMs()) {
+        if (getElapsedMs()
+            != other.getElapsedMs()) return false;
+      }
+      if (hasSorted() != other.hasSorted()) return false;
+      if (hasSorted()) {
+        if (getSorted()
+            != other.getSorted()) return false;
+      }
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (getVersion()
+            != other.getVersion()) return false;
       }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
@@ -2342,78 +12615,109 @@ public final class KeyValueServiceMessages {
         hash = (37 * hash) + ERROR_STATUS_FIELD_NUMBER;
         hash = (53 * hash) + errorStatus_;
       }
-      if (hasValue()) {
-        hash = (37 * hash) + VALUE_FIELD_NUMBER;
-        hash = (53 * hash) + getValue().hashCode();
+      if (hasLoaded()) {
+        hash = (37 * hash) + LOADED_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getLoaded());
+      }
+      if (hasRejected()) {
+        hash = (37 * hash) + REJECTED_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getRejected());
+      }
+      if (hasBatches()) {
+        hash = (37 * hash) + BATCHES_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getBatches());
+      }
+      if (hasBytes()) {
+        hash = (37 * hash) + BYTES_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getBytes());
+      }
+      if (hasElapsedMs()) {
+        hash = (37 * hash) + ELAPSED_MS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getElapsedMs());
+      }
+      if (hasSorted()) {
+        hash = (37 * hash) + SORTED_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getSorted());
+      }
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getVersion());
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(byte[] data)
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(java.io.InputStream input)
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseDelimitedFrom(java.io.InputStream input)
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseDelimitedFrom(
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2426,7 +12730,7 @@ public final class KeyValueServiceMessages {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.GetResponse prototype) {
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.BulkLoadResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -2442,26 +12746,26 @@ public final class KeyValueServiceMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code protobuf.GetResponse}
+     * Protobuf type {@code protobuf.BulkLoadResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protobuf.GetResponse)
-        protobuf.generated.KeyValueServiceMessages.GetResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protobuf.BulkLoadResponse)
+        protobuf.generated.KeyValueServiceMessages.BulkLoadResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetResponse_descriptor;
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_BulkLoadResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetResponse_fieldAccessorTable
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_BulkLoadResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                protobuf.generated.KeyValueServiceMessages.GetResponse.class, protobuf.generated.KeyValueServiceMessages.GetResponse.Builder.class);
+                protobuf.generated.KeyValueServiceMessages.BulkLoadResponse.class, protobuf.generated.KeyValueServiceMessages.BulkLoadResponse.Builder.class);
       }
 
-      // Construct using protobuf.generated.KeyValueServiceMessages.GetResponse.newBuilder()
+      // Construct using protobuf.generated.KeyValueServiceMessages.BulkLoadResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2481,25 +12785,37 @@ public final class KeyValueServiceMessages {
         super.clear();
         errorStatus_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
-        value_ = "";
+        loaded_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000002);
+        rejected_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        batches_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        bytes_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        elapsedMs_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        sorted_ = false;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        version_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000080);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_GetResponse_descriptor;
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_BulkLoadResponse_descriptor;
       }
 
       @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.GetResponse getDefaultInstanceForType() {
-        return protobuf.generated.KeyValueServiceMessages.GetResponse.getDefaultInstance();
+      public protobuf.generated.KeyValueServiceMessages.BulkLoadResponse getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.BulkLoadResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.GetResponse build() {
-        protobuf.generated.KeyValueServiceMessages.GetResponse result = buildPartial();
+      public protobuf.generated.KeyValueServiceMessages.BulkLoadResponse build() {
+        protobuf.generated.KeyValueServiceMessages.BulkLoadResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2507,8 +12823,8 @@ public final class KeyValueServiceMessages {
       }
 
       @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.GetResponse buildPartial() {
-        protobuf.generated.KeyValueServiceMessages.GetResponse result = new protobuf.generated.KeyValueServiceMessages.GetResponse(this);
+      public protobuf.generated.KeyValueServiceMessages.BulkLoadResponse buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.BulkLoadResponse result = new protobuf.generated.KeyValueServiceMessages.BulkLoadResponse(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -2516,9 +12832,33 @@ public final class KeyValueServiceMessages {
         }
         result.errorStatus_ = errorStatus_;
         if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.loaded_ = loaded_;
           to_bitField0_ |= 0x00000002;
         }
-        result.value_ = value_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.rejected_ = rejected_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.batches_ = batches_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.bytes_ = bytes_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.elapsedMs_ = elapsedMs_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.sorted_ = sorted_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000080;
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2558,23 +12898,39 @@ public final class KeyValueServiceMessages {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof protobuf.generated.KeyValueServiceMessages.GetResponse) {
-          return mergeFrom((protobuf.generated.KeyValueServiceMessages.GetResponse)other);
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.BulkLoadResponse) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.BulkLoadResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.GetResponse other) {
-        if (other == protobuf.generated.KeyValueServiceMessages.GetResponse.getDefaultInstance()) return this;
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.BulkLoadResponse other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.BulkLoadResponse.getDefaultInstance()) return this;
         if (other.hasErrorStatus()) {
           setErrorStatus(other.getErrorStatus());
         }
-        if (other.hasValue()) {
-          bitField0_ |= 0x00000002;
-          value_ = other.value_;
-          onChanged();
+        if (other.hasLoaded()) {
+          setLoaded(other.getLoaded());
+        }
+        if (other.hasRejected()) {
+          setRejected(other.getRejected());
+        }
+        if (other.hasBatches()) {
+          setBatches(other.getBatches());
+        }
+        if (other.hasBytes()) {
+          setBytes(other.getBytes());
+        }
+        if (other.hasElapsedMs()) {
+          setElapsedMs(other.getElapsedMs());
+        }
+        if (other.hasSorted()) {
+          setSorted(other.getSorted());
+        }
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -2591,11 +12947,11 @@ public final class KeyValueServiceMessages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        protobuf.generated.KeyValueServiceMessages.GetResponse parsedMessage = null;
+        protobuf.generated.KeyValueServiceMessages.BulkLoadResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (protobuf.generated.KeyValueServiceMessages.GetResponse) e.getUnfinishedMessage();
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.BulkLoadResponse) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -2667,85 +13023,311 @@ public final class KeyValueServiceMessages {
         return this;
       }
 
-      private java.lang.Object value_ = "";
+      private long loaded_ ;
       /**
-       * <code>string value = 2;</code>
-       * @return Whether the value field is set.
+       * <pre>
+       * The number of pairs applied to the store. A pair replaced by a later pair
+       * for the same key in the same batch is not applied and is not counted.
+       * </pre>
+       *
+       * <code>uint64 loaded = 2;</code>
+       * @return Whether the loaded field is set.
        */
-      public boolean hasValue() {
+      @java.lang.Override
+      public boolean hasLoaded() {
         return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <code>string value = 2;</code>
-       * @return The value.
+       * <pre>
+       * The number of pairs applied to the store. A pair replaced by a later pair
+       * for the same key in the same batch is not applied and is not counted.
+       * </pre>
+       *
+       * <code>uint64 loaded = 2;</code>
+       * @return The loaded.
        */
-      public java.lang.String getValue() {
-        java.lang.Object ref = value_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          value_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      @java.lang.Override
+      public long getLoaded() {
+        return loaded_;
       }
       /**
-       * <code>string value = 2;</code>
-       * @return The bytes for value.
+       * <pre>
+       * The number of pairs applied to the store. A pair replaced by a later pair
+       * for the same key in the same batch is not applied and is not counted.
+       * </pre>
+       *
+       * <code>uint64 loaded = 2;</code>
+       * @param value The loaded to set.
+       * @return This builder for chaining.
        */
-      public com.google.protobuf.ByteString
-          getValueBytes() {
-        java.lang.Object ref = value_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          value_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public Builder setLoaded(long value) {
+        bitField0_ |= 0x00000002;
+        loaded_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>string value = 2;</code>
-       * @param value The value to set.
+       * <pre>
+       * The number of pairs applied to the store. A pair replaced by a later pair
+       * for the same key in the same batch is not applied and is not counted.
+       * </pre>
+       *
+       * <code>uint64 loaded = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder setValue(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        value_ = value;
+      public Builder clearLoaded() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        loaded_ = 0L;
         onChanged();
         return this;
       }
+
+      private long rejected_ ;
+      /**
+       * <code>uint64 rejected = 3;</code>
+       * @return Whether the rejected field is set.
+       */
+      @java.lang.Override
+      public boolean hasRejected() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>uint64 rejected = 3;</code>
+       * @return The rejected.
+       */
+      @java.lang.Override
+      public long getRejected() {
+        return rejected_;
+      }
       /**
-       * <code>string value = 2;</code>
+       * <code>uint64 rejected = 3;</code>
+       * @param value The rejected to set.
        * @return This builder for chaining.
        */
-      public Builder clearValue() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        value_ = getDefaultInstance().getValue();
+      public Builder setRejected(long value) {
+        bitField0_ |= 0x00000004;
+        rejected_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string value = 2;</code>
-       * @param value The bytes for value to set.
+       * <code>uint64 rejected = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder setValueBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        bitField0_ |= 0x00000002;
-        value_ = value;
+      public Builder clearRejected() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        rejected_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long batches_ ;
+      /**
+       * <code>uint64 batches = 4;</code>
+       * @return Whether the batches field is set.
+       */
+      @java.lang.Override
+      public boolean hasBatches() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>uint64 batches = 4;</code>
+       * @return The batches.
+       */
+      @java.lang.Override
+      public long getBatches() {
+        return batches_;
+      }
+      /**
+       * <code>uint64 batches = 4;</code>
+       * @param value The batches to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBatches(long value) {
+        bitField0_ |= 0x00000008;
+        batches_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 batches = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBatches() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        batches_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long bytes_ ;
+      /**
+       * <pre>
+       * The UTF-8 key bytes plus value bytes of the pairs counted in loaded
+       * </pre>
+       *
+       * <code>uint64 bytes = 5;</code>
+       * @return Whether the bytes field is set.
+       */
+      @java.lang.Override
+      public boolean hasBytes() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <pre>
+       * The UTF-8 key bytes plus value bytes of the pairs counted in loaded
+       * </pre>
+       *
+       * <code>uint64 bytes = 5;</code>
+       * @return The bytes.
+       */
+      @java.lang.Override
+      public long getBytes() {
+        return bytes_;
+      }
+      /**
+       * <pre>
+       * The UTF-8 key bytes plus value bytes of the pairs counted in loaded
+       * </pre>
+       *
+       * <code>uint64 bytes = 5;</code>
+       * @param value The bytes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBytes(long value) {
+        bitField0_ |= 0x00000010;
+        bytes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The UTF-8 key bytes plus value bytes of the pairs counted in loaded
+       * </pre>
+       *
+       * <code>uint64 bytes = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBytes() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        bytes_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long elapsedMs_ ;
+      /**
+       * <code>uint64 elapsed_ms = 6;</code>
+       * @return Whether the elapsedMs field is set.
+       */
+      @java.lang.Override
+      public boolean hasElapsedMs() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>uint64 elapsed_ms = 6;</code>
+       * @return The elapsedMs.
+       */
+      @java.lang.Override
+      public long getElapsedMs() {
+        return elapsedMs_;
+      }
+      /**
+       * <code>uint64 elapsed_ms = 6;</code>
+       * @param value The elapsedMs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setElapsedMs(long value) {
+        bitField0_ |= 0x00000020;
+        elapsedMs_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 elapsed_ms = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearElapsedMs() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        elapsedMs_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean sorted_ ;
+      /**
+       * <code>bool sorted = 7;</code>
+       * @return Whether the sorted field is set.
+       */
+      @java.lang.Override
+      public boolean hasSorted() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>bool sorted = 7;</code>
+       * @return The sorted.
+       */
+      @java.lang.Override
+      public boolean getSorted() {
+        return sorted_;
+      }
+      /**
+       * <code>bool sorted = 7;</code>
+       * @param value The sorted to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSorted(boolean value) {
+        bitField0_ |= 0x00000040;
+        sorted_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool sorted = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSorted() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        sorted_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long version_ ;
+      /**
+       * <code>uint64 version = 8;</code>
+       * @return Whether the version field is set.
+       */
+      @java.lang.Override
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>uint64 version = 8;</code>
+       * @return The version.
+       */
+      @java.lang.Override
+      public long getVersion() {
+        return version_;
+      }
+      /**
+       * <code>uint64 version = 8;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(long value) {
+        bitField0_ |= 0x00000080;
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 version = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        version_ = 0L;
         onChanged();
         return this;
       }
@@ -2762,88 +13344,81 @@ public final class KeyValueServiceMessages {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protobuf.GetResponse)
+      // @@protoc_insertion_point(builder_scope:protobuf.BulkLoadResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:protobuf.GetResponse)
-    private static final protobuf.generated.KeyValueServiceMessages.GetResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protobuf.BulkLoadResponse)
+    private static final protobuf.generated.KeyValueServiceMessages.BulkLoadResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.GetResponse();
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.BulkLoadResponse();
     }
 
-    public static protobuf.generated.KeyValueServiceMessages.GetResponse getDefaultInstance() {
+    public static protobuf.generated.KeyValueServiceMessages.BulkLoadResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetResponse>
-        PARSER = new com.google.protobuf.AbstractParser<GetResponse>() {
+    private static final com.google.protobuf.Parser<BulkLoadResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BulkLoadResponse>() {
       @java.lang.Override
-      public GetResponse parsePartialFrom(
+      public BulkLoadResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetResponse(input, extensionRegistry);
+        return new BulkLoadResponse(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetResponse> parser() {
+    public static com.google.protobuf.Parser<BulkLoadResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetResponse> getParserForType() {
+    public com.google.protobuf.Parser<BulkLoadResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public protobuf.generated.KeyValueServiceMessages.GetResponse getDefaultInstanceForType() {
+    public protobuf.generated.KeyValueServiceMessages.BulkLoadResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface DeleteRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protobuf.DeleteRequest)
+  public interface ExportRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.ExportRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string key = 1;</code>
-     * @return Whether the key field is set.
-     */
-    boolean hasKey();
-    /**
-     * <code>string key = 1;</code>
-     * @return The key.
+     * <code>uint32 max_chunk_bytes = 1;</code>
+     * @return Whether the maxChunkBytes field is set.
      */
-    java.lang.String getKey();
+    boolean hasMaxChunkBytes();
     /**
-     * <code>string key = 1;</code>
-     * @return The bytes for key.
+     * <code>uint32 max_chunk_bytes = 1;</code>
+     * @return The maxChunkBytes.
      */
-    com.google.protobuf.ByteString
-        getKeyBytes();
+    int getMaxChunkBytes();
   }
   /**
-   * Protobuf type {@code protobuf.DeleteRequest}
+   * Protobuf type {@code protobuf.ExportRequest}
    */
-  public static final class DeleteRequest extends
+  public static final class ExportRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protobuf.DeleteRequest)
-      DeleteRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:protobuf.ExportRequest)
+      ExportRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use DeleteRequest.newBuilder() to construct.
-    private DeleteRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ExportRequest.newBuilder() to construct.
+    private ExportRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private DeleteRequest() {
-      key_ = "";
+    private ExportRequest() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new DeleteRequest();
+      return new ExportRequest();
     }
 
     @java.lang.Override
@@ -2851,7 +13426,7 @@ public final class KeyValueServiceMessages {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private DeleteRequest(
+    private ExportRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2870,10 +13445,9 @@ public final class KeyValueServiceMessages {
             case 0:
               done = true;
               break;
-            case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
+            case 8: {
               bitField0_ |= 0x00000001;
-              key_ = s;
+              maxChunkBytes_ = input.readUInt32();
               break;
             }
             default: {
@@ -2897,62 +13471,35 @@ public final class KeyValueServiceMessages {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteRequest_descriptor;
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_ExportRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteRequest_fieldAccessorTable
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_ExportRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              protobuf.generated.KeyValueServiceMessages.DeleteRequest.class, protobuf.generated.KeyValueServiceMessages.DeleteRequest.Builder.class);
+              protobuf.generated.KeyValueServiceMessages.ExportRequest.class, protobuf.generated.KeyValueServiceMessages.ExportRequest.Builder.class);
     }
 
     private int bitField0_;
-    public static final int KEY_FIELD_NUMBER = 1;
-    private volatile java.lang.Object key_;
-    /**
-     * <code>string key = 1;</code>
-     * @return Whether the key field is set.
-     */
-    @java.lang.Override
-    public boolean hasKey() {
-      return ((bitField0_ & 0x00000001) != 0);
-    }
+    public static final int MAX_CHUNK_BYTES_FIELD_NUMBER = 1;
+    private int maxChunkBytes_;
     /**
-     * <code>string key = 1;</code>
-     * @return The key.
+     * <code>uint32 max_chunk_bytes = 1;</code>
+     * @return Whether the maxChunkBytes field is set.
      */
     @java.lang.Override
-    public java.lang.String getKey() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        key_ = s;
-        return s;
-      }
+    public boolean hasMaxChunkBytes() {
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>string key = 1;</code>
-     * @return The bytes for key.
+     * <code>uint32 max_chunk_bytes = 1;</code>
+     * @return The maxChunkBytes.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString
-        getKeyBytes() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        key_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getMaxChunkBytes() {
+      return maxChunkBytes_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2970,7 +13517,7 @@ public final class KeyValueServiceMessages {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
+        output.writeUInt32(1, maxChunkBytes_);
       }
       unknownFields.writeTo(output);
     }
@@ -2982,7 +13529,8 @@ public final class KeyValueServiceMessages {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, maxChunkBytes_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -2994,15 +13542,15 @@ public final class KeyValueServiceMessages {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.DeleteRequest)) {
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.ExportRequest)) {
         return super.equals(obj);
       }
-      protobuf.generated.KeyValueServiceMessages.DeleteRequest other = (protobuf.generated.KeyValueServiceMessages.DeleteRequest) obj;
+      protobuf.generated.KeyValueServiceMessages.ExportRequest other = (protobuf.generated.KeyValueServiceMessages.ExportRequest) obj;
 
-      if (hasKey() != other.hasKey()) return false;
-      if (hasKey()) {
-        if (!getKey()
-            .equals(other.getKey())) return false;
+      if (hasMaxChunkBytes() != other.hasMaxChunkBytes()) return false;
+      if (hasMaxChunkBytes()) {
+        if (getMaxChunkBytes()
+            != other.getMaxChunkBytes()) return false;
       }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
@@ -3015,78 +13563,78 @@ public final class KeyValueServiceMessages {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasKey()) {
-        hash = (37 * hash) + KEY_FIELD_NUMBER;
-        hash = (53 * hash) + getKey().hashCode();
+      if (hasMaxChunkBytes()) {
+        hash = (37 * hash) + MAX_CHUNK_BYTES_FIELD_NUMBER;
+        hash = (53 * hash) + getMaxChunkBytes();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(byte[] data)
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(java.io.InputStream input)
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseDelimitedFrom(java.io.InputStream input)
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseDelimitedFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3099,7 +13647,7 @@ public final class KeyValueServiceMessages {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.DeleteRequest prototype) {
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.ExportRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3115,26 +13663,26 @@ public final class KeyValueServiceMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code protobuf.DeleteRequest}
+     * Protobuf type {@code protobuf.ExportRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protobuf.DeleteRequest)
-        protobuf.generated.KeyValueServiceMessages.DeleteRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protobuf.ExportRequest)
+        protobuf.generated.KeyValueServiceMessages.ExportRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteRequest_descriptor;
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_ExportRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteRequest_fieldAccessorTable
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_ExportRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                protobuf.generated.KeyValueServiceMessages.DeleteRequest.class, protobuf.generated.KeyValueServiceMessages.DeleteRequest.Builder.class);
+                protobuf.generated.KeyValueServiceMessages.ExportRequest.class, protobuf.generated.KeyValueServiceMessages.ExportRequest.Builder.class);
       }
 
-      // Construct using protobuf.generated.KeyValueServiceMessages.DeleteRequest.newBuilder()
+      // Construct using protobuf.generated.KeyValueServiceMessages.ExportRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3152,7 +13700,7 @@ public final class KeyValueServiceMessages {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        key_ = "";
+        maxChunkBytes_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
@@ -3160,17 +13708,17 @@ public final class KeyValueServiceMessages {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteRequest_descriptor;
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_ExportRequest_descriptor;
       }
 
       @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.DeleteRequest getDefaultInstanceForType() {
-        return protobuf.generated.KeyValueServiceMessages.DeleteRequest.getDefaultInstance();
+      public protobuf.generated.KeyValueServiceMessages.ExportRequest getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.ExportRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.DeleteRequest build() {
-        protobuf.generated.KeyValueServiceMessages.DeleteRequest result = buildPartial();
+      public protobuf.generated.KeyValueServiceMessages.ExportRequest build() {
+        protobuf.generated.KeyValueServiceMessages.ExportRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -3178,14 +13726,14 @@ public final class KeyValueServiceMessages {
       }
 
       @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.DeleteRequest buildPartial() {
-        protobuf.generated.KeyValueServiceMessages.DeleteRequest result = new protobuf.generated.KeyValueServiceMessages.DeleteRequest(this);
+      public protobuf.generated.KeyValueServiceMessages.ExportRequest buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.ExportRequest result = new protobuf.generated.KeyValueServiceMessages.ExportRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.maxChunkBytes_ = maxChunkBytes_;
           to_bitField0_ |= 0x00000001;
         }
-        result.key_ = key_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -3225,20 +13773,18 @@ public final class KeyValueServiceMessages {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof protobuf.generated.KeyValueServiceMessages.DeleteRequest) {
-          return mergeFrom((protobuf.generated.KeyValueServiceMessages.DeleteRequest)other);
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.ExportRequest) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.ExportRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.DeleteRequest other) {
-        if (other == protobuf.generated.KeyValueServiceMessages.DeleteRequest.getDefaultInstance()) return this;
-        if (other.hasKey()) {
-          bitField0_ |= 0x00000001;
-          key_ = other.key_;
-          onChanged();
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.ExportRequest other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.ExportRequest.getDefaultInstance()) return this;
+        if (other.hasMaxChunkBytes()) {
+          setMaxChunkBytes(other.getMaxChunkBytes());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -3255,11 +13801,11 @@ public final class KeyValueServiceMessages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        protobuf.generated.KeyValueServiceMessages.DeleteRequest parsedMessage = null;
+        protobuf.generated.KeyValueServiceMessages.ExportRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (protobuf.generated.KeyValueServiceMessages.DeleteRequest) e.getUnfinishedMessage();
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.ExportRequest) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3270,85 +13816,41 @@ public final class KeyValueServiceMessages {
       }
       private int bitField0_;
 
-      private java.lang.Object key_ = "";
+      private int maxChunkBytes_ ;
       /**
-       * <code>string key = 1;</code>
-       * @return Whether the key field is set.
+       * <code>uint32 max_chunk_bytes = 1;</code>
+       * @return Whether the maxChunkBytes field is set.
        */
-      public boolean hasKey() {
+      @java.lang.Override
+      public boolean hasMaxChunkBytes() {
         return ((bitField0_ & 0x00000001) != 0);
       }
       /**
-       * <code>string key = 1;</code>
-       * @return The key.
-       */
-      public java.lang.String getKey() {
-        java.lang.Object ref = key_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          key_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string key = 1;</code>
-       * @return The bytes for key.
+       * <code>uint32 max_chunk_bytes = 1;</code>
+       * @return The maxChunkBytes.
        */
-      public com.google.protobuf.ByteString
-          getKeyBytes() {
-        java.lang.Object ref = key_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          key_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      @java.lang.Override
+      public int getMaxChunkBytes() {
+        return maxChunkBytes_;
       }
       /**
-       * <code>string key = 1;</code>
-       * @param value The key to set.
+       * <code>uint32 max_chunk_bytes = 1;</code>
+       * @param value The maxChunkBytes to set.
        * @return This builder for chaining.
        */
-      public Builder setKey(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        key_ = value;
+      public Builder setMaxChunkBytes(int value) {
+        bitField0_ |= 0x00000001;
+        maxChunkBytes_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>uint32 max_chunk_bytes = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearKey() {
+      public Builder clearMaxChunkBytes() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        key_ = getDefaultInstance().getKey();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string key = 1;</code>
-       * @param value The bytes for key to set.
-       * @return This builder for chaining.
-       */
-      public Builder setKeyBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        bitField0_ |= 0x00000001;
-        key_ = value;
+        maxChunkBytes_ = 0;
         onChanged();
         return this;
       }
@@ -3365,98 +13867,106 @@ public final class KeyValueServiceMessages {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protobuf.DeleteRequest)
+      // @@protoc_insertion_point(builder_scope:protobuf.ExportRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:protobuf.DeleteRequest)
-    private static final protobuf.generated.KeyValueServiceMessages.DeleteRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protobuf.ExportRequest)
+    private static final protobuf.generated.KeyValueServiceMessages.ExportRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.DeleteRequest();
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.ExportRequest();
     }
 
-    public static protobuf.generated.KeyValueServiceMessages.DeleteRequest getDefaultInstance() {
+    public static protobuf.generated.KeyValueServiceMessages.ExportRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<DeleteRequest>
-        PARSER = new com.google.protobuf.AbstractParser<DeleteRequest>() {
+    private static final com.google.protobuf.Parser<ExportRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ExportRequest>() {
       @java.lang.Override
-      public DeleteRequest parsePartialFrom(
+      public ExportRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new DeleteRequest(input, extensionRegistry);
+        return new ExportRequest(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<DeleteRequest> parser() {
+    public static com.google.protobuf.Parser<ExportRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DeleteRequest> getParserForType() {
+    public com.google.protobuf.Parser<ExportRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public protobuf.generated.KeyValueServiceMessages.DeleteRequest getDefaultInstanceForType() {
+    public protobuf.generated.KeyValueServiceMessages.ExportRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface DeleteResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protobuf.DeleteResponse)
+  public interface ExportChunkOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protobuf.ExportChunk)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.protobuf.ErrorStatus error_status = 1;</code>
-     * @return Whether the errorStatus field is set.
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
      */
-    boolean hasErrorStatus();
+    java.util.List<protobuf.generated.KeyValueServiceMessages.KeyValuePair> 
+        getEntriesList();
     /**
-     * <code>.protobuf.ErrorStatus error_status = 1;</code>
-     * @return The enum numeric value on the wire for errorStatus.
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
      */
-    int getErrorStatusValue();
+    protobuf.generated.KeyValueServiceMessages.KeyValuePair getEntries(int index);
     /**
-     * <code>.protobuf.ErrorStatus error_status = 1;</code>
-     * @return The errorStatus.
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
      */
-    protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus();
+    int getEntriesCount();
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    java.util.List<? extends protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder> 
+        getEntriesOrBuilderList();
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder getEntriesOrBuilder(
+        int index);
 
     /**
-     * <code>bool deleted = 2;</code>
-     * @return Whether the deleted field is set.
+     * <code>uint64 version = 2;</code>
+     * @return Whether the version field is set.
      */
-    boolean hasDeleted();
+    boolean hasVersion();
     /**
-     * <code>bool deleted = 2;</code>
-     * @return The deleted.
+     * <code>uint64 version = 2;</code>
+     * @return The version.
      */
-    boolean getDeleted();
+    long getVersion();
   }
   /**
-   * Protobuf type {@code protobuf.DeleteResponse}
+   * Protobuf type {@code protobuf.ExportChunk}
    */
-  public static final class DeleteResponse extends
+  public static final class ExportChunk extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protobuf.DeleteResponse)
-      DeleteResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:protobuf.ExportChunk)
+      ExportChunkOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use DeleteResponse.newBuilder() to construct.
-    private DeleteResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ExportChunk.newBuilder() to construct.
+    private ExportChunk(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private DeleteResponse() {
-      errorStatus_ = 0;
+    private ExportChunk() {
+      entries_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new DeleteResponse();
+      return new ExportChunk();
     }
 
     @java.lang.Override
@@ -3464,7 +13974,7 @@ public final class KeyValueServiceMessages {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private DeleteResponse(
+    private ExportChunk(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3483,15 +13993,18 @@ public final class KeyValueServiceMessages {
             case 0:
               done = true;
               break;
-            case 8: {
-              int rawValue = input.readEnum();
-              bitField0_ |= 0x00000001;
-              errorStatus_ = rawValue;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                entries_ = new java.util.ArrayList<protobuf.generated.KeyValueServiceMessages.KeyValuePair>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              entries_.add(
+                  input.readMessage(protobuf.generated.KeyValueServiceMessages.KeyValuePair.parser(), extensionRegistry));
               break;
             }
             case 16: {
-              bitField0_ |= 0x00000002;
-              deleted_ = input.readBool();
+              bitField0_ |= 0x00000001;
+              version_ = input.readUInt64();
               break;
             }
             default: {
@@ -3509,67 +14022,84 @@ public final class KeyValueServiceMessages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          entries_ = java.util.Collections.unmodifiableList(entries_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteResponse_descriptor;
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_ExportChunk_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteResponse_fieldAccessorTable
+      return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_ExportChunk_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              protobuf.generated.KeyValueServiceMessages.DeleteResponse.class, protobuf.generated.KeyValueServiceMessages.DeleteResponse.Builder.class);
+              protobuf.generated.KeyValueServiceMessages.ExportChunk.class, protobuf.generated.KeyValueServiceMessages.ExportChunk.Builder.class);
     }
 
     private int bitField0_;
-    public static final int ERROR_STATUS_FIELD_NUMBER = 1;
-    private int errorStatus_;
+    public static final int ENTRIES_FIELD_NUMBER = 1;
+    private java.util.List<protobuf.generated.KeyValueServiceMessages.KeyValuePair> entries_;
     /**
-     * <code>.protobuf.ErrorStatus error_status = 1;</code>
-     * @return Whether the errorStatus field is set.
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
      */
-    @java.lang.Override public boolean hasErrorStatus() {
-      return ((bitField0_ & 0x00000001) != 0);
+    @java.lang.Override
+    public java.util.List<protobuf.generated.KeyValueServiceMessages.KeyValuePair> getEntriesList() {
+      return entries_;
     }
     /**
-     * <code>.protobuf.ErrorStatus error_status = 1;</code>
-     * @return The enum numeric value on the wire for errorStatus.
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
      */
-    @java.lang.Override public int getErrorStatusValue() {
-      return errorStatus_;
+    @java.lang.Override
+    public java.util.List<? extends protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder> 
+        getEntriesOrBuilderList() {
+      return entries_;
     }
     /**
-     * <code>.protobuf.ErrorStatus error_status = 1;</code>
-     * @return The errorStatus.
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
      */
-    @java.lang.Override public protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus() {
-      @SuppressWarnings("deprecation")
-      protobuf.generated.KeyValueServiceMessages.ErrorStatus result = protobuf.generated.KeyValueServiceMessages.ErrorStatus.valueOf(errorStatus_);
-      return result == null ? protobuf.generated.KeyValueServiceMessages.ErrorStatus.UNRECOGNIZED : result;
+    @java.lang.Override
+    public int getEntriesCount() {
+      return entries_.size();
+    }
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.KeyValuePair getEntries(int index) {
+      return entries_.get(index);
+    }
+    /**
+     * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+     */
+    @java.lang.Override
+    public protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder getEntriesOrBuilder(
+        int index) {
+      return entries_.get(index);
     }
 
-    public static final int DELETED_FIELD_NUMBER = 2;
-    private boolean deleted_;
+    public static final int VERSION_FIELD_NUMBER = 2;
+    private long version_;
     /**
-     * <code>bool deleted = 2;</code>
-     * @return Whether the deleted field is set.
+     * <code>uint64 version = 2;</code>
+     * @return Whether the version field is set.
      */
     @java.lang.Override
-    public boolean hasDeleted() {
-      return ((bitField0_ & 0x00000002) != 0);
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>bool deleted = 2;</code>
-     * @return The deleted.
+     * <code>uint64 version = 2;</code>
+     * @return The version.
      */
     @java.lang.Override
-    public boolean getDeleted() {
-      return deleted_;
+    public long getVersion() {
+      return version_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3586,11 +14116,11 @@ public final class KeyValueServiceMessages {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) != 0)) {
-        output.writeEnum(1, errorStatus_);
+      for (int i = 0; i < entries_.size(); i++) {
+        output.writeMessage(1, entries_.get(i));
       }
-      if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeBool(2, deleted_);
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt64(2, version_);
       }
       unknownFields.writeTo(output);
     }
@@ -3601,13 +14131,13 @@ public final class KeyValueServiceMessages {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) != 0)) {
+      for (int i = 0; i < entries_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(1, errorStatus_);
+          .computeMessageSize(1, entries_.get(i));
       }
-      if (((bitField0_ & 0x00000002) != 0)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(2, deleted_);
+          .computeUInt64Size(2, version_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -3619,19 +14149,17 @@ public final class KeyValueServiceMessages {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.DeleteResponse)) {
+      if (!(obj instanceof protobuf.generated.KeyValueServiceMessages.ExportChunk)) {
         return super.equals(obj);
       }
-      protobuf.generated.KeyValueServiceMessages.DeleteResponse other = (protobuf.generated.KeyValueServiceMessages.DeleteResponse) obj;
+      protobuf.generated.KeyValueServiceMessages.ExportChunk other = (protobuf.generated.KeyValueServiceMessages.ExportChunk) obj;
 
-      if (hasErrorStatus() != other.hasErrorStatus()) return false;
-      if (hasErrorStatus()) {
-        if (errorStatus_ != other.errorStatus_) return false;
-      }
-      if (hasDeleted() != other.hasDeleted()) return false;
-      if (hasDeleted()) {
-        if (getDeleted()
-            != other.getDeleted()) return false;
+      if (!getEntriesList()
+          .equals(other.getEntriesList())) return false;
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (getVersion()
+            != other.getVersion()) return false;
       }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
@@ -3644,83 +14172,83 @@ public final class KeyValueServiceMessages {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasErrorStatus()) {
-        hash = (37 * hash) + ERROR_STATUS_FIELD_NUMBER;
-        hash = (53 * hash) + errorStatus_;
+      if (getEntriesCount() > 0) {
+        hash = (37 * hash) + ENTRIES_FIELD_NUMBER;
+        hash = (53 * hash) + getEntriesList().hashCode();
       }
-      if (hasDeleted()) {
-        hash = (37 * hash) + DELETED_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-            getDeleted());
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getVersion());
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(byte[] data)
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(java.io.InputStream input)
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseDelimitedFrom(java.io.InputStream input)
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseDelimitedFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse parseFrom(
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3733,7 +14261,7 @@ public final class KeyValueServiceMessages {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.DeleteResponse prototype) {
+    public static Builder newBuilder(protobuf.generated.KeyValueServiceMessages.ExportChunk prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3749,26 +14277,26 @@ public final class KeyValueServiceMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code protobuf.DeleteResponse}
+     * Protobuf type {@code protobuf.ExportChunk}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protobuf.DeleteResponse)
-        protobuf.generated.KeyValueServiceMessages.DeleteResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protobuf.ExportChunk)
+        protobuf.generated.KeyValueServiceMessages.ExportChunkOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteResponse_descriptor;
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_ExportChunk_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteResponse_fieldAccessorTable
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_ExportChunk_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                protobuf.generated.KeyValueServiceMessages.DeleteResponse.class, protobuf.generated.KeyValueServiceMessages.DeleteResponse.Builder.class);
+                protobuf.generated.KeyValueServiceMessages.ExportChunk.class, protobuf.generated.KeyValueServiceMessages.ExportChunk.Builder.class);
       }
 
-      // Construct using protobuf.generated.KeyValueServiceMessages.DeleteResponse.newBuilder()
+      // Construct using protobuf.generated.KeyValueServiceMessages.ExportChunk.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3781,14 +14309,19 @@ public final class KeyValueServiceMessages {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getEntriesFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        errorStatus_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        deleted_ = false;
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          entriesBuilder_.clear();
+        }
+        version_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
@@ -3796,17 +14329,17 @@ public final class KeyValueServiceMessages {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_DeleteResponse_descriptor;
+        return protobuf.generated.KeyValueServiceMessages.internal_static_protobuf_ExportChunk_descriptor;
       }
 
       @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.DeleteResponse getDefaultInstanceForType() {
-        return protobuf.generated.KeyValueServiceMessages.DeleteResponse.getDefaultInstance();
+      public protobuf.generated.KeyValueServiceMessages.ExportChunk getDefaultInstanceForType() {
+        return protobuf.generated.KeyValueServiceMessages.ExportChunk.getDefaultInstance();
       }
 
       @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.DeleteResponse build() {
-        protobuf.generated.KeyValueServiceMessages.DeleteResponse result = buildPartial();
+      public protobuf.generated.KeyValueServiceMessages.ExportChunk build() {
+        protobuf.generated.KeyValueServiceMessages.ExportChunk result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -3814,17 +14347,22 @@ public final class KeyValueServiceMessages {
       }
 
       @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.DeleteResponse buildPartial() {
-        protobuf.generated.KeyValueServiceMessages.DeleteResponse result = new protobuf.generated.KeyValueServiceMessages.DeleteResponse(this);
+      public protobuf.generated.KeyValueServiceMessages.ExportChunk buildPartial() {
+        protobuf.generated.KeyValueServiceMessages.ExportChunk result = new protobuf.generated.KeyValueServiceMessages.ExportChunk(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          to_bitField0_ |= 0x00000001;
+        if (entriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            entries_ = java.util.Collections.unmodifiableList(entries_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.entries_ = entries_;
+        } else {
+          result.entries_ = entriesBuilder_.build();
         }
-        result.errorStatus_ = errorStatus_;
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.deleted_ = deleted_;
-          to_bitField0_ |= 0x00000002;
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000001;
         }
         result.bitField0_ = to_bitField0_;
         onBuilt();
@@ -3865,21 +14403,44 @@ public final class KeyValueServiceMessages {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof protobuf.generated.KeyValueServiceMessages.DeleteResponse) {
-          return mergeFrom((protobuf.generated.KeyValueServiceMessages.DeleteResponse)other);
+        if (other instanceof protobuf.generated.KeyValueServiceMessages.ExportChunk) {
+          return mergeFrom((protobuf.generated.KeyValueServiceMessages.ExportChunk)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.DeleteResponse other) {
-        if (other == protobuf.generated.KeyValueServiceMessages.DeleteResponse.getDefaultInstance()) return this;
-        if (other.hasErrorStatus()) {
-          setErrorStatus(other.getErrorStatus());
+      public Builder mergeFrom(protobuf.generated.KeyValueServiceMessages.ExportChunk other) {
+        if (other == protobuf.generated.KeyValueServiceMessages.ExportChunk.getDefaultInstance()) return this;
+        if (entriesBuilder_ == null) {
+          if (!other.entries_.isEmpty()) {
+            if (entries_.isEmpty()) {
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEntriesIsMutable();
+              entries_.addAll(other.entries_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entries_.isEmpty()) {
+            if (entriesBuilder_.isEmpty()) {
+              entriesBuilder_.dispose();
+              entriesBuilder_ = null;
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              entriesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEntriesFieldBuilder() : null;
+            } else {
+              entriesBuilder_.addAllMessages(other.entries_);
+            }
+          }
         }
-        if (other.hasDeleted()) {
-          setDeleted(other.getDeleted());
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -3896,11 +14457,11 @@ public final class KeyValueServiceMessages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        protobuf.generated.KeyValueServiceMessages.DeleteResponse parsedMessage = null;
+        protobuf.generated.KeyValueServiceMessages.ExportChunk parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (protobuf.generated.KeyValueServiceMessages.DeleteResponse) e.getUnfinishedMessage();
+          parsedMessage = (protobuf.generated.KeyValueServiceMessages.ExportChunk) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3911,102 +14472,281 @@ public final class KeyValueServiceMessages {
       }
       private int bitField0_;
 
-      private int errorStatus_ = 0;
+      private java.util.List<protobuf.generated.KeyValueServiceMessages.KeyValuePair> entries_ =
+        java.util.Collections.emptyList();
+      private void ensureEntriesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          entries_ = new java.util.ArrayList<protobuf.generated.KeyValueServiceMessages.KeyValuePair>(entries_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.KeyValuePair, protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder, protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder> entriesBuilder_;
+
       /**
-       * <code>.protobuf.ErrorStatus error_status = 1;</code>
-       * @return Whether the errorStatus field is set.
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
        */
-      @java.lang.Override public boolean hasErrorStatus() {
-        return ((bitField0_ & 0x00000001) != 0);
+      public java.util.List<protobuf.generated.KeyValueServiceMessages.KeyValuePair> getEntriesList() {
+        if (entriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entries_);
+        } else {
+          return entriesBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>.protobuf.ErrorStatus error_status = 1;</code>
-       * @return The enum numeric value on the wire for errorStatus.
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
        */
-      @java.lang.Override public int getErrorStatusValue() {
-        return errorStatus_;
+      public int getEntriesCount() {
+        if (entriesBuilder_ == null) {
+          return entries_.size();
+        } else {
+          return entriesBuilder_.getCount();
+        }
       }
       /**
-       * <code>.protobuf.ErrorStatus error_status = 1;</code>
-       * @param value The enum numeric value on the wire for errorStatus to set.
-       * @return This builder for chaining.
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
        */
-      public Builder setErrorStatusValue(int value) {
-        bitField0_ |= 0x00000001;
-        errorStatus_ = value;
-        onChanged();
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePair getEntries(int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);
+        } else {
+          return entriesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, protobuf.generated.KeyValueServiceMessages.KeyValuePair value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.set(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>.protobuf.ErrorStatus error_status = 1;</code>
-       * @return The errorStatus.
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
        */
-      @java.lang.Override
-      public protobuf.generated.KeyValueServiceMessages.ErrorStatus getErrorStatus() {
-        @SuppressWarnings("deprecation")
-        protobuf.generated.KeyValueServiceMessages.ErrorStatus result = protobuf.generated.KeyValueServiceMessages.ErrorStatus.valueOf(errorStatus_);
-        return result == null ? protobuf.generated.KeyValueServiceMessages.ErrorStatus.UNRECOGNIZED : result;
+      public Builder setEntries(
+          int index, protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>.protobuf.ErrorStatus error_status = 1;</code>
-       * @param value The errorStatus to set.
-       * @return This builder for chaining.
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
        */
-      public Builder setErrorStatus(protobuf.generated.KeyValueServiceMessages.ErrorStatus value) {
-        if (value == null) {
-          throw new NullPointerException();
+      public Builder addEntries(protobuf.generated.KeyValueServiceMessages.KeyValuePair value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(value);
         }
-        bitField0_ |= 0x00000001;
-        errorStatus_ = value.getNumber();
-        onChanged();
         return this;
       }
       /**
-       * <code>.protobuf.ErrorStatus error_status = 1;</code>
-       * @return This builder for chaining.
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
        */
-      public Builder clearErrorStatus() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        errorStatus_ = 0;
-        onChanged();
+      public Builder addEntries(
+          int index, protobuf.generated.KeyValueServiceMessages.KeyValuePair value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder addEntries(
+          protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder addAllEntries(
+          java.lang.Iterable<? extends protobuf.generated.KeyValueServiceMessages.KeyValuePair> values) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entries_);
+          onChanged();
+        } else {
+          entriesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder clearEntries() {
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public Builder removeEntries(int index) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.remove(index);
+          onChanged();
+        } else {
+          entriesBuilder_.remove(index);
+        }
         return this;
       }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder getEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder getEntriesOrBuilder(
+          int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);  } else {
+          return entriesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public java.util.List<? extends protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder> 
+           getEntriesOrBuilderList() {
+        if (entriesBuilder_ != null) {
+          return entriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entries_);
+        }
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder addEntriesBuilder() {
+        return getEntriesFieldBuilder().addBuilder(
+            protobuf.generated.KeyValueServiceMessages.KeyValuePair.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder addEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().addBuilder(
+            index, protobuf.generated.KeyValueServiceMessages.KeyValuePair.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protobuf.KeyValuePair entries = 1;</code>
+       */
+      public java.util.List<protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder> 
+           getEntriesBuilderList() {
+        return getEntriesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          protobuf.generated.KeyValueServiceMessages.KeyValuePair, protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder, protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder> 
+          getEntriesFieldBuilder() {
+        if (entriesBuilder_ == null) {
+          entriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              protobuf.generated.KeyValueServiceMessages.KeyValuePair, protobuf.generated.KeyValueServiceMessages.KeyValuePair.Builder, protobuf.generated.KeyValueServiceMessages.KeyValuePairOrBuilder>(
+                  entries_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          entries_ = null;
+        }
+        return entriesBuilder_;
+      }
 
-      private boolean deleted_ ;
+      private long version_ ;
       /**
-       * <code>bool deleted = 2;</code>
-       * @return Whether the deleted field is set.
+       * <code>uint64 version = 2;</code>
+       * @return Whether the version field is set.
        */
       @java.lang.Override
-      public boolean hasDeleted() {
+      public boolean hasVersion() {
         return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <code>bool deleted = 2;</code>
-       * @return The deleted.
+       * <code>uint64 version = 2;</code>
+       * @return The version.
        */
       @java.lang.Override
-      public boolean getDeleted() {
-        return deleted_;
+      public long getVersion() {
+        return version_;
       }
       /**
-       * <code>bool deleted = 2;</code>
-       * @param value The deleted to set.
+       * <code>uint64 version = 2;</code>
+       * @param value The version to set.
        * @return This builder for chaining.
        */
-      public Builder setDeleted(boolean value) {
+      public Builder setVersion(long value) {
         bitField0_ |= 0x00000002;
-        deleted_ = value;
+        version_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>bool deleted = 2;</code>
+       * <code>uint64 version = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearDeleted() {
+      public Builder clearVersion() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        deleted_ = false;
+        version_ = 0L;
         onChanged();
         return this;
       }
@@ -4023,41 +14763,41 @@ public final class KeyValueServiceMessages {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protobuf.DeleteResponse)
+      // @@protoc_insertion_point(builder_scope:protobuf.ExportChunk)
     }
 
-    // @@protoc_insertion_point(class_scope:protobuf.DeleteResponse)
-    private static final protobuf.generated.KeyValueServiceMessages.DeleteResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protobuf.ExportChunk)
+    private static final protobuf.generated.KeyValueServiceMessages.ExportChunk DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.DeleteResponse();
+      DEFAULT_INSTANCE = new protobuf.generated.KeyValueServiceMessages.ExportChunk();
     }
 
-    public static protobuf.generated.KeyValueServiceMessages.DeleteResponse getDefaultInstance() {
+    public static protobuf.generated.KeyValueServiceMessages.ExportChunk getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<DeleteResponse>
-        PARSER = new com.google.protobuf.AbstractParser<DeleteResponse>() {
+    private static final com.google.protobuf.Parser<ExportChunk>
+        PARSER = new com.google.protobuf.AbstractParser<ExportChunk>() {
       @java.lang.Override
-      public DeleteResponse parsePartialFrom(
+      public ExportChunk parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new DeleteResponse(input, extensionRegistry);
+        return new ExportChunk(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<DeleteResponse> parser() {
+    public static com.google.protobuf.Parser<ExportChunk> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DeleteResponse> getParserForType() {
+    public com.google.protobuf.Parser<ExportChunk> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public protobuf.generated.KeyValueServiceMessages.DeleteResponse getDefaultInstanceForType() {
+    public protobuf.generated.KeyValueServiceMessages.ExportChunk getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -4073,6 +14813,16 @@ public final class KeyValueServiceMessages {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_protobuf_PutResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protobuf_PutBatchRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protobuf_PutBatchRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protobuf_PutBatchResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protobuf_PutBatchResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_protobuf_GetRequest_descriptor;
   private static final 
@@ -4093,6 +14843,51 @@ public final class KeyValueServiceMessages {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_protobuf_DeleteResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protobuf_SessionRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protobuf_SessionRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protobuf_SessionResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protobuf_SessionResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protobuf_WatchRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protobuf_WatchRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protobuf_WatchEvent_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protobuf_WatchEvent_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protobuf_KeyValuePair_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protobuf_KeyValuePair_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protobuf_BulkLoadRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protobuf_BulkLoadRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protobuf_BulkLoadResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protobuf_BulkLoadResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protobuf_ExportRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protobuf_ExportRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protobuf_ExportChunk_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protobuf_ExportChunk_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -4102,26 +14897,76 @@ public final class KeyValueServiceMessages {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\025KeyValueService.proto\022\010protobuf\"D\n\nPut" +
-      "Request\022\020\n\003key\030\001 \001(\tH\000\210\001\001\022\022\n\005value\030\002 \001(\t" +
-      "H\001\210\001\001B\006\n\004_keyB\010\n\006_value\"P\n\013PutResponse\0220" +
+      "\n\025KeyValueService.proto\022\010protobuf\"l\n\nPut" +
+      "Request\022\020\n\003key\030\001 \001(\tH\000\210\001\001\022\022\n\005value\030\002 \001(\014" +
+      "H\001\210\001\001\022\027\n\nrequest_id\030\003 \001(\004H\002\210\001\001B\006\n\004_keyB\010" +
+      "\n\006_valueB\r\n\013_request_id\"P\n\013PutResponse\0220" +
       "\n\014error_status\030\001 \001(\0162\025.protobuf.ErrorSta" +
-      "tusH\000\210\001\001B\017\n\r_error_status\"&\n\nGetRequest\022" +
-      "\020\n\003key\030\001 \001(\tH\000\210\001\001B\006\n\004_key\"n\n\013GetResponse" +
-      "\0220\n\014error_status\030\001 \001(\0162\025.protobuf.ErrorS" +
-      "tatusH\000\210\001\001\022\022\n\005value\030\002 \001(\tH\001\210\001\001B\017\n\r_error" +
-      "_statusB\010\n\006_value\")\n\rDeleteRequest\022\020\n\003ke" +
-      "y\030\001 \001(\tH\000\210\001\001B\006\n\004_key\"u\n\016DeleteResponse\0220" +
-      "\n\014error_status\030\001 \001(\0162\025.protobuf.ErrorSta" +
-      "tusH\000\210\001\001\022\024\n\007deleted\030\002 \001(\010H\001\210\001\001B\017\n\r_error" +
-      "_statusB\n\n\010_deleted*3\n\013ErrorStatus\022\010\n\004NO" +
-      "NE\020\000\022\032\n\026INVALID_REQUEST_FORMAT\020\0012\266\001\n\017Key" +
-      "ValueService\0222\n\003Put\022\024.protobuf.PutReques" +
-      "t\032\025.protobuf.PutResponse\0222\n\003Get\022\024.protob" +
-      "uf.GetRequest\032\025.protobuf.GetResponse\022;\n\006" +
-      "Delete\022\027.protobuf.DeleteRequest\032\030.protob" +
-      "uf.DeleteResponseB-\n\022protobuf.generatedB" +
-      "\027KeyValueServiceMessagesb\006proto3"
+      "tusH\000\210\001\001B\017\n\r_error_status\"5\n\017PutBatchReq" +
+      "uest\022\"\n\004puts\030\001 \003(\0132\024.protobuf.PutRequest" +
+      "\"<\n\020PutBatchResponse\022(\n\tresponses\030\001 \003(\0132" +
+      "\025.protobuf.PutResponse\"Z\n\nGetRequest\022\020\n\003" +
+      "key\030\001 \001(\tH\000\210\001\001\022\035\n\020if_version_match\030\002 \001(\004" +
+      "H\001\210\001\001B\006\n\004_keyB\023\n\021_if_version_match\"\274\001\n\013G" +
+      "etResponse\0220\n\014error_status\030\001 \001(\0162\025.proto" +
+      "buf.ErrorStatusH\000\210\001\001\022\022\n\005value\030\002 \001(\014H\001\210\001\001" +
+      "\022\024\n\007version\030\003 \001(\004H\002\210\001\001\022\031\n\014not_modified\030\004" +
+      " \001(\010H\003\210\001\001B\017\n\r_error_statusB\010\n\006_valueB\n\n\010" +
+      "_versionB\017\n\r_not_modified\"Q\n\rDeleteReque" +
+      "st\022\020\n\003key\030\001 \001(\tH\000\210\001\001\022\027\n\nrequest_id\030\002 \001(\004" +
+      "H\001\210\001\001B\006\n\004_keyB\r\n\013_request_id\"u\n\016DeleteRe" +
+      "sponse\0220\n\014error_status\030\001 \001(\0162\025.protobuf." +
+      "ErrorStatusH\000\210\001\001\022\024\n\007deleted\030\002 \001(\010H\001\210\001\001B\017" +
+      "\n\r_error_statusB\n\n\010_deleted\"\252\001\n\016SessionR" +
+      "equest\022\020\n\003tag\030\001 \001(\004H\001\210\001\001\022#\n\003put\030\002 \001(\0132\024." +
+      "protobuf.PutRequestH\000\022#\n\003get\030\003 \001(\0132\024.pro" +
+      "tobuf.GetRequestH\000\022)\n\006delete\030\004 \001(\0132\027.pro" +
+      "tobuf.DeleteRequestH\000B\t\n\007commandB\006\n\004_tag" +
+      "\"\360\001\n\017SessionResponse\022\020\n\003tag\030\001 \001(\004H\001\210\001\001\022$" +
+      "\n\003put\030\002 \001(\0132\025.protobuf.PutResponseH\000\022$\n\003" +
+      "get\030\003 \001(\0132\025.protobuf.GetResponseH\000\022*\n\006de" +
+      "lete\030\004 \001(\0132\030.protobuf.DeleteResponseH\000\0220" +
+      "\n\014error_status\030\005 \001(\0162\025.protobuf.ErrorSta" +
+      "tusH\002\210\001\001B\010\n\006resultB\006\n\004_tagB\017\n\r_error_sta" +
+      "tus\"t\n\014WatchRequest\022\020\n\003key\030\001 \001(\tH\000\210\001\001\022\023\n" +
+      "\006prefix\030\002 \001(\010H\001\210\001\001\022\031\n\014from_version\030\003 \001(\004" +
+      "H\002\210\001\001B\006\n\004_keyB\t\n\007_prefixB\017\n\r_from_versio" +
+      "n\"\230\001\n\nWatchEvent\022\'\n\004type\030\001 \001(\0162\024.protobu" +
+      "f.ChangeTypeH\000\210\001\001\022\020\n\003key\030\002 \001(\tH\001\210\001\001\022\022\n\005v" +
+      "alue\030\003 \001(\014H\002\210\001\001\022\024\n\007version\030\004 \001(\004H\003\210\001\001B\007\n" +
+      "\005_typeB\006\n\004_keyB\010\n\006_valueB\n\n\010_version\"F\n\014" +
+      "KeyValuePair\022\020\n\003key\030\001 \001(\tH\000\210\001\001\022\022\n\005value\030" +
+      "\002 \001(\014H\001\210\001\001B\006\n\004_keyB\010\n\006_value\":\n\017BulkLoad" +
+      "Request\022\'\n\007entries\030\001 \003(\0132\026.protobuf.KeyV" +
+      "aluePair\"\303\002\n\020BulkLoadResponse\0220\n\014error_s" +
+      "tatus\030\001 \001(\0162\025.protobuf.ErrorStatusH\000\210\001\001\022" +
+      "\023\n\006loaded\030\002 \001(\004H\001\210\001\001\022\025\n\010rejected\030\003 \001(\004H\002" +
+      "\210\001\001\022\024\n\007batches\030\004 \001(\004H\003\210\001\001\022\022\n\005bytes\030\005 \001(\004" +
+      "H\004\210\001\001\022\027\n\nelapsed_ms\030\006 \001(\004H\005\210\001\001\022\023\n\006sorted" +
+      "\030\007 \001(\010H\006\210\001\001\022\024\n\007version\030\010 \001(\004H\007\210\001\001B\017\n\r_er" +
+      "ror_statusB\t\n\007_loadedB\013\n\t_rejectedB\n\n\010_b" +
+      "atchesB\010\n\006_bytesB\r\n\013_elapsed_msB\t\n\007_sort" +
+      "edB\n\n\010_version\"A\n\rExportRequest\022\034\n\017max_c" +
+      "hunk_bytes\030\001 \001(\rH\000\210\001\001B\022\n\020_max_chunk_byte" +
+      "s\"X\n\013ExportChunk\022\'\n\007entries\030\001 \003(\0132\026.prot" +
+      "obuf.KeyValuePair\022\024\n\007version\030\002 \001(\004H\000\210\001\001B" +
+      "\n\n\010_version*G\n\013ErrorStatus\022\010\n\004NONE\020\000\022\032\n\026" +
+      "INVALID_REQUEST_FORMAT\020\001\022\022\n\016INTERNAL_ERROR\020\002*!\n\nChangeType\022\007" +
+      "\n\003PUT\020\000\022\n\n\006DELETE\020\0012\367\003\n\017KeyValueService\022" +
+      "2\n\003Put\022\024.protobuf.PutRequest\032\025.protobuf." +
+      "PutResponse\0222\n\003Get\022\024.protobuf.GetRequest" +
+      "\032\025.protobuf.GetResponse\022;\n\006Delete\022\027.prot" +
+      "obuf.DeleteRequest\032\030.protobuf.DeleteResp" +
+      "onse\022B\n\007Session\022\030.protobuf.SessionReques" +
+      "t\032\031.protobuf.SessionResponse(\0010\001\0227\n\005Watc" +
+      "h\022\026.protobuf.WatchRequest\032\024.protobuf.Wat" +
+      "chEvent0\001\022C\n\010BulkLoad\022\031.protobuf.BulkLoa" +
+      "dRequest\032\032.protobuf.BulkLoadResponse(\001\022:" +
+      "\n\006Export\022\027.protobuf.ExportRequest\032\025.prot" +
+      "obuf.ExportChunk0\001\022A\n\010PutBatch\022\031.protobu" +
+      "f.PutBatchRequest\032\032.protobuf.PutBatchRes" +
+      "ponseB-\n\022protobuf.generatedB\027KeyValueSer" +
+      "viceMessagesb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -4132,37 +14977,103 @@ public final class KeyValueServiceMessages {
     internal_static_protobuf_PutRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protobuf_PutRequest_descriptor,
-        new java.lang.String[] { "Key", "Value", "Key", "Value", });
+        new java.lang.String[] { "Key", "Value", "RequestId", "Key", "Value", "RequestId", });
     internal_static_protobuf_PutResponse_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_protobuf_PutResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protobuf_PutResponse_descriptor,
         new java.lang.String[] { "ErrorStatus", "ErrorStatus", });
-    internal_static_protobuf_GetRequest_descriptor =
+    internal_static_protobuf_PutBatchRequest_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_protobuf_PutBatchRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protobuf_PutBatchRequest_descriptor,
+        new java.lang.String[] { "Puts", });
+    internal_static_protobuf_PutBatchResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_protobuf_PutBatchResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protobuf_PutBatchResponse_descriptor,
+        new java.lang.String[] { "Responses", });
+    internal_static_protobuf_GetRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
     internal_static_protobuf_GetRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protobuf_GetRequest_descriptor,
-        new java.lang.String[] { "Key", "Key", });
+        new java.lang.String[] { "Key", "IfVersionMatch", "Key", "IfVersionMatch", });
     internal_static_protobuf_GetResponse_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_protobuf_GetResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protobuf_GetResponse_descriptor,
-        new java.lang.String[] { "ErrorStatus", "Value", "ErrorStatus", "Value", });
+        new java.lang.String[] { "ErrorStatus", "Value", "Version", "NotModified", "ErrorStatus", "Value", "Version", "NotModified", });
     internal_static_protobuf_DeleteRequest_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_protobuf_DeleteRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protobuf_DeleteRequest_descriptor,
-        new java.lang.String[] { "Key", "Key", });
+        new java.lang.String[] { "Key", "RequestId", "Key", "RequestId", });
     internal_static_protobuf_DeleteResponse_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_protobuf_DeleteResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protobuf_DeleteResponse_descriptor,
         new java.lang.String[] { "ErrorStatus", "Deleted", "ErrorStatus", "Deleted", });
+    internal_static_protobuf_SessionRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_protobuf_SessionRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protobuf_SessionRequest_descriptor,
+        new java.lang.String[] { "Tag", "Put", "Get", "Delete", "Command", "Tag", });
+    internal_static_protobuf_SessionResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_protobuf_SessionResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protobuf_SessionResponse_descriptor,
+        new java.lang.String[] { "Tag", "Put", "Get", "Delete", "ErrorStatus", "Result", "Tag", "ErrorStatus", });
+    internal_static_protobuf_WatchRequest_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_protobuf_WatchRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protobuf_WatchRequest_descriptor,
+        new java.lang.String[] { "Key", "Prefix", "FromVersion", "Key", "Prefix", "FromVersion", });
+    internal_static_protobuf_WatchEvent_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_protobuf_WatchEvent_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protobuf_WatchEvent_descriptor,
+        new java.lang.String[] { "Type", "Key", "Value", "Version", "Type", "Key", "Value", "Version", });
+    internal_static_protobuf_KeyValuePair_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_protobuf_KeyValuePair_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protobuf_KeyValuePair_descriptor,
+        new java.lang.String[] { "Key", "Value", "Key", "Value", });
+    internal_static_protobuf_BulkLoadRequest_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_protobuf_BulkLoadRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protobuf_BulkLoadRequest_descriptor,
+        new java.lang.String[] { "Entries", });
+    internal_static_protobuf_BulkLoadResponse_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_protobuf_BulkLoadResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protobuf_BulkLoadResponse_descriptor,
+        new java.lang.String[] { "ErrorStatus", "Loaded", "Rejected", "Batches", "Bytes", "ElapsedMs", "Sorted", "Version", "ErrorStatus", "Loaded", "Rejected", "Batches", "Bytes", "ElapsedMs", "Sorted", "Version", });
+    internal_static_protobuf_ExportRequest_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_protobuf_ExportRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protobuf_ExportRequest_descriptor,
+        new java.lang.String[] { "MaxChunkBytes", "MaxChunkBytes", });
+    internal_static_protobuf_ExportChunk_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_protobuf_ExportChunk_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protobuf_ExportChunk_descriptor,
+        new java.lang.String[] { "Entries", "Version", "Version", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,22 @@
+package server;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * A listener that is told about every change made to a {@code KeyValueStore}.
+ * Listeners are called while the store is locked, in version order,
+ * so they must return quickly and must not call back into the store.
+ * @author lscholte
+ *
+ */
+public interface ChangeListener {
+
+  /**
+   * Called after a key has been put or deleted.
+   * @param key the key that changed
+   * @param value the new value of the key, or null if the key was deleted
+   * @param version the version of the store created by the change
+   */
+  public void onChange(String key, ByteString value, long version);
+
+}
@@ -0,0 +1,249 @@
+package server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import utilities.Logger;
+import utilities.TokenBucket;
+
+/**
+ * The quotas of every client and the token buckets that enforce them. Each
+ * client has one bucket for calls and one for bytes, and clients without a
+ * quota of their own share the default quota, each with their own buckets.
+ * <br><br>
+ * Checking a quota only reads concurrent maps and a volatile reference and
+ * takes tokens with a compare-and-set, so the hot path takes no locks.
+ * Quotas can be replaced at any time, either directly or by reloading a
+ * quota file, and take effect on the next call. Quotas set directly take
+ * precedence over those loaded from a file and are kept when the file is
+ * reloaded.
+ * <br><br>
+ * A quota file has one quota per line of the form
+ * {@code <client>=<ops per second>:<bytes per second>}, where the client
+ * {@code default} sets the default quota. Blank lines and lines starting
+ * with {@code #} are ignored.
+ * @author lscholte
+ *
+ */
+public class ClientQuotas {
+
+  private static final String DEFAULT_CLIENT = "default";
+  private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private volatile Quota defaultQuota;
+  private volatile Map<String, Quota> quotas;
+  //Quotas set directly, which outlive reloads of the quota file
+  private volatile Quota defaultOverride;
+  private volatile Map<String, Quota> overrides;
+  private final Map<String, ClientState> clients;
+  private long quotaFileModified;
+
+  /**
+   * Constructs ClientQuotas in which every client has the same quota.
+   * @param defaultQuota the quota of every client
+   */
+  public ClientQuotas(Quota defaultQuota) {
+    this.defaultQuota = defaultQuota;
+    quotas = new HashMap<String, Quota>();
+    defaultOverride = null;
+    overrides = new HashMap<String, Quota>();
+    clients = new ConcurrentHashMap<String, ClientState>();
+    quotaFileModified = 0;
+  }
+
+  /**
+   * @return the quota of clients without a quota of their own
+   */
+  public Quota getDefaultQuota() {
+    Quota override = defaultOverride;
+    return override == null ? defaultQuota : override;
+  }
+
+  /**
+   * Sets the quota of clients without a quota of their own, in place of
+   * the default quota of the quota file, including when the file is reloaded.
+   * @param defaultQuota the quota of clients without a quota of their own,
+   *      or null to go back to the default quota of the quota file
+   */
+  public void setDefaultQuota(Quota defaultQuota) {
+    defaultOverride = defaultQuota;
+  }
+
+  /**
+   * Sets the quota of a client, in place of its quota in the quota file,
+   * including when the file is reloaded.
+   * @param client the client whose quota to set
+   * @param quota the quota of the client, or null to go back to its quota
+   *      in the quota file, or the default quota if it has none there
+   */
+  public synchronized void setQuota(String client, Quota quota) {
+    Map<String, Quota> newOverrides = new HashMap<String, Quota>(overrides);
+    if (quota == null) {
+      newOverrides.remove(client);
+    }
+    else {
+      newOverrides.put(client, quota);
+    }
+    overrides = newOverrides;
+  }
+
+  /**
+   * @param client the client whose quota to get
+   * @return the quota of the client
+   */
+  public Quota getQuota(String client) {
+    Quota quota = overrides.get(client);
+    if (quota == null) {
+      quota = quotas.get(client);
+    }
+    return quota == null ? getDefaultQuota() : quota;
+  }
+
+  /**
+   * Reloads every quota from a quota file if it has changed since it was last loaded.
+   * Quotas are left unchanged if the file cannot be read or is not valid.
+   * Quotas set directly are kept and still take precedence.
+   * @param quotaFile the quota file
+   */
+  public synchronized void reloadIfModified(Path quotaFile) {
+    try {
+      long modified = Files.getLastModifiedTime(quotaFile).toMillis();
+      if (modified == quotaFileModified) {
+        return;
+      }
+      quotaFileModified = modified;
+
+      Quota newDefaultQuota = Quota.UNLIMITED;
+      Map<String, Quota> newQuotas = new HashMap<String, Quota>();
+      for (String line : Files.readAllLines(quotaFile)) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+        int separator = line.indexOf('=');
+        if (separator <= 0) {
+          throw new IllegalArgumentException(String.format("Quota line %s must be of the form <client>=<quota>", line));
+        }
+        String client = line.substring(0, separator).trim();
+        Quota quota = Quota.parse(line.substring(separator + 1));
+        if (client.equals(DEFAULT_CLIENT)) {
+          newDefaultQuota = quota;
+        }
+        else {
+          newQuotas.put(client, quota);
+        }
+      }
+      defaultQuota = newDefaultQuota;
+      quotas = newQuotas;
+      Logger.logInfo(
+          String.format("Loaded quotas from %s: default %s and %d client quotas", quotaFile, newDefaultQuota, newQuotas.size()));
+    }
+    catch (IOException | IllegalArgumentException e) {
+      Logger.logError(String.format("Failed to load quotas from %s: %s", quotaFile, e.getMessage()));
+    }
+  }
+
+  /**
+   * Takes one call from a client's quota.
+   * @param client the client making the call
+   * @return true if the client is within its quota
+   */
+  public boolean tryAcquireOp(String client) {
+    Quota quota = getQuota(client);
+    if (quota.getOpsPerSecond() == 0) {
+      return true;
+    }
+    ClientState state = getState(client);
+    if (state.ops.tryAcquire(1, quota.getOpsPerSecond())) {
+      return true;
+    }
+    state.rejected.increment();
+    return false;
+  }
+
+  /**
+   * Takes the bytes of a message received from a client from its quota.
+   * @param client the client that sent the message
+   * @param bytes the size of the message
+   * @return true if the client is within its quota
+   */
+  public boolean tryAcquireBytes(String client, long bytes) {
+    Quota quota = getQuota(client);
+    if (quota.getBytesPerSecond() == 0) {
+      return true;
+    }
+    ClientState state = getState(client);
+    if (state.bytes.tryAcquire(bytes, quota.getBytesPerSecond())) {
+      return true;
+    }
+    state.rejected.increment();
+    return false;
+  }
+
+  /**
+   * Takes the bytes of a message sent to a client from its quota, even if
+   * that puts the client over its quota, since the message has already been
+   * produced. The client's later calls are rejected until it is back
+   * within its quota.
+   * @param client the client that the message is sent to
+   * @param bytes the size of the message
+   */
+  public void acquireBytes(String client, long bytes) {
+    Quota quota = getQuota(client);
+    if (quota.getBytesPerSecond() == 0) {
+      return;
+    }
+    getState(client).bytes.acquire(bytes, quota.getBytesPerSecond());
+  }
+
+  /**
+   * Forgets the buckets of clients that have been idle long enough for their
+   * buckets to be full again, so that departed clients do not use memory.
+   */
+  public void evictIdleClients() {
+    clients.values().removeIf(state -> state.ops.isIdle(IDLE_NANOS) && state.bytes.isIdle(IDLE_NANOS));
+  }
+
+  /**
+   * Logs the number of calls rejected for each recently active client that was over its quota.
+   */
+  public void logStats() {
+    for (Map.Entry<String, ClientState> entry : clients.entrySet()) {
+      long rejected = entry.getValue().rejected.sum();
+      if (rejected > 0) {
+        Logger.logInfo(String.format("Rejected %d calls from %s for exceeding its quota", rejected, entry.getKey()));
+      }
+    }
+  }
+
+  private ClientState getState(String client) {
+    ClientState state = clients.get(client);
+    if (state == null) {
+      state = clients.computeIfAbsent(client, key -> new ClientState());
+    }
+    return state;
+  }
+
+  /**
+   * The buckets and statistics of a single client.
+   */
+  private static final class ClientState {
+
+    private final TokenBucket ops;
+    private final TokenBucket bytes;
+    private final LongAdder rejected;
+
+    public ClientState() {
+      ops = new TokenBucket();
+      bytes = new TokenBucket();
+      rejected = new LongAdder();
+    }
+  }
+
+}
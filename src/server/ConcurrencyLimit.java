@@ -0,0 +1,238 @@
+package server;
+
+/**
+ * A limit on the number of calls a server processes at once, which may
+ * adapt to the latencies of the calls that complete. Limits are described by
+ * a specification of the form {@code <name>[:<parameter>...]}:
+ * <ul>
+ * <li>{@code fixed:<limit>}</li>
+ * <li>{@code aimd:<target latency ms>}</li>
+ * <li>{@code gradient}</li>
+ * </ul>
+ * @author lscholte
+ *
+ */
+public interface ConcurrencyLimit {
+
+  public static final int INITIAL_LIMIT = 20;
+  public static final int MIN_LIMIT = 1;
+  public static final int MAX_LIMIT = 1000;
+
+  /**
+   * @return the number of calls that may currently be processed at once
+   */
+  public int getLimit();
+
+  /**
+   * Records the latency of a call that has completed.
+   * @param latencyNanos the time from the call being accepted to it being closed
+   * @param inFlight the number of calls being processed when the call completed
+   */
+  public void onSample(long latencyNanos, int inFlight);
+
+  /**
+   * Creates a limit that never changes.
+   * @param limit the number of calls that may be processed at once
+   * @return the limit
+   */
+  public static ConcurrencyLimit fixed(int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("A fixed concurrency limit must be positive");
+    }
+    return new Fixed(limit);
+  }
+
+  /**
+   * Creates a limit that grows by one while calls meet a target latency
+   * and backs off multiplicatively when they do not.
+   * @param targetLatencyMs the latency above which the limit is decreased
+   * @return the limit
+   */
+  public static ConcurrencyLimit aimd(long targetLatencyMs) {
+    if (targetLatencyMs <= 0) {
+      throw new IllegalArgumentException("The AIMD target latency must be positive");
+    }
+    return new Aimd(targetLatencyMs * 1000000);
+  }
+
+  /**
+   * Creates a limit that follows the gradient between the long-term and the
+   * recent latencies of calls, shrinking as calls start queueing and growing
+   * while latencies stay at their usual level.
+   * @return the limit
+   */
+  public static ConcurrencyLimit gradient() {
+    return new Gradient();
+  }
+
+  /**
+   * Creates a limit from its specification.
+   * @param specification the specification of the limit
+   * @return the limit
+   * @throws IllegalArgumentException if the specification is not valid
+   */
+  public static ConcurrencyLimit parse(String specification) {
+    String[] parts = specification.split(":");
+    switch (parts[0].toLowerCase()) {
+      case "fixed":
+        requireParameters(parts, 1);
+        return fixed(Integer.parseInt(parts[1]));
+      case "aimd":
+        requireParameters(parts, 1);
+        return aimd(Long.parseLong(parts[1]));
+      case "gradient":
+        requireParameters(parts, 0);
+        return gradient();
+      default:
+        throw new IllegalArgumentException(String.format("Unknown concurrency limit %s", parts[0]));
+    }
+  }
+
+  private static void requireParameters(String[] parts, int count) {
+    if (parts.length != count + 1) {
+      throw new IllegalArgumentException(
+          String.format("Concurrency limit %s requires %d parameters", parts[0], count));
+    }
+  }
+
+  /**
+   * A limit that never changes.
+   */
+  static final class Fixed implements ConcurrencyLimit {
+
+    private final int limit;
+
+    private Fixed(int limit) {
+      this.limit = limit;
+    }
+
+    @Override
+    public int getLimit() {
+      return limit;
+    }
+
+    @Override
+    public void onSample(long latencyNanos, int inFlight) {
+    }
+
+    @Override
+    public String toString() {
+      return String.format("a fixed limit of %d", limit);
+    }
+  }
+
+  /**
+   * An additive-increase, multiplicative-decrease limit. The limit only grows
+   * while it is actually being used, and backs off at most once per target
+   * latency so that a burst of slow calls counts as a single sign of overload.
+   */
+  static final class Aimd implements ConcurrencyLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final long targetLatencyNanos;
+    private volatile int limit;
+    private long lastBackoffNanos;
+
+    private Aimd(long targetLatencyNanos) {
+      this.targetLatencyNanos = targetLatencyNanos;
+      limit = INITIAL_LIMIT;
+      lastBackoffNanos = System.nanoTime() - targetLatencyNanos;
+    }
+
+    @Override
+    public int getLimit() {
+      return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long latencyNanos, int inFlight) {
+      long now = System.nanoTime();
+      if (latencyNanos > targetLatencyNanos) {
+        if (now - lastBackoffNanos >= targetLatencyNanos) {
+          limit = Math.max(MIN_LIMIT, (int)(limit * BACKOFF_RATIO));
+          lastBackoffNanos = now;
+        }
+      }
+      else if (inFlight * 2 >= limit) {
+        limit = Math.min(MAX_LIMIT, limit + 1);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return String.format("an AIMD limit targeting %.1fms, currently %d", targetLatencyNanos / 1e6, limit);
+    }
+  }
+
+  /**
+   * A limit driven by the ratio of the long-term average latency to the
+   * average latency of the most recent window of calls. While the two match,
+   * the limit grows by a queue allowance of the square root of the limit;
+   * when recent calls are slower, the limit shrinks in proportion.
+   */
+  static final class Gradient implements ConcurrencyLimit {
+
+    private static final int WINDOW_SAMPLES = 50;
+    private static final double LONG_TERM_WEIGHT = 1.0 / 20;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private volatile double limit;
+    private double longTermLatency;
+    private long windowLatencySum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    private Gradient() {
+      limit = INITIAL_LIMIT;
+      longTermLatency = 0;
+    }
+
+    @Override
+    public int getLimit() {
+      return (int)limit;
+    }
+
+    @Override
+    public synchronized void onSample(long latencyNanos, int inFlight) {
+      windowLatencySum += latencyNanos;
+      windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+      if (++windowSamples < WINDOW_SAMPLES) {
+        return;
+      }
+
+      double recentLatency = (double)windowLatencySum / windowSamples;
+      int maxInFlight = windowMaxInFlight;
+      windowLatencySum = 0;
+      windowSamples = 0;
+      windowMaxInFlight = 0;
+
+      if (longTermLatency == 0) {
+        longTermLatency = recentLatency;
+      }
+      else {
+        longTermLatency = longTermLatency * (1 - LONG_TERM_WEIGHT) + recentLatency * LONG_TERM_WEIGHT;
+      }
+      //Let the long-term latency recover quickly once a period of overload has passed
+      if (longTermLatency > recentLatency * 2) {
+        longTermLatency = recentLatency * 2;
+      }
+
+      double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, longTermLatency / recentLatency));
+      //An underused limit says nothing about whether it could be higher
+      if (gradient >= 1.0 && maxInFlight * 2 < limit) {
+        return;
+      }
+      double newLimit = limit * gradient + Math.sqrt(limit);
+      newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+      limit = Math.max(MIN_LIMIT, Math.min(MAX_LIMIT, newLimit));
+    }
+
+    @Override
+    public String toString() {
+      return String.format("a gradient limit, currently %d", getLimit());
+    }
+  }
+
+}
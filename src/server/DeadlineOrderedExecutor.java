@@ -0,0 +1,89 @@
+package server;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.grpc.Deadline;
+
+/**
+ * Runs tasks on an executor in order of their deadlines, earliest first,
+ * rather than in the order in which they were submitted. A task without a
+ * deadline is ordered as if it were due {@value #UNDEADLINED_DUE_MS}ms after
+ * it was submitted, so that it yields to urgent tasks but cannot be starved
+ * by a steady stream of them. Tasks that are due at the same time run in the
+ * order they were submitted.
+ * <br><br>
+ * Each submitted task is queued by deadline and a token is handed to the
+ * underlying executor. Whichever token runs next takes the most urgent task
+ * from the queue, so while the executor keeps up tasks run as soon as they
+ * are submitted, and once it falls behind the tasks that have waited in its
+ * queue are run earliest deadline first.
+ * @author lscholte
+ *
+ */
+class DeadlineOrderedExecutor {
+
+  private static final long UNDEADLINED_DUE_MS = 1000;
+
+  private final Executor executor;
+  private final PriorityBlockingQueue<Task> tasks;
+  private final AtomicLong nextSequence;
+
+  /**
+   * Constructs a DeadlineOrderedExecutor.
+   * @param executor the executor on which tasks are run
+   */
+  public DeadlineOrderedExecutor(Executor executor) {
+    this.executor = executor;
+    tasks = new PriorityBlockingQueue<Task>();
+    nextSequence = new AtomicLong();
+  }
+
+  /**
+   * Submits a task to be run.
+   * @param task the task to run
+   * @param deadline the deadline of the task, or null if it has none
+   */
+  public void execute(Runnable task, Deadline deadline) {
+    long nowNanos = System.nanoTime();
+    long dueNanos = deadline == null
+        ? nowNanos + TimeUnit.MILLISECONDS.toNanos(UNDEADLINED_DUE_MS)
+        : nowNanos + deadline.timeRemaining(TimeUnit.NANOSECONDS);
+    tasks.add(new Task(task, dueNanos, nextSequence.getAndIncrement()));
+    executor.execute(() -> {
+      Task next = tasks.poll();
+      if (next != null) {
+        next.task.run();
+      }
+    });
+  }
+
+  /**
+   * A task along with what it is ordered by.
+   */
+  private static final class Task implements Comparable<Task> {
+
+    private final Runnable task;
+    private final long dueNanos;
+    private final long sequence;
+
+    public Task(Runnable task, long dueNanos, long sequence) {
+      this.task = task;
+      this.dueNanos = dueNanos;
+      this.sequence = sequence;
+    }
+
+    @Override
+    public int compareTo(Task other) {
+      //Compared by difference, since nanoTime values may overflow
+      int order = Long.signum(dueNanos - other.dueNanos);
+      if (order != 0) {
+        return order;
+      }
+      return Long.compare(sequence, other.sequence);
+    }
+  }
+
+}
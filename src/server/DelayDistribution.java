@@ -0,0 +1,205 @@
+package server;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A distribution from which simulated RPC processing times are drawn.
+ * Distributions are described by a specification of the form
+ * {@code <name>:<parameter>[:<parameter>...]}, with all times in milliseconds:
+ * <ul>
+ * <li>{@code fixed:<delay>}</li>
+ * <li>{@code uniform:<min>:<max>}</li>
+ * <li>{@code exponential:<mean>}</li>
+ * <li>{@code bimodal:<fast>:<slow>:<slow probability>}</li>
+ * </ul>
+ * @author lscholte
+ *
+ */
+public interface DelayDistribution {
+
+  /**
+   * Draws the next delay from the distribution.
+   * @return a delay in milliseconds that is at least 0
+   */
+  public long nextDelayMs();
+
+  /**
+   * Creates a distribution that always gives the same delay.
+   * @param delayMs the delay in milliseconds
+   * @return the distribution
+   */
+  public static DelayDistribution fixed(long delayMs) {
+    if (delayMs < 0) {
+      throw new IllegalArgumentException("Fixed delays require a delay of at least 0");
+    }
+    return new Fixed(delayMs);
+  }
+
+  /**
+   * Creates a distribution that gives delays uniformly between two bounds.
+   * @param minMs the smallest delay in milliseconds
+   * @param maxMs the largest delay in milliseconds
+   * @return the distribution
+   */
+  public static DelayDistribution uniform(long minMs, long maxMs) {
+    if (minMs < 0 || maxMs < minMs) {
+      throw new IllegalArgumentException("Uniform delays require 0 <= min <= max");
+    }
+    return new Uniform(minMs, maxMs);
+  }
+
+  /**
+   * Creates a distribution that gives exponentially distributed delays.
+   * @param meanMs the mean delay in milliseconds
+   * @return the distribution
+   */
+  public static DelayDistribution exponential(double meanMs) {
+    if (meanMs < 0) {
+      throw new IllegalArgumentException("Exponential delays require a mean of at least 0");
+    }
+    return new Exponential(meanMs);
+  }
+
+  /**
+   * Creates a distribution that usually gives a fast delay
+   * but occasionally gives a slow delay.
+   * @param fastMs the fast delay in milliseconds
+   * @param slowMs the slow delay in milliseconds
+   * @param slowProbability the probability of a slow delay
+   * @return the distribution
+   */
+  public static DelayDistribution bimodal(long fastMs, long slowMs, double slowProbability) {
+    if (fastMs < 0 || slowMs < 0 || slowProbability < 0 || slowProbability > 1) {
+      throw new IllegalArgumentException("Bimodal delays require delays of at least 0 and a probability in [0, 1]");
+    }
+    return new Bimodal(fastMs, slowMs, slowProbability);
+  }
+
+  /**
+   * Creates a distribution from its specification.
+   * @param specification the specification of the distribution
+   * @return the distribution
+   * @throws IllegalArgumentException if the specification is not valid
+   */
+  public static DelayDistribution parse(String specification) {
+    String[] parts = specification.split(":");
+    switch (parts[0].toLowerCase()) {
+      case "fixed":
+        requireParameters(parts, 1);
+        return fixed(Long.parseLong(parts[1]));
+      case "uniform":
+        requireParameters(parts, 2);
+        return uniform(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+      case "exponential":
+        requireParameters(parts, 1);
+        return exponential(Double.parseDouble(parts[1]));
+      case "bimodal":
+        requireParameters(parts, 3);
+        return bimodal(Long.parseLong(parts[1]), Long.parseLong(parts[2]), Double.parseDouble(parts[3]));
+      default:
+        throw new IllegalArgumentException(String.format("Unknown delay distribution %s", parts[0]));
+    }
+  }
+
+  private static void requireParameters(String[] parts, int count) {
+    if (parts.length != count + 1) {
+      throw new IllegalArgumentException(
+          String.format("Delay distribution %s requires %d parameters", parts[0], count));
+    }
+  }
+
+  /**
+   * A distribution that always gives the same delay.
+   */
+  static final class Fixed implements DelayDistribution {
+
+    private final long delayMs;
+
+    private Fixed(long delayMs) {
+      this.delayMs = delayMs;
+    }
+
+    @Override
+    public long nextDelayMs() {
+      return delayMs;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%dms", delayMs);
+    }
+  }
+
+  /**
+   * A distribution that gives delays uniformly between two bounds.
+   */
+  static final class Uniform implements DelayDistribution {
+
+    private final long minMs;
+    private final long maxMs;
+
+    private Uniform(long minMs, long maxMs) {
+      this.minMs = minMs;
+      this.maxMs = maxMs;
+    }
+
+    @Override
+    public long nextDelayMs() {
+      return ThreadLocalRandom.current().nextLong(minMs, maxMs + 1);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("uniformly %d-%dms", minMs, maxMs);
+    }
+  }
+
+  /**
+   * A distribution that gives exponentially distributed delays.
+   */
+  static final class Exponential implements DelayDistribution {
+
+    private final double meanMs;
+
+    private Exponential(double meanMs) {
+      this.meanMs = meanMs;
+    }
+
+    @Override
+    public long nextDelayMs() {
+      return Math.round(-meanMs * Math.log(1 - ThreadLocalRandom.current().nextDouble()));
+    }
+
+    @Override
+    public String toString() {
+      return String.format("exponentially distributed with a mean of %sms", meanMs);
+    }
+  }
+
+  /**
+   * A distribution that usually gives a fast delay but occasionally gives a slow delay.
+   */
+  static final class Bimodal implements DelayDistribution {
+
+    private final long fastMs;
+    private final long slowMs;
+    private final double slowProbability;
+
+    private Bimodal(long fastMs, long slowMs, double slowProbability) {
+      this.fastMs = fastMs;
+      this.slowMs = slowMs;
+      this.slowProbability = slowProbability;
+    }
+
+    @Override
+    public long nextDelayMs() {
+      return ThreadLocalRandom.current().nextDouble() < slowProbability ? slowMs : fastMs;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%dms or, with probability %s, %dms", fastMs, slowProbability, slowMs);
+    }
+  }
+
+}
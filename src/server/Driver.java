@@ -1,8 +1,13 @@
 package server;
 
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.google.protobuf.ByteString;
+
+import utilities.Arguments;
+import utilities.CompressionPolicy;
 import utilities.Logger;
 
 /**
@@ -12,41 +17,91 @@ import utilities.Logger;
  */
 public final class Driver {
   
-  private static final String USAGE = "Usage: server <port> [Simulated RPC Processing time (ms)]";
+  private static final String USAGE =
+      "Usage: server <port> [Simulated RPC Processing time (ms)]" +
+      " [--delay=fixed:<ms>|uniform:<min ms>:<max ms>|exponential:<mean ms>|bimodal:<fast ms>:<slow ms>:<slow probability>]" +
+      " [--executor=cached|direct|fixed|fork-join|virtual] [--threads=<count>]" +
+      " [--transport=auto|epoll|nio] [--boss-threads=<count>] [--worker-threads=<count>]" +
+      " [--flow-control-window=<bytes>] [--max-inbound-message-size=<bytes>]" +
+      " [--keepalive-time-ms=<ms>] [--keepalive-timeout-ms=<ms>]" +
+      " [--compression=identity|gzip|deflate] [--compression-threshold=<bytes>]" +
+      " [--compression-thresholds=<method>:<bytes>,...]" +
+      " [--watch-buffer=<keys>] [--watch-history=<changes>] [--no-get-coalescing]" +
+      " [--concurrency-limit=fixed:<limit>|aimd:<target latency ms>|gradient]" +
+      " [--quota=<ops/s>:<bytes/s>] [--quota-file=<path>] [--ignore-deadlines]" +
+      " [--lanes[=read:<threads>,write:<threads>,batch:<threads>]] [--socket=<path>]" +
+      " [--dedup-window-ms=<ms>] [--dedup-max-entries=<count>] [--session-max-in-flight=<count>] [--quiet]";
   
   /**
    * Entry point for the server program.
    * @param args the arguments to determine how to create the server
    */
   public static void main(String[] args) throws Throwable {
-    if (args.length != 1 && args.length != 2) {
+    Arguments arguments = new Arguments(args);
+    if (arguments.getPositionalCount() != 1 && arguments.getPositionalCount() != 2) {
       Logger.logError(USAGE);
       return;
     }
     
     int port;
+    ServerOptions options = new ServerOptions();
     try {
-      port = Integer.parseInt(args[0]);
+      port = Integer.parseInt(arguments.getPositional(0));
+      if (arguments.getPositionalCount() == 2) {
+        options.setSimulatedRpcProcessingTimeMs(Long.parseLong(arguments.getPositional(1)));
+      }
+      if (arguments.hasOption("delay")) {
+        options.setSimulatedDelay(DelayDistribution.parse(arguments.getString("delay", "")));
+      }
+      options.setExecutionModel(
+          ExecutionModel.fromName(arguments.getString("executor", options.getExecutionModel().getName())));
+      options.setThreads(arguments.getInt("threads", options.getThreads()));
+      options.setTransportType(
+          TransportType.fromName(arguments.getString("transport", options.getTransportType().getName())));
+      options.setBossThreads(arguments.getInt("boss-threads", options.getBossThreads()));
+      options.setWorkerThreads(arguments.getInt("worker-threads", options.getWorkerThreads()));
+      options.setFlowControlWindow(arguments.getInt("flow-control-window", options.getFlowControlWindow()));
+      options.setMaxInboundMessageSize(
+          arguments.getInt("max-inbound-message-size", options.getMaxInboundMessageSize()));
+      options.setKeepAliveTimeMs(arguments.getLong("keepalive-time-ms", options.getKeepAliveTimeMs()));
+      options.setKeepAliveTimeoutMs(arguments.getLong("keepalive-timeout-ms", options.getKeepAliveTimeoutMs()));
+      options.setCompressionPolicy(
+          CompressionPolicy.parse(
+              arguments.getString("compression", null),
+              arguments.getInt("compression-threshold", 0),
+              arguments.getString("compression-thresholds", null)));
+      options.setWatchBufferSize(arguments.getInt("watch-buffer", options.getWatchBufferSize()));
+      options.setWatchHistorySize(arguments.getInt("watch-history", options.getWatchHistorySize()));
+      options.setGetCoalescing(!arguments.hasOption("no-get-coalescing"));
+      if (arguments.hasOption("concurrency-limit")) {
+        options.setConcurrencyLimit(ConcurrencyLimit.parse(arguments.getString("concurrency-limit", "")));
+      }
+      options.setDeadlineAware(!arguments.hasOption("ignore-deadlines"));
+      if (arguments.hasOption("lanes")) {
+        options.setLaneThreads(Lane.parseThreads(arguments.getString("lanes", "")));
+      }
+      if (arguments.hasOption("quota")) {
+        options.setDefaultQuota(Quota.parse(arguments.getString("quota", "")));
+      }
+      if (arguments.hasOption("quota-file")) {
+        options.setQuotaFile(Paths.get(arguments.getString("quota-file", "")));
+      }
+      options.setDedupWindowMs(arguments.getLong("dedup-window-ms", options.getDedupWindowMs()));
+      options.setDedupMaxEntries(arguments.getInt("dedup-max-entries", options.getDedupMaxEntries()));
+      options.setSessionMaxInFlight(arguments.getInt("session-max-in-flight", options.getSessionMaxInFlight()));
+      if (arguments.hasOption("socket")) {
+        options.setSocketPath(Paths.get(arguments.getString("socket", "")));
+      }
     }
-    catch (NumberFormatException e) {
+    catch (IllegalArgumentException e) {
       Logger.logError(USAGE);
       return;
     }
-    
-    long simulatedRpcProcessingTimeMs = 0;
-    if (args.length == 2) {
-      try {
-        simulatedRpcProcessingTimeMs = Long.parseLong(args[1]);
-      }
-      catch (NumberFormatException e) {
-        Logger.logError(USAGE);
-        return;
-      } 
-    }
+    Logger.setInfoEnabled(!arguments.hasOption("quiet"));
     
 
-    Map<String, String> map = new HashMap<String, String>();
-    RpcServer server = new RpcServer(port, map, simulatedRpcProcessingTimeMs);
+    Map<String, ByteString> map = new HashMap<String, ByteString>();
+    RpcServer server = new RpcServer(port, map, options);
     server.start();
   }
 
@@ -0,0 +1,92 @@
+package server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The ways in which a server can execute RPC calls.
+ * @author lscholte
+ *
+ */
+public enum ExecutionModel {
+
+  /**
+   * Calls run on an unbounded pool of threads that are created as needed.
+   * This is the default gRPC execution model.
+   */
+  CACHED("cached"),
+
+  /**
+   * Calls run directly on the transport threads. No thread hand-off takes
+   * place, but a call that blocks stalls every other call on the same transport thread.
+   */
+  DIRECT("direct"),
+
+  /**
+   * Calls run on a fixed number of threads. Calls queue up
+   * once every thread is busy.
+   */
+  FIXED("fixed"),
+
+  /**
+   * Calls run on a work-stealing pool with a fixed level of parallelism.
+   */
+  FORK_JOIN("fork-join"),
+
+  /**
+   * Every call runs on its own virtual thread, so calls that block
+   * do not tie up platform threads.
+   */
+  VIRTUAL("virtual");
+
+  private final String name;
+
+  private ExecutionModel(String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return the name used to select the execution model
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Creates an executor that implements this execution model.
+   * @param threads the number of threads for the {@link #FIXED} and {@link #FORK_JOIN}
+   *      models; ignored by the other models
+   * @return the executor, or null for the {@link #DIRECT} model
+   */
+  public ExecutorService createExecutor(int threads) {
+    switch (this) {
+      case CACHED:
+        return Executors.newCachedThreadPool();
+      case FIXED:
+        return Executors.newFixedThreadPool(threads);
+      case FORK_JOIN:
+        return new ForkJoinPool(threads, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+      case VIRTUAL:
+        return Executors.newVirtualThreadPerTaskExecutor();
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Finds the execution model with the given name.
+   * @param name the name of the execution model
+   * @return the execution model
+   * @throws IllegalArgumentException if there is no execution model with the name
+   */
+  public static ExecutionModel fromName(String name) {
+    for (ExecutionModel model : values()) {
+      if (model.name.equalsIgnoreCase(name)) {
+        return model;
+      }
+    }
+    throw new IllegalArgumentException(String.format("Unknown execution model %s", name));
+  }
+
+}
@@ -0,0 +1,234 @@
+package server;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * A thread-safe store of key-value pairs backed by a map. Every change to
+ * the store creates a new version of the store, numbered from 1 upwards,
+ * and is reported to the registered {@link ChangeListener}s. Each key is
+ * stamped with the version of the store created by its most recent change,
+ * so that a reader holding a value can cheaply tell whether it is still
+ * current.
+ * <br><br>
+ * The store can be embedded in another program and used directly, with or
+ * without an {@link RpcServer} serving it to clients at the same time.
+ * @author lscholte
+ *
+ */
+public class KeyValueStore {
+
+  private final Map<String, ByteString> map;
+  private final Map<String, Long> versions;
+  private final Object lock;
+  private final List<ChangeListener> listeners;
+  private long version;
+
+  /**
+   * Constructs an empty KeyValueStore backed by a {@link HashMap}.
+   */
+  public KeyValueStore() {
+    this(new HashMap<String, ByteString>());
+  }
+
+  /**
+   * Constructs a KeyValueStore backed by the specified map.
+   * The map must not be modified other than through the store. Key-value
+   * pairs already in the map are stamped with version 0.
+   * @param map the map to store key-value pairs
+   */
+  public KeyValueStore(Map<String, ByteString> map) {
+    this.map = map;
+    versions = new HashMap<String, Long>();
+    lock = new Object();
+    listeners = new CopyOnWriteArrayList<ChangeListener>();
+    version = 0;
+  }
+
+  /**
+   * Registers a listener to be told about every subsequent change.
+   * @param listener the listener to register
+   */
+  public void addChangeListener(ChangeListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Puts a value under a key, replacing any existing value.
+   * @param key the key to store
+   * @param value the value to store
+   * @return the version of the store created by the change
+   */
+  public long put(String key, ByteString value) {
+    synchronized (lock) {
+      map.put(key, value);
+      return changed(key, value);
+    }
+  }
+
+  /**
+   * Puts a batch of values under their keys while holding the store's lock
+   * once for the whole batch. Each key still creates its own version of the
+   * store, in the iteration order of the batch.
+   * @param entries the key-value pairs to store
+   * @return the version of the store created by the last change in the batch
+   */
+  public long putAll(Map<String, ByteString> entries) {
+    synchronized (lock) {
+      for (Map.Entry<String, ByteString> entry : entries.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+        changed(entry.getKey(), entry.getValue());
+      }
+      return version;
+    }
+  }
+
+  /**
+   * @param key the key to use to retrieve a value
+   * @return the value under the key, or null if there is no value
+   */
+  public ByteString get(String key) {
+    synchronized (lock) {
+      return map.get(key);
+    }
+  }
+
+  /**
+   * @param key the key to use to retrieve a value
+   * @return the value under the key together with the version the key is
+   *      stamped with, or null if there is no value
+   */
+  public VersionedValue getVersioned(String key) {
+    synchronized (lock) {
+      ByteString value = map.get(key);
+      if (value == null) {
+        return null;
+      }
+      return new VersionedValue(value, versions.getOrDefault(key, 0L));
+    }
+  }
+
+  /**
+   * Deletes a key and its value.
+   * @param key the key to delete
+   * @return true if the key existed and was deleted
+   */
+  public boolean delete(String key) {
+    synchronized (lock) {
+      if (map.remove(key) == null) {
+        return false;
+      }
+      versions.remove(key);
+      changed(key, null);
+      return true;
+    }
+  }
+
+  /**
+   * Takes a consistent snapshot of the store. Only references to the keys and
+   * values are copied while the store's lock is held, so writers are held up
+   * for as little time as possible; the entries are sorted by key after the
+   * lock has been released.
+   * @return the entries of the store as of a single version
+   */
+  public Snapshot snapshot() {
+    List<Map.Entry<String, ByteString>> entries;
+    long snapshotVersion;
+    synchronized (lock) {
+      entries = new ArrayList<Map.Entry<String, ByteString>>(map.size());
+      for (Map.Entry<String, ByteString> entry : map.entrySet()) {
+        entries.add(new SimpleImmutableEntry<String, ByteString>(entry.getKey(), entry.getValue()));
+      }
+      snapshotVersion = version;
+    }
+    entries.sort(Map.Entry.comparingByKey());
+    return new Snapshot(snapshotVersion, entries);
+  }
+
+  /**
+   * @return the version created by the most recent change, or 0 if nothing has changed
+   */
+  public long getVersion() {
+    synchronized (lock) {
+      return version;
+    }
+  }
+
+  private long changed(String key, ByteString value) {
+    ++version;
+    if (value != null) {
+      versions.put(key, version);
+    }
+    for (ChangeListener listener : listeners) {
+      listener.onChange(key, value, version);
+    }
+    return version;
+  }
+
+  /**
+   * A value together with the version its key is stamped with.
+   * @author lscholte
+   *
+   */
+  public static final class VersionedValue {
+
+    private final ByteString value;
+    private final long version;
+
+    private VersionedValue(ByteString value, long version) {
+      this.value = value;
+      this.version = version;
+    }
+
+    /**
+     * @return the value
+     */
+    public ByteString getValue() {
+      return value;
+    }
+
+    /**
+     * @return the version of the store created by the most recent change to the key
+     */
+    public long getVersion() {
+      return version;
+    }
+  }
+
+  /**
+   * The entries of a store as of a single version, sorted by key.
+   * @author lscholte
+   *
+   */
+  public static final class Snapshot {
+
+    private final long version;
+    private final List<Map.Entry<String, ByteString>> entries;
+
+    private Snapshot(long version, List<Map.Entry<String, ByteString>> entries) {
+      this.version = version;
+      this.entries = entries;
+    }
+
+    /**
+     * @return the version of the store the snapshot was taken at
+     */
+    public long getVersion() {
+      return version;
+    }
+
+    /**
+     * @return the entries of the store, sorted by key
+     */
+    public List<Map.Entry<String, ByteString>> getEntries() {
+      return entries;
+    }
+  }
+
+}
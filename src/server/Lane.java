@@ -0,0 +1,88 @@
+package server;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The lanes in which the server processes requests. Each lane has its own
+ * threads and queue, so a burst of traffic in one lane does not hold up the
+ * requests in the others. Lane threads are described by a specification of
+ * the form {@code <lane>:<threads>[,<lane>:<threads>...]}.
+ * @author lscholte
+ *
+ */
+public enum Lane {
+
+  /**
+   * Interactive GETs.
+   */
+  READ("read"),
+
+  /**
+   * Interactive PUTs and DELETEs.
+   */
+  WRITE("write"),
+
+  /**
+   * Every request tagged as batch traffic.
+   */
+  BATCH("batch");
+
+  private final String name;
+
+  private Lane(String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return the name used to select the lane
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Finds the lane with the given name.
+   * @param name the name of the lane
+   * @return the lane
+   * @throws IllegalArgumentException if there is no lane with the name
+   */
+  public static Lane fromName(String name) {
+    for (Lane lane : values()) {
+      if (lane.name.equalsIgnoreCase(name)) {
+        return lane;
+      }
+    }
+    throw new IllegalArgumentException(String.format("Unknown lane %s", name));
+  }
+
+  /**
+   * Parses the number of threads of each lane. Lanes that are not
+   * specified have a single thread.
+   * @param specification the specification of the lane threads
+   * @return the number of threads of every lane
+   * @throws IllegalArgumentException if the specification is not valid
+   */
+  public static Map<Lane, Integer> parseThreads(String specification) {
+    Map<Lane, Integer> threads = new EnumMap<Lane, Integer>(Lane.class);
+    for (Lane lane : values()) {
+      threads.put(lane, 1);
+    }
+    if (specification.isEmpty()) {
+      return threads;
+    }
+    for (String entry : specification.split(",")) {
+      String[] parts = entry.split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException(String.format("Lane threads %s must be of the form <lane>:<threads>", entry));
+      }
+      int count = Integer.parseInt(parts[1].trim());
+      if (count <= 0) {
+        throw new IllegalArgumentException("The number of threads of a lane must be positive");
+      }
+      threads.put(fromName(parts[0].trim()), count);
+    }
+    return threads;
+  }
+
+}
@@ -0,0 +1,106 @@
+package server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.grpc.Deadline;
+import utilities.Logger;
+
+/**
+ * The threads and queue of a single {@link Lane}. Queued work runs earliest
+ * deadline first. How long work waits in the queue and how deep the queue
+ * gets are tracked so that each lane can be sized on its own.
+ * @author lscholte
+ *
+ */
+class LaneExecutor {
+
+  private final Lane lane;
+  private final int threads;
+  private final ExecutorService executorService;
+  private final DeadlineOrderedExecutor deadlineExecutor;
+
+  private final AtomicInteger queued;
+  private final LongAccumulator maxQueued;
+  private final LongAdder completed;
+  private final LongAdder waitNanos;
+  private final LongAccumulator maxWaitNanos;
+
+  /**
+   * Constructs a LaneExecutor.
+   * @param lane the lane the executor runs
+   * @param threads the number of threads of the lane
+   */
+  public LaneExecutor(Lane lane, int threads) {
+    this.lane = lane;
+    this.threads = threads;
+    AtomicInteger threadNumber = new AtomicInteger();
+    ThreadFactory threadFactory = task -> {
+      Thread thread = new Thread(task, String.format("%s-lane-%d", lane.getName(), threadNumber.incrementAndGet()));
+      thread.setDaemon(true);
+      return thread;
+    };
+    executorService = Executors.newFixedThreadPool(threads, threadFactory);
+    deadlineExecutor = new DeadlineOrderedExecutor(executorService);
+    queued = new AtomicInteger();
+    maxQueued = new LongAccumulator(Math::max, 0);
+    completed = new LongAdder();
+    waitNanos = new LongAdder();
+    maxWaitNanos = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Queues work to run in the lane.
+   * @param task the work to run
+   * @param deadline the deadline of the work, or null if it has none
+   */
+  public void execute(Runnable task, Deadline deadline) {
+    long queuedAtNanos = System.nanoTime();
+    maxQueued.accumulate(queued.incrementAndGet());
+    deadlineExecutor.execute(() -> {
+      queued.decrementAndGet();
+      long waitedNanos = System.nanoTime() - queuedAtNanos;
+      waitNanos.add(waitedNanos);
+      maxWaitNanos.accumulate(waitedNanos);
+      try {
+        task.run();
+      }
+      finally {
+        completed.increment();
+      }
+    }, deadline);
+  }
+
+  /**
+   * Stops the threads of the lane.
+   */
+  public void shutdown() {
+    executorService.shutdownNow();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s (%d threads)", lane.getName(), threads);
+  }
+
+  /**
+   * Logs how much work the lane ran and how long it waited.
+   */
+  public void logStats() {
+    long completedCount = completed.sum();
+    Logger.logInfo(
+        String.format(
+            "%s lane (%d threads): ran %d requests, queue depth peaked at %d, waits averaged %.3fms and peaked at %.3fms",
+            lane.getName(),
+            threads,
+            completedCount,
+            maxQueued.get(),
+            completedCount == 0 ? 0 : waitNanos.sum() / 1e6 / completedCount,
+            maxWaitNanos.get() / 1e6));
+  }
+
+}
@@ -0,0 +1,83 @@
+package server;
+
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+
+/**
+ * The Netty event loop groups and channel type that carry a server's
+ * connections. The boss group accepts connections and the worker group
+ * performs all I/O on the accepted connections.
+ * @author lscholte
+ *
+ */
+class NettyTransport {
+
+  private final boolean epoll;
+  private final EventLoopGroup bossGroup;
+  private final EventLoopGroup workerGroup;
+
+  /**
+   * Constructs a NettyTransport and creates its event loop groups.
+   * @param type the requested transport
+   * @param bossThreads the number of threads that accept connections
+   * @param workerThreads the number of threads that perform I/O,
+   *      or 0 for the Netty default of twice the number of processors
+   * @throws IllegalStateException if the epoll transport was requested but is not available
+   */
+  public NettyTransport(TransportType type, int bossThreads, int workerThreads) {
+    if (type == TransportType.EPOLL && !Epoll.isAvailable()) {
+      throw new IllegalStateException("The epoll transport is not available", Epoll.unavailabilityCause());
+    }
+    epoll = type == TransportType.EPOLL || (type == TransportType.AUTO && Epoll.isAvailable());
+    if (epoll) {
+      bossGroup = new EpollEventLoopGroup(bossThreads);
+      workerGroup = new EpollEventLoopGroup(workerThreads);
+    }
+    else {
+      bossGroup = new NioEventLoopGroup(bossThreads);
+      workerGroup = new NioEventLoopGroup(workerThreads);
+    }
+  }
+
+  /**
+   * Configures a server builder to use this transport.
+   * @param serverBuilder the builder of the server
+   * @param domainSocket true if the server listens on a Unix domain socket rather than a TCP port
+   * @throws IllegalStateException if a Unix domain socket is requested without the epoll transport
+   */
+  public void configure(NettyServerBuilder serverBuilder, boolean domainSocket) {
+    if (domainSocket && !epoll) {
+      throw new IllegalStateException("Unix domain sockets require the epoll transport");
+    }
+    serverBuilder
+        .bossEventLoopGroup(bossGroup)
+        .workerEventLoopGroup(workerGroup)
+        .channelType(
+            domainSocket
+                ? EpollServerDomainSocketChannel.class
+                : epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class);
+  }
+
+  /**
+   * @return the name of the transport in use
+   */
+  public String getName() {
+    return epoll ? TransportType.EPOLL.getName() : TransportType.NIO.getName();
+  }
+
+  /**
+   * Shuts down the event loop groups. This must only be called
+   * once the server using this transport has terminated.
+   */
+  public void shutdown() {
+    bossGroup.shutdownGracefully();
+    workerGroup.shutdownGracefully();
+  }
+
+}
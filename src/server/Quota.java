@@ -0,0 +1,76 @@
+package server;
+
+/**
+ * The rates at which a client may make calls and send and receive bytes.
+ * A rate of 0 means unlimited. Quotas are described by a specification of
+ * the form {@code <ops per second>:<bytes per second>}.
+ * @author lscholte
+ *
+ */
+public final class Quota {
+
+  /**
+   * A quota that does not limit anything.
+   */
+  public static final Quota UNLIMITED = new Quota(0, 0);
+
+  private final double opsPerSecond;
+  private final double bytesPerSecond;
+
+  /**
+   * Constructs a Quota.
+   * @param opsPerSecond the number of calls, or commands on a stream, allowed per second, or 0 for unlimited
+   * @param bytesPerSecond the number of message bytes allowed per second, or 0 for unlimited
+   */
+  public Quota(double opsPerSecond, double bytesPerSecond) {
+    if (opsPerSecond < 0 || bytesPerSecond < 0) {
+      throw new IllegalArgumentException("Quota rates must be at least 0");
+    }
+    this.opsPerSecond = opsPerSecond;
+    this.bytesPerSecond = bytesPerSecond;
+  }
+
+  /**
+   * Creates a quota from its specification.
+   * @param specification the specification of the quota
+   * @return the quota
+   * @throws IllegalArgumentException if the specification is not valid
+   */
+  public static Quota parse(String specification) {
+    String[] parts = specification.trim().split(":");
+    if (parts.length != 2) {
+      throw new IllegalArgumentException(
+          String.format("Quota %s must be of the form <ops per second>:<bytes per second>", specification));
+    }
+    return new Quota(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]));
+  }
+
+  /**
+   * @return the number of calls allowed per second, or 0 for unlimited
+   */
+  public double getOpsPerSecond() {
+    return opsPerSecond;
+  }
+
+  /**
+   * @return the number of message bytes allowed per second, or 0 for unlimited
+   */
+  public double getBytesPerSecond() {
+    return bytesPerSecond;
+  }
+
+  /**
+   * @return true if the quota limits neither calls nor bytes
+   */
+  public boolean isUnlimited() {
+    return opsPerSecond == 0 && bytesPerSecond == 0;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s ops/s and %s bytes/s",
+        opsPerSecond == 0 ? "unlimited" : String.format("%.0f", opsPerSecond),
+        bytesPerSecond == 0 ? "unlimited" : String.format("%.0f", bytesPerSecond));
+  }
+
+}
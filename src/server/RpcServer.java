@@ -1,44 +1,134 @@
 package server;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.Message;
+import com.google.protobuf.MessageLite;
 
+import io.grpc.Context;
+import io.grpc.Context.CancellationListener;
+import io.grpc.Contexts;
+import io.grpc.Deadline;
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
 import io.grpc.Grpc;
 import io.grpc.Metadata;
-import io.grpc.ServerBuilder;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
 import io.grpc.ServerCall;
 import io.grpc.ServerCall.Listener;
+import io.grpc.ServerBuilder;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.unix.DomainSocketAddress;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import protobuf.generated.KeyValueServiceGrpc;
 import protobuf.generated.KeyValueServiceGrpc.KeyValueServiceImplBase;
+import protobuf.generated.KeyValueServiceMessages.BulkLoadRequest;
+import protobuf.generated.KeyValueServiceMessages.BulkLoadResponse;
 import protobuf.generated.KeyValueServiceMessages.DeleteRequest;
 import protobuf.generated.KeyValueServiceMessages.DeleteResponse;
 import protobuf.generated.KeyValueServiceMessages.ErrorStatus;
+import protobuf.generated.KeyValueServiceMessages.ExportChunk;
+import protobuf.generated.KeyValueServiceMessages.ExportRequest;
 import protobuf.generated.KeyValueServiceMessages.GetRequest;
 import protobuf.generated.KeyValueServiceMessages.GetResponse;
+import protobuf.generated.KeyValueServiceMessages.KeyValuePair;
+import protobuf.generated.KeyValueServiceMessages.PutBatchRequest;
+import protobuf.generated.KeyValueServiceMessages.PutBatchResponse;
 import protobuf.generated.KeyValueServiceMessages.PutRequest;
 import protobuf.generated.KeyValueServiceMessages.PutResponse;
+import protobuf.generated.KeyValueServiceMessages.SessionRequest;
+import protobuf.generated.KeyValueServiceMessages.SessionResponse;
+import protobuf.generated.KeyValueServiceMessages.WatchEvent;
+import protobuf.generated.KeyValueServiceMessages.WatchRequest;
+import utilities.Compression;
+import utilities.CompressionPolicy;
+import utilities.DedupTable;
+import utilities.Headers;
 import utilities.Logger;
+import utilities.Priority;
 import utilities.ProtobufUtils;
+import utilities.SingleFlight;
+import utilities.ZeroCopyMarshaller;
 
 /**
  * An RPC server that can receive GET, PUT, and DELETE
  * commands for key-value pairs to store in a map.
  * This implementation uses gRPC, which provides support
- * for multithreading client connections.
+ * for multithreading client connections. Commands can either be
+ * sent as individual unary calls or pipelined over a long-lived
+ * bidirectional session. Clients can also watch keys or key prefixes
+ * to be streamed every change made to them, and load large numbers of
+ * key-value pairs by streaming them in batches or export every key-value
+ * pair as a stream of chunks.
  * @author lscholte
  *
  */
 public class RpcServer implements Server {
   
-  private Map<String, String> map;
+  private static final long QUOTA_REFRESH_S = 1;
+  private static final int DEFAULT_EXPORT_CHUNK_BYTES = 64 * 1024;
+  private static final int MAX_EXPORT_CHUNK_BYTES = 1024 * 1024;
+  private static final Context.Key<Priority> PRIORITY = Context.keyWithDefault("priority", Priority.INTERACTIVE);
+  
+  private final KeyValueStore store;
   private io.grpc.Server grpcServer;
   
-  private final long simulatedRpcProcessingTimeMs;
+  private final DelayDistribution simulatedDelay;
+  private final ExecutionModel executionModel;
+  private final Executor callExecutor;
+  private final ScheduledExecutorService delayScheduler;
+  private final ExecutorService executorService;
+  private final NettyTransport transport;
+  private final Path socketPath;
+  private final String inProcessName;
+  private final AtomicBoolean shutDown;
+  private final CompressionPolicy compressionPolicy;
+  private final WatchManager watchManager;
+  private final SingleFlight<String, GetResponse> getFlights;
+  private final DedupTable<Long, PutResponse> putOutcomes;
+  private final DedupTable<Long, DeleteResponse> deleteOutcomes;
+  private final int sessionMaxInFlight;
+  private final ConcurrencyLimitInterceptor concurrencyLimiter;
+  private final ClientQuotas clientQuotas;
+  private final boolean deadlineAware;
+  private final DeadlineOrderedExecutor deadlineExecutor;
+  private final Map<Lane, LaneExecutor> lanes;
+  private final LongAdder abandonedRequests;
+  private final LongAdder avoidedProcessingMs;
 
   /**
    * Constructs an RpcServer assigned to the specified port
@@ -50,142 +140,1337 @@ public class RpcServer implements Server {
    * @param map the map to store key-value pairs
    * @param simulatedRpcProcessingTimeMs a simulated amount of time for RPC calls to take
    */
-  public RpcServer(int port, Map<String, String> map, long simulatedRpcProcessingTimeMs) {
-    this.simulatedRpcProcessingTimeMs = Math.max(0, simulatedRpcProcessingTimeMs);
-    this.map = map;
-    grpcServer = ServerBuilder
-        .forPort(port)
-        .addService(new KeyValueService())
-        .intercept(new ClientInfoInterceptor())
-        .build();
-    
-    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-      Logger.logInfo("Shutting down server");
-      try {
-        grpcServer.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+  public RpcServer(int port, Map<String, ByteString> map, long simulatedRpcProcessingTimeMs) {
+    this(port, map, new ServerOptions().setSimulatedRpcProcessingTimeMs(simulatedRpcProcessingTimeMs));
+  }
+
+  /**
+   * Constructs an RpcServer assigned to the specified port
+   * with a specified and map for storying key-value pairs.
+   * RPC calls, including the commands of each session, are run
+   * using the execution model given in the options. Simulated processing
+   * times are drawn from the delay distribution given in the options and
+   * are waited out on a scheduler rather than on the thread of the call, so
+   * slow calls that are waiting do not tie up any threads. If the options
+   * give a Unix domain socket, the server listens on it instead of the port.
+   * @param port the port number assigned to the server
+   * @param map the map to store key-value pairs
+   * @param options the options that control how requests are processed
+   */
+  public RpcServer(int port, Map<String, ByteString> map, ServerOptions options) {
+    this(port, new KeyValueStore(map), options);
+  }
+
+  /**
+   * Constructs an RpcServer assigned to the specified port that serves an
+   * existing store. The store may also be used directly by code running in
+   * the same process as the server. If the options give an in-process name,
+   * the server is only reachable from within the same process, through
+   * channels built with {@code InProcessChannelBuilder.forName(name)}, and
+   * requests and responses are handed between client and server without
+   * being serialized or sent over a network.
+   * @param port the port number assigned to the server
+   * @param store the store to serve
+   * @param options the options that control how requests are processed
+   */
+  public RpcServer(int port, KeyValueStore store, ServerOptions options) {
+    simulatedDelay = options.getSimulatedDelay();
+    compressionPolicy = options.getCompressionPolicy();
+    this.store = store;
+    deadlineAware = options.isDeadlineAware();
+    abandonedRequests = new LongAdder();
+    avoidedProcessingMs = new LongAdder();
+    concurrencyLimiter = options.getConcurrencyLimit() == null
+        ? null
+        : new ConcurrencyLimitInterceptor(options.getConcurrencyLimit());
+    if (options.getDedupWindowMs() > 0) {
+      putOutcomes = new DedupTable<Long, PutResponse>(
+          "PUT dedup", options.getDedupWindowMs(), options.getDedupMaxEntries());
+      deleteOutcomes = new DedupTable<Long, DeleteResponse>(
+          "DELETE dedup", options.getDedupWindowMs(), options.getDedupMaxEntries());
+    }
+    else {
+      putOutcomes = null;
+      deleteOutcomes = null;
+    }
+    sessionMaxInFlight = options.getSessionMaxInFlight();
+    delayScheduler = Executors.newSingleThreadScheduledExecutor();
+    clientQuotas = new ClientQuotas(options.getDefaultQuota());
+    Path quotaFile = options.getQuotaFile();
+    if (quotaFile != null) {
+      clientQuotas.reloadIfModified(quotaFile);
+    }
+    delayScheduler.scheduleWithFixedDelay(() -> {
+      if (quotaFile != null) {
+        clientQuotas.reloadIfModified(quotaFile);
+      }
+      clientQuotas.evictIdleClients();
+      if (putOutcomes != null) {
+        putOutcomes.evictExpired();
+        deleteOutcomes.evictExpired();
       }
-      catch (InterruptedException e) {
-        e.printStackTrace();
+    }, QUOTA_REFRESH_S, QUOTA_REFRESH_S, TimeUnit.SECONDS);
+    getFlights = options.isGetCoalescing() ? new SingleFlight<String, GetResponse>("GET coalescing") : null;
+    executionModel = options.getExecutionModel();
+    executorService = executionModel.createExecutor(options.getThreads());
+    
+    inProcessName = options.getInProcessName();
+    socketPath = inProcessName == null ? options.getSocketPath() : null;
+    ServerBuilder<?> serverBuilder;
+    if (inProcessName != null) {
+      transport = null;
+      serverBuilder = InProcessServerBuilder.forName(inProcessName);
+    }
+    else {
+      transport = new NettyTransport(
+          options.getTransportType(),
+          options.getBossThreads(),
+          options.getWorkerThreads());
+      NettyServerBuilder nettyServerBuilder = socketPath == null
+          ? NettyServerBuilder.forPort(port)
+          : NettyServerBuilder.forAddress(new DomainSocketAddress(socketPath.toString()));
+      transport.configure(nettyServerBuilder, socketPath != null);
+      if (options.getFlowControlWindow() > 0) {
+        nettyServerBuilder.flowControlWindow(options.getFlowControlWindow());
+      }
+      if (options.getMaxInboundMessageSize() > 0) {
+        nettyServerBuilder.maxInboundMessageSize(options.getMaxInboundMessageSize());
       }
-    }));
+      if (options.getKeepAliveTimeMs() > 0) {
+        nettyServerBuilder.keepAliveTime(options.getKeepAliveTimeMs(), TimeUnit.MILLISECONDS);
+      }
+      if (options.getKeepAliveTimeoutMs() > 0) {
+        nettyServerBuilder.keepAliveTimeout(options.getKeepAliveTimeoutMs(), TimeUnit.MILLISECONDS);
+      }
+      serverBuilder = nettyServerBuilder;
+    }
+    if (executorService == null) {
+      callExecutor = Runnable::run;
+      serverBuilder.directExecutor();
+    }
+    else {
+      callExecutor = executorService;
+      serverBuilder.executor(executorService);
+    }
+    deadlineExecutor = new DeadlineOrderedExecutor(callExecutor);
+    if (options.getLaneThreads() == null) {
+      lanes = null;
+    }
+    else {
+      lanes = new EnumMap<Lane, LaneExecutor>(Lane.class);
+      for (Map.Entry<Lane, Integer> laneThreads : options.getLaneThreads().entrySet()) {
+        lanes.put(laneThreads.getKey(), new LaneExecutor(laneThreads.getKey(), laneThreads.getValue()));
+      }
+    }
+    watchManager = new WatchManager(options.getWatchBufferSize(), options.getWatchHistorySize());
+    store.addChangeListener(watchManager);
+    //In-process calls hand messages over by reference when both sides use the generated
+    //marshallers, which is cheaper still than marshalling them without copies
+    ServerServiceDefinition service = new KeyValueService().bindService();
+    serverBuilder
+        .compressorRegistry(Compression.createCompressorRegistry())
+        .decompressorRegistry(Compression.createDecompressorRegistry())
+        .addService(inProcessName == null ? withZeroCopyMarshallers(service) : service)
+        .intercept(new PriorityInterceptor())
+        .intercept(new ClientQuotaInterceptor());
+    if (concurrencyLimiter != null) {
+      //Added last so that it runs first and rejected calls cost as little as possible
+      serverBuilder.intercept(concurrencyLimiter);
+    }
+    grpcServer = serverBuilder.build();
+    
+    shutDown = new AtomicBoolean(false);
+  }
+  
+  /**
+   * @return the store served by this server, which may be used directly
+   *      by code running in the same process
+   */
+  public KeyValueStore getStore() {
+    return store;
+  }
+  
+  /**
+   * Shuts down the server, waiting up to 5 seconds for calls in progress to
+   * finish, and logs statistics about the requests it has processed. Only the
+   * first call has any effect. Once it has started listening, the server
+   * shuts itself down when the process exits.
+   */
+  public void shutdown() {
+    if (shutDown.getAndSet(true)) {
+      return;
+    }
+    Logger.logInfo("Shutting down server");
+    try {
+      grpcServer.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+      if (transport != null) {
+        transport.shutdown();
+      }
+      if (socketPath != null) {
+        Files.deleteIfExists(socketPath);
+      }
+      Compression.logStats();
+      if (getFlights != null) {
+        getFlights.logStats();
+      }
+      if (concurrencyLimiter != null) {
+        concurrencyLimiter.logStats();
+      }
+      clientQuotas.logStats();
+      if (putOutcomes != null) {
+        putOutcomes.logStats();
+        deleteOutcomes.logStats();
+      }
+      if (lanes != null) {
+        for (LaneExecutor laneExecutor : lanes.values()) {
+          laneExecutor.logStats();
+          laneExecutor.shutdown();
+        }
+      }
+      Logger.logInfo(
+          String.format(
+              "Abandoned %d requests whose callers had given up, avoiding %dms of simulated processing",
+              abandonedRequests.sum(),
+              avoidedProcessingMs.sum()));
+      delayScheduler.shutdownNow();
+      watchManager.shutdown();
+      if (executorService != null) {
+        executorService.shutdownNow();
+      }
+    }
+    catch (InterruptedException | IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Rebinds the PUT, GET and PUT BATCH methods of a service so that their
+   * messages are marshalled with {@link ZeroCopyMarshaller}s. Values then move
+   * between the transport and the map without being copied or converted to strings.
+   * @param service the service as bound with the generated marshallers
+   * @return the service with the PUT, GET and PUT BATCH methods rebound
+   */
+  private static ServerServiceDefinition withZeroCopyMarshallers(ServerServiceDefinition service) {
+    MethodDescriptor<PutRequest, PutResponse> putMethod = ZeroCopyMarshaller.marshalWith(
+        KeyValueServiceGrpc.getPutMethod(),
+        PutRequest.getDefaultInstance(),
+        PutResponse.getDefaultInstance());
+    MethodDescriptor<GetRequest, GetResponse> getMethod = ZeroCopyMarshaller.marshalWith(
+        KeyValueServiceGrpc.getGetMethod(),
+        GetRequest.getDefaultInstance(),
+        GetResponse.getDefaultInstance());
+    MethodDescriptor<PutBatchRequest, PutBatchResponse> putBatchMethod = ZeroCopyMarshaller.marshalWith(
+        KeyValueServiceGrpc.getPutBatchMethod(),
+        PutBatchRequest.getDefaultInstance(),
+        PutBatchResponse.getDefaultInstance());
+    
+    ServiceDescriptor.Builder descriptorBuilder = ServiceDescriptor
+        .newBuilder(service.getServiceDescriptor().getName())
+        .setSchemaDescriptor(service.getServiceDescriptor().getSchemaDescriptor());
+    List<ServerMethodDefinition<?, ?>> methods = new ArrayList<ServerMethodDefinition<?, ?>>();
+    methods.add(rebind(service, putMethod));
+    methods.add(rebind(service, getMethod));
+    methods.add(rebind(service, putBatchMethod));
+    for (ServerMethodDefinition<?, ?> method : service.getMethods()) {
+      String methodName = method.getMethodDescriptor().getFullMethodName();
+      if (!methodName.equals(putMethod.getFullMethodName())
+          && !methodName.equals(getMethod.getFullMethodName())
+          && !methodName.equals(putBatchMethod.getFullMethodName())) {
+        methods.add(method);
+      }
+    }
+    
+    for (ServerMethodDefinition<?, ?> method : methods) {
+      descriptorBuilder.addMethod(method.getMethodDescriptor());
+    }
+    ServerServiceDefinition.Builder serviceBuilder = ServerServiceDefinition.builder(descriptorBuilder.build());
+    for (ServerMethodDefinition<?, ?> method : methods) {
+      serviceBuilder.addMethod(method);
+    }
+    return serviceBuilder.build();
+  }
+  
+  @SuppressWarnings("unchecked")
+  private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> rebind(
+      ServerServiceDefinition service,
+      MethodDescriptor<ReqT, RespT> method) {
+    ServerMethodDefinition<ReqT, RespT> boundMethod =
+        (ServerMethodDefinition<ReqT, RespT>)service.getMethod(method.getFullMethodName());
+    return ServerMethodDefinition.create(method, boundMethod.getServerCallHandler());
   }
 
   @Override
   public void start() throws InterruptedException, IOException {
+    listen();
+    grpcServer.awaitTermination();
+  }
+  
+  /**
+   * Starts the server without waiting for it to terminate, so that it can be
+   * embedded in a program that goes on to do other work.
+   */
+  public void listen() throws IOException {
     Logger.logInfo("Starting server");
-    Logger.logInfo(String.format("All RPC calls will have an additional simulated processing time of %dms", simulatedRpcProcessingTimeMs));
+    Logger.logInfo(String.format("All RPC calls will have an additional simulated processing time of %s", simulatedDelay));
+    Logger.logInfo(String.format("RPC calls will run using the %s execution model", executionModel.getName()));
+    if (transport == null) {
+      Logger.logInfo(String.format("Connections will be accepted in-process under the name %s", inProcessName));
+    }
+    else {
+      Logger.logInfo(String.format("Connections will use the %s transport", transport.getName()));
+    }
+    if (socketPath != null) {
+      Logger.logInfo(String.format("Connections will be accepted on the Unix domain socket %s", socketPath));
+      //A socket file left behind by a server that did not shut down cleanly would prevent binding
+      if (Files.exists(socketPath) && !Files.isRegularFile(socketPath) && !Files.isDirectory(socketPath)) {
+        Files.delete(socketPath);
+      }
+    }
+    Logger.logInfo(String.format("Responses will be compressed using %s", compressionPolicy));
+    Logger.logInfo(
+        String.format("Concurrent unary calls are %s",
+            concurrencyLimiter == null ? "unlimited" : "limited by " + concurrencyLimiter.limit));
+    Logger.logInfo(String.format("Clients without a quota of their own are limited to %s", clientQuotas.getDefaultQuota()));
+    Logger.logInfo(
+        String.format("Requests will be processed %s",
+            lanes == null ? "on the call executor" : "in the lanes " + lanes.values()));
+    Logger.logInfo(String.format("Call deadlines and cancellations will be %s", deadlineAware ? "honoured" : "ignored"));
+    Logger.logInfo(String.format("Concurrent GETs of the same key will %sbe coalesced", getFlights == null ? "not " : ""));
+    Logger.logInfo(
+        String.format("Retried writes will %s",
+            putOutcomes == null ? "be applied again" : "be given the outcome of their first attempt"));
     
+    //Registered here rather than in the constructor, which must not let this escape
+    Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
     grpcServer.start();
-    grpcServer.awaitTermination();
   }
       
   /**
-   * A gRPC service class that handles the PUT, GET, and DELETE RPC calls.
+   * A gRPC service class that handles the PUT, GET, DELETE, WATCH, BULK LOAD, EXPORT, and PUT BATCH RPC calls.
    * @author lscholte
    *
    */
   private class KeyValueService extends KeyValueServiceImplBase {
     
-    private Object lock;
+    @Override
+    public void put(PutRequest request, StreamObserver<PutResponse> responseObserver) {      
+      sendResponse(KeyValueServiceGrpc.getPutMethod(), responseObserver, processPut(request));
+    }
     
-    public KeyValueService() {
-      lock = new Object();
+    @Override
+    public void delete(DeleteRequest request, StreamObserver<DeleteResponse> responseObserver) {            
+      sendResponse(KeyValueServiceGrpc.getDeleteMethod(), responseObserver, processDelete(request));
     }
     
     @Override
-    public void put(PutRequest request, StreamObserver<PutResponse> responseObserver) {      
-      PutResponse.Builder responseBuilder = PutResponse.newBuilder();
-      buildAndSendResponse(request, responseObserver, responseBuilder, () -> {
-        if (!request.hasKey() || !request.hasValue()) {
-          responseBuilder.setErrorStatus(ErrorStatus.INVALID_REQUEST_FORMAT);
-          return;
-        }
-        synchronized (lock) {
-          map.put(request.getKey(), request.getValue());
-        }
-      });
+    public void get(GetRequest request, StreamObserver<GetResponse> responseObserver) {
+      sendResponse(KeyValueServiceGrpc.getGetMethod(), responseObserver, processGet(request));
     }
     
     @Override
-    public void delete(DeleteRequest request, StreamObserver<DeleteResponse> responseObserver) {            
-      DeleteResponse.Builder responseBuilder = DeleteResponse.newBuilder();
-      buildAndSendResponse(request, responseObserver, responseBuilder, () -> {
-        if (!request.hasKey()) {
-          responseBuilder.setErrorStatus(ErrorStatus.INVALID_REQUEST_FORMAT);
-          return;
-        }
-        boolean entryRemoved;
-        synchronized (lock) {
-          entryRemoved = map.remove(request.getKey()) != null;        
+    public StreamObserver<SessionRequest> session(StreamObserver<SessionResponse> responseObserver) {
+      Logger.logInfo("Opening session");
+      ServerCallStreamObserver<SessionResponse> serverResponseObserver =
+          (ServerCallStreamObserver<SessionResponse>)responseObserver;
+      if (compressionPolicy.isEnabled()) {
+        serverResponseObserver.setCompression(compressionPolicy.getEncoding());
+      }
+      SessionObserver sessionObserver = new SessionObserver(serverResponseObserver);
+      sessionObserver.start();
+      return sessionObserver;
+    }
+    
+    @Override
+    public void watch(WatchRequest request, StreamObserver<WatchEvent> responseObserver) {
+      if (!request.hasKey()) {
+        responseObserver.onError(
+            Status.INVALID_ARGUMENT.withDescription("A key or prefix to watch is required").asRuntimeException());
+        return;
+      }
+      ServerCallStreamObserver<WatchEvent> serverResponseObserver =
+          (ServerCallStreamObserver<WatchEvent>)responseObserver;
+      if (compressionPolicy.isEnabled()) {
+        serverResponseObserver.setCompression(compressionPolicy.getEncoding());
+      }
+      watchManager.subscribe(request, serverResponseObserver);
+    }
+    
+    @Override
+    public StreamObserver<BulkLoadRequest> bulkLoad(StreamObserver<BulkLoadResponse> responseObserver) {
+      Logger.logInfo("Starting bulk load");
+      return new BulkLoadObserver(responseObserver);
+    }
+    
+    @Override
+    public void export(ExportRequest request, StreamObserver<ExportChunk> responseObserver) {
+      int maxChunkBytes = request.hasMaxChunkBytes()
+          ? Math.min(MAX_EXPORT_CHUNK_BYTES, Math.max(1, request.getMaxChunkBytes()))
+          : DEFAULT_EXPORT_CHUNK_BYTES;
+      ServerCallStreamObserver<ExportChunk> serverResponseObserver =
+          (ServerCallStreamObserver<ExportChunk>)responseObserver;
+      if (compressionPolicy.isEnabled()) {
+        serverResponseObserver.setCompression(compressionPolicy.getEncoding());
+      }
+      new ExportStream(store.snapshot(), maxChunkBytes, serverResponseObserver).start();
+    }
+    
+    @Override
+    public void putBatch(PutBatchRequest request, StreamObserver<PutBatchResponse> responseObserver) {
+      sendResponse(KeyValueServiceGrpc.getPutBatchMethod(), responseObserver, processPutBatch(request));
+    }
+    
+    /**
+     * Processes a batch of PUTs sent as a single call. Each PUT is processed
+     * exactly as if it had been sent on its own, including being recognised
+     * as a retry by its request ID, and the response holds the response to
+     * each PUT in the order of the batch.
+     * @param request the batch of PUT requests
+     * @return a future that completes with the responses once every PUT has been processed
+     */
+    private CompletableFuture<PutBatchResponse> processPutBatch(PutBatchRequest request) {
+      List<CompletableFuture<PutResponse>> responses = new ArrayList<CompletableFuture<PutResponse>>(request.getPutsCount());
+      for (PutRequest put : request.getPutsList()) {
+        responses.add(processPut(put));
+      }
+      return CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+        PutBatchResponse.Builder responseBuilder = PutBatchResponse.newBuilder();
+        for (CompletableFuture<PutResponse> response : responses) {
+          responseBuilder.addResponses(response.join());
         }
-        
-        responseBuilder.setDeleted(entryRemoved);
+        return responseBuilder.build();
       });
     }
     
-    @Override
-    public void get(GetRequest request, StreamObserver<GetResponse> responseObserver) {
+    private CompletableFuture<PutResponse> processPut(PutRequest request) {
+      logReceived(request);
+      Context context = callContext();
+      Lane lane = laneOf(Lane.WRITE);
+      return deduplicate(putOutcomes, request.hasRequestId(), request.getRequestId(), context, () -> {
+        PutResponse.Builder responseBuilder = PutResponse.newBuilder();
+        return buildResponse(responseBuilder, context, lane, () -> {
+          if (!request.hasKey() || !request.hasValue()) {
+            responseBuilder.setErrorStatus(ErrorStatus.INVALID_REQUEST_FORMAT);
+            return;
+          }
+          store.put(request.getKey(), request.getValue());
+        });
+      });
+    }
+    
+    private CompletableFuture<DeleteResponse> processDelete(DeleteRequest request) {
+      logReceived(request);
+      Context context = callContext();
+      Lane lane = laneOf(Lane.WRITE);
+      return deduplicate(deleteOutcomes, request.hasRequestId(), request.getRequestId(), context, () -> {
+        DeleteResponse.Builder responseBuilder = DeleteResponse.newBuilder();
+        return buildResponse(responseBuilder, context, lane, () -> {
+          if (!request.hasKey()) {
+            responseBuilder.setErrorStatus(ErrorStatus.INVALID_REQUEST_FORMAT);
+            return;
+          }
+          responseBuilder.setDeleted(store.delete(request.getKey()));
+        });
+      });
+    }
+    
+    /**
+     * Processes a write that may be a retry of an earlier attempt. A write with
+     * a request ID that has already been seen within the dedup window is given
+     * the outcome of the earlier attempt, waiting for it if it is still in
+     * progress, rather than being applied again. If the earlier attempt is
+     * abandoned because its own caller gave up, the retry is applied itself.
+     * @param outcomes the outcomes of recent writes of the same kind, or null
+     *      if retried writes are not recognised
+     * @param hasRequestId true if the write carries a request ID
+     * @param requestId the request ID of the write
+     * @param context the context of the call, or null if deadlines are ignored
+     * @param process applies the write
+     * @return a future that completes with the response
+     */
+    private <T extends Message> CompletableFuture<T> deduplicate(
+        DedupTable<Long, T> outcomes,
+        boolean hasRequestId,
+        long requestId,
+        Context context,
+        Supplier<CompletableFuture<T>> process) {
+      if (outcomes == null || !hasRequestId) {
+        return process.get();
+      }
+      return outcomes
+          .execute(requestId, process)
+          .exceptionallyCompose(error -> {
+            if (context != null && !context.isCancelled() && isAbandoned(error)) {
+              return outcomes.execute(requestId, process);
+            }
+            return CompletableFuture.failedFuture(error);
+          });
+    }
+    
+    /**
+     * Processes a GET. When coalescing is enabled, a GET of a key that is
+     * already being looked up shares that lookup, including its simulated
+     * processing time, rather than doing the work again. A shared lookup is
+     * abandoned if the caller that started it gives up; the callers that
+     * joined it and have not given up then look the key up themselves.
+     * <br><br>
+     * A GET that names the version of the value the caller already holds
+     * is answered without the value if the key is still stamped with that
+     * version.
+     * @param request the GET request
+     * @return a future that completes with the response
+     */
+    private CompletableFuture<GetResponse> processGet(GetRequest request) {
+      logReceived(request);
+      CompletableFuture<GetResponse> response;
+      if (getFlights == null || !request.hasKey()) {
+        response = lookUpValue(request, callContext(), laneOf(Lane.READ), null);
+      }
+      else {
+        Context context = callContext();
+        Lane lane = laneOf(Lane.READ);
+        response = getFlights
+            .execute(request.getKey(), startRead -> lookUpValue(request, context, lane, startRead))
+            .exceptionallyCompose(error -> {
+              if (context != null && !context.isCancelled() && isAbandoned(error)) {
+                return lookUpValue(request, context, lane, null);
+              }
+              return CompletableFuture.failedFuture(error);
+            });
+      }
+      if (!request.hasIfVersionMatch()) {
+        return response;
+      }
+      return response.thenApply(fullResponse -> revalidate(request, fullResponse));
+    }
+    
+    /**
+     * @param request a GET request naming the version of the value the caller holds
+     * @param response the full response to the GET
+     * @return a response without the value if the caller's version is still current,
+     *      or the full response otherwise
+     */
+    private GetResponse revalidate(GetRequest request, GetResponse response) {
+      if (!response.hasVersion() || response.getVersion() != request.getIfVersionMatch()) {
+        return response;
+      }
       GetResponse.Builder responseBuilder = GetResponse.newBuilder();
-      buildAndSendResponse(request, responseObserver, responseBuilder, () -> {
+      responseBuilder.setVersion(response.getVersion());
+      responseBuilder.setNotModified(true);
+      return responseBuilder.build();
+    }
+    
+    private boolean isAbandoned(Throwable error) {
+      Code code = Status.fromThrowable(error).getCode();
+      return code == Code.CANCELLED || code == Code.DEADLINE_EXCEEDED;
+    }
+    
+    private CompletableFuture<GetResponse> lookUpValue(
+        GetRequest request,
+        Context context,
+        Lane lane,
+        Runnable startRead) {
+      GetResponse.Builder responseBuilder = GetResponse.newBuilder();
+      return buildResponse(responseBuilder, context, lane, () -> {
         if (!request.hasKey()) {
           responseBuilder.setErrorStatus(ErrorStatus.INVALID_REQUEST_FORMAT);
           return;
         }
-        String value;
-        synchronized (lock) {
-          value = map.get(request.getKey());
+        if (startRead != null) {
+          startRead.run();
         }
-        
+        KeyValueStore.VersionedValue value = store.getVersioned(request.getKey());
+
         if (value != null) {
-          responseBuilder.setValue(value);        
+          responseBuilder.setValue(value.getValue());
+          responseBuilder.setVersion(value.getVersion());
         }
       });
     }
     
+    /**
+     * Processes a single tagged command received on a session and
+     * builds a response carrying the same tag.
+     * @param request the tagged command
+     * @return a future that completes with the tagged response to the command
+     */
+    private CompletableFuture<SessionResponse> processSessionRequest(SessionRequest request) {
+      SessionResponse.Builder responseBuilder = SessionResponse.newBuilder();
+      responseBuilder.setTag(request.getTag());
+      switch (request.getCommandCase()) {
+        case PUT:
+          return processPut(request.getPut()).thenApply(response -> responseBuilder.setPut(response).build());
+        case GET:
+          return processGet(request.getGet()).thenApply(response -> responseBuilder.setGet(response).build());
+        case DELETE:
+          return processDelete(request.getDelete()).thenApply(response -> responseBuilder.setDelete(response).build());
+        default:
+          Logger.logError(String.format("Session command with tag %d has no command set", request.getTag()));
+          responseBuilder.setErrorStatus(ErrorStatus.INVALID_REQUEST_FORMAT);
+          return CompletableFuture.completedFuture(responseBuilder.build());
+      }
+    }
+    
+    private void logReceived(Message request) {
+      if (Logger.isInfoEnabled()) {
+        Logger.logInfo(String.format("Received %s", ProtobufUtils.getPrintableMessage(request)));
+      }
+    }
+    
+    /**
+     * @return the context of the call being processed, whose deadline and
+     *      cancellation are honoured, or null if deadlines are ignored
+     */
+    private Context callContext() {
+      return deadlineAware ? Context.current() : null;
+    }
+    
+    /**
+     * @param interactiveLane the lane of the request if it is interactive
+     * @return the lane in which to process the request of the call being processed
+     */
+    private Lane laneOf(Lane interactiveLane) {
+      return PRIORITY.get() == Priority.BATCH ? Lane.BATCH : interactiveLane;
+    }
+    
+    /**
+     * Builds a response to a request once the simulated processing time
+     * has passed. The simulated processing time is waited out on the delay
+     * scheduler, after which the response is built on the call executor,
+     * earliest deadline first when the executor is falling behind. When the
+     * server has lanes, the response is instead always built in the request's
+     * lane, so that requests in other lanes cannot hold it up.
+     * <br><br>
+     * Ordering by deadline only applies to work that resumes after a
+     * simulated processing time, and to work in lanes. Without a simulated
+     * processing time and without lanes, the response is built straight away
+     * on the thread running the call handler. The call executor's own queue
+     * is first in, first out, and gRPC gives no way to order it, so calls
+     * waiting for that thread are not ordered by deadline.
+     * <br><br>
+     * Work is abandoned as soon as the caller can no longer use it: before
+     * starting if the call is already cancelled or its deadline would pass
+     * before the simulated processing time does, during the simulated
+     * processing time if the call is cancelled or its deadline passes, and
+     * just before the response is built. Abandoned work fails with the
+     * status of the call's cancellation.
+     * @param responseBuilder the builder of the response
+     * @param context the context of the call, or null to never abandon the work
+     * @param lane the lane of the request
+     * @param buildResponse fills in {@code responseBuilder} for the request
+     * @return a future that completes with the response
+     */
     @SuppressWarnings("unchecked")
-    private <T extends Message> void buildAndSendResponse(
-        Message request,
-        StreamObserver<T> responseObserver,
+    private <T extends Message> CompletableFuture<T> buildResponse(
         T.Builder responseBuilder,
+        Context context,
+        Lane lane,
         Runnable buildResponse) {
-      Logger.logInfo(String.format("Received %s", ProtobufUtils.getPrintableMessage(request)));
-
-      try {
+      CompletableFuture<T> future = new CompletableFuture<T>();
+      Deadline deadline = context == null ? null : context.getDeadline();
+      long delayMs = simulatedDelay.nextDelayMs();
+      if (context != null
+          && (context.isCancelled() || (deadline != null && deadline.timeRemaining(TimeUnit.MILLISECONDS) < delayMs))) {
+        abandon(future, context, delayMs);
+        return future;
+      }
+      
+      Runnable completeResponse = () -> {
+        if (context != null && context.isCancelled()) {
+          abandon(future, context, 0);
+          return;
+        }
         try {
-          Thread.sleep(simulatedRpcProcessingTimeMs);
-        } catch (InterruptedException e) {
-          // TODO Auto-generated catch block
-          e.printStackTrace();
+          buildResponse.run();
+          future.complete((T)responseBuilder.build());
+        }
+        catch (RuntimeException e) {
+          future.completeExceptionally(e);
+        }
+      };
+      
+      LaneExecutor laneExecutor = lanes == null ? null : lanes.get(lane);
+      if (delayMs <= 0) {
+        if (laneExecutor == null) {
+          completeResponse.run();
+        }
+        else {
+          laneExecutor.execute(completeResponse, deadline);
         }
-        buildResponse.run();
+        return future;
       }
-      finally {
-        T response = (T)responseBuilder.build();
-        responseObserver.onNext((T)responseBuilder.build());
+      
+      long startNanos = System.nanoTime();
+      ScheduledFuture<?> delayed = delayScheduler.schedule(
+          () -> {
+            if (laneExecutor == null) {
+              deadlineExecutor.execute(completeResponse, deadline);
+            }
+            else {
+              laneExecutor.execute(completeResponse, deadline);
+            }
+          },
+          delayMs,
+          TimeUnit.MILLISECONDS);
+      if (context != null) {
+        CancellationListener cancellationListener = cancelledContext -> {
+          if (delayed.cancel(false)) {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            abandon(future, context, Math.max(0, delayMs - elapsedMs));
+          }
+        };
+        context.addListener(cancellationListener, Runnable::run);
+        future.whenComplete((response, error) -> context.removeListener(cancellationListener));
+      }
+      return future;
+    }
+    
+    /**
+     * Fails the response to a request whose caller can no longer use it.
+     * @param future the future of the response
+     * @param context the context of the call
+     * @param avoidedDelayMs the simulated processing time that will not be spent on the request
+     */
+    private void abandon(CompletableFuture<?> future, Context context, long avoidedDelayMs) {
+      abandonedRequests.increment();
+      avoidedProcessingMs.add(avoidedDelayMs);
+      //A call closed by the server, such as one shed for being over quota, is cancelled without a cause
+      Throwable cause = context.cancellationCause();
+      Status status = context.isCancelled()
+          ? (cause == null ? Status.CANCELLED : Status.fromThrowable(cause))
+          : Status.DEADLINE_EXCEEDED.withDescription("The deadline would pass before the request was processed");
+      future.completeExceptionally(status.asRuntimeException());
+    }
+    
+    private <T extends Message> void sendResponse(
+        MethodDescriptor<?, T> method,
+        StreamObserver<T> responseObserver,
+        CompletableFuture<T> futureResponse) {
+      futureResponse.whenComplete((response, error) -> {
+        if (error != null) {
+          if (!isAbandoned(error)) {
+            Logger.logError(String.format("Failed to process request: %s", error));
+          }
+          responseObserver.onError(Status.fromThrowable(error).asRuntimeException());
+          return;
+        }
+        if (compressionPolicy.shouldCompress(method.getBareMethodName(), response.getSerializedSize())) {
+          ((ServerCallStreamObserver<T>)responseObserver).setCompression(compressionPolicy.getEncoding());
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+        if (Logger.isInfoEnabled()) {
+          Logger.logInfo(String.format("Sending %s", ProtobufUtils.getPrintableMessage(response)));
+        }
+      });
+    }
+    
+    /**
+     * Receives the tagged commands of a single session. Each command is
+     * processed independently on the call executor, so responses are
+     * sent back as soon as they are ready and may be out of order
+     * relative to the commands. The response stream is completed once the
+     * client has half-closed the session and every outstanding command
+     * has been answered.
+     * <br><br>
+     * Commands are only read from the client while fewer than the session's
+     * limit are in flight, counting both commands being processed and
+     * responses waiting to be sent. Responses are held back while the
+     * transport is not ready for them, so a client that sends commands
+     * faster than it reads responses is slowed down to the rate at which it
+     * reads, rather than growing the server's queues.
+     * @author lscholte
+     *
+     */
+    private class SessionObserver implements StreamObserver<SessionRequest> {
+      
+      private final ServerCallStreamObserver<SessionResponse> responseObserver;
+      
+      //One count is held by the open request stream itself
+      private final AtomicInteger outstanding;
+      //Guarded by responseObserver
+      private final Queue<SessionResponse> unsent;
+      private volatile boolean cancelled;
+      
+      public SessionObserver(ServerCallStreamObserver<SessionResponse> responseObserver) {
+        this.responseObserver = responseObserver;
+        outstanding = new AtomicInteger(1);
+        unsent = new ArrayDeque<SessionResponse>();
+        cancelled = false;
+      }
+      
+      public void start() {
+        responseObserver.disableAutoRequest();
+        responseObserver.setOnReadyHandler(() -> {
+          synchronized (responseObserver) {
+            sendUnsent();
+          }
+        });
+        responseObserver.request(sessionMaxInFlight);
+      }
+
+      @Override
+      public void onNext(SessionRequest request) {
+        outstanding.incrementAndGet();
+        //Commands are processed off the transport thread, but still under the session's context
+        callExecutor.execute(Context.current().wrap((Runnable)() -> processSessionRequest(request).whenComplete((response, error) -> {
+          if (error != null) {
+            //Nobody is waiting for a command the caller gave up on
+            if (isAbandoned(error)) {
+              finish();
+              return;
+            }
+            Logger.logError(String.format("Failed to process session command: %s", error));
+            response = SessionResponse.newBuilder()
+                .setTag(request.getTag())
+                .setErrorStatus(ErrorStatus.INTERNAL_ERROR)
+                .build();
+          }
+          synchronized (responseObserver) {
+            unsent.add(response);
+            sendUnsent();
+          }
+        })));
+      }
+      
+      /**
+       * Sends as many of the unsent responses as the transport is ready for.
+       * Must be called while holding the lock on {@code responseObserver}.
+       */
+      private void sendUnsent() {
+        while (!unsent.isEmpty()) {
+          if (cancelled) {
+            unsent.clear();
+            return;
+          }
+          if (!responseObserver.isReady()) {
+            return;
+          }
+          SessionResponse response = unsent.poll();
+          responseObserver.setMessageCompression(
+              compressionPolicy.shouldCompress(
+                  KeyValueServiceGrpc.getSessionMethod().getBareMethodName(),
+                  response.getSerializedSize()));
+          responseObserver.onNext(response);
+          finish();
+        }
+      }
+      
+      /**
+       * Frees the place of a command that has been answered or has failed,
+       * so that another command can be read.
+       */
+      private void finish() {
+        if (!cancelled) {
+          responseObserver.request(1);
+        }
+        release();
+      }
+
+      @Override
+      public void onError(Throwable t) {
+        cancelled = true;
+        Logger.logError(String.format("Session terminated with error: %s", Status.fromThrowable(t)));
+      }
+
+      @Override
+      public void onCompleted() {
+        release();
+      }
+      
+      private void release() {
+        if (outstanding.decrementAndGet() == 0) {
+          synchronized (responseObserver) {
+            if (!cancelled) {
+              responseObserver.onCompleted();
+              Logger.logInfo("Closing session");
+            }
+          }
+        }
+      }
+    }
+    
+    /**
+     * Receives the batches of a single bulk load. Each batch is applied to the
+     * store as soon as it arrives, taking the store's lock once for the whole
+     * batch, and without any simulated processing time. The next batch is
+     * only requested from the client once the previous one has been applied,
+     * so a client cannot stream batches faster than the store can absorb them.
+     * Pairs without a key or value are rejected and counted rather than
+     * failing the whole load. Within a batch, a later pair for a key replaces
+     * an earlier one, so only the later pair is applied. Once the client has
+     * sent every batch, it is sent a summary of the load, whose pair and byte
+     * counts both cover exactly the pairs that were applied to the store.
+     * @author lscholte
+     *
+     */
+    private class BulkLoadObserver implements StreamObserver<BulkLoadRequest> {
+      
+      private final StreamObserver<BulkLoadResponse> responseObserver;
+      private final long startNanos;
+      private long loaded;
+      private long rejected;
+      private long batches;
+      private long bytes;
+      private long version;
+      private boolean sorted;
+      private String lastKey;
+      
+      public BulkLoadObserver(StreamObserver<BulkLoadResponse> responseObserver) {
+        this.responseObserver = responseObserver;
+        startNanos = System.nanoTime();
+        loaded = 0;
+        rejected = 0;
+        batches = 0;
+        bytes = 0;
+        version = store.getVersion();
+        sorted = true;
+        lastKey = null;
+      }
+
+      @Override
+      public void onNext(BulkLoadRequest request) {
+        Map<String, ByteString> batch = new LinkedHashMap<String, ByteString>(request.getEntriesCount() * 2);
+        for (KeyValuePair entry : request.getEntriesList()) {
+          if (!entry.hasKey() || !entry.hasValue()) {
+            ++rejected;
+            continue;
+          }
+          String key = entry.getKey();
+          if (sorted && lastKey != null && lastKey.compareTo(key) > 0) {
+            sorted = false;
+          }
+          lastKey = key;
+          int keyBytes = entry.getKeyBytes().size();
+          bytes += keyBytes + entry.getValue().size();
+          ByteString replaced = batch.put(key, entry.getValue());
+          if (replaced != null) {
+            bytes -= keyBytes + replaced.size();
+          }
+        }
+        ++batches;
+        if (!batch.isEmpty()) {
+          version = store.putAll(batch);
+          loaded += batch.size();
+        }
+      }
+
+      @Override
+      public void onError(Throwable t) {
+        Logger.logError(
+            String.format("Bulk load terminated after %d batches with error: %s", batches, Status.fromThrowable(t)));
+      }
+
+      @Override
+      public void onCompleted() {
+        BulkLoadResponse.Builder responseBuilder = BulkLoadResponse.newBuilder();
+        responseBuilder.setLoaded(loaded);
+        responseBuilder.setRejected(rejected);
+        responseBuilder.setBatches(batches);
+        responseBuilder.setBytes(bytes);
+        responseBuilder.setElapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        responseBuilder.setSorted(sorted);
+        responseBuilder.setVersion(version);
+        if (rejected > 0) {
+          responseBuilder.setErrorStatus(ErrorStatus.INVALID_REQUEST_FORMAT);
+        }
+        BulkLoadResponse response = responseBuilder.build();
+        responseObserver.onNext(response);
         responseObserver.onCompleted();
-        Logger.logInfo(String.format("Sending %s", ProtobufUtils.getPrintableMessage(response)));
+        Logger.logInfo(String.format("Finished bulk load: %s", ProtobufUtils.getPrintableMessage(response)));
+      }
+    }
+    
+    /**
+     * Streams a snapshot of the store to a single exporting client in chunks
+     * of bounded size. Chunks are only built while the stream is ready, so a
+     * slow client holds on to the snapshot rather than to a growing queue of
+     * chunks, and writers are never held up by the export.
+     * @author lscholte
+     *
+     */
+    private class ExportStream {
+      
+      private final KeyValueStore.Snapshot snapshot;
+      private final Iterator<Map.Entry<String, ByteString>> entries;
+      private final int maxChunkBytes;
+      private final ServerCallStreamObserver<ExportChunk> responseObserver;
+      private final long startNanos;
+      private long chunks;
+      private long bytes;
+      private boolean completed;
+      
+      public ExportStream(
+          KeyValueStore.Snapshot snapshot,
+          int maxChunkBytes,
+          ServerCallStreamObserver<ExportChunk> responseObserver) {
+        this.snapshot = snapshot;
+        this.maxChunkBytes = maxChunkBytes;
+        this.responseObserver = responseObserver;
+        entries = snapshot.getEntries().iterator();
+        startNanos = System.nanoTime();
+        chunks = 0;
+        bytes = 0;
+        completed = false;
+      }
+      
+      public void start() {
+        Logger.logInfo(
+            String.format(
+                "Exporting %d pairs as of version %d",
+                snapshot.getEntries().size(),
+                snapshot.getVersion()));
+        responseObserver.setOnCancelHandler(() -> Logger.logError(
+            String.format("Export cancelled by the client after %d chunks", chunks)));
+        //gRPC runs the handler serially with this call, so only one thread sends at a time
+        responseObserver.setOnReadyHandler(this::sendChunks);
+        sendChunks();
+      }
+      
+      private void sendChunks() {
+        while (!completed && !responseObserver.isCancelled() && responseObserver.isReady()) {
+          if (!entries.hasNext()) {
+            completed = true;
+            responseObserver.onCompleted();
+            Logger.logInfo(
+                String.format(
+                    "Finished export of version %d: %d pairs (%d bytes) in %d chunks in %dms",
+                    snapshot.getVersion(),
+                    snapshot.getEntries().size(),
+                    bytes,
+                    chunks,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+            return;
+          }
+          
+          ExportChunk.Builder chunkBuilder = ExportChunk.newBuilder();
+          chunkBuilder.setVersion(snapshot.getVersion());
+          int chunkBytes = 0;
+          while (chunkBytes < maxChunkBytes && entries.hasNext()) {
+            Map.Entry<String, ByteString> entry = entries.next();
+            KeyValuePair.Builder pairBuilder = KeyValuePair.newBuilder();
+            pairBuilder.setKey(entry.getKey());
+            pairBuilder.setValue(entry.getValue());
+            KeyValuePair pair = pairBuilder.build();
+            chunkBytes += pair.getSerializedSize();
+            chunkBuilder.addEntries(pair);
+          }
+          ++chunks;
+          bytes += chunkBytes;
+          responseObserver.onNext(chunkBuilder.build());
+        }
       }
     }
   }
   
   /**
    * a gRPC interceptor class to allow logging of client information from which
-   * RPC requests were sent.
+   * RPC requests were sent, and to hold each client to its quota. Clients are
+   * identified by the {@code client-id} header if they send one, or otherwise
+   * by their network address.
+   * <br><br>
+   * Every call, and every further message on a stream, counts as an operation,
+   * and every message received or sent counts towards the client's bytes. A
+   * unary call over quota is rejected with {@code RESOURCE_EXHAUSTED} before
+   * any work is done for it; a stream over quota is closed with the same status.
+   * Bytes sent are counted after the fact, so a large response puts the client
+   * in debt and its later calls are rejected until it is back within its quota.
+   * @author lscholte
+   *
+   */
+  private class ClientQuotaInterceptor implements ServerInterceptor {
+
+    @Override
+    public <ReqT, RespT> Listener<ReqT> interceptCall(
+        ServerCall<ReqT, RespT> call,
+        Metadata headers,
+        ServerCallHandler<ReqT, RespT> next) {
+      SocketAddress remoteAddress = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+      String clientId = headers.get(Headers.CLIENT_ID);
+      String client;
+      if (clientId != null) {
+        client = clientId;
+      }
+      else if (remoteAddress instanceof InetSocketAddress) {
+        client = ((InetSocketAddress)remoteAddress).getAddress().getHostAddress();
+      }
+      else {
+        client = String.valueOf(remoteAddress);
+      }
+      if (Logger.isInfoEnabled()) {
+        Logger.logInfo(
+            String.format(
+                "Received request from %s%s",
+                remoteAddress,
+                clientId == null ? "" : String.format(" (client %s)", clientId)));
+      }
+      
+      if (!clientQuotas.tryAcquireOp(client)) {
+        call.close(overQuota(client), new Metadata());
+        return new ServerCall.Listener<ReqT>() {};
+      }
+      
+      QuotaCall<ReqT, RespT> quotaCall = new QuotaCall<ReqT, RespT>(call, client);
+      return new SimpleForwardingServerCallListener<ReqT>(next.startCall(quotaCall, headers)) {
+        
+        //The call itself has already been counted as the first message's operation
+        private boolean firstMessage = true;
+        
+        @Override
+        public void onMessage(ReqT message) {
+          if (quotaCall.isShed()) {
+            return;
+          }
+          boolean withinQuota = firstMessage || clientQuotas.tryAcquireOp(client);
+          firstMessage = false;
+          if (withinQuota && message instanceof MessageLite) {
+            withinQuota = clientQuotas.tryAcquireBytes(client, ((MessageLite)message).getSerializedSize());
+          }
+          if (!withinQuota) {
+            //The call is closed rather than cancelled, and the service hears of it through onComplete
+            quotaCall.shed();
+            return;
+          }
+          super.onMessage(message);
+        }
+        
+        @Override
+        public void onHalfClose() {
+          if (!quotaCall.isShed()) {
+            super.onHalfClose();
+          }
+        }
+        
+        @Override
+        public void onReady() {
+          if (!quotaCall.isShed()) {
+            super.onReady();
+          }
+        }
+      };
+    }
+  }
+  
+  private static Status overQuota(String client) {
+    return Status.RESOURCE_EXHAUSTED.withDescription(String.format("Client %s is over its quota", client));
+  }
+  
+  /**
+   * A call that counts the bytes it sends towards its client's quota and that
+   * can be shed part way through. Once shed, the call is closed with
+   * {@code RESOURCE_EXHAUSTED} and whatever the service still sends on it is
+   * dropped.
+   * <br><br>
+   * The service may be sending a message on another thread when the call is
+   * shed, and a call must not be closed while a message is being sent on it.
+   * Rather than a lock, the call keeps the number of sends in progress and
+   * whether it has been shed or closed in a single atomic state, and the
+   * call is closed by whichever of the shedding thread and the last sender
+   * leaves the state with no sends in progress.
+   * @author lscholte
+   *
+   */
+  private class QuotaCall<ReqT, RespT> extends SimpleForwardingServerCall<ReqT, RespT> {
+    
+    private static final int SHED = 1 << 30;
+    private static final int CLOSED = 1 << 29;
+    private static final int SENDERS = CLOSED - 1;
+    
+    private final String client;
+    private final AtomicInteger state;
+    
+    public QuotaCall(ServerCall<ReqT, RespT> call, String client) {
+      super(call);
+      this.client = client;
+      state = new AtomicInteger();
+    }
+    
+    public boolean isShed() {
+      return (state.get() & SHED) != 0;
+    }
+    
+    public void shed() {
+      while (true) {
+        int current = state.get();
+        if ((current & (SHED | CLOSED)) != 0) {
+          return;
+        }
+        if (state.compareAndSet(current, current | SHED)) {
+          if ((current & SENDERS) == 0) {
+            closeShed();
+          }
+          return;
+        }
+      }
+    }
+    
+    private void closeShed() {
+      while (true) {
+        int current = state.get();
+        if ((current & CLOSED) != 0 || (current & SENDERS) != 0) {
+          return;
+        }
+        if (state.compareAndSet(current, current | CLOSED)) {
+          super.close(overQuota(client), new Metadata());
+          return;
+        }
+      }
+    }
+
+    @Override
+    public void sendMessage(RespT message) {
+      while (true) {
+        int current = state.get();
+        if ((current & (SHED | CLOSED)) != 0) {
+          return;
+        }
+        if (state.compareAndSet(current, current + 1)) {
+          break;
+        }
+      }
+      try {
+        if (message instanceof MessageLite) {
+          clientQuotas.acquireBytes(client, ((MessageLite)message).getSerializedSize());
+        }
+        super.sendMessage(message);
+      }
+      finally {
+        if ((state.decrementAndGet() & SHED) != 0) {
+          //The call was shed while the message was being sent
+          closeShed();
+        }
+      }
+    }
+
+    @Override
+    public void close(Status status, Metadata trailers) {
+      while (true) {
+        int current = state.get();
+        if ((current & (SHED | CLOSED)) != 0) {
+          return;
+        }
+        if (state.compareAndSet(current, current | CLOSED)) {
+          super.close(status, trailers);
+          return;
+        }
+      }
+    }
+  }
+  
+  /**
+   * A gRPC interceptor class that reads the priority a client has tagged its
+   * call with from the {@code priority} header and makes it available to
+   * the service through the call's context. Calls with no priority, or one
+   * that is not recognized, are interactive.
    * @author lscholte
    *
    */
-  private class ClientInfoInterceptor implements ServerInterceptor {
+  private class PriorityInterceptor implements ServerInterceptor {
 
     @Override
     public <ReqT, RespT> Listener<ReqT> interceptCall(
         ServerCall<ReqT, RespT> call,
         Metadata headers,
         ServerCallHandler<ReqT, RespT> next) {
+      String priorityName = headers.get(Headers.PRIORITY);
+      if (priorityName == null) {
+        return next.startCall(call, headers);
+      }
+      Priority priority;
+      try {
+        priority = Priority.fromName(priorityName);
+      }
+      catch (IllegalArgumentException e) {
+        priority = Priority.INTERACTIVE;
+      }
+      return Contexts.interceptCall(Context.current().withValue(PRIORITY, priority), call, headers, next);
+    }
+  }
+  
+  /**
+   * A gRPC interceptor class that sheds load by enforcing a limit on the number
+   * of unary calls being processed at once. Calls over the limit are failed
+   * immediately with {@code RESOURCE_EXHAUSTED} rather than queued, so the
+   * calls that are accepted keep their latency when the server is overloaded.
+   * The latency of every accepted call is fed back to the limit so that an
+   * adaptive limit can follow the capacity of the server. Streaming calls are
+   * long-lived and are not limited.
+   * @author lscholte
+   *
+   */
+  private class ConcurrencyLimitInterceptor implements ServerInterceptor {
+    
+    private final ConcurrencyLimit limit;
+    private final AtomicInteger inFlight;
+    private final LongAdder accepted;
+    private final LongAdder rejected;
+    
+    public ConcurrencyLimitInterceptor(ConcurrencyLimit limit) {
+      this.limit = limit;
+      inFlight = new AtomicInteger();
+      accepted = new LongAdder();
+      rejected = new LongAdder();
+    }
+
+    @Override
+    public <ReqT, RespT> Listener<ReqT> interceptCall(
+        ServerCall<ReqT, RespT> call,
+        Metadata headers,
+        ServerCallHandler<ReqT, RespT> next) {
+      if (call.getMethodDescriptor().getType() != MethodType.UNARY) {
+        return next.startCall(call, headers);
+      }
+      
+      int current;
+      do {
+        current = inFlight.get();
+        if (current >= limit.getLimit()) {
+          rejected.increment();
+          call.close(
+              Status.RESOURCE_EXHAUSTED.withDescription("Server is over its concurrency limit"),
+              new Metadata());
+          return new ServerCall.Listener<ReqT>() {};
+        }
+      } while (!inFlight.compareAndSet(current, current + 1));
+      accepted.increment();
+      
+      long startNanos = System.nanoTime();
+      AtomicBoolean released = new AtomicBoolean(false);
+      Runnable release = () -> {
+        if (released.compareAndSet(false, true)) {
+          limit.onSample(System.nanoTime() - startNanos, inFlight.getAndDecrement());
+        }
+      };
+      ServerCall<ReqT, RespT> limitedCall = new SimpleForwardingServerCall<ReqT, RespT>(call) {
+        @Override
+        public void close(Status status, Metadata trailers) {
+          release.run();
+          super.close(status, trailers);
+        }
+      };
+      Listener<ReqT> listener;
+      try {
+        listener = next.startCall(limitedCall, headers);
+      }
+      catch (RuntimeException e) {
+        release.run();
+        throw e;
+      }
+      return new SimpleForwardingServerCallListener<ReqT>(listener) {
+        @Override
+        public void onCancel() {
+          release.run();
+          super.onCancel();
+        }
+      };
+    }
+    
+    public void logStats() {
       Logger.logInfo(
           String.format(
-              "Received request from %s",
-              call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR).toString()));
-      return next.startCall(call, headers);
+              "Concurrency limiting accepted %d calls and rejected %d; the limit ended at %d",
+              accepted.sum(),
+              rejected.sum(),
+              limit.getLimit()));
     }
   }
 }
@@ -0,0 +1,531 @@
+package server;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import utilities.CompressionPolicy;
+
+/**
+ * Options that control how an {@code RpcServer} processes requests.
+ * Setters return the options so that calls can be chained.
+ * @author lscholte
+ *
+ */
+public class ServerOptions {
+
+  public static final int DEFAULT_WATCH_BUFFER_SIZE = 1024;
+  public static final int DEFAULT_WATCH_HISTORY_SIZE = 10000;
+  public static final long DEFAULT_DEDUP_WINDOW_MS = 60000;
+  public static final int DEFAULT_DEDUP_MAX_ENTRIES = 100000;
+  public static final int DEFAULT_SESSION_MAX_IN_FLIGHT = 1024;
+
+  private DelayDistribution simulatedDelay;
+  private ExecutionModel executionModel;
+  private int threads;
+  private TransportType transportType;
+  private int bossThreads;
+  private int workerThreads;
+  private int flowControlWindow;
+  private int maxInboundMessageSize;
+  private long keepAliveTimeMs;
+  private long keepAliveTimeoutMs;
+  private CompressionPolicy compressionPolicy;
+  private int watchBufferSize;
+  private int watchHistorySize;
+  private boolean getCoalescing;
+  private ConcurrencyLimit concurrencyLimit;
+  private Quota defaultQuota;
+  private Path quotaFile;
+  private boolean deadlineAware;
+  private Map<Lane, Integer> laneThreads;
+  private Path socketPath;
+  private String inProcessName;
+  private long dedupWindowMs;
+  private int dedupMaxEntries;
+  private int sessionMaxInFlight;
+
+  /**
+   * Constructs ServerOptions with no simulated processing time,
+   * the {@link ExecutionModel#CACHED} execution model and the
+   * {@link TransportType#AUTO} transport. All other transport
+   * settings are left at their gRPC defaults and responses are not compressed.
+   * Watchers may fall behind by {@value #DEFAULT_WATCH_BUFFER_SIZE} keys and resume
+   * from any of the last {@value #DEFAULT_WATCH_HISTORY_SIZE} changes.
+   * Concurrent GETs of the same key are coalesced and there is no limit on the
+   * number of calls processed at once or on how much each client may send.
+   * Work for calls whose deadlines have passed is abandoned. Requests are
+   * processed on the call executor rather than in separate lanes.
+   * Connections are accepted on a TCP port rather than a Unix domain socket,
+   * and the server is reachable from other processes. The outcomes of
+   * writes carrying request IDs are remembered for {@value #DEFAULT_DEDUP_WINDOW_MS}ms,
+   * up to {@value #DEFAULT_DEDUP_MAX_ENTRIES} at once, so that retries are not applied twice.
+   * Each pipelined session may have {@value #DEFAULT_SESSION_MAX_IN_FLIGHT} commands in flight.
+   */
+  public ServerOptions() {
+    simulatedDelay = DelayDistribution.fixed(0);
+    executionModel = ExecutionModel.CACHED;
+    threads = Runtime.getRuntime().availableProcessors();
+    transportType = TransportType.AUTO;
+    bossThreads = 1;
+    workerThreads = 0;
+    flowControlWindow = 0;
+    maxInboundMessageSize = 0;
+    keepAliveTimeMs = 0;
+    keepAliveTimeoutMs = 0;
+    compressionPolicy = CompressionPolicy.NONE;
+    watchBufferSize = DEFAULT_WATCH_BUFFER_SIZE;
+    watchHistorySize = DEFAULT_WATCH_HISTORY_SIZE;
+    getCoalescing = true;
+    concurrencyLimit = null;
+    defaultQuota = Quota.UNLIMITED;
+    quotaFile = null;
+    deadlineAware = true;
+    laneThreads = null;
+    socketPath = null;
+    inProcessName = null;
+    dedupWindowMs = DEFAULT_DEDUP_WINDOW_MS;
+    dedupMaxEntries = DEFAULT_DEDUP_MAX_ENTRIES;
+    sessionMaxInFlight = DEFAULT_SESSION_MAX_IN_FLIGHT;
+  }
+
+  /**
+   * @return the distribution of simulated amounts of time for RPC calls to take
+   */
+  public DelayDistribution getSimulatedDelay() {
+    return simulatedDelay;
+  }
+
+  /**
+   * @param simulatedDelay the distribution of simulated amounts of time for RPC calls to take
+   * @return these options
+   */
+  public ServerOptions setSimulatedDelay(DelayDistribution simulatedDelay) {
+    this.simulatedDelay = simulatedDelay;
+    return this;
+  }
+
+  /**
+   * @param simulatedRpcProcessingTimeMs a fixed simulated amount of time for RPC calls to take;
+   *      negative values are treated as 0
+   * @return these options
+   */
+  public ServerOptions setSimulatedRpcProcessingTimeMs(long simulatedRpcProcessingTimeMs) {
+    return setSimulatedDelay(DelayDistribution.fixed(Math.max(0, simulatedRpcProcessingTimeMs)));
+  }
+
+  /**
+   * @return the execution model used to run RPC calls
+   */
+  public ExecutionModel getExecutionModel() {
+    return executionModel;
+  }
+
+  /**
+   * @param executionModel the execution model used to run RPC calls
+   * @return these options
+   */
+  public ServerOptions setExecutionModel(ExecutionModel executionModel) {
+    this.executionModel = executionModel;
+    return this;
+  }
+
+  /**
+   * @return the number of threads used by the fixed and fork-join execution models
+   */
+  public int getThreads() {
+    return threads;
+  }
+
+  /**
+   * @param threads the number of threads used by the fixed and fork-join
+   *      execution models; must be positive
+   * @return these options
+   */
+  public ServerOptions setThreads(int threads) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("The number of threads must be positive");
+    }
+    this.threads = threads;
+    return this;
+  }
+
+  /**
+   * @return the transport that carries the server's connections
+   */
+  public TransportType getTransportType() {
+    return transportType;
+  }
+
+  /**
+   * @param transportType the transport that carries the server's connections
+   * @return these options
+   */
+  public ServerOptions setTransportType(TransportType transportType) {
+    this.transportType = transportType;
+    return this;
+  }
+
+  /**
+   * @return the number of event loop threads that accept connections
+   */
+  public int getBossThreads() {
+    return bossThreads;
+  }
+
+  /**
+   * @param bossThreads the number of event loop threads that accept connections;
+   *      must be positive
+   * @return these options
+   */
+  public ServerOptions setBossThreads(int bossThreads) {
+    if (bossThreads <= 0) {
+      throw new IllegalArgumentException("The number of boss threads must be positive");
+    }
+    this.bossThreads = bossThreads;
+    return this;
+  }
+
+  /**
+   * @return the number of event loop threads that perform I/O, or 0 for the Netty default
+   */
+  public int getWorkerThreads() {
+    return workerThreads;
+  }
+
+  /**
+   * @param workerThreads the number of event loop threads that perform I/O,
+   *      or 0 for the Netty default
+   * @return these options
+   */
+  public ServerOptions setWorkerThreads(int workerThreads) {
+    this.workerThreads = Math.max(0, workerThreads);
+    return this;
+  }
+
+  /**
+   * @return the HTTP/2 flow control window in bytes, or 0 for the gRPC default
+   */
+  public int getFlowControlWindow() {
+    return flowControlWindow;
+  }
+
+  /**
+   * @param flowControlWindow the HTTP/2 flow control window in bytes,
+   *      or 0 for the gRPC default
+   * @return these options
+   */
+  public ServerOptions setFlowControlWindow(int flowControlWindow) {
+    this.flowControlWindow = Math.max(0, flowControlWindow);
+    return this;
+  }
+
+  /**
+   * @return the largest message the server accepts in bytes, or 0 for the gRPC default
+   */
+  public int getMaxInboundMessageSize() {
+    return maxInboundMessageSize;
+  }
+
+  /**
+   * @param maxInboundMessageSize the largest message the server accepts in bytes,
+   *      or 0 for the gRPC default
+   * @return these options
+   */
+  public ServerOptions setMaxInboundMessageSize(int maxInboundMessageSize) {
+    this.maxInboundMessageSize = Math.max(0, maxInboundMessageSize);
+    return this;
+  }
+
+  /**
+   * @return the idle time after which the server pings a connection,
+   *      or 0 for the gRPC default
+   */
+  public long getKeepAliveTimeMs() {
+    return keepAliveTimeMs;
+  }
+
+  /**
+   * @param keepAliveTimeMs the idle time after which the server pings a connection,
+   *      or 0 for the gRPC default
+   * @return these options
+   */
+  public ServerOptions setKeepAliveTimeMs(long keepAliveTimeMs) {
+    this.keepAliveTimeMs = Math.max(0, keepAliveTimeMs);
+    return this;
+  }
+
+  /**
+   * @return the time the server waits for a ping to be acknowledged before
+   *      closing the connection, or 0 for the gRPC default
+   */
+  public long getKeepAliveTimeoutMs() {
+    return keepAliveTimeoutMs;
+  }
+
+  /**
+   * @param keepAliveTimeoutMs the time the server waits for a ping to be acknowledged
+   *      before closing the connection, or 0 for the gRPC default
+   * @return these options
+   */
+  public ServerOptions setKeepAliveTimeoutMs(long keepAliveTimeoutMs) {
+    this.keepAliveTimeoutMs = Math.max(0, keepAliveTimeoutMs);
+    return this;
+  }
+
+  /**
+   * @return the policy that decides which responses are compressed
+   */
+  public CompressionPolicy getCompressionPolicy() {
+    return compressionPolicy;
+  }
+
+  /**
+   * @param compressionPolicy the policy that decides which responses are compressed
+   * @return these options
+   */
+  public ServerOptions setCompressionPolicy(CompressionPolicy compressionPolicy) {
+    this.compressionPolicy = compressionPolicy;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of keys with unsent changes a watcher may
+   *      fall behind by before it is disconnected
+   */
+  public int getWatchBufferSize() {
+    return watchBufferSize;
+  }
+
+  /**
+   * @param watchBufferSize the maximum number of keys with unsent changes a watcher
+   *      may fall behind by before it is disconnected
+   * @return these options
+   */
+  public ServerOptions setWatchBufferSize(int watchBufferSize) {
+    if (watchBufferSize <= 0) {
+      throw new IllegalArgumentException("The watch buffer size must be positive");
+    }
+    this.watchBufferSize = watchBufferSize;
+    return this;
+  }
+
+  /**
+   * @return the number of recent changes kept so that watchers can resume
+   */
+  public int getWatchHistorySize() {
+    return watchHistorySize;
+  }
+
+  /**
+   * @param watchHistorySize the number of recent changes kept so that watchers can resume,
+   *      or 0 to keep none
+   * @return these options
+   */
+  public ServerOptions setWatchHistorySize(int watchHistorySize) {
+    this.watchHistorySize = Math.max(0, watchHistorySize);
+    return this;
+  }
+
+  /**
+   * @return true if concurrent GETs of the same key share a single lookup
+   */
+  public boolean isGetCoalescing() {
+    return getCoalescing;
+  }
+
+  /**
+   * @param getCoalescing true if concurrent GETs of the same key share a single lookup
+   * @return these options
+   */
+  public ServerOptions setGetCoalescing(boolean getCoalescing) {
+    this.getCoalescing = getCoalescing;
+    return this;
+  }
+
+  /**
+   * @return the limit on the number of unary calls processed at once,
+   *      or null if there is no limit
+   */
+  public ConcurrencyLimit getConcurrencyLimit() {
+    return concurrencyLimit;
+  }
+
+  /**
+   * @param concurrencyLimit the limit on the number of unary calls processed at once,
+   *      or null for no limit
+   * @return these options
+   */
+  public ServerOptions setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+    this.concurrencyLimit = concurrencyLimit;
+    return this;
+  }
+
+  /**
+   * @return the quota of clients without a quota of their own
+   */
+  public Quota getDefaultQuota() {
+    return defaultQuota;
+  }
+
+  /**
+   * @param defaultQuota the quota of clients without a quota of their own
+   * @return these options
+   */
+  public ServerOptions setDefaultQuota(Quota defaultQuota) {
+    this.defaultQuota = defaultQuota;
+    return this;
+  }
+
+  /**
+   * @return the file from which client quotas are loaded, or null if there is none
+   */
+  public Path getQuotaFile() {
+    return quotaFile;
+  }
+
+  /**
+   * @param quotaFile the file from which client quotas are loaded and reloaded
+   *      whenever it changes, or null for none; quotas in the file replace
+   *      the default quota
+   * @return these options
+   */
+  public ServerOptions setQuotaFile(Path quotaFile) {
+    this.quotaFile = quotaFile;
+    return this;
+  }
+
+  /**
+   * @return true if work is abandoned once a call's deadline has passed or it is cancelled
+   */
+  public boolean isDeadlineAware() {
+    return deadlineAware;
+  }
+
+  /**
+   * @param deadlineAware true to abandon work once a call's deadline has passed or
+   *      it is cancelled, and to order queued work by deadline
+   * @return these options
+   */
+  public ServerOptions setDeadlineAware(boolean deadlineAware) {
+    this.deadlineAware = deadlineAware;
+    return this;
+  }
+
+  /**
+   * @return the number of threads of each lane in which requests are processed,
+   *      or null if requests are processed on the call executor
+   */
+  public Map<Lane, Integer> getLaneThreads() {
+    return laneThreads;
+  }
+
+  /**
+   * @param laneThreads the number of threads of each lane in which requests are
+   *      processed, or null to process requests on the call executor
+   * @return these options
+   */
+  public ServerOptions setLaneThreads(Map<Lane, Integer> laneThreads) {
+    this.laneThreads = laneThreads;
+    return this;
+  }
+
+  /**
+   * @return the path of the Unix domain socket on which connections are accepted,
+   *      or null if they are accepted on a TCP port
+   */
+  public Path getSocketPath() {
+    return socketPath;
+  }
+
+  /**
+   * @param socketPath the path of the Unix domain socket on which to accept connections
+   *      instead of a TCP port, or null to accept them on a TCP port. Unix domain
+   *      sockets require the epoll transport.
+   * @return these options
+   */
+  public ServerOptions setSocketPath(Path socketPath) {
+    this.socketPath = socketPath;
+    return this;
+  }
+
+  /**
+   * @return the name under which the server is reachable only from within the
+   *      same process, or null if it is reachable over the network
+   */
+  public String getInProcessName() {
+    return inProcessName;
+  }
+
+  /**
+   * @param inProcessName the name under which the server is reachable only from
+   *      within the same process, in place of any port, socket or transport options,
+   *      or null to make it reachable over the network
+   * @return these options
+   */
+  public ServerOptions setInProcessName(String inProcessName) {
+    this.inProcessName = inProcessName;
+    return this;
+  }
+
+  /**
+   * @return how long the outcome of a write with a request ID is remembered for,
+   *      in milliseconds, or 0 if retried writes are not recognised
+   */
+  public long getDedupWindowMs() {
+    return dedupWindowMs;
+  }
+
+  /**
+   * @param dedupWindowMs how long the outcome of a write with a request ID is
+   *      remembered for, in milliseconds, or 0 to not recognise retried writes;
+   *      negative values are treated as 0
+   * @return these options
+   */
+  public ServerOptions setDedupWindowMs(long dedupWindowMs) {
+    this.dedupWindowMs = Math.max(0, dedupWindowMs);
+    return this;
+  }
+
+  /**
+   * @return the maximum number of outcomes of writes with request IDs remembered at once
+   */
+  public int getDedupMaxEntries() {
+    return dedupMaxEntries;
+  }
+
+  /**
+   * @param dedupMaxEntries the maximum number of outcomes of writes with request IDs
+   *      remembered at once, beyond which the oldest are forgotten early
+   * @return these options
+   */
+  public ServerOptions setDedupMaxEntries(int dedupMaxEntries) {
+    if (dedupMaxEntries <= 0) {
+      throw new IllegalArgumentException("The maximum number of dedup entries must be positive");
+    }
+    this.dedupMaxEntries = dedupMaxEntries;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of commands of a pipelined session that are
+   *      being processed or waiting to be sent back at once
+   */
+  public int getSessionMaxInFlight() {
+    return sessionMaxInFlight;
+  }
+
+  /**
+   * @param sessionMaxInFlight the maximum number of commands of a pipelined session
+   *      that are being processed or waiting to be sent back at once, beyond which
+   *      no further commands are read from the session until responses have been sent
+   * @return these options
+   */
+  public ServerOptions setSessionMaxInFlight(int sessionMaxInFlight) {
+    if (sessionMaxInFlight <= 0) {
+      throw new IllegalArgumentException("The maximum number of session commands in flight must be positive");
+    }
+    this.sessionMaxInFlight = sessionMaxInFlight;
+    return this;
+  }
+
+}
@@ -0,0 +1,54 @@
+package server;
+
+/**
+ * The Netty transports that can carry a server's connections.
+ * @author lscholte
+ *
+ */
+public enum TransportType {
+
+  /**
+   * The native epoll transport when it is available,
+   * otherwise the NIO transport.
+   */
+  AUTO("auto"),
+
+  /**
+   * The native epoll transport, which is only available on Linux.
+   */
+  EPOLL("epoll"),
+
+  /**
+   * The portable Java NIO transport.
+   */
+  NIO("nio");
+
+  private final String name;
+
+  private TransportType(String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return the name used to select the transport
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Finds the transport with the given name.
+   * @param name the name of the transport
+   * @return the transport
+   * @throws IllegalArgumentException if there is no transport with the name
+   */
+  public static TransportType fromName(String name) {
+    for (TransportType type : values()) {
+      if (type.name.equalsIgnoreCase(name)) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException(String.format("Unknown transport %s", name));
+  }
+
+}
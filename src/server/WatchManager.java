@@ -0,0 +1,327 @@
+package server;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.protobuf.ByteString;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import protobuf.generated.KeyValueServiceMessages.ChangeType;
+import protobuf.generated.KeyValueServiceMessages.WatchEvent;
+import protobuf.generated.KeyValueServiceMessages.WatchRequest;
+import utilities.Logger;
+
+/**
+ * Pushes the changes made to a store to the clients watching the changed
+ * keys or key prefixes.
+ * <br><br>
+ * Writers never wait for watchers. Each watcher has a bounded buffer of
+ * pending events that is drained onto its stream only while the stream is
+ * ready, so a slow watcher only holds up itself. Buffers are drained on the
+ * manager's own threads, never on the thread of the writer, which is still
+ * holding the store's lock when it reports a change. A change that no
+ * watcher is watching only costs an entry in the history. Pending events for the same
+ * key are coalesced, leaving only the latest change to each key. A watcher
+ * that still falls behind by more than its buffer's worth of keys is
+ * disconnected with {@code RESOURCE_EXHAUSTED}.
+ * <br><br>
+ * A bounded history of recent changes is kept so that a watcher can resume
+ * from a version it has already seen.
+ * @author lscholte
+ *
+ */
+class WatchManager implements ChangeListener {
+
+  private static final int DRAIN_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+  private final ExecutorService drainExecutor;
+  private final int bufferSize;
+  private final int historySize;
+
+  private final Map<String, Set<Watcher>> keyWatchers;
+  private final List<Watcher> prefixWatchers;
+  private final ArrayDeque<Change> history;
+  private long latestVersion;
+
+  /**
+   * Constructs a WatchManager.
+   * @param bufferSize the maximum number of keys with pending events per watcher
+   * @param historySize the maximum number of recent changes kept for resuming watchers
+   */
+  public WatchManager(int bufferSize, int historySize) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    ThreadFactory threadFactory = task -> {
+      Thread thread = new Thread(task, String.format("watch-drain-%d", threadNumber.incrementAndGet()));
+      thread.setDaemon(true);
+      return thread;
+    };
+    drainExecutor = Executors.newFixedThreadPool(DRAIN_THREADS, threadFactory);
+    this.bufferSize = bufferSize;
+    this.historySize = historySize;
+    keyWatchers = new ConcurrentHashMap<String, Set<Watcher>>();
+    prefixWatchers = new CopyOnWriteArrayList<Watcher>();
+    history = new ArrayDeque<Change>();
+    latestVersion = 0;
+  }
+
+  /**
+   * Starts sending the changes to a key or prefix to a watcher. If the request
+   * has a version to resume from, the changes made after that version are sent
+   * first. If those changes are no longer in the history, the watcher
+   * is failed with {@code OUT_OF_RANGE}.
+   * @param request the key or prefix to watch and the version to resume from
+   * @param responseObserver the stream on which to send changes
+   */
+  public void subscribe(WatchRequest request, ServerCallStreamObserver<WatchEvent> responseObserver) {
+    Watcher watcher = new Watcher(request.getKey(), request.getPrefix(), responseObserver);
+    responseObserver.setOnCancelHandler(() -> {
+      watcher.close();
+      unregister(watcher);
+    });
+    responseObserver.setOnReadyHandler(watcher::scheduleDrain);
+
+    synchronized (history) {
+      long fromVersion = request.getFromVersion();
+      if (fromVersion > 0 && fromVersion < latestVersion) {
+        if (history.isEmpty() || history.peekFirst().version > fromVersion + 1) {
+          watcher.fail(
+              Status.OUT_OF_RANGE.withDescription(
+                  String.format("Changes since version %d are no longer available", fromVersion)));
+          return;
+        }
+        for (Change change : history) {
+          if (change.version > fromVersion && watcher.matches(change.key)) {
+            watcher.offer(change.toEvent());
+          }
+        }
+      }
+
+      //A replay that overflowed the buffer has already closed the watcher.
+      //Registering under the watcher's lock means a cancellation either
+      //sees the watcher registered and unregisters it, or is seen here
+      synchronized (watcher) {
+        if (watcher.closed) {
+          return;
+        }
+        if (watcher.prefix) {
+          prefixWatchers.add(watcher);
+        }
+        else {
+          keyWatchers.computeIfAbsent(watcher.key, key -> ConcurrentHashMap.newKeySet()).add(watcher);
+        }
+      }
+    }
+    Logger.logInfo(
+        String.format("Watching %s %s from version %d",
+            watcher.prefix ? "prefix" : "key",
+            watcher.key,
+            request.getFromVersion()));
+  }
+
+  @Override
+  public void onChange(String key, ByteString value, long version) {
+    Change change = new Change(key, value, version);
+    synchronized (history) {
+      latestVersion = version;
+      if (historySize > 0) {
+        if (history.size() == historySize) {
+          history.removeFirst();
+        }
+        history.addLast(change);
+      }
+
+      //The event is only built once a watcher turns out to want it
+      WatchEvent event = null;
+      Set<Watcher> watchers = keyWatchers.get(key);
+      if (watchers != null) {
+        for (Watcher watcher : watchers) {
+          if (event == null) {
+            event = change.toEvent();
+          }
+          watcher.offer(event);
+        }
+      }
+      for (Watcher watcher : prefixWatchers) {
+        if (watcher.matches(key)) {
+          if (event == null) {
+            event = change.toEvent();
+          }
+          watcher.offer(event);
+        }
+      }
+    }
+  }
+
+  /**
+   * Stops the threads that send events to watchers.
+   */
+  public void shutdown() {
+    drainExecutor.shutdownNow();
+  }
+
+  private void unregister(Watcher watcher) {
+    if (watcher.prefix) {
+      prefixWatchers.remove(watcher);
+      return;
+    }
+    keyWatchers.computeIfPresent(watcher.key, (key, watchers) -> {
+      watchers.remove(watcher);
+      return watchers.isEmpty() ? null : watchers;
+    });
+  }
+
+  /**
+   * A change to a key as kept in the history, from which the event sent
+   * to watchers is built.
+   */
+  private static final class Change {
+
+    private final String key;
+    private final ByteString value;
+    private final long version;
+
+    private Change(String key, ByteString value, long version) {
+      this.key = key;
+      this.value = value;
+      this.version = version;
+    }
+
+    private WatchEvent toEvent() {
+      WatchEvent.Builder eventBuilder = WatchEvent.newBuilder();
+      eventBuilder.setKey(key);
+      eventBuilder.setVersion(version);
+      if (value == null) {
+        eventBuilder.setType(ChangeType.DELETE);
+      }
+      else {
+        eventBuilder.setType(ChangeType.PUT);
+        eventBuilder.setValue(value);
+      }
+      return eventBuilder.build();
+    }
+  }
+
+  /**
+   * A single watcher and its buffer of pending events. Only one drain of the
+   * buffer runs at a time, so the stream is only ever used by one thread at once.
+   * @author lscholte
+   *
+   */
+  private class Watcher {
+
+    private final String key;
+    private final boolean prefix;
+    private final ServerCallStreamObserver<WatchEvent> responseObserver;
+
+    //Guarded by this
+    private final LinkedHashMap<String, WatchEvent> pending;
+    private boolean draining;
+    private boolean closed;
+    private Status failure;
+
+    public Watcher(String key, boolean prefix, ServerCallStreamObserver<WatchEvent> responseObserver) {
+      this.key = key;
+      this.prefix = prefix;
+      this.responseObserver = responseObserver;
+      pending = new LinkedHashMap<String, WatchEvent>();
+      draining = false;
+      closed = false;
+      failure = null;
+    }
+
+    public boolean matches(String changedKey) {
+      return prefix ? changedKey.startsWith(key) : changedKey.equals(key);
+    }
+
+    /**
+     * Adds an event to the buffer, replacing any pending event for the same key.
+     * The replacement moves to the back of the buffer to keep events in version order.
+     */
+    public void offer(WatchEvent event) {
+      boolean overflowed;
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+        pending.remove(event.getKey());
+        pending.put(event.getKey(), event);
+        overflowed = pending.size() > bufferSize;
+        if (!overflowed) {
+          if (draining) {
+            return;
+          }
+          draining = true;
+        }
+      }
+
+      if (overflowed) {
+        Logger.logError(String.format("Disconnecting watcher of %s because it fell too far behind", key));
+        unregister(this);
+        fail(Status.RESOURCE_EXHAUSTED.withDescription("Watcher fell too far behind"));
+        return;
+      }
+      drainExecutor.execute(this::drain);
+    }
+
+    public void fail(Status status) {
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        failure = status;
+        pending.clear();
+      }
+      scheduleDrain();
+    }
+
+    public synchronized void close() {
+      closed = true;
+      pending.clear();
+    }
+
+    public void scheduleDrain() {
+      synchronized (this) {
+        if (draining) {
+          return;
+        }
+        draining = true;
+      }
+      drainExecutor.execute(this::drain);
+    }
+
+    private void drain() {
+      while (true) {
+        WatchEvent event;
+        synchronized (this) {
+          if (failure != null) {
+            responseObserver.onError(failure.asRuntimeException());
+            failure = null;
+            draining = false;
+            return;
+          }
+          if (closed || pending.isEmpty() || !responseObserver.isReady()) {
+            draining = false;
+            return;
+          }
+          Iterator<WatchEvent> iterator = pending.values().iterator();
+          event = iterator.next();
+          iterator.remove();
+        }
+        responseObserver.onNext(event);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,112 @@
+package utilities;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A utility class for parsing program arguments. Arguments are either
+ * positional or are options of the form {@code --name} or {@code --name=value}.
+ * Options may appear anywhere among the positional arguments.
+ * @author lscholte
+ *
+ */
+public final class Arguments {
+
+  private static final String OPTION_PREFIX = "--";
+
+  private List<String> positional;
+  private Map<String, String> options;
+
+  /**
+   * Constructs Arguments by splitting the given program arguments into
+   * positional arguments and options.
+   * @param args the program arguments to parse
+   */
+  public Arguments(String[] args) {
+    positional = new ArrayList<String>();
+    options = new HashMap<String, String>();
+    for (String arg : args) {
+      if (!arg.startsWith(OPTION_PREFIX)) {
+        positional.add(arg);
+        continue;
+      }
+
+      int separator = arg.indexOf('=');
+      if (separator < 0) {
+        options.put(arg.substring(OPTION_PREFIX.length()), "");
+      }
+      else {
+        options.put(arg.substring(OPTION_PREFIX.length(), separator), arg.substring(separator + 1));
+      }
+    }
+  }
+
+  /**
+   * @return the number of positional arguments
+   */
+  public int getPositionalCount() {
+    return positional.size();
+  }
+
+  /**
+   * @param index the index of the positional argument
+   * @return the positional argument at {@code index}
+   */
+  public String getPositional(int index) {
+    return positional.get(index);
+  }
+
+  /**
+   * @param name the name of the option, without the leading dashes
+   * @return true if the option was given, with or without a value
+   */
+  public boolean hasOption(String name) {
+    return options.containsKey(name);
+  }
+
+  /**
+   * @param name the name of the option, without the leading dashes
+   * @param defaultValue the value to use if the option was not given
+   * @return the value of the option or {@code defaultValue}
+   */
+  public String getString(String name, String defaultValue) {
+    String value = options.get(name);
+    return value == null ? defaultValue : value;
+  }
+
+  /**
+   * @param name the name of the option, without the leading dashes
+   * @param defaultValue the value to use if the option was not given
+   * @return the value of the option or {@code defaultValue}
+   * @throws NumberFormatException if the value of the option is not an integer
+   */
+  public int getInt(String name, int defaultValue) {
+    String value = options.get(name);
+    return value == null ? defaultValue : Integer.parseInt(value);
+  }
+
+  /**
+   * @param name the name of the option, without the leading dashes
+   * @param defaultValue the value to use if the option was not given
+   * @return the value of the option or {@code defaultValue}
+   * @throws NumberFormatException if the value of the option is not an integer
+   */
+  public long getLong(String name, long defaultValue) {
+    String value = options.get(name);
+    return value == null ? defaultValue : Long.parseLong(value);
+  }
+
+  /**
+   * @param name the name of the option, without the leading dashes
+   * @param defaultValue the value to use if the option was not given
+   * @return the value of the option or {@code defaultValue}
+   * @throws NumberFormatException if the value of the option is not a number
+   */
+  public double getDouble(String name, double defaultValue) {
+    String value = options.get(name);
+    return value == null ? defaultValue : Double.parseDouble(value);
+  }
+
+}
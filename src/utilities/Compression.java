@@ -0,0 +1,232 @@
+package utilities;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
+
+/**
+ * A registry of the message compression codecs that clients and servers can
+ * negotiate. The gzip and {@link FastDeflateCodec} codecs are registered by default
+ * and further codecs can be registered before a client or server is created.
+ * Every registered codec is measured, recording the bytes it saves and the time
+ * spent compressing and decompressing.
+ * @author lscholte
+ *
+ */
+public final class Compression {
+
+  /**
+   * The message encoding of uncompressed messages.
+   */
+  public static final String IDENTITY_ENCODING = "identity";
+
+  private static final Map<String, MeasuredCodec> CODECS = new ConcurrentHashMap<String, MeasuredCodec>();
+
+  static {
+    register(new Codec.Gzip());
+    register(new FastDeflateCodec());
+  }
+
+  private Compression() {}
+
+  /**
+   * Registers a codec so that it can be negotiated by clients and servers
+   * created afterwards. A codec replaces any codec with the same encoding.
+   * @param codec the codec to register
+   */
+  public static void register(Codec codec) {
+    CODECS.put(codec.getMessageEncoding(), new MeasuredCodec(codec));
+  }
+
+  /**
+   * @param encoding a message encoding
+   * @return true if a codec is registered for the encoding
+   */
+  public static boolean isRegistered(String encoding) {
+    return CODECS.containsKey(encoding);
+  }
+
+  /**
+   * @return a compressor registry containing every registered codec
+   */
+  public static CompressorRegistry createCompressorRegistry() {
+    CompressorRegistry registry = CompressorRegistry.newEmptyInstance();
+    registry.register(Codec.Identity.NONE);
+    for (MeasuredCodec codec : CODECS.values()) {
+      registry.register(codec);
+    }
+    return registry;
+  }
+
+  /**
+   * @return a decompressor registry that advertises every registered codec
+   */
+  public static DecompressorRegistry createDecompressorRegistry() {
+    DecompressorRegistry registry = DecompressorRegistry.emptyInstance().with(Codec.Identity.NONE, false);
+    for (MeasuredCodec codec : CODECS.values()) {
+      registry = registry.with(codec, true);
+    }
+    return registry;
+  }
+
+  /**
+   * Logs the bytes saved and the time spent by every codec that has been used.
+   */
+  public static void logStats() {
+    for (MeasuredCodec codec : CODECS.values()) {
+      codec.logStats();
+    }
+  }
+
+  /**
+   * A codec that records how much data passes through another codec
+   * and how long the other codec spends on it.
+   * @author lscholte
+   *
+   */
+  private static final class MeasuredCodec implements Codec {
+
+    private final Codec codec;
+    private final LongAdder uncompressedBytesOut;
+    private final LongAdder compressedBytesOut;
+    private final LongAdder compressNanos;
+    private final LongAdder compressedBytesIn;
+    private final LongAdder uncompressedBytesIn;
+    private final LongAdder decompressNanos;
+
+    public MeasuredCodec(Codec codec) {
+      this.codec = codec;
+      uncompressedBytesOut = new LongAdder();
+      compressedBytesOut = new LongAdder();
+      compressNanos = new LongAdder();
+      compressedBytesIn = new LongAdder();
+      uncompressedBytesIn = new LongAdder();
+      decompressNanos = new LongAdder();
+    }
+
+    @Override
+    public String getMessageEncoding() {
+      return codec.getMessageEncoding();
+    }
+
+    @Override
+    public OutputStream compress(OutputStream os) throws IOException {
+      OutputStream compressingStream = codec.compress(new FilterOutputStream(os) {
+        @Override
+        public void write(int b) throws IOException {
+          out.write(b);
+          compressedBytesOut.increment();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          out.write(b, off, len);
+          compressedBytesOut.add(len);
+        }
+      });
+
+      return new FilterOutputStream(compressingStream) {
+        @Override
+        public void write(int b) throws IOException {
+          long start = System.nanoTime();
+          out.write(b);
+          compressNanos.add(System.nanoTime() - start);
+          uncompressedBytesOut.increment();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          long start = System.nanoTime();
+          out.write(b, off, len);
+          compressNanos.add(System.nanoTime() - start);
+          uncompressedBytesOut.add(len);
+        }
+
+        @Override
+        public void close() throws IOException {
+          long start = System.nanoTime();
+          out.close();
+          compressNanos.add(System.nanoTime() - start);
+        }
+      };
+    }
+
+    @Override
+    public InputStream decompress(InputStream is) throws IOException {
+      InputStream decompressingStream = codec.decompress(new FilterInputStream(is) {
+        @Override
+        public int read() throws IOException {
+          int b = in.read();
+          if (b >= 0) {
+            compressedBytesIn.increment();
+          }
+          return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+          int read = in.read(b, off, len);
+          if (read > 0) {
+            compressedBytesIn.add(read);
+          }
+          return read;
+        }
+      });
+
+      return new FilterInputStream(decompressingStream) {
+        @Override
+        public int read() throws IOException {
+          long start = System.nanoTime();
+          int b = in.read();
+          decompressNanos.add(System.nanoTime() - start);
+          if (b >= 0) {
+            uncompressedBytesIn.increment();
+          }
+          return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+          long start = System.nanoTime();
+          int read = in.read(b, off, len);
+          decompressNanos.add(System.nanoTime() - start);
+          if (read > 0) {
+            uncompressedBytesIn.add(read);
+          }
+          return read;
+        }
+      };
+    }
+
+    public void logStats() {
+      long uncompressedOut = uncompressedBytesOut.sum();
+      long uncompressedIn = uncompressedBytesIn.sum();
+      if (uncompressedOut == 0 && uncompressedIn == 0) {
+        return;
+      }
+      Logger.logInfo(
+          String.format(
+              "%s compressed %d bytes to %d bytes (saved %d) in %.3fms"
+                  + " and decompressed %d bytes to %d bytes (saved %d) in %.3fms",
+              codec.getMessageEncoding(),
+              uncompressedOut,
+              compressedBytesOut.sum(),
+              uncompressedOut - compressedBytesOut.sum(),
+              compressNanos.sum() / 1e6,
+              compressedBytesIn.sum(),
+              uncompressedIn,
+              uncompressedIn - compressedBytesIn.sum(),
+              decompressNanos.sum() / 1e6));
+    }
+  }
+
+}
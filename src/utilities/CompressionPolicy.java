@@ -0,0 +1,97 @@
+package utilities;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decides whether a message should be compressed and with which encoding.
+ * Messages are only compressed once they reach a size threshold, which can
+ * be set per RPC method so that methods with tiny messages skip the cost
+ * of compression entirely.
+ * @author lscholte
+ *
+ */
+public final class CompressionPolicy {
+
+  /**
+   * A policy that never compresses messages.
+   */
+  public static final CompressionPolicy NONE = new CompressionPolicy(null, 0, new HashMap<String, Integer>());
+
+  private final String encoding;
+  private final int defaultThreshold;
+  private final Map<String, Integer> methodThresholds;
+
+  private CompressionPolicy(String encoding, int defaultThreshold, Map<String, Integer> methodThresholds) {
+    this.encoding = encoding;
+    this.defaultThreshold = defaultThreshold;
+    this.methodThresholds = methodThresholds;
+  }
+
+  /**
+   * Creates a policy from its textual description.
+   * @param encoding the message encoding to compress with, or null to never compress
+   * @param defaultThreshold the smallest message size in bytes to compress
+   * @param methodThresholds a comma separated list of {@code <method>:<bytes>} pairs that
+   *      override {@code defaultThreshold} for the named methods, or null
+   * @return the policy
+   * @throws IllegalArgumentException if the encoding is not registered or the thresholds are malformed
+   */
+  public static CompressionPolicy parse(String encoding, int defaultThreshold, String methodThresholds) {
+    if (encoding == null || encoding.equals(Compression.IDENTITY_ENCODING)) {
+      return NONE;
+    }
+    if (!Compression.isRegistered(encoding)) {
+      throw new IllegalArgumentException(String.format("Unknown message encoding %s", encoding));
+    }
+
+    Map<String, Integer> thresholds = new HashMap<String, Integer>();
+    if (methodThresholds != null && !methodThresholds.isEmpty()) {
+      for (String pair : methodThresholds.split(",")) {
+        String[] parts = pair.split(":");
+        if (parts.length != 2) {
+          throw new IllegalArgumentException(String.format("Malformed compression threshold %s", pair));
+        }
+        thresholds.put(parts[0].toLowerCase(), Integer.parseInt(parts[1]));
+      }
+    }
+    return new CompressionPolicy(encoding, Math.max(0, defaultThreshold), thresholds);
+  }
+
+  /**
+   * @return true if this policy ever compresses messages
+   */
+  public boolean isEnabled() {
+    return encoding != null;
+  }
+
+  /**
+   * @return the message encoding to compress with, or null if this policy never compresses
+   */
+  public String getEncoding() {
+    return encoding;
+  }
+
+  /**
+   * Decides whether a message of a method should be compressed.
+   * @param methodName the bare name of the RPC method, such as {@code Get}
+   * @param messageSize the serialized size of the message in bytes
+   * @return true if the message should be compressed
+   */
+  public boolean shouldCompress(String methodName, int messageSize) {
+    if (encoding == null) {
+      return false;
+    }
+    Integer threshold = methodThresholds.get(methodName.toLowerCase());
+    return messageSize >= (threshold == null ? defaultThreshold : threshold);
+  }
+
+  @Override
+  public String toString() {
+    if (encoding == null) {
+      return Compression.IDENTITY_ENCODING;
+    }
+    return String.format("%s for messages of at least %d bytes, per method %s", encoding, defaultThreshold, methodThresholds);
+  }
+
+}
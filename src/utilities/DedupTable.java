@@ -0,0 +1,191 @@
+package utilities;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the outcomes of recent requests by their request IDs, so that a
+ * request that is retried is given the outcome of its first attempt rather
+ * than being carried out again.
+ * <br><br>
+ * An outcome is remembered for a fixed window of time after its request first
+ * arrived, and at most a fixed number of outcomes are remembered at once; when
+ * there are more, the oldest are forgotten early. A retry that arrives while
+ * its first attempt is still in progress shares the first attempt's outcome.
+ * Attempts that fail are forgotten straight away, since a failed attempt has
+ * not been carried out and its retry should be.
+ * <br><br>
+ * Looking up an outcome never takes a lock.
+ * @author lscholte
+ *
+ * @param <K> the type of request ID
+ * @param <V> the type of outcome of a request
+ */
+public final class DedupTable<K, V> {
+
+  private final String name;
+  private final long windowNanos;
+  private final int maxEntries;
+  private final Map<K, Outcome> outcomes;
+  //Outcomes in the order their requests arrived, which is also the order in which they expire
+  private final Queue<Outcome> arrivals;
+  private final AtomicInteger size;
+  private final LongAdder requests;
+  private final LongAdder duplicates;
+  private final LongAdder evictedEarly;
+
+  /**
+   * Constructs a DedupTable.
+   * @param name the name of the requests, used when logging statistics
+   * @param windowMs how long the outcome of a request is remembered for, in milliseconds
+   * @param maxEntries the maximum number of outcomes remembered at once
+   */
+  public DedupTable(String name, long windowMs, int maxEntries) {
+    if (windowMs <= 0 || maxEntries <= 0) {
+      throw new IllegalArgumentException("The dedup window and maximum number of entries must be positive");
+    }
+    this.name = name;
+    this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+    this.maxEntries = maxEntries;
+    outcomes = new ConcurrentHashMap<K, Outcome>();
+    arrivals = new ConcurrentLinkedQueue<Outcome>();
+    size = new AtomicInteger();
+    requests = new LongAdder();
+    duplicates = new LongAdder();
+    evictedEarly = new LongAdder();
+  }
+
+  /**
+   * Carries out a request, unless a request with the same ID has been
+   * carried out within the window, in which case its outcome is returned instead.
+   * @param requestId the ID of the request
+   * @param request carries out the request
+   * @return a future that completes with the outcome of the request
+   */
+  public CompletableFuture<V> execute(K requestId, Supplier<CompletableFuture<V>> request) {
+    requests.increment();
+    long now = System.nanoTime();
+    Outcome outcome = outcomes.get(requestId);
+    Outcome newOutcome = null;
+    while (true) {
+      if (outcome != null && !outcome.isExpired(now)) {
+        duplicates.increment();
+        return outcome.future;
+      }
+      if (newOutcome == null) {
+        newOutcome = new Outcome(requestId, now);
+      }
+      boolean added = outcome == null
+          ? outcomes.putIfAbsent(requestId, newOutcome) == null
+          : outcomes.replace(requestId, outcome, newOutcome);
+      if (added) {
+        break;
+      }
+      outcome = outcomes.get(requestId);
+    }
+    arrivals.add(newOutcome);
+    if (size.incrementAndGet() > maxEntries) {
+      evict(now);
+    }
+
+    Outcome added = newOutcome;
+    CompletableFuture<V> result;
+    try {
+      result = request.get();
+    }
+    catch (RuntimeException e) {
+      outcomes.remove(requestId, added);
+      added.future.completeExceptionally(e);
+      return added.future;
+    }
+    result.whenComplete((value, error) -> {
+      if (error != null) {
+        outcomes.remove(requestId, added);
+        added.future.completeExceptionally(error);
+      }
+      else {
+        added.future.complete(value);
+      }
+    });
+    return added.future;
+  }
+
+  /**
+   * Forgets the outcomes whose window has passed. Outcomes are also forgotten
+   * as new requests arrive, but only once there are too many of them.
+   */
+  public void evictExpired() {
+    evict(System.nanoTime());
+  }
+
+  private void evict(long now) {
+    while (true) {
+      Outcome oldest = arrivals.peek();
+      if (oldest == null) {
+        return;
+      }
+      boolean expired = oldest.isExpired(now);
+      if (!expired && size.get() <= maxEntries) {
+        return;
+      }
+      if (!arrivals.remove(oldest)) {
+        //Another thread evicted it first
+        continue;
+      }
+      size.decrementAndGet();
+      if (outcomes.remove(oldest.requestId, oldest) && !expired) {
+        evictedEarly.increment();
+      }
+    }
+  }
+
+  /**
+   * Logs how many requests were received, how many were duplicates served
+   * from the table, and how many outcomes had to be forgotten before their
+   * window had passed.
+   */
+  public void logStats() {
+    long requestCount = requests.sum();
+    if (requestCount == 0) {
+      return;
+    }
+    Logger.logInfo(
+        String.format(
+            "%s: %d requests, of which %d were duplicates given an earlier outcome; " +
+            "%d outcomes were forgotten early to stay within %d entries",
+            name,
+            requestCount,
+            duplicates.sum(),
+            evictedEarly.sum(),
+            maxEntries));
+  }
+
+  /**
+   * The outcome of a single request, which completes once the request
+   * has been carried out.
+   */
+  private final class Outcome {
+
+    private final K requestId;
+    private final long arrivalNanos;
+    private final CompletableFuture<V> future;
+
+    private Outcome(K requestId, long arrivalNanos) {
+      this.requestId = requestId;
+      this.arrivalNanos = arrivalNanos;
+      future = new CompletableFuture<V>();
+    }
+
+    private boolean isExpired(long now) {
+      return now - arrivalNanos >= windowNanos;
+    }
+  }
+
+}
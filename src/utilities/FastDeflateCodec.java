@@ -0,0 +1,52 @@
+package utilities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import io.grpc.Codec;
+
+/**
+ * A gRPC codec that compresses messages with raw zlib deflate at the
+ * fastest compression level. It gives up some compression ratio in
+ * exchange for far less CPU time than the gzip codec.
+ * @author lscholte
+ *
+ */
+public final class FastDeflateCodec implements Codec {
+
+  /**
+   * The message encoding negotiated for this codec.
+   */
+  public static final String MESSAGE_ENCODING = "deflate";
+
+  @Override
+  public String getMessageEncoding() {
+    return MESSAGE_ENCODING;
+  }
+
+  @Override
+  public OutputStream compress(OutputStream os) throws IOException {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    return new DeflaterOutputStream(os, deflater) {
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        }
+        finally {
+          deflater.end();
+        }
+      }
+    };
+  }
+
+  @Override
+  public InputStream decompress(InputStream is) throws IOException {
+    return new InflaterInputStream(is);
+  }
+
+}
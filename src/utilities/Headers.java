@@ -0,0 +1,28 @@
+package utilities;
+
+import io.grpc.Metadata;
+
+/**
+ * The metadata headers exchanged between clients and the server.
+ * @author lscholte
+ *
+ */
+public final class Headers {
+
+  /**
+   * Identifies the client making a call, for the purposes of quotas. Clients
+   * that do not send it are identified by their network address.
+   */
+  public static final Metadata.Key<String> CLIENT_ID =
+      Metadata.Key.of("client-id", Metadata.ASCII_STRING_MARSHALLER);
+
+  /**
+   * The {@link Priority} of a call, by name. Calls without it are interactive.
+   */
+  public static final Metadata.Key<String> PRIORITY =
+      Metadata.Key.of("priority", Metadata.ASCII_STRING_MARSHALLER);
+
+  private Headers() {
+  }
+
+}
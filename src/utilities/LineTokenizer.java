@@ -0,0 +1,180 @@
+package utilities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splits the lines of a stream into tokens separated by spaces or tabs.
+ * Unlike {@link Tokenizer}, no objects are created per line: lines are
+ * read into a reusable buffer and tokens are kept as offsets into it, so
+ * that scripts of millions of lines can be read cheaply. Only the tokens a
+ * caller asks for as strings are copied out of the buffer.
+ * <br><br>
+ * The stream is read as UTF-8, and the buffer only grows if a single line
+ * does not fit in it.
+ * @author lscholte
+ *
+ */
+public final class LineTokenizer {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_TOKENS = 8;
+
+  private final InputStream input;
+  private final int[] tokenStarts;
+  private final int[] tokenEnds;
+  private byte[] buffer;
+  private int position;
+  private int limit;
+  private boolean endOfInput;
+  private int tokenCount;
+  private long lineNumber;
+
+  /**
+   * Constructs a LineTokenizer.
+   * @param input the stream to read lines from
+   */
+  public LineTokenizer(InputStream input) {
+    this.input = input;
+    tokenStarts = new int[MAX_TOKENS];
+    tokenEnds = new int[MAX_TOKENS];
+    buffer = new byte[BUFFER_SIZE];
+    position = 0;
+    limit = 0;
+    endOfInput = false;
+    tokenCount = 0;
+    lineNumber = 0;
+  }
+
+  /**
+   * Reads the next line and splits it into tokens. The tokens of the
+   * previous line can no longer be read once this is called.
+   * @return true if a line was read, or false at the end of the stream
+   */
+  public boolean nextLine() throws IOException {
+    int lineStart = position;
+    int lineEnd = position;
+    while (true) {
+      while (lineEnd < limit && buffer[lineEnd] != '\n') {
+        ++lineEnd;
+      }
+      if (lineEnd < limit) {
+        break;
+      }
+      if (endOfInput) {
+        if (lineStart == limit) {
+          tokenCount = 0;
+          return false;
+        }
+        //The last line has no line separator
+        break;
+      }
+
+      //Moves the partial line to the front of the buffer to make room for the rest of it
+      if (lineStart > 0) {
+        System.arraycopy(buffer, lineStart, buffer, 0, limit - lineStart);
+        lineEnd -= lineStart;
+        limit -= lineStart;
+        lineStart = 0;
+      }
+      if (limit == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+      }
+      int read = input.read(buffer, limit, buffer.length - limit);
+      if (read < 0) {
+        endOfInput = true;
+      }
+      else {
+        limit += read;
+      }
+    }
+
+    position = lineEnd < limit ? lineEnd + 1 : limit;
+    ++lineNumber;
+    split(lineStart, lineEnd);
+    return true;
+  }
+
+  private void split(int start, int end) {
+    tokenCount = 0;
+    int i = start;
+    while (i < end) {
+      while (i < end && isSeparator(buffer[i])) {
+        ++i;
+      }
+      if (i == end) {
+        break;
+      }
+      int tokenStart = i;
+      while (i < end && !isSeparator(buffer[i])) {
+        ++i;
+      }
+      if (tokenCount < MAX_TOKENS) {
+        tokenStarts[tokenCount] = tokenStart;
+        tokenEnds[tokenCount] = i;
+      }
+      ++tokenCount;
+    }
+  }
+
+  private static boolean isSeparator(byte b) {
+    return b == ' ' || b == '\t' || b == '\r';
+  }
+
+  /**
+   * @return the number of tokens on the current line
+   */
+  public int getTokenCount() {
+    return tokenCount;
+  }
+
+  /**
+   * @return the number of the current line, counting from 1
+   */
+  public long getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * Compares a token with a word, ignoring the case of ASCII letters,
+   * without copying the token out of the buffer.
+   * @param index the index of the token on the current line
+   * @param word the ASCII word to compare the token with
+   * @return true if the token is the word
+   */
+  public boolean tokenEquals(int index, String word) {
+    checkIndex(index);
+    int start = tokenStarts[index];
+    if (tokenEnds[index] - start != word.length()) {
+      return false;
+    }
+    for (int i = 0; i < word.length(); ++i) {
+      if (toLowerCase(buffer[start + i]) != toLowerCase(word.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int toLowerCase(int c) {
+    return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+  }
+
+  /**
+   * @param index the index of the token on the current line
+   * @return the token as a string
+   */
+  public String getToken(int index) {
+    checkIndex(index);
+    return new String(buffer, tokenStarts[index], tokenEnds[index] - tokenStarts[index], StandardCharsets.UTF_8);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= Math.min(tokenCount, MAX_TOKENS)) {
+      throw new IndexOutOfBoundsException(String.format("There is no token %d on line %d", index, lineNumber));
+    }
+  }
+
+}
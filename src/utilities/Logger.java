@@ -15,14 +15,35 @@ public final class Logger {
   private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
   private static final Appendable APPENDABLE = System.out;
   
+  private static volatile boolean infoEnabled = true;
+  
   private Logger() {}
   
+  /**
+   * Enables or disables info messages. Error messages are always logged.
+   * Disabling info messages keeps per-request logging from dominating
+   * the cost of serving requests under heavy load.
+   * @param enabled true to log info messages
+   */
+  public static void setInfoEnabled(boolean enabled) {
+    infoEnabled = enabled;
+  }
+  
+  /**
+   * @return true if info messages are logged
+   */
+  public static boolean isInfoEnabled() {
+    return infoEnabled;
+  }
+  
   /**
    * Logs an info message.
    * @param message the message to log
    */
   public static void logInfo(String message) {
-    log("INFO", message);
+    if (infoEnabled) {
+      log("INFO", message);
+    }
   }
   
   /**
@@ -38,7 +59,7 @@ public final class Logger {
         String.format(
             "%s : %016X : %s : %s",
             DATE_FORMAT.format(new Date()),
-            Thread.currentThread().getId(),
+            Thread.currentThread().threadId(),
             level,
             message)
         + System.lineSeparator();
@@ -0,0 +1,49 @@
+package utilities;
+
+/**
+ * The priorities with which a client's calls can be tagged, so that the
+ * server can favour traffic that someone is waiting on.
+ * @author lscholte
+ *
+ */
+public enum Priority {
+
+  /**
+   * Latency-sensitive traffic that someone is waiting on. This is the default.
+   */
+  INTERACTIVE("interactive"),
+
+  /**
+   * Bulk traffic that only needs to finish eventually.
+   */
+  BATCH("batch");
+
+  private final String name;
+
+  private Priority(String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return the name used to select the priority and to send it in the {@code priority} header
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Finds the priority with the given name.
+   * @param name the name of the priority
+   * @return the priority
+   * @throws IllegalArgumentException if there is no priority with the name
+   */
+  public static Priority fromName(String name) {
+    for (Priority priority : values()) {
+      if (priority.name.equalsIgnoreCase(name)) {
+        return priority;
+      }
+    }
+    throw new IllegalArgumentException(String.format("Unknown priority %s", name));
+  }
+
+}
@@ -0,0 +1,118 @@
+package utilities;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent lookups of the same key into a single lookup whose
+ * result is shared by every caller that asked for the key while the lookup
+ * was in flight.
+ * <br><br>
+ * A lookup stops accepting callers once it starts reading, which it signals
+ * by running the {@code startRead} action it is given. Callers that arrive
+ * after that start a lookup of their own, so no caller is ever given a
+ * result that was read before the caller arrived.
+ * @author lscholte
+ *
+ * @param <K> the type of key looked up
+ * @param <V> the type of result of a lookup
+ */
+public final class SingleFlight<K, V> {
+
+  private final String name;
+  private final Map<K, CompletableFuture<V>> flights;
+  private final LongAdder requests;
+  private final LongAdder lookups;
+
+  /**
+   * Constructs a SingleFlight.
+   * @param name the name of the lookups, used when logging statistics
+   */
+  public SingleFlight(String name) {
+    this.name = name;
+    flights = new ConcurrentHashMap<K, CompletableFuture<V>>();
+    requests = new LongAdder();
+    lookups = new LongAdder();
+  }
+
+  /**
+   * Looks up a key, joining a lookup of the same key that is already in
+   * flight if there is one.
+   * @param key the key to look up
+   * @param lookup starts a lookup of the key, given the action to run as soon
+   *      as the lookup starts reading
+   * @return a future that completes with the result of the lookup
+   */
+  public CompletableFuture<V> execute(K key, Function<Runnable, CompletableFuture<V>> lookup) {
+    requests.increment();
+    CompletableFuture<V> flight = flights.get(key);
+    if (flight != null) {
+      return flight;
+    }
+    CompletableFuture<V> newFlight = new CompletableFuture<V>();
+    flight = flights.putIfAbsent(key, newFlight);
+    if (flight != null) {
+      return flight;
+    }
+
+    lookups.increment();
+    Runnable startRead = () -> flights.remove(key, newFlight);
+    CompletableFuture<V> result;
+    try {
+      result = lookup.apply(startRead);
+    }
+    catch (RuntimeException e) {
+      startRead.run();
+      newFlight.completeExceptionally(e);
+      return newFlight;
+    }
+    result.whenComplete((value, error) -> {
+      startRead.run();
+      if (error != null) {
+        newFlight.completeExceptionally(error);
+      }
+      else {
+        newFlight.complete(value);
+      }
+    });
+    return newFlight;
+  }
+
+  /**
+   * @return the number of lookups requested
+   */
+  public long getRequests() {
+    return requests.sum();
+  }
+
+  /**
+   * @return the number of lookups actually carried out
+   */
+  public long getLookups() {
+    return lookups.sum();
+  }
+
+  /**
+   * Logs how many lookups were requested, how many were actually carried
+   * out and the resulting coalescing ratio.
+   */
+  public void logStats() {
+    long requestCount = requests.sum();
+    long lookupCount = lookups.sum();
+    if (requestCount == 0) {
+      return;
+    }
+    Logger.logInfo(
+        String.format(
+            "%s: %d requests were served by %d lookups (%d coalesced, ratio %.2f)",
+            name,
+            requestCount,
+            lookupCount,
+            requestCount - lookupCount,
+            (double)requestCount / lookupCount));
+  }
+
+}
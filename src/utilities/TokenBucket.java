@@ -0,0 +1,80 @@
+package utilities;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket. The rate is given with every acquisition rather
+ * than fixed when the bucket is created, so a change of rate takes effect
+ * immediately without touching the bucket.
+ * <br><br>
+ * Rather than a count of tokens, the bucket keeps the time at which it will
+ * next be full, and taking tokens pushes that time into the future. The
+ * bucket holds one second's worth of tokens, which bounds how far into the
+ * future that time may be pushed. A single atomic compare-and-set therefore
+ * takes tokens without any lock. An acquisition larger than the whole bucket
+ * is still allowed when the bucket is full, and the bucket is then left in
+ * debt until enough time has passed.
+ * @author lscholte
+ *
+ */
+public final class TokenBucket {
+
+  private static final long BURST_NANOS = 1000000000L;
+
+  //The time at which the bucket will be full again
+  private final AtomicLong fullAtNanos;
+
+  /**
+   * Constructs a full TokenBucket.
+   */
+  public TokenBucket() {
+    fullAtNanos = new AtomicLong(System.nanoTime());
+  }
+
+  /**
+   * Takes tokens from the bucket if it has enough of them.
+   * @param tokens the number of tokens to take
+   * @param tokensPerSecond the rate at which the bucket refills; must be positive
+   * @return true if the tokens were taken
+   */
+  public boolean tryAcquire(long tokens, double tokensPerSecond) {
+    long costNanos = (long)(tokens * 1e9 / tokensPerSecond);
+    while (true) {
+      long now = System.nanoTime();
+      long fullAt = fullAtNanos.get();
+      long start = Math.max(fullAt, now);
+      if (start != now && start + costNanos - now > BURST_NANOS) {
+        return false;
+      }
+      if (fullAtNanos.compareAndSet(fullAt, start + costNanos)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Takes tokens from the bucket whether or not it has enough of them,
+   * leaving it in debt if it does not.
+   * @param tokens the number of tokens to take
+   * @param tokensPerSecond the rate at which the bucket refills; must be positive
+   */
+  public void acquire(long tokens, double tokensPerSecond) {
+    long costNanos = (long)(tokens * 1e9 / tokensPerSecond);
+    while (true) {
+      long now = System.nanoTime();
+      long fullAt = fullAtNanos.get();
+      if (fullAtNanos.compareAndSet(fullAt, Math.max(fullAt, now) + costNanos)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * @param idleNanos the time for which the bucket must have been full
+   * @return true if the bucket is full and has been for at least the given time
+   */
+  public boolean isIdle(long idleNanos) {
+    return System.nanoTime() - fullAtNanos.get() >= idleNanos;
+  }
+
+}
@@ -0,0 +1,179 @@
+package utilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.UnsafeByteOperations;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * A gRPC marshaller for Protobuf messages that keeps the number of copies of
+ * large {@code bytes} fields to a minimum.
+ * <br><br>
+ * When parsing, a stream of known length is read exactly once into an array of
+ * exactly the right size, and the message is parsed with aliasing enabled so that
+ * {@code bytes} fields share that array rather than copying out of it.
+ * The parsed fields can therefore be kept, for example in a store, without
+ * any further copies.
+ * <br><br>
+ * When serializing, the returned stream is {@link Drainable}, so the transport
+ * has the message write itself straight into the transport's buffers. Large
+ * {@code bytes} fields bypass the intermediate encoding buffer on the way.
+ * @author lscholte
+ *
+ * @param <T> the type of message to marshal
+ */
+public final class ZeroCopyMarshaller<T extends Message> implements MethodDescriptor.PrototypeMarshaller<T> {
+
+  private final T prototype;
+
+  /**
+   * Constructs a ZeroCopyMarshaller for the type of a message.
+   * @param prototype the default instance of the message type
+   */
+  public ZeroCopyMarshaller(T prototype) {
+    this.prototype = prototype;
+  }
+
+  /**
+   * Creates a copy of a method descriptor that marshals its requests and
+   * responses with ZeroCopyMarshallers.
+   * @param method the method descriptor to copy
+   * @param requestPrototype the default instance of the request type
+   * @param responsePrototype the default instance of the response type
+   * @return the new method descriptor
+   */
+  public static <ReqT extends Message, RespT extends Message> MethodDescriptor<ReqT, RespT> marshalWith(
+      MethodDescriptor<ReqT, RespT> method,
+      ReqT requestPrototype,
+      RespT responsePrototype) {
+    return method
+        .toBuilder(
+            new ZeroCopyMarshaller<ReqT>(requestPrototype),
+            new ZeroCopyMarshaller<RespT>(responsePrototype))
+        .build();
+  }
+
+  @Override
+  public T getMessagePrototype() {
+    return prototype;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Class<T> getMessageClass() {
+    return (Class<T>)prototype.getClass();
+  }
+
+  @Override
+  public InputStream stream(T value) {
+    return new MessageStream(value);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T parse(InputStream stream) {
+    try {
+      byte[] bytes;
+      if (stream instanceof KnownLength) {
+        bytes = new byte[stream.available()];
+        int offset = 0;
+        while (offset < bytes.length) {
+          int read = stream.read(bytes, offset, bytes.length - offset);
+          if (read < 0) {
+            throw new IOException("Stream ended before its known length");
+          }
+          offset += read;
+        }
+      }
+      else {
+        bytes = stream.readAllBytes();
+      }
+
+      //Wrapping the array marks it as immutable, which aliasing requires
+      CodedInputStream input = UnsafeByteOperations.unsafeWrap(bytes).newCodedInput();
+      input.enableAliasing(true);
+      input.setSizeLimit(Integer.MAX_VALUE);
+      return (T)prototype.getParserForType().parseFrom(input);
+    }
+    catch (InvalidProtocolBufferException e) {
+      throw Status.INTERNAL
+        .withDescription("Invalid protobuf byte sequence")
+        .withCause(e)
+        .asRuntimeException();
+    }
+    catch (IOException e) {
+      throw Status.INTERNAL
+        .withDescription("Failed to read message")
+        .withCause(e)
+        .asRuntimeException();
+    }
+  }
+
+  /**
+   * A stream over a message that the transport can drain directly into its
+   * own buffers. It only falls back to serializing the message into a
+   * temporary array if it is read like an ordinary stream.
+   * @author lscholte
+   *
+   */
+  private static final class MessageStream extends InputStream implements Drainable, KnownLength {
+
+    private Message message;
+    private ByteArrayInputStream fallback;
+
+    public MessageStream(Message message) {
+      this.message = message;
+    }
+
+    @Override
+    public int drainTo(OutputStream target) throws IOException {
+      if (message != null) {
+        int size = message.getSerializedSize();
+        message.writeTo(target);
+        message = null;
+        return size;
+      }
+      if (fallback != null) {
+        return (int)fallback.transferTo(target);
+      }
+      return 0;
+    }
+
+    @Override
+    public int available() {
+      if (message != null) {
+        return message.getSerializedSize();
+      }
+      return fallback == null ? 0 : fallback.available();
+    }
+
+    @Override
+    public int read() {
+      return toFallback().read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      return toFallback().read(b, off, len);
+    }
+
+    private ByteArrayInputStream toFallback() {
+      if (message != null) {
+        fallback = new ByteArrayInputStream(message.toByteArray());
+        message = null;
+      }
+      return fallback == null ? new ByteArrayInputStream(new byte[0]) : fallback;
+    }
+  }
+
+}
@@ -0,0 +1,51 @@
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AcknowledgedCounter}.
+ * @author lscholte
+ *
+ */
+public class AcknowledgedCounterTest {
+
+  @Test
+  public void insertsAreNumberedAfterTheInitialRecords() {
+    AcknowledgedCounter counter = new AcknowledgedCounter(5);
+    assertEquals(5, counter.next());
+    assertEquals(6, counter.next());
+    assertEquals(5, counter.getAcknowledged());
+  }
+
+  @Test
+  public void countOnlyMovesPastContiguousAcknowledgements() {
+    AcknowledgedCounter counter = new AcknowledgedCounter(0);
+    long first = counter.next();
+    long second = counter.next();
+    long third = counter.next();
+    counter.acknowledge(second);
+    counter.acknowledge(third);
+    assertEquals(0, counter.getAcknowledged());
+    counter.acknowledge(first);
+    assertEquals(3, counter.getAcknowledged());
+  }
+
+  @Test
+  public void countWrapsAroundItsWindow() {
+    AcknowledgedCounter counter = new AcknowledgedCounter(0);
+    for (int i = 0; i < 3 * (1 << 20); ++i) {
+      counter.acknowledge(counter.next());
+    }
+    assertEquals(3 * (1 << 20), counter.getAcknowledged());
+  }
+
+  @Test
+  public void tooManyUnacknowledgedInsertsAreRejected() {
+    AcknowledgedCounter counter = new AcknowledgedCounter(0);
+    assertThrows(IllegalStateException.class, () -> counter.acknowledge(1 << 20));
+  }
+
+}
@@ -0,0 +1,116 @@
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link KeyChooser}.
+ * @author lscholte
+ *
+ */
+public class KeyChooserTest {
+
+  private static final int RECORDS = 1000;
+  private static final int DRAWS = 200000;
+
+  /**
+   * @param chooser the chooser to draw from
+   * @param records the number of records the draws must fall within
+   * @return how many times each record was drawn
+   */
+  private static long[] histogram(KeyChooser chooser, int records) {
+    long[] counts = new long[records];
+    for (int i = 0; i < DRAWS; ++i) {
+      long record = chooser.nextRecord();
+      assertTrue(record >= 0 && record < records, "record " + record);
+      ++counts[(int)record];
+    }
+    return counts;
+  }
+
+  @Test
+  public void uniformIsEvenOverTheWrittenRecords() {
+    long[] counts = histogram(KeyChooser.create("uniform", RECORDS, () -> RECORDS), RECORDS);
+    long expected = DRAWS / RECORDS;
+    for (long count : counts) {
+      assertTrue(count > expected / 2 && count < expected * 2, "count " + count);
+    }
+  }
+
+  @Test
+  public void zipfianStaysInRangeAndIsSkewed() {
+    long[] counts = histogram(KeyChooser.create("zipfian", RECORDS, () -> RECORDS), RECORDS);
+    Arrays.sort(counts);
+    long mostPopular = counts[RECORDS - 1];
+    long topTenth = 0;
+    for (int i = RECORDS - RECORDS / 10; i < RECORDS; ++i) {
+      topTenth += counts[i];
+    }
+    //With a skew of 0.99 over 1000 items, the top rank alone takes about 13% of the draws
+    assertTrue(mostPopular > DRAWS / 20, "most popular " + mostPopular);
+    assertTrue(topTenth > DRAWS / 2, "top tenth " + topTenth);
+  }
+
+  @Test
+  public void zipfianScattersThePopularRecords() {
+    long[] counts = histogram(KeyChooser.create("zipfian", RECORDS, () -> RECORDS), RECORDS);
+    long firstTenth = 0;
+    for (int i = 0; i < RECORDS / 10; ++i) {
+      firstTenth += counts[i];
+    }
+    //Unscrambled, the first tenth of the records would take most of the draws
+    assertTrue(firstTenth < DRAWS / 2, "first tenth " + firstTenth);
+  }
+
+  @Test
+  public void latestFavoursTheNewestWrittenRecord() {
+    long[] counts = histogram(KeyChooser.create("latest", RECORDS, () -> RECORDS), RECORDS);
+    long newest = counts[RECORDS - 1];
+    for (int i = 0; i < RECORDS - 1; ++i) {
+      assertTrue(counts[i] <= newest, "record " + i + " drawn " + counts[i] + " times");
+    }
+  }
+
+  @Test
+  public void choosersFollowTheWrittenRecordsAsTheyGrow() {
+    AtomicLong written = new AtomicLong(10);
+    for (String name : new String[] { "uniform", "zipfian", "latest" }) {
+      KeyChooser chooser = KeyChooser.create(name, 10, written::get);
+      written.set(10);
+      histogram(chooser, 10);
+      written.set(20);
+      long[] counts = histogram(chooser, 20);
+      long newRecords = 0;
+      for (int i = 10; i < 20; ++i) {
+        newRecords += counts[i];
+      }
+      assertTrue(newRecords > 0, name + " never chose a new record");
+    }
+  }
+
+  @Test
+  public void latestNeverChoosesAnUnwrittenRecord() {
+    AtomicLong written = new AtomicLong(RECORDS);
+    KeyChooser chooser = KeyChooser.create("latest", RECORDS, written::get);
+    histogram(chooser, RECORDS);
+    written.set(RECORDS / 2);
+    histogram(chooser, RECORDS / 2);
+  }
+
+  @Test
+  public void unknownNameIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> KeyChooser.create("hotspot", RECORDS, () -> RECORDS));
+  }
+
+  @Test
+  public void namesIgnoreCase() {
+    assertEquals(0, KeyChooser.create("Uniform", 1, () -> 1).nextRecord());
+  }
+
+}
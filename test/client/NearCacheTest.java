@@ -0,0 +1,130 @@
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+
+import protobuf.generated.KeyValueServiceMessages.GetRequest;
+import protobuf.generated.KeyValueServiceMessages.GetResponse;
+
+/**
+ * Tests for {@link NearCache}.
+ * @author lscholte
+ *
+ */
+public class NearCacheTest {
+
+  private static GetRequest request(String key) {
+    return GetRequest.newBuilder().setKey(key).build();
+  }
+
+  private static GetResponse response(String value, long version) {
+    return GetResponse.newBuilder().setValue(ByteString.copyFromUtf8(value)).setVersion(version).build();
+  }
+
+  /**
+   * A fetch that records the requests it is given and answers each one with
+   * the next future in line.
+   */
+  private static final class Fetches {
+
+    private final List<GetRequest> requests = new ArrayList<GetRequest>();
+    private final List<CompletableFuture<GetResponse>> responses = new ArrayList<CompletableFuture<GetResponse>>();
+
+    private CompletableFuture<GetResponse> fetch(GetRequest request) {
+      requests.add(request);
+      CompletableFuture<GetResponse> response = new CompletableFuture<GetResponse>();
+      responses.add(response);
+      return response;
+    }
+  }
+
+  @Test
+  public void freshValueIsServedWithoutFetching() throws Exception {
+    NearCache cache = new NearCache(10, 60000);
+    Fetches fetches = new Fetches();
+    CompletableFuture<GetResponse> first = cache.get(request("k"), fetches::fetch);
+    fetches.responses.get(0).complete(response("v", 1));
+    assertEquals("v", first.get().getValue().toStringUtf8());
+    assertEquals("v", cache.get(request("k"), fetches::fetch).get().getValue().toStringUtf8());
+    assertEquals(1, fetches.requests.size());
+  }
+
+  @Test
+  public void staleValueIsRevalidatedByVersion() throws Exception {
+    NearCache cache = new NearCache(10, 0);
+    Fetches fetches = new Fetches();
+    cache.get(request("k"), fetches::fetch);
+    fetches.responses.get(0).complete(response("v", 7));
+    CompletableFuture<GetResponse> revalidated = cache.get(request("k"), fetches::fetch);
+    assertEquals(7, fetches.requests.get(1).getIfVersionMatch());
+    fetches.responses.get(1).complete(GetResponse.newBuilder().setVersion(7).setNotModified(true).build());
+    assertEquals("v", revalidated.get().getValue().toStringUtf8());
+  }
+
+  @Test
+  public void slowGetAnsweredBeforeAPutIsNotCachedAfterIt() throws Exception {
+    NearCache cache = new NearCache(10, 60000);
+    Fetches fetches = new Fetches();
+    CompletableFuture<GetResponse> slowGet = cache.get(request("k"), fetches::fetch);
+    //The PUT is sent, applied and acknowledged while the GET's response is still on its way
+    cache.invalidate("k");
+    cache.invalidate("k");
+    fetches.responses.get(0).complete(response("old", 1));
+    assertEquals("old", slowGet.get().getValue().toStringUtf8());
+
+    CompletableFuture<GetResponse> nextGet = cache.get(request("k"), fetches::fetch);
+    assertEquals(2, fetches.requests.size());
+    assertFalse(fetches.requests.get(1).hasIfVersionMatch());
+    fetches.responses.get(1).complete(response("new", 2));
+    assertEquals("new", nextGet.get().getValue().toStringUtf8());
+  }
+
+  @Test
+  public void olderResponseDoesNotReplaceANewerOne() throws Exception {
+    NearCache cache = new NearCache(10, 60000);
+    Fetches fetches = new Fetches();
+    cache.get(request("k"), fetches::fetch);
+    cache.get(request("k"), fetches::fetch);
+    fetches.responses.get(1).complete(response("new", 2));
+    fetches.responses.get(0).complete(response("old", 1));
+    assertEquals("new", cache.get(request("k"), fetches::fetch).get().getValue().toStringUtf8());
+    assertEquals(2, fetches.requests.size());
+  }
+
+  @Test
+  public void missingValueIsNotCached() throws Exception {
+    NearCache cache = new NearCache(10, 60000);
+    Fetches fetches = new Fetches();
+    cache.get(request("k"), fetches::fetch);
+    fetches.responses.get(0).complete(GetResponse.getDefaultInstance());
+    cache.get(request("k"), fetches::fetch);
+    assertEquals(2, fetches.requests.size());
+  }
+
+  @Test
+  public void leastRecentlyUsedKeyIsDropped() throws Exception {
+    NearCache cache = new NearCache(2, 60000);
+    Fetches fetches = new Fetches();
+    cache.get(request("a"), fetches::fetch);
+    cache.get(request("b"), fetches::fetch);
+    fetches.responses.get(0).complete(response("a", 1));
+    fetches.responses.get(1).complete(response("b", 2));
+    assertTrue(cache.get(request("a"), fetches::fetch).isDone());
+    cache.get(request("c"), fetches::fetch);
+    fetches.responses.get(2).complete(response("c", 3));
+    assertEquals(3, fetches.requests.size());
+    cache.get(request("b"), fetches::fetch);
+    assertEquals(4, fetches.requests.size());
+    assertEquals("a", cache.get(request("a"), fetches::fetch).get().getValue().toStringUtf8());
+  }
+
+}
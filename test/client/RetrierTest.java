@@ -0,0 +1,169 @@
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.grpc.Deadline;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+
+/**
+ * Tests for {@link Retrier}.
+ * @author lscholte
+ *
+ */
+public class RetrierTest {
+
+  private static Deadline deadline() {
+    return Deadline.after(10, TimeUnit.SECONDS);
+  }
+
+  private static <T> CompletableFuture<T> failed(Status status) {
+    return CompletableFuture.failedFuture(status.asRuntimeException());
+  }
+
+  private static Code codeOf(CompletableFuture<?> result) {
+    ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+    return Status.fromThrowable(e.getCause()).getCode();
+  }
+
+  /**
+   * @param attempts counts the attempts made
+   * @return an attempt that always fails with {@code UNAVAILABLE}
+   */
+  private static Supplier<CompletableFuture<String>> alwaysUnavailable(AtomicInteger attempts) {
+    return () -> {
+      attempts.incrementAndGet();
+      return failed(Status.UNAVAILABLE);
+    };
+  }
+
+  @Test
+  public void unavailableIsRetriedUntilAnAttemptSucceeds() throws Exception {
+    Retrier retrier = new Retrier(3, 1, 1, 0.1, false);
+    AtomicInteger attempts = new AtomicInteger();
+    CompletableFuture<String> result = retrier.call(() -> {
+      return attempts.incrementAndGet() < 3 ? failed(Status.UNAVAILABLE) : CompletableFuture.completedFuture("ok");
+    }, false, deadline());
+    assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+    assertEquals(3, attempts.get());
+    retrier.close();
+  }
+
+  @Test
+  public void callFailsWithTheLastErrorOnceAttemptsRunOut() throws Exception {
+    Retrier retrier = new Retrier(3, 1, 1, 0.1, false);
+    AtomicInteger attempts = new AtomicInteger();
+    assertEquals(Code.UNAVAILABLE, codeOf(retrier.call(alwaysUnavailable(attempts), false, deadline())));
+    assertEquals(3, attempts.get());
+    retrier.close();
+  }
+
+  @Test
+  public void otherErrorsAreNotRetried() throws Exception {
+    Retrier retrier = new Retrier(3, 1, 1, 0.1, false);
+    AtomicInteger attempts = new AtomicInteger();
+    CompletableFuture<String> result = retrier.call(() -> {
+      attempts.incrementAndGet();
+      return failed(Status.INVALID_ARGUMENT);
+    }, false, deadline());
+    assertEquals(Code.INVALID_ARGUMENT, codeOf(result));
+    assertEquals(1, attempts.get());
+    retrier.close();
+  }
+
+  @Test
+  public void noRetryIsMadeOnceTheDeadlineHasPassed() throws Exception {
+    Retrier retrier = new Retrier(3, 1, 1, 0.1, false);
+    AtomicInteger attempts = new AtomicInteger();
+    Deadline passed = Deadline.after(0, TimeUnit.NANOSECONDS);
+    assertEquals(Code.UNAVAILABLE, codeOf(retrier.call(alwaysUnavailable(attempts), false, passed)));
+    assertEquals(1, attempts.get());
+    retrier.close();
+  }
+
+  @Test
+  public void retryWhoseBackoffWouldOutlastTheDeadlineIsNotMade() throws Exception {
+    //Backoffs are drawn from up to a minute, so only a retry drawn in the first 1/6000th would fit
+    Retrier retrier = new Retrier(100, 60000, 60000, 10, false);
+    AtomicInteger attempts = new AtomicInteger();
+    long startNanos = System.nanoTime();
+    codeOf(retrier.call(alwaysUnavailable(attempts), false, Deadline.after(10, TimeUnit.MILLISECONDS)));
+    assertTrue(attempts.get() <= 2, "attempts " + attempts.get());
+    assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(5));
+    retrier.close();
+  }
+
+  @Test
+  public void emptyBudgetDeniesRetries() throws Exception {
+    //No call adds to the budget, so only its reserve of 10 retries can be spent
+    Retrier retrier = new Retrier(2, 1, 1, 0, false);
+    AtomicInteger attempts = new AtomicInteger();
+    for (int i = 0; i < 11; ++i) {
+      codeOf(retrier.call(alwaysUnavailable(attempts), false, deadline()));
+    }
+    assertEquals(11 + 10, attempts.get());
+    retrier.close();
+  }
+
+  @Test
+  public void budgetBoundsRetriesToItsRatioOfCalls() throws Exception {
+    Retrier retrier = new Retrier(2, 1, 1, 0.5, false);
+    AtomicInteger attempts = new AtomicInteger();
+    int calls = 100;
+    for (int i = 0; i < calls; ++i) {
+      codeOf(retrier.call(alwaysUnavailable(attempts), false, deadline()));
+    }
+    int retries = attempts.get() - calls;
+    //Half a retry per call, plus the reserve
+    assertTrue(retries >= calls / 2 && retries <= calls / 2 + 10, "retries " + retries);
+    retrier.close();
+  }
+
+  @Test
+  public void slowCallIsHedgedAndTheLoserCancelled() throws Exception {
+    Retrier retrier = new Retrier(1, 1, 1, 1, true);
+    //Enough fast calls to set the hedge delay
+    for (int i = 0; i < 128; ++i) {
+      retrier.call(() -> CompletableFuture.completedFuture("fast"), true, deadline()).get(5, TimeUnit.SECONDS);
+    }
+    CompletableFuture<String> stuck = new CompletableFuture<String>();
+    AtomicInteger attempts = new AtomicInteger();
+    CompletableFuture<String> result = retrier.call(() -> {
+      return attempts.incrementAndGet() == 1 ? stuck : CompletableFuture.completedFuture("hedge");
+    }, true, deadline());
+    assertEquals("hedge", result.get(5, TimeUnit.SECONDS));
+    assertEquals(2, attempts.get());
+    assertTrue(stuck.isCancelled());
+    retrier.close();
+  }
+
+  @Test
+  public void callThatMayNotBeHedgedIsNot() throws Exception {
+    Retrier retrier = new Retrier(1, 1, 1, 1, true);
+    for (int i = 0; i < 128; ++i) {
+      retrier.call(() -> CompletableFuture.completedFuture("fast"), true, deadline()).get(5, TimeUnit.SECONDS);
+    }
+    CompletableFuture<String> slow = new CompletableFuture<String>();
+    AtomicInteger attempts = new AtomicInteger();
+    CompletableFuture<String> result = retrier.call(() -> {
+      attempts.incrementAndGet();
+      return slow;
+    }, false, deadline());
+    Thread.sleep(50);
+    assertEquals(1, attempts.get());
+    slow.complete("slow");
+    assertEquals("slow", result.get(5, TimeUnit.SECONDS));
+    retrier.close();
+  }
+
+}
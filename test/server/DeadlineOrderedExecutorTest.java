@@ -0,0 +1,106 @@
+package server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.grpc.Deadline;
+
+/**
+ * Tests for {@link DeadlineOrderedExecutor}.
+ * @author lscholte
+ *
+ */
+public class DeadlineOrderedExecutorTest {
+
+  private ExecutorService executorService;
+  private DeadlineOrderedExecutor executor;
+  private List<String> order;
+
+  @BeforeEach
+  public void setUp() {
+    executorService = Executors.newSingleThreadExecutor();
+    executor = new DeadlineOrderedExecutor(executorService);
+    order = new CopyOnWriteArrayList<String>();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  /**
+   * Occupies the executor's only thread until the returned latch is counted down,
+   * so that tasks submitted meanwhile wait in the queue.
+   */
+  private CountDownLatch block() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    executor.execute(() -> {
+      started.countDown();
+      try {
+        release.await();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, null);
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    return release;
+  }
+
+  private void submit(String name, Deadline deadline, CountDownLatch ran) {
+    executor.execute(() -> {
+      order.add(name);
+      ran.countDown();
+    }, deadline);
+  }
+
+  @Test
+  public void queuedTasksRunEarliestDeadlineFirst() throws InterruptedException {
+    CountDownLatch release = block();
+    CountDownLatch ran = new CountDownLatch(3);
+    submit("late", Deadline.after(60, TimeUnit.SECONDS), ran);
+    submit("early", Deadline.after(100, TimeUnit.MILLISECONDS), ran);
+    submit("middle", Deadline.after(10, TimeUnit.SECONDS), ran);
+    release.countDown();
+    assertTrue(ran.await(5, TimeUnit.SECONDS));
+    assertEquals(List.of("early", "middle", "late"), order);
+  }
+
+  @Test
+  public void undeadlinedTasksAreDueOneSecondAfterSubmission() throws InterruptedException {
+    CountDownLatch release = block();
+    CountDownLatch ran = new CountDownLatch(3);
+    submit("late", Deadline.after(60, TimeUnit.SECONDS), ran);
+    submit("none", null, ran);
+    submit("early", Deadline.after(500, TimeUnit.MILLISECONDS), ran);
+    release.countDown();
+    assertTrue(ran.await(5, TimeUnit.SECONDS));
+    assertEquals(List.of("early", "none", "late"), order);
+  }
+
+  @Test
+  public void tasksDueTogetherRunInSubmissionOrder() throws InterruptedException {
+    CountDownLatch release = block();
+    CountDownLatch ran = new CountDownLatch(3);
+    Deadline deadline = Deadline.after(10, TimeUnit.SECONDS);
+    submit("first", deadline, ran);
+    submit("second", deadline, ran);
+    submit("third", deadline, ran);
+    release.countDown();
+    assertTrue(ran.await(5, TimeUnit.SECONDS));
+    assertEquals(List.of("first", "second", "third"), order);
+  }
+
+}
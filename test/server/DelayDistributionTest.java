@@ -0,0 +1,114 @@
+package server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DelayDistribution}.
+ * @author lscholte
+ *
+ */
+public class DelayDistributionTest {
+
+  @Test
+  public void parseRecognisesEveryDistribution() {
+    assertInstanceOf(DelayDistribution.Fixed.class, DelayDistribution.parse("fixed:5"));
+    assertInstanceOf(DelayDistribution.Uniform.class, DelayDistribution.parse("uniform:1:5"));
+    assertInstanceOf(DelayDistribution.Exponential.class, DelayDistribution.parse("exponential:2.5"));
+    assertInstanceOf(DelayDistribution.Bimodal.class, DelayDistribution.parse("bimodal:1:100:0.01"));
+    assertInstanceOf(DelayDistribution.Fixed.class, DelayDistribution.parse("FIXED:5"));
+  }
+
+  @Test
+  public void parseRejectsUnknownDistributions() {
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.parse("normal:5:1"));
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.parse(""));
+  }
+
+  @Test
+  public void parseRejectsWrongParameterCounts() {
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.parse("fixed"));
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.parse("fixed:1:2"));
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.parse("uniform:1"));
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.parse("exponential:1:2"));
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.parse("bimodal:1:2"));
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.parse("bimodal:1:2:0.5:3"));
+  }
+
+  @Test
+  public void parseRejectsMalformedNumbers() {
+    assertThrows(NumberFormatException.class, () -> DelayDistribution.parse("fixed:abc"));
+    assertThrows(NumberFormatException.class, () -> DelayDistribution.parse("uniform:1:x"));
+  }
+
+  @Test
+  public void fixedAlwaysGivesItsDelay() {
+    DelayDistribution distribution = DelayDistribution.parse("fixed:7");
+    for (int i = 0; i < 100; ++i) {
+      assertEquals(7, distribution.nextDelayMs());
+    }
+    assertEquals(0, DelayDistribution.fixed(0).nextDelayMs());
+  }
+
+  @Test
+  public void fixedRejectsNegativeDelays() {
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.fixed(-1));
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.parse("fixed:-1"));
+  }
+
+  @Test
+  public void legacyProcessingTimeTreatsNegativeValuesAsZero() {
+    ServerOptions options = new ServerOptions().setSimulatedRpcProcessingTimeMs(-5);
+    assertEquals(0, options.getSimulatedDelay().nextDelayMs());
+  }
+
+  @Test
+  public void uniformStaysWithinItsBounds() {
+    DelayDistribution distribution = DelayDistribution.uniform(3, 6);
+    for (int i = 0; i < 1000; ++i) {
+      long delay = distribution.nextDelayMs();
+      assertTrue(delay >= 3 && delay <= 6, "delay " + delay);
+    }
+    assertEquals(4, DelayDistribution.uniform(4, 4).nextDelayMs());
+  }
+
+  @Test
+  public void uniformRejectsInvalidBounds() {
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.uniform(-1, 5));
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.uniform(5, 4));
+  }
+
+  @Test
+  public void exponentialIsNeverNegative() {
+    DelayDistribution distribution = DelayDistribution.exponential(2);
+    for (int i = 0; i < 1000; ++i) {
+      assertTrue(distribution.nextDelayMs() >= 0);
+    }
+    assertEquals(0, DelayDistribution.exponential(0).nextDelayMs());
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.exponential(-1));
+  }
+
+  @Test
+  public void bimodalGivesOnlyItsTwoDelays() {
+    DelayDistribution distribution = DelayDistribution.bimodal(1, 100, 0.5);
+    for (int i = 0; i < 1000; ++i) {
+      long delay = distribution.nextDelayMs();
+      assertTrue(delay == 1 || delay == 100, "delay " + delay);
+    }
+    assertEquals(1, DelayDistribution.bimodal(1, 100, 0).nextDelayMs());
+    assertEquals(100, DelayDistribution.bimodal(1, 100, 1).nextDelayMs());
+  }
+
+  @Test
+  public void bimodalRejectsInvalidParameters() {
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.bimodal(-1, 100, 0.5));
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.bimodal(1, -100, 0.5));
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.bimodal(1, 100, -0.1));
+    assertThrows(IllegalArgumentException.class, () -> DelayDistribution.bimodal(1, 100, 1.1));
+  }
+
+}
@@ -0,0 +1,134 @@
+package utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DedupTable}.
+ * @author lscholte
+ *
+ */
+public class DedupTableTest {
+
+  @Test
+  public void duplicateIsGivenTheFirstOutcome() throws Exception {
+    DedupTable<Long, String> table = new DedupTable<Long, String>("test", 60000, 100);
+    AtomicInteger runs = new AtomicInteger();
+    CompletableFuture<String> first = table.execute(1L, () -> CompletableFuture.completedFuture("first-" + runs.incrementAndGet()));
+    CompletableFuture<String> second = table.execute(1L, () -> CompletableFuture.completedFuture("second-" + runs.incrementAndGet()));
+    assertEquals("first-1", first.get());
+    assertEquals("first-1", second.get());
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  public void differentIdsAreEachCarriedOut() throws Exception {
+    DedupTable<Long, String> table = new DedupTable<Long, String>("test", 60000, 100);
+    assertEquals("a", table.execute(1L, () -> CompletableFuture.completedFuture("a")).get());
+    assertEquals("b", table.execute(2L, () -> CompletableFuture.completedFuture("b")).get());
+  }
+
+  @Test
+  public void retryWhileInProgressSharesTheOutcome() throws Exception {
+    DedupTable<Long, String> table = new DedupTable<Long, String>("test", 60000, 100);
+    CompletableFuture<String> pending = new CompletableFuture<String>();
+    AtomicInteger runs = new AtomicInteger();
+    CompletableFuture<String> first = table.execute(1L, () -> {
+      runs.incrementAndGet();
+      return pending;
+    });
+    CompletableFuture<String> retry = table.execute(1L, () -> {
+      runs.incrementAndGet();
+      return CompletableFuture.completedFuture("retry");
+    });
+    assertSame(first, retry);
+    assertFalse(retry.isDone());
+    pending.complete("done");
+    assertEquals("done", retry.get());
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  public void failedAttemptIsForgotten() throws Exception {
+    DedupTable<Long, String> table = new DedupTable<Long, String>("test", 60000, 100);
+    CompletableFuture<String> failed = table.execute(1L, () -> CompletableFuture.failedFuture(new IllegalStateException()));
+    assertTrue(failed.isCompletedExceptionally());
+    assertEquals("retried", table.execute(1L, () -> CompletableFuture.completedFuture("retried")).get());
+  }
+
+  @Test
+  public void attemptThatThrowsIsForgotten() throws Exception {
+    DedupTable<Long, String> table = new DedupTable<Long, String>("test", 60000, 100);
+    CompletableFuture<String> failed = table.execute(1L, () -> {
+      throw new IllegalStateException();
+    });
+    assertTrue(failed.isCompletedExceptionally());
+    assertEquals("retried", table.execute(1L, () -> CompletableFuture.completedFuture("retried")).get());
+  }
+
+  @Test
+  public void outcomeIsForgottenAfterTheWindow() throws Exception {
+    DedupTable<Long, String> table = new DedupTable<Long, String>("test", 1, 100);
+    assertEquals("first", table.execute(1L, () -> CompletableFuture.completedFuture("first")).get());
+    Thread.sleep(10);
+    assertEquals("second", table.execute(1L, () -> CompletableFuture.completedFuture("second")).get());
+  }
+
+  @Test
+  public void oldestOutcomesAreForgottenBeyondMaxEntries() throws Exception {
+    DedupTable<Long, String> table = new DedupTable<Long, String>("test", 60000, 2);
+    table.execute(1L, () -> CompletableFuture.completedFuture("1"));
+    table.execute(2L, () -> CompletableFuture.completedFuture("2"));
+    table.execute(3L, () -> CompletableFuture.completedFuture("3"));
+    assertEquals("3", table.execute(3L, () -> CompletableFuture.completedFuture("3 again")).get());
+    assertEquals("1 again", table.execute(1L, () -> CompletableFuture.completedFuture("1 again")).get());
+  }
+
+  @Test
+  public void nonPositiveLimitsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new DedupTable<Long, String>("test", 0, 10));
+    assertThrows(IllegalArgumentException.class, () -> new DedupTable<Long, String>("test", 10, 0));
+  }
+
+  @Test
+  public void concurrentDuplicatesAreCarriedOutOnce() throws Exception {
+    DedupTable<Long, Integer> table = new DedupTable<Long, Integer>("test", 60000, 1000);
+    int threads = 8;
+    int ids = 500;
+    AtomicInteger runs = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> workers = new ArrayList<Thread>();
+    for (int i = 0; i < threads; ++i) {
+      Thread worker = new Thread(() -> {
+        try {
+          start.await();
+        }
+        catch (InterruptedException e) {
+          return;
+        }
+        for (long id = 0; id < ids; ++id) {
+          table.execute(id, () -> CompletableFuture.completedFuture(runs.incrementAndGet()));
+        }
+      });
+      workers.add(worker);
+      worker.start();
+    }
+    start.countDown();
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    assertEquals(ids, runs.get());
+  }
+
+}
@@ -0,0 +1,143 @@
+package utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LineTokenizer}.
+ * @author lscholte
+ *
+ */
+public class LineTokenizerTest {
+
+  private static LineTokenizer tokenizerOf(String text) {
+    return new LineTokenizer(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  public void tokensAreSplitOnSpacesTabsAndCarriageReturns() throws IOException {
+    LineTokenizer tokenizer = tokenizerOf("put  key\tvalue\r\n");
+    assertTrue(tokenizer.nextLine());
+    assertEquals(3, tokenizer.getTokenCount());
+    assertEquals("put", tokenizer.getToken(0));
+    assertEquals("key", tokenizer.getToken(1));
+    assertEquals("value", tokenizer.getToken(2));
+    assertFalse(tokenizer.nextLine());
+    assertEquals(0, tokenizer.getTokenCount());
+  }
+
+  @Test
+  public void linesAreNumberedIncludingBlankOnes() throws IOException {
+    LineTokenizer tokenizer = tokenizerOf("get a\n\n   \nget b\n");
+    assertTrue(tokenizer.nextLine());
+    assertEquals(1, tokenizer.getLineNumber());
+    assertTrue(tokenizer.nextLine());
+    assertEquals(0, tokenizer.getTokenCount());
+    assertTrue(tokenizer.nextLine());
+    assertEquals(0, tokenizer.getTokenCount());
+    assertTrue(tokenizer.nextLine());
+    assertEquals(4, tokenizer.getLineNumber());
+    assertEquals("b", tokenizer.getToken(1));
+    assertFalse(tokenizer.nextLine());
+  }
+
+  @Test
+  public void lastLineNeedsNoSeparator() throws IOException {
+    LineTokenizer tokenizer = tokenizerOf("get a\ndelete b");
+    assertTrue(tokenizer.nextLine());
+    assertTrue(tokenizer.nextLine());
+    assertEquals("delete", tokenizer.getToken(0));
+    assertEquals("b", tokenizer.getToken(1));
+    assertFalse(tokenizer.nextLine());
+  }
+
+  @Test
+  public void emptyStreamHasNoLines() throws IOException {
+    assertFalse(tokenizerOf("").nextLine());
+  }
+
+  @Test
+  public void tokenEqualsIgnoresCaseWithoutMatchingPrefixes() throws IOException {
+    LineTokenizer tokenizer = tokenizerOf("PuT key\n");
+    assertTrue(tokenizer.nextLine());
+    assertTrue(tokenizer.tokenEquals(0, "put"));
+    assertFalse(tokenizer.tokenEquals(0, "pu"));
+    assertFalse(tokenizer.tokenEquals(0, "puts"));
+    assertFalse(tokenizer.tokenEquals(1, "KEY!"));
+  }
+
+  @Test
+  public void tokensAreDecodedAsUtf8() throws IOException {
+    LineTokenizer tokenizer = tokenizerOf("put clé 値\n");
+    assertTrue(tokenizer.nextLine());
+    assertEquals("clé", tokenizer.getToken(1));
+    assertEquals("値", tokenizer.getToken(2));
+  }
+
+  @Test
+  public void lineLongerThanTheBufferIsReadWhole() throws IOException {
+    String longValue = "v".repeat(200 * 1024);
+    LineTokenizer tokenizer = tokenizerOf("get a\nput k " + longValue + "\nget b\n");
+    assertTrue(tokenizer.nextLine());
+    assertTrue(tokenizer.nextLine());
+    assertEquals(longValue, tokenizer.getToken(2));
+    assertTrue(tokenizer.nextLine());
+    assertEquals("b", tokenizer.getToken(1));
+  }
+
+  @Test
+  public void linesSplitAcrossReadsAreJoined() throws IOException {
+    byte[] bytes = "put key value\nget key\n".getBytes(StandardCharsets.UTF_8);
+    //A stream that hands over a single byte per read
+    InputStream trickle = new InputStream() {
+      private int position = 0;
+
+      @Override
+      public int read() {
+        return position < bytes.length ? bytes[position++] : -1;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) {
+        if (position == bytes.length) {
+          return -1;
+        }
+        b[off] = bytes[position++];
+        return 1;
+      }
+    };
+    LineTokenizer tokenizer = new LineTokenizer(trickle);
+    assertTrue(tokenizer.nextLine());
+    assertEquals("value", tokenizer.getToken(2));
+    assertTrue(tokenizer.nextLine());
+    assertEquals("get", tokenizer.getToken(0));
+    assertFalse(tokenizer.nextLine());
+  }
+
+  @Test
+  public void tokensBeyondTheLimitAreCountedButNotKept() throws IOException {
+    LineTokenizer tokenizer = tokenizerOf("a b c d e f g h i j\n");
+    assertTrue(tokenizer.nextLine());
+    assertEquals(10, tokenizer.getTokenCount());
+    assertEquals("h", tokenizer.getToken(7));
+    assertThrows(IndexOutOfBoundsException.class, () -> tokenizer.getToken(8));
+  }
+
+  @Test
+  public void missingTokenIsRejected() throws IOException {
+    LineTokenizer tokenizer = tokenizerOf("get\n");
+    assertTrue(tokenizer.nextLine());
+    assertThrows(IndexOutOfBoundsException.class, () -> tokenizer.getToken(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> tokenizer.tokenEquals(-1, "get"));
+  }
+
+}
@@ -0,0 +1,136 @@
+package utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SingleFlight}.
+ * @author lscholte
+ *
+ */
+public class SingleFlightTest {
+
+  @Test
+  public void callersWhileInFlightShareOneLookup() throws Exception {
+    SingleFlight<String, String> flight = new SingleFlight<String, String>("test");
+    CompletableFuture<String> lookup = new CompletableFuture<String>();
+    CompletableFuture<String> first = flight.execute("k", startRead -> lookup);
+    CompletableFuture<String> second = flight.execute("k", startRead -> CompletableFuture.completedFuture("other"));
+    assertSame(first, second);
+    lookup.complete("value");
+    assertEquals("value", second.get());
+    assertEquals(2, flight.getRequests());
+    assertEquals(1, flight.getLookups());
+  }
+
+  @Test
+  public void callerAfterReadStartsGetsItsOwnLookup() throws Exception {
+    SingleFlight<String, String> flight = new SingleFlight<String, String>("test");
+    CompletableFuture<String> lookup = new CompletableFuture<String>();
+    CompletableFuture<String> first = flight.execute("k", startRead -> {
+      startRead.run();
+      return lookup;
+    });
+    CompletableFuture<String> second = flight.execute("k", startRead -> CompletableFuture.completedFuture("fresh"));
+    assertNotSame(first, second);
+    assertEquals("fresh", second.get());
+    assertEquals(2, flight.getLookups());
+  }
+
+  @Test
+  public void completedLookupIsNotReused() throws Exception {
+    SingleFlight<String, String> flight = new SingleFlight<String, String>("test");
+    assertEquals("a", flight.execute("k", startRead -> CompletableFuture.completedFuture("a")).get());
+    assertEquals("b", flight.execute("k", startRead -> CompletableFuture.completedFuture("b")).get());
+    assertEquals(2, flight.getLookups());
+  }
+
+  @Test
+  public void differentKeysAreLookedUpSeparately() throws Exception {
+    SingleFlight<String, String> flight = new SingleFlight<String, String>("test");
+    CompletableFuture<String> a = flight.execute("a", startRead -> new CompletableFuture<String>());
+    CompletableFuture<String> b = flight.execute("b", startRead -> CompletableFuture.completedFuture("b"));
+    assertNotSame(a, b);
+    assertEquals("b", b.get());
+  }
+
+  @Test
+  public void failedLookupFailsEveryCallerAndIsForgotten() throws Exception {
+    SingleFlight<String, String> flight = new SingleFlight<String, String>("test");
+    CompletableFuture<String> lookup = new CompletableFuture<String>();
+    CompletableFuture<String> first = flight.execute("k", startRead -> lookup);
+    CompletableFuture<String> second = flight.execute("k", startRead -> CompletableFuture.completedFuture("other"));
+    lookup.completeExceptionally(new IllegalStateException());
+    assertTrue(first.isCompletedExceptionally());
+    assertTrue(second.isCompletedExceptionally());
+    assertEquals("again", flight.execute("k", startRead -> CompletableFuture.completedFuture("again")).get());
+  }
+
+  @Test
+  public void lookupThatThrowsIsForgotten() throws Exception {
+    SingleFlight<String, String> flight = new SingleFlight<String, String>("test");
+    CompletableFuture<String> failed = flight.execute("k", startRead -> {
+      throw new IllegalStateException();
+    });
+    assertTrue(failed.isCompletedExceptionally());
+    assertEquals("again", flight.execute("k", startRead -> CompletableFuture.completedFuture("again")).get());
+  }
+
+  @Test
+  public void concurrentCallersAreCoalesced() throws Exception {
+    SingleFlight<String, Integer> flight = new SingleFlight<String, Integer>("test");
+    CompletableFuture<Integer> lookup = new CompletableFuture<Integer>();
+    AtomicInteger lookups = new AtomicInteger();
+    AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+    int threads = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch joined = new CountDownLatch(threads);
+    List<CompletableFuture<Integer>> results = new ArrayList<CompletableFuture<Integer>>();
+    List<Thread> workers = new ArrayList<Thread>();
+    for (int i = 0; i < threads; ++i) {
+      Thread worker = new Thread(() -> {
+        try {
+          start.await();
+          CompletableFuture<Integer> result = flight.execute("k", startRead -> {
+            lookups.incrementAndGet();
+            return lookup;
+          });
+          synchronized (results) {
+            results.add(result);
+          }
+        }
+        catch (Throwable t) {
+          failure.set(t);
+        }
+        finally {
+          joined.countDown();
+        }
+      });
+      workers.add(worker);
+      worker.start();
+    }
+    start.countDown();
+    joined.await();
+    lookup.complete(42);
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    assertEquals(null, failure.get());
+    assertEquals(1, lookups.get());
+    for (CompletableFuture<Integer> result : results) {
+      assertEquals(42, result.get());
+    }
+  }
+
+}
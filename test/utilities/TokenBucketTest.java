@@ -0,0 +1,108 @@
+package utilities;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TokenBucket}.
+ * @author lscholte
+ *
+ */
+public class TokenBucketTest {
+
+  @Test
+  public void fullBucketAllowsOneSecondOfTokensThenRefuses() {
+    TokenBucket bucket = new TokenBucket();
+    int granted = 0;
+    while (bucket.tryAcquire(1, 100) && granted < 1000) {
+      ++granted;
+    }
+    //A second's worth of tokens, plus whatever refilled while the loop ran
+    assertTrue(granted >= 100 && granted <= 110, "granted " + granted);
+    //Half a second's worth, so a scheduling pause cannot refill enough
+    assertFalse(bucket.tryAcquire(50, 100));
+  }
+
+  @Test
+  public void bucketRefillsOverTime() throws InterruptedException {
+    TokenBucket bucket = new TokenBucket();
+    while (bucket.tryAcquire(1, 1000)) {
+      //Drain the bucket
+    }
+    Thread.sleep(50);
+    assertTrue(bucket.tryAcquire(10, 1000));
+  }
+
+  @Test
+  public void acquisitionLargerThanBucketIsAllowedOnlyWhenFull() {
+    TokenBucket bucket = new TokenBucket();
+    assertTrue(bucket.tryAcquire(1000, 100));
+    //The bucket is now ten seconds in debt
+    assertFalse(bucket.tryAcquire(1, 100));
+    assertFalse(bucket.tryAcquire(1000, 100));
+  }
+
+  @Test
+  public void acquireLeavesBucketInDebt() {
+    TokenBucket bucket = new TokenBucket();
+    bucket.acquire(200, 100);
+    assertFalse(bucket.tryAcquire(1, 100));
+    assertFalse(bucket.isIdle(0));
+  }
+
+  @Test
+  public void isIdleOnlyOnceFullForLongEnough() throws InterruptedException {
+    TokenBucket bucket = new TokenBucket();
+    assertTrue(bucket.isIdle(0));
+    assertTrue(bucket.tryAcquire(5, 1000));
+    assertFalse(bucket.isIdle(0));
+    Thread.sleep(20);
+    assertTrue(bucket.isIdle(0));
+    assertFalse(bucket.isIdle(1000000000L));
+  }
+
+  @Test
+  public void concurrentAcquisitionsNeverExceedTheRate() throws InterruptedException {
+    TokenBucket bucket = new TokenBucket();
+    double rate = 1000;
+    int threads = 8;
+    AtomicLong granted = new AtomicLong();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> workers = new ArrayList<Thread>();
+    long startNanos = System.nanoTime();
+    for (int i = 0; i < threads; ++i) {
+      Thread worker = new Thread(() -> {
+        try {
+          start.await();
+        }
+        catch (InterruptedException e) {
+          return;
+        }
+        long deadline = System.nanoTime() + 200000000L;
+        while (System.nanoTime() < deadline) {
+          if (bucket.tryAcquire(1, rate)) {
+            granted.incrementAndGet();
+          }
+        }
+      });
+      workers.add(worker);
+      worker.start();
+    }
+    start.countDown();
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    double elapsedS = (System.nanoTime() - startNanos) / 1e9;
+    //One second's burst plus the refill over the run
+    assertTrue(granted.get() <= rate + rate * elapsedS + 1, "granted " + granted.get() + " in " + elapsedS + "s");
+    assertTrue(granted.get() >= rate, "granted " + granted.get());
+  }
+
+}